@@ -1,6 +1,7 @@
 plugins {
     id("java")
     application
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 application {
@@ -19,6 +20,9 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("org.assertj:assertj-core:3.25.3")
     implementation("com.fasterxml.jackson.core:jackson-databind:2.17.2")
+
+    // DTO 배치별 힙 사용량 비교 (src/jmh/java/org/example/bench/FootprintComparison)
+    jmh("org.openjdk.jol:jol-core:0.17")
 }
 
 tasks.jar {
@@ -38,4 +42,20 @@ tasks.jar {
 
 tasks.test {
     useJUnitPlatform()
+    // PipelineScalingTest의 시간 배수 검사는 부하에 따라 흔들리므로 요청할 때만 켠다: ./gradlew test -PscalingTiming=true
+    (findProperty("scalingTiming") as String?)?.let { systemProperty("scaling.timing", it) }
+}
+
+// 성능 측정용 JMH 벤치마크 (src/jmh/java). 실행: ./gradlew jmh
+// 일부만 실행: ./gradlew jmh -PjmhIncludes=PipelineBenchmark.analyze
+// 결과(build/results/jmh/results.json)에는 gc 프로파일러의 할당량(gc.alloc.rate.norm)이 함께 기록된다.
+jmh {
+    jmhVersion.set("1.37")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    (findProperty("jmhIncludes") as String?)?.let { includes.add(it) }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.example.bench.weather.JsonReadSupport;
+import org.example.bench.weather.WeatherForecastForecastdayItemHourItem;
+import org.example.bench.weather.WeatherForecastForecastdayItemHourItemColumns;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 큰 객체 배열을 원소 객체 리스트({@code List<HourItem>})로 읽는 경우와
+ * 열 단위 컨테이너({@code HourItemColumns}, {@code --columnar true})로 읽는 경우를 비교한다.
+ * <p>
+ * 메모리 사용량 비교는 {@link #main(String[])}을 실행해 JOL로 확인한다. (JMH의 {@code -prof gc}로 할당량도 볼 수 있다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ColumnarBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private JsonFactory factory;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        factory = new JsonFactory();
+        payload = hourArray(rows);
+    }
+
+    @Benchmark
+    public List<WeatherForecastForecastdayItemHourItem> decodeObjects() throws IOException {
+        try (JsonParser parser = factory.createParser(payload)) {
+            parser.nextToken();
+            return JsonReadSupport.readList(parser, WeatherForecastForecastdayItemHourItem::readJson);
+        }
+    }
+
+    @Benchmark
+    public WeatherForecastForecastdayItemHourItemColumns decodeColumns() throws IOException {
+        try (JsonParser parser = factory.createParser(payload)) {
+            return WeatherForecastForecastdayItemHourItemColumns.readJson(parser);
+        }
+    }
+
+    /**
+     * 디코딩 후 숫자 열 하나를 훑는 분석 작업. 열 배열은 박싱 없이 연속된 메모리를 순회한다.
+     */
+    @Benchmark
+    public double decodeColumnsAndSum() throws IOException {
+        WeatherForecastForecastdayItemHourItemColumns columns = decodeColumns();
+        double[] temps = columns.tempCColumn();
+        double sum = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            sum += temps[i];
+        }
+        return sum;
+    }
+
+    /**
+     * rows개의 시간별 예보 객체로 이루어진 JSON 배열. 숫자 필드 값은 행마다 다르게 만든다.
+     */
+    static byte[] hourArray(int rows) {
+        StringBuilder sb = new StringBuilder(rows * 64).append('[');
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"time\":\"").append(String.format("%02d:00", i % 24)).append('"')
+                    .append(",\"temp_c\":").append((i % 400) / 10.0);
+            if (i % 3 != 0) {
+                sb.append(",\"chance\":").append(i % 100);
+            }
+            if (i % 2 == 0) {
+                sb.append(",\"will_it_rain\":").append(i % 4 == 0);
+            }
+            sb.append('}');
+        }
+        return sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 같은 배열을 두 방식으로 읽어 둔 뒤 객체 그래프 전체 크기를 JOL로 비교한다.
+     */
+    public static void main(String[] args) throws IOException {
+        int rows = (args.length > 0) ? Integer.parseInt(args[0]) : 100_000;
+        byte[] payload = hourArray(rows);
+        JsonFactory factory = new JsonFactory();
+
+        List<WeatherForecastForecastdayItemHourItem> objects;
+        try (JsonParser parser = factory.createParser(payload)) {
+            parser.nextToken();
+            objects = JsonReadSupport.readList(parser, WeatherForecastForecastdayItemHourItem::readJson);
+        }
+        WeatherForecastForecastdayItemHourItemColumns columns;
+        try (JsonParser parser = factory.createParser(payload)) {
+            columns = WeatherForecastForecastdayItemHourItemColumns.readJson(parser);
+        }
+
+        long objectBytes = GraphLayout.parseInstance(objects).totalSize();
+        long columnBytes = GraphLayout.parseInstance(columns).totalSize();
+        System.out.printf("rows                : %,d%n", rows);
+        System.out.printf("List<HourItem>      : %,d bytes (%,d bytes/row)%n", objectBytes, objectBytes / rows);
+        System.out.printf("HourItemColumns     : %,d bytes (%,d bytes/row)%n", columnBytes, columnBytes / rows);
+        System.out.printf("ratio               : %.1fx%n", (double) objectBytes / columnBytes);
+    }
+}
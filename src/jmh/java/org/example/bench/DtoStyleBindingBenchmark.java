@@ -0,0 +1,88 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO 선언 형태({@code --dto-style})별 ObjectMapper 데이터 바인딩 비용을 비교한다.
+ * <ul>
+ *     <li>{@code fields}: private 필드에 리플렉션으로 값을 넣는다. ({@code org.example.bench.weather})</li>
+ *     <li>{@code record}: 레코드의 정규 생성자를 한 번 호출한다. ({@code org.example.bench.weather.records})</li>
+ *     <li>{@code constructor}: {@code @JsonCreator} 생성자를 한 번 호출한다. ({@code org.example.bench.weather.creator})</li>
+ * </ul>
+ * {@code records}/{@code creator} 패키지의 DTO는 같은 입력을 {@code --dto-style record}/{@code constructor}로 생성한 결과다.
+ * {@code coldMapper*}는 매번 새 ObjectMapper로 읽어 빈 분석(introspection) 비용까지 포함한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoStyleBindingBenchmark {
+
+    private byte[] payload;
+    private ObjectReader fieldsReader;
+    private ObjectReader recordReader;
+    private ObjectReader constructorReader;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = DtoStyleBindingBenchmark.class.getResourceAsStream("/bench/weather.json")) {
+            if (in == null) {
+                throw new IllegalStateException("bench/weather.json 리소스를 찾을 수 없습니다.");
+            }
+            payload = in.readAllBytes();
+        }
+        fieldsReader = fieldsMapper().readerFor(org.example.bench.weather.Weather.class);
+        recordReader = new ObjectMapper().readerFor(org.example.bench.weather.records.Weather.class);
+        constructorReader = new ObjectMapper().readerFor(org.example.bench.weather.creator.Weather.class);
+    }
+
+    /**
+     * fields 스타일 DTO는 private 필드 + camelCase 이름이므로 필드 접근 + snake_case 규칙으로 바인딩한다.
+     */
+    private static ObjectMapper fieldsMapper() {
+        return new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Benchmark
+    public org.example.bench.weather.Weather fields() throws IOException {
+        return fieldsReader.readValue(payload);
+    }
+
+    @Benchmark
+    public org.example.bench.weather.records.Weather record() throws IOException {
+        return recordReader.readValue(payload);
+    }
+
+    @Benchmark
+    public org.example.bench.weather.creator.Weather constructor() throws IOException {
+        return constructorReader.readValue(payload);
+    }
+
+    @Benchmark
+    public org.example.bench.weather.Weather coldMapperFields() throws IOException {
+        return fieldsMapper().readValue(payload, org.example.bench.weather.Weather.class);
+    }
+
+    @Benchmark
+    public org.example.bench.weather.records.Weather coldMapperRecord() throws IOException {
+        return new ObjectMapper().readValue(payload, org.example.bench.weather.records.Weather.class);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 표준 배치와 compact 배치({@code --layout compact}) DTO의 힙 사용량을 JOL로 비교한다.
+ * <p>
+ * 같은 JSON({@code bench/weather.json})을 각 배치의 생성된 reader로 여러 번 읽어 둔 뒤,
+ * 객체 그래프 전체의 크기(문자열, 리스트, 박싱 객체 포함)와 대표 클래스의 필드 배치를 출력한다.
+ * <pre>
+ * 실행: ./gradlew jmhClasses 후 jmh 런타임 클래스패스로 org.example.bench.FootprintComparison 실행
+ * </pre>
+ */
+public final class FootprintComparison {
+
+    private static final int INSTANCES = 10_000;
+
+    private FootprintComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        byte[] payload = loadPayload();
+        JsonFactory factory = new JsonFactory();
+
+        List<org.example.bench.weather.Weather> standard = new ArrayList<>(INSTANCES);
+        List<org.example.bench.weather.compact.Weather> compact = new ArrayList<>(INSTANCES);
+        for (int i = 0; i < INSTANCES; i++) {
+            try (JsonParser parser = factory.createParser(payload)) {
+                standard.add(org.example.bench.weather.Weather.readJson(parser));
+            }
+            try (JsonParser parser = factory.createParser(payload)) {
+                compact.add(org.example.bench.weather.compact.Weather.readJson(parser));
+            }
+        }
+
+        long standardBytes = GraphLayout.parseInstance(standard.toArray()).totalSize();
+        long compactBytes = GraphLayout.parseInstance(compact.toArray()).totalSize();
+
+        System.out.printf("instances           : %,d%n", INSTANCES);
+        System.out.printf("standard layout     : %,d bytes (%,d bytes/instance)%n", standardBytes, standardBytes / INSTANCES);
+        System.out.printf("compact layout      : %,d bytes (%,d bytes/instance)%n", compactBytes, compactBytes / INSTANCES);
+        System.out.printf("saved               : %.1f%%%n", 100.0 * (standardBytes - compactBytes) / standardBytes);
+        System.out.println();
+        System.out.println(ClassLayout.parseClass(org.example.bench.weather.WeatherForecastForecastdayItemHourItem.class).toPrintable());
+        System.out.println(ClassLayout.parseClass(org.example.bench.weather.compact.WeatherForecastForecastdayItemHourItem.class).toPrintable());
+    }
+
+    private static byte[] loadPayload() throws IOException {
+        try (InputStream in = FootprintComparison.class.getResourceAsStream("/bench/weather.json")) {
+            if (in == null) {
+                throw new IllegalStateException("bench/weather.json 리소스를 찾을 수 없습니다.");
+            }
+            return in.readAllBytes();
+        }
+    }
+}
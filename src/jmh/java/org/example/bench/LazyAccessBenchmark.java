@@ -0,0 +1,71 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import org.example.bench.weather.LazyWeather;
+import org.example.bench.weather.LazyWeatherCurrent;
+import org.example.bench.weather.Weather;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필드 몇 개만 읽는 경우, 지연 디코딩 DTO({@code LazyWeather})와 전체 역직렬화({@code readJson})의 비용을 비교한다.
+ * <p>
+ * {@code org.example.bench.weather}의 {@code Lazy*} 클래스는 {@code --lazy true} 옵션으로 함께 생성한 결과다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LazyAccessBenchmark {
+
+    private JsonFactory factory;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        factory = new JsonFactory();
+        try (InputStream in = LazyAccessBenchmark.class.getResourceAsStream("/bench/weather.json")) {
+            if (in == null) {
+                throw new IllegalStateException("bench/weather.json 리소스를 찾을 수 없습니다.");
+            }
+            payload = in.readAllBytes();
+        }
+    }
+
+    /**
+     * 구조 패스 + 필드 세 개(location.name, current.temp_c, current.condition.text)만 디코딩한다.
+     */
+    @Benchmark
+    public void lazyThreeFields(Blackhole blackhole) {
+        LazyWeather weather = LazyWeather.of(payload);
+        LazyWeatherCurrent current = weather.getCurrent();
+        blackhole.consume(weather.getLocation().getName());
+        blackhole.consume(current.getTempC());
+        blackhole.consume(current.getCondition().getText());
+    }
+
+    /**
+     * 구조 패스만 수행한다. (아무 필드도 읽지 않는 통과 경로)
+     */
+    @Benchmark
+    public LazyWeather lazyIndexOnly() {
+        return LazyWeather.of(payload);
+    }
+
+    @Benchmark
+    public Weather eagerReader() throws IOException {
+        try (JsonParser parser = factory.createParser(payload)) {
+            return Weather.readJson(parser);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.corpus.CorpusGenerator;
+import org.example.corpus.CorpusSpec;
+import org.example.generator.ClassGenerator;
+import org.example.generator.GenerationOptions;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생성 파이프라인 단계별 처리 시간과 할당량을 측정한다. 각 벤치마크는 이전 단계 결과를 setUp에서 미리 만들어 두고
+ * 자기 단계만 실행한다.
+ *
+ * <ul>
+ *     <li>{@code analyze}: JsonNode → 스키마 트리 (JsonAnalyzer.analyze, 배열 원소마다 mergeSchemas 포함)</li>
+ *     <li>{@code merge}: 시드만 다른 두 입력에서 만든 스키마 두 개 병합 (JsonAnalyzer.merge)</li>
+ *     <li>{@code inferTypes}: 스키마 → TypeRef 맵 (TypeInferencer.inferTypes)</li>
+ *     <li>{@code modelGraph}: ModelGraph.from (인접 리스트, 위상 정렬, SCC 포함)</li>
+ *     <li>{@code generate}: ClassGenerator.generateAllFromModelGraph를 버리는 Writer로 스트리밍</li>
+ * </ul>
+ * 입력은 {@link CorpusGenerator}로 만들며 레코드 수, 중첩 깊이, 이질성(타입 변화·누락 비율)을 바꿔 가며 잰다.
+ * 할당량은 {@code -prof gc}의 {@code gc.alloc.rate.norm}으로 확인한다. (build.gradle의 jmh 설정에 기본 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PipelineBenchmark {
+
+    @Param({"10", "1000"})
+    public int records;
+
+    @Param({"2", "8"})
+    public int depth;
+
+    @Param({"0.0", "0.25"})
+    public double heterogeneity;
+
+    private final JsonAnalyzer analyzer = new JsonAnalyzer();
+    private final TypeInferencer inferencer = new TypeInferencer();
+    private final ClassGenerator generator = new ClassGenerator(GenerationOptions.defaults());
+
+    private JsonNode json;
+    private SchemaNode sampleA;
+    private SchemaNode sampleB;
+    private SchemaNode schema;
+    private Map<SchemaNode, TypeInferencer.TypeRef> typeMap;
+    private ModelGraph graph;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        CorpusSpec spec = CorpusSpec.defaults()
+                .withRecords(records)
+                .withDepth(depth)
+                .withOptionalRate(heterogeneity)
+                .withUnionRate(heterogeneity);
+        json = mapper.readTree(new CorpusGenerator(spec).json());
+        // 시드만 바꾼 입력을 한 벌 더 만들어 병합 대상으로 쓴다.
+        sampleA = analyzer.analyze(json);
+        sampleB = analyzer.analyze(mapper.readTree(new CorpusGenerator(spec.withSeed(7L)).json()));
+
+        schema = analyzer.analyze(json);
+        typeMap = inferencer.inferTypes(schema, "Root");
+        graph = ModelGraph.from(schema, typeMap, "com.example.dto", "Root");
+    }
+
+    @Benchmark
+    public SchemaNode analyze() {
+        return analyzer.analyze(json);
+    }
+
+    @Benchmark
+    public SchemaNode merge() {
+        return analyzer.merge(sampleA, sampleB);
+    }
+
+    @Benchmark
+    public Map<SchemaNode, TypeInferencer.TypeRef> inferTypes() {
+        return inferencer.inferTypes(schema, "Root");
+    }
+
+    @Benchmark
+    public ModelGraph modelGraph() {
+        return ModelGraph.from(schema, typeMap, "com.example.dto", "Root");
+    }
+
+    @Benchmark
+    public int generate() {
+        return generator.generateAllFromModelGraph(graph, false, className -> Writer.nullWriter());
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.bench;
+
+import org.example.json.SchemaAccumulator;
+import org.example.json.SchemaNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 요청 스레드가 하나의 {@link SchemaAccumulator}에 응답을 넣을 때 요청 하나당 비용을 측정한다.
+ * <ul>
+ *     <li>{@code observeAll}: 모든 요청을 파싱해 샤드 스키마에 병합한다.</li>
+ *     <li>{@code observeSampled}: 1%만 분석한다. 나머지 요청은 카운터만 올린다.</li>
+ *     <li>{@code snapshot}: 샤드를 병합한 스키마를 만든다. (요청 경로가 아닌 주기적 작업)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class SchemaAccumulatorBenchmark {
+
+    private byte[] payload;
+    private SchemaAccumulator all;
+    private SchemaAccumulator sampled;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = SchemaAccumulatorBenchmark.class.getResourceAsStream("/bench/weather.json")) {
+            if (in == null) {
+                throw new IllegalStateException("bench/weather.json 리소스를 찾을 수 없습니다.");
+            }
+            payload = in.readAllBytes();
+        }
+        all = new SchemaAccumulator(1.0, SchemaAccumulator.DEFAULT_MAX_FIELDS_PER_OBJECT, 8);
+        sampled = new SchemaAccumulator(0.01, SchemaAccumulator.DEFAULT_MAX_FIELDS_PER_OBJECT, 8);
+        all.observe(payload);
+    }
+
+    @Benchmark
+    public boolean observeAll() {
+        return all.observe(payload);
+    }
+
+    @Benchmark
+    public boolean observeSampled() {
+        return sampled.observe(payload);
+    }
+
+    @Benchmark
+    public SchemaNode snapshot() {
+        return all.snapshotSchema();
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.example.bench.weather.Weather;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생성된 스트리밍 reader({@code readJson})와 ObjectMapper 데이터 바인딩의 역직렬화 처리량을 비교한다.
+ * <p>
+ * {@code org.example.bench.weather} 패키지의 DTO는 {@code src/jmh/resources/bench/weather.json}을 입력으로
+ * {@code --json-reader true --json-writer true --lazy true} 옵션을 켜고 생성한 결과를 그대로 커밋해 둔 것이다.
+ *
+ * <ul>
+ *     <li>{@code keyOrder=observed}: 샘플과 같은 키 순서 (빠른 경로만 사용)</li>
+ *     <li>{@code keyOrder=reversed}: 모든 객체의 키 순서를 뒤집은 입력 (첫 키부터 switch 분기로 빠짐)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StreamingReaderBenchmark {
+
+    @Param({"observed", "reversed"})
+    public String keyOrder;
+
+    private ObjectMapper mapper;
+    private JsonFactory factory;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        // 생성된 DTO는 private 필드 + camelCase 이름이므로 필드 접근 + snake_case 규칙으로 바인딩한다.
+        mapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        factory = mapper.getFactory();
+
+        JsonNode sample;
+        try (InputStream in = StreamingReaderBenchmark.class.getResourceAsStream("/bench/weather.json")) {
+            if (in == null) {
+                throw new IllegalStateException("bench/weather.json 리소스를 찾을 수 없습니다.");
+            }
+            sample = mapper.readTree(in);
+        }
+        if ("reversed".equals(keyOrder)) {
+            sample = reverseKeys(sample);
+        }
+        payload = mapper.writeValueAsBytes(sample);
+    }
+
+    @Benchmark
+    public Weather generatedReader() throws IOException {
+        try (JsonParser parser = factory.createParser(payload)) {
+            return Weather.readJson(parser);
+        }
+    }
+
+    @Benchmark
+    public Weather databind() throws IOException {
+        return mapper.readValue(payload, Weather.class);
+    }
+
+    private JsonNode reverseKeys(JsonNode node) {
+        if (node.isObject()) {
+            List<Map.Entry<String, JsonNode>> entries = new ArrayList<>();
+            Iterator<Map.Entry<String, JsonNode>> it = node.fields();
+            while (it.hasNext()) {
+                entries.add(it.next());
+            }
+            Collections.reverse(entries);
+
+            ObjectNode reversed = mapper.createObjectNode();
+            for (Map.Entry<String, JsonNode> entry : entries) {
+                reversed.set(entry.getKey(), reverseKeys(entry.getValue()));
+            }
+            return reversed;
+        }
+        if (node.isArray()) {
+            ArrayNode array = mapper.createArrayNode();
+            for (JsonNode element : node) {
+                array.add(reverseKeys(element));
+            }
+            return array;
+        }
+        return node;
+    }
+}
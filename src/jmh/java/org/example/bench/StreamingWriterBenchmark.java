@@ -0,0 +1,74 @@
+package org.example.bench;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.example.bench.weather.Weather;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 생성된 스트리밍 writer({@code writeJson})와 ObjectMapper bean serializer의 직렬화 처리량을 비교한다.
+ * <p>
+ * 두 경우 모두 같은 DTO 인스턴스를 재사용하는 출력 버퍼에 기록한다.
+ * 생성된 writer는 nullable 필드의 null만 생략하므로, databind 쪽은 {@code NON_NULL}로 설정해 출력 크기를 비슷하게 맞춘다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StreamingWriterBenchmark {
+
+    private ObjectMapper mapper;
+    private JsonFactory factory;
+    private Weather value;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .setVisibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE)
+                .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        factory = mapper.getFactory();
+
+        try (InputStream in = StreamingWriterBenchmark.class.getResourceAsStream("/bench/weather.json")) {
+            if (in == null) {
+                throw new IllegalStateException("bench/weather.json 리소스를 찾을 수 없습니다.");
+            }
+            value = Weather.readJson(factory.createParser(in));
+        }
+    }
+
+    @Benchmark
+    public int generatedWriter() throws IOException {
+        out.reset();
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            value.writeJson(generator);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int databind() throws IOException {
+        out.reset();
+        mapper.writeValue(out, value);
+        return out.size();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+public class JsonLazySupport {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private JsonLazySupport() {
+    }
+
+    /**
+     * source[start, end) 구간을 읽는 parser를 만들고 첫 토큰으로 이동한다.
+     */
+    public static JsonParser parserAt(byte[] source, int start, int end) throws IOException {
+        JsonParser parser = FACTORY.createParser(source, start, end - start);
+        parser.nextToken();
+        return parser;
+    }
+
+    /**
+     * 현재 값을 건너뛰며 source 내 [시작, 끝) 위치를 offsets[slot], offsets[slot + 1]에 기록한다.
+     * parser가 보고하는 위치는 parser를 만든 위치(base) 기준이다.
+     */
+    public static void skipValue(JsonParser parser, int base, int[] offsets, int slot) throws IOException {
+        offsets[slot] = base + (int) parser.currentTokenLocation().getByteOffset();
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            // 문자열은 다음 토큰으로 넘어갈 때 내용을 읽지 않고 건너뛰므로 끝 위치를 알 수 없다.
+            // 문자열 뒤에는 무엇이 와도 오류가 아니므로 끝을 -1(source 끝까지)로 둔다.
+            offsets[slot + 1] = -1;
+            return;
+        }
+        parser.skipChildren();
+        offsets[slot + 1] = base + (int) parser.currentLocation().getByteOffset();
+    }
+
+    /**
+     * source[start, end) 구간의 값 하나를 reader로 디코딩한다. start가 음수(키 없음)면 null을 반환한다.
+     * end가 음수면 source 끝까지를 구간으로 본다.
+     */
+    public static <T> T decode(byte[] source, int start, int end, JsonReadSupport.ValueReader<T> reader) {
+        if (start < 0) {
+            return null;
+        }
+        try (JsonParser parser = parserAt(source, start, (end < 0) ? source.length : end)) {
+            return reader.read(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 이스케이프가 없는 문자열은 parser 없이 바이트에서 바로 만든다.
+     */
+    public static String readString(byte[] source, int start, int end) {
+        if (start >= 0 && source[start] == '"') {
+            for (int i = start + 1; i < source.length; i++) {
+                if (source[i] == '"') {
+                    return new String(source, start + 1, i - start - 1, StandardCharsets.UTF_8);
+                }
+                if (source[i] == '\\') {
+                    break;
+                }
+            }
+        }
+        return decode(source, start, end, JsonReadSupport::readString);
+    }
+
+    /**
+     * 숫자 리터럴은 parser 없이 바로 변환한다. (JSON 숫자 문법은 Double.parseDouble이 받는 형식에 포함된다)
+     */
+    public static Double readDouble(byte[] source, int start, int end) {
+        if (start >= 0 && (source[start] == '-' || (source[start] >= '0' && source[start] <= '9'))) {
+            return Double.parseDouble(new String(source, start, end - start, StandardCharsets.ISO_8859_1));
+        }
+        return decode(source, start, end, JsonReadSupport::readDouble);
+    }
+
+    public static Boolean readBoolean(byte[] source, int start, int end) {
+        if (start >= 0 && source[start] == 't') {
+            return Boolean.TRUE;
+        }
+        if (start >= 0 && source[start] == 'f') {
+            return Boolean.FALSE;
+        }
+        return decode(source, start, end, JsonReadSupport::readBoolean);
+    }
+
+}
+
@@ -0,0 +1,139 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+public class JsonWriteSupport {
+
+    private JsonWriteSupport() {
+    }
+
+    /**
+     * 값 하나를 JSON으로 기록하는 함수.
+     */
+    @FunctionalInterface
+    public interface ValueWriter<T> {
+        void write(JsonGenerator generator, T value) throws IOException;
+    }
+
+    public static void writeString(JsonGenerator generator, String value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    public static void writeDouble(JsonGenerator generator, Double value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.doubleValue());
+        }
+    }
+
+    public static void writeBoolean(JsonGenerator generator, Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeBoolean(value.booleanValue());
+        }
+    }
+
+    public static void writeDoubleArray(JsonGenerator generator, double[] values) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+        } else {
+            generator.writeArray(values, 0, values.length);
+        }
+    }
+
+    public static void writeLongArray(JsonGenerator generator, long[] values) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+        } else {
+            generator.writeArray(values, 0, values.length);
+        }
+    }
+
+    public static void writeIntArray(JsonGenerator generator, int[] values) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+        } else {
+            generator.writeArray(values, 0, values.length);
+        }
+    }
+
+    public static void writeBooleanArray(JsonGenerator generator, boolean[] values) throws IOException {
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray(values, values.length);
+        for (boolean value : values) {
+            generator.writeBoolean(value);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * 리스트의 각 원소를 writer로 기록한다.
+     */
+    public static <T> void writeList(JsonGenerator generator, List<T> values, ValueWriter<T> writer)
+            throws IOException {
+        if (values == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray(values, values.size());
+        for (T value : values) {
+            writer.write(generator, value);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * 타입을 특정할 수 없는 값(Map/List/String/Number/Boolean/null)을 기록한다.
+     */
+    public static void writeAny(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String) {
+            generator.writeString((String) value);
+        } else if (value instanceof Boolean) {
+            generator.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            generator.writeNumber(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            generator.writeNumber((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            generator.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof BigInteger) {
+            generator.writeNumber((BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            generator.writeNumber((BigDecimal) value);
+        } else if (value instanceof Map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                generator.writeFieldName(String.valueOf(entry.getKey()));
+                writeAny(generator, entry.getValue());
+            }
+            generator.writeEndObject();
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            generator.writeStartArray(list, list.size());
+            for (Object element : list) {
+                writeAny(generator, element);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+
+}
+
@@ -0,0 +1,142 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+public class LazyWeather {
+
+    private final byte[] $source;
+
+    /** i번째 필드 값의 $source 내 [시작, 끝) 위치가 $offsets[2i], $offsets[2i + 1]에 있다. (키가 없으면 시작이 -1) */
+    private final int[] $offsets = new int[14];
+    private long $decoded0;
+
+    private LazyWeatherLocation location;
+    private LazyWeatherCurrent current;
+    private LazyWeatherForecast forecast;
+    private LazyWeatherAlerts alerts;
+    private List<String> tags;
+    private List<Object> mixed;
+    private List<List<Double>> matrix;
+
+    private LazyWeather(byte[] source) {
+        this.$source = source;
+        Arrays.fill($offsets, -1);
+    }
+
+    /**
+     * source 전체를 JSON 객체 하나로 보고 위치 색인만 만든다. (JSON null이면 null)
+     */
+    public static LazyWeather of(byte[] source) {
+        return of(source, 0, source.length);
+    }
+
+    public static LazyWeather of(byte[] source, int offset, int length) {
+        try (JsonParser parser = JsonLazySupport.parserAt(source, offset, offset + length)) {
+            return index(parser, source, offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * buffer의 position부터 limit까지를 읽는다. 힙 버퍼는 배열을 공유하고, 다이렉트 버퍼는 복사한다.
+     */
+    public static LazyWeather of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return of(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return of(copy);
+    }
+
+    /**
+     * parser가 가리키는 객체의 필드 위치를 색인한다. base는 parser가 시작한 source 내 위치다.
+     * 반환 후 parser는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    static LazyWeather index(JsonParser parser, byte[] source, int base) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        LazyWeather result = new LazyWeather(source);
+        for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "location" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 0);
+                case "current" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 2);
+                case "forecast" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 4);
+                case "alerts" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 6);
+                case "tags" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 8);
+                case "mixed" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 10);
+                case "matrix" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 12);
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    public LazyWeatherLocation getLocation() {
+        if (($decoded0 & (1L << 0)) == 0) {
+            location = JsonLazySupport.decode($source, $offsets[0], $offsets[1], parser -> LazyWeatherLocation.index(parser, $source, $offsets[0]));
+            $decoded0 |= (1L << 0);
+        }
+        return location;
+    }
+
+    public LazyWeatherCurrent getCurrent() {
+        if (($decoded0 & (1L << 1)) == 0) {
+            current = JsonLazySupport.decode($source, $offsets[2], $offsets[3], parser -> LazyWeatherCurrent.index(parser, $source, $offsets[2]));
+            $decoded0 |= (1L << 1);
+        }
+        return current;
+    }
+
+    public LazyWeatherForecast getForecast() {
+        if (($decoded0 & (1L << 2)) == 0) {
+            forecast = JsonLazySupport.decode($source, $offsets[4], $offsets[5], parser -> LazyWeatherForecast.index(parser, $source, $offsets[4]));
+            $decoded0 |= (1L << 2);
+        }
+        return forecast;
+    }
+
+    public LazyWeatherAlerts getAlerts() {
+        if (($decoded0 & (1L << 3)) == 0) {
+            alerts = JsonLazySupport.decode($source, $offsets[6], $offsets[7], parser -> LazyWeatherAlerts.index(parser, $source, $offsets[6]));
+            $decoded0 |= (1L << 3);
+        }
+        return alerts;
+    }
+
+    public List<String> getTags() {
+        if (($decoded0 & (1L << 4)) == 0) {
+            tags = JsonLazySupport.decode($source, $offsets[8], $offsets[9], parser -> JsonReadSupport.readList(parser, JsonReadSupport::readString));
+            $decoded0 |= (1L << 4);
+        }
+        return tags;
+    }
+
+    public List<Object> getMixed() {
+        if (($decoded0 & (1L << 5)) == 0) {
+            mixed = JsonLazySupport.decode($source, $offsets[10], $offsets[11], parser -> JsonReadSupport.readList(parser, JsonReadSupport::readAny));
+            $decoded0 |= (1L << 5);
+        }
+        return mixed;
+    }
+
+    public List<List<Double>> getMatrix() {
+        if (($decoded0 & (1L << 6)) == 0) {
+            matrix = JsonLazySupport.decode($source, $offsets[12], $offsets[13], parser -> JsonReadSupport.readList(parser, p1 -> JsonReadSupport.readList(p1, JsonReadSupport::readDouble)));
+            $decoded0 |= (1L << 6);
+        }
+        return matrix;
+    }
+
+}
+
@@ -0,0 +1,121 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class LazyWeatherCurrent {
+
+    private final byte[] $source;
+
+    /** i번째 필드 값의 $source 내 [시작, 끝) 위치가 $offsets[2i], $offsets[2i + 1]에 있다. (키가 없으면 시작이 -1) */
+    private final int[] $offsets = new int[10];
+    private long $decoded0;
+
+    private Double tempC;
+    private Boolean isDay;
+    private LazyWeatherCurrentCondition condition;
+    private Double humidity;
+    private Object note;
+
+    private LazyWeatherCurrent(byte[] source) {
+        this.$source = source;
+        Arrays.fill($offsets, -1);
+    }
+
+    /**
+     * source 전체를 JSON 객체 하나로 보고 위치 색인만 만든다. (JSON null이면 null)
+     */
+    public static LazyWeatherCurrent of(byte[] source) {
+        return of(source, 0, source.length);
+    }
+
+    public static LazyWeatherCurrent of(byte[] source, int offset, int length) {
+        try (JsonParser parser = JsonLazySupport.parserAt(source, offset, offset + length)) {
+            return index(parser, source, offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * buffer의 position부터 limit까지를 읽는다. 힙 버퍼는 배열을 공유하고, 다이렉트 버퍼는 복사한다.
+     */
+    public static LazyWeatherCurrent of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return of(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return of(copy);
+    }
+
+    /**
+     * parser가 가리키는 객체의 필드 위치를 색인한다. base는 parser가 시작한 source 내 위치다.
+     * 반환 후 parser는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    static LazyWeatherCurrent index(JsonParser parser, byte[] source, int base) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        LazyWeatherCurrent result = new LazyWeatherCurrent(source);
+        for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "temp_c" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 0);
+                case "is_day" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 2);
+                case "condition" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 4);
+                case "humidity" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 6);
+                case "note" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 8);
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    public Double getTempC() {
+        if (($decoded0 & (1L << 0)) == 0) {
+            tempC = JsonLazySupport.readDouble($source, $offsets[0], $offsets[1]);
+            $decoded0 |= (1L << 0);
+        }
+        return tempC;
+    }
+
+    public Boolean getIsDay() {
+        if (($decoded0 & (1L << 1)) == 0) {
+            isDay = JsonLazySupport.readBoolean($source, $offsets[2], $offsets[3]);
+            $decoded0 |= (1L << 1);
+        }
+        return isDay;
+    }
+
+    public LazyWeatherCurrentCondition getCondition() {
+        if (($decoded0 & (1L << 2)) == 0) {
+            condition = JsonLazySupport.decode($source, $offsets[4], $offsets[5], parser -> LazyWeatherCurrentCondition.index(parser, $source, $offsets[4]));
+            $decoded0 |= (1L << 2);
+        }
+        return condition;
+    }
+
+    public Double getHumidity() {
+        if (($decoded0 & (1L << 3)) == 0) {
+            humidity = JsonLazySupport.readDouble($source, $offsets[6], $offsets[7]);
+            $decoded0 |= (1L << 3);
+        }
+        return humidity;
+    }
+
+    public Object getNote() {
+        if (($decoded0 & (1L << 4)) == 0) {
+            note = JsonLazySupport.decode($source, $offsets[8], $offsets[9], parser -> JsonReadSupport.readAny(parser));
+            $decoded0 |= (1L << 4);
+        }
+        return note;
+    }
+
+}
+
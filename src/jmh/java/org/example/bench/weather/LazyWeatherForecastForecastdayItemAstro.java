@@ -0,0 +1,91 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class LazyWeatherForecastForecastdayItemAstro {
+
+    private final byte[] $source;
+
+    /** i번째 필드 값의 $source 내 [시작, 끝) 위치가 $offsets[2i], $offsets[2i + 1]에 있다. (키가 없으면 시작이 -1) */
+    private final int[] $offsets = new int[4];
+    private long $decoded0;
+
+    private String sunrise;
+    private String moonrise;
+
+    private LazyWeatherForecastForecastdayItemAstro(byte[] source) {
+        this.$source = source;
+        Arrays.fill($offsets, -1);
+    }
+
+    /**
+     * source 전체를 JSON 객체 하나로 보고 위치 색인만 만든다. (JSON null이면 null)
+     */
+    public static LazyWeatherForecastForecastdayItemAstro of(byte[] source) {
+        return of(source, 0, source.length);
+    }
+
+    public static LazyWeatherForecastForecastdayItemAstro of(byte[] source, int offset, int length) {
+        try (JsonParser parser = JsonLazySupport.parserAt(source, offset, offset + length)) {
+            return index(parser, source, offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * buffer의 position부터 limit까지를 읽는다. 힙 버퍼는 배열을 공유하고, 다이렉트 버퍼는 복사한다.
+     */
+    public static LazyWeatherForecastForecastdayItemAstro of(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return of(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] copy = new byte[buffer.remaining()];
+        buffer.duplicate().get(copy);
+        return of(copy);
+    }
+
+    /**
+     * parser가 가리키는 객체의 필드 위치를 색인한다. base는 parser가 시작한 source 내 위치다.
+     * 반환 후 parser는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    static LazyWeatherForecastForecastdayItemAstro index(JsonParser parser, byte[] source, int base) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        LazyWeatherForecastForecastdayItemAstro result = new LazyWeatherForecastForecastdayItemAstro(source);
+        for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "sunrise" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 0);
+                case "moonrise" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 2);
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    public String getSunrise() {
+        if (($decoded0 & (1L << 0)) == 0) {
+            sunrise = JsonLazySupport.readString($source, $offsets[0], $offsets[1]);
+            $decoded0 |= (1L << 0);
+        }
+        return sunrise;
+    }
+
+    public String getMoonrise() {
+        if (($decoded0 & (1L << 1)) == 0) {
+            moonrise = JsonLazySupport.readString($source, $offsets[2], $offsets[3]);
+            $decoded0 |= (1L << 1);
+        }
+        return moonrise;
+    }
+
+}
+
@@ -0,0 +1,134 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.util.List;
+
+public class Weather {
+
+    private WeatherLocation location;
+
+    private WeatherCurrent current;
+
+    private WeatherForecast forecast;
+
+    private WeatherAlerts alerts;
+
+    private List<String> tags;
+
+    private List<Object> mixed;
+
+    private List<List<Double>> matrix;
+
+    private static final SerializedString JSON_NAME_LOCATION = new SerializedString("location");
+    private static final SerializedString JSON_NAME_CURRENT = new SerializedString("current");
+    private static final SerializedString JSON_NAME_FORECAST = new SerializedString("forecast");
+    private static final SerializedString JSON_NAME_ALERTS = new SerializedString("alerts");
+    private static final SerializedString JSON_NAME_TAGS = new SerializedString("tags");
+    private static final SerializedString JSON_NAME_MIXED = new SerializedString("mixed");
+    private static final SerializedString JSON_NAME_MATRIX = new SerializedString("matrix");
+
+    /**
+     * JSON 객체 하나를 읽어 Weather로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static Weather readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        Weather result = new Weather();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_LOCATION)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.location = WeatherLocation.readJson(parser);
+            if (!parser.nextFieldName(JSON_NAME_CURRENT)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.current = WeatherCurrent.readJson(parser);
+            if (!parser.nextFieldName(JSON_NAME_FORECAST)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.forecast = WeatherForecast.readJson(parser);
+            if (!parser.nextFieldName(JSON_NAME_ALERTS)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.alerts = WeatherAlerts.readJson(parser);
+            if (!parser.nextFieldName(JSON_NAME_TAGS)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.tags = JsonReadSupport.readList(parser, JsonReadSupport::readString);
+            if (!parser.nextFieldName(JSON_NAME_MIXED)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.mixed = JsonReadSupport.readList(parser, JsonReadSupport::readAny);
+            if (!parser.nextFieldName(JSON_NAME_MATRIX)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.matrix = JsonReadSupport.readList(parser, p1 -> JsonReadSupport.readList(p1, JsonReadSupport::readDouble));
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "location" -> result.location = WeatherLocation.readJson(parser);
+                case "current" -> result.current = WeatherCurrent.readJson(parser);
+                case "forecast" -> result.forecast = WeatherForecast.readJson(parser);
+                case "alerts" -> result.alerts = WeatherAlerts.readJson(parser);
+                case "tags" -> result.tags = JsonReadSupport.readList(parser, JsonReadSupport::readString);
+                case "mixed" -> result.mixed = JsonReadSupport.readList(parser, JsonReadSupport::readAny);
+                case "matrix" -> result.matrix = JsonReadSupport.readList(parser, p1 -> JsonReadSupport.readList(p1, JsonReadSupport::readDouble));
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_LOCATION);
+        WeatherLocation.writeJson(generator, this.location);
+        generator.writeFieldName(JSON_NAME_CURRENT);
+        WeatherCurrent.writeJson(generator, this.current);
+        generator.writeFieldName(JSON_NAME_FORECAST);
+        WeatherForecast.writeJson(generator, this.forecast);
+        generator.writeFieldName(JSON_NAME_ALERTS);
+        WeatherAlerts.writeJson(generator, this.alerts);
+        generator.writeFieldName(JSON_NAME_TAGS);
+        JsonWriteSupport.writeList(generator, this.tags, JsonWriteSupport::writeString);
+        generator.writeFieldName(JSON_NAME_MIXED);
+        JsonWriteSupport.writeList(generator, this.mixed, JsonWriteSupport::writeAny);
+        generator.writeFieldName(JSON_NAME_MATRIX);
+        JsonWriteSupport.writeList(generator, this.matrix, (g1, v1) -> JsonWriteSupport.writeList(g1, v1, JsonWriteSupport::writeDouble));
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, Weather value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
@@ -0,0 +1,113 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+
+public class WeatherCurrent {
+
+    private Double tempC;
+
+    private Boolean isDay;
+
+    private WeatherCurrentCondition condition;
+
+    private Double humidity;
+
+    private Object note;
+
+    private static final SerializedString JSON_NAME_TEMP_C = new SerializedString("temp_c");
+    private static final SerializedString JSON_NAME_IS_DAY = new SerializedString("is_day");
+    private static final SerializedString JSON_NAME_CONDITION = new SerializedString("condition");
+    private static final SerializedString JSON_NAME_HUMIDITY = new SerializedString("humidity");
+    private static final SerializedString JSON_NAME_NOTE = new SerializedString("note");
+
+    /**
+     * JSON 객체 하나를 읽어 WeatherCurrent로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static WeatherCurrent readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        WeatherCurrent result = new WeatherCurrent();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_TEMP_C)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.tempC = JsonReadSupport.readDouble(parser);
+            if (!parser.nextFieldName(JSON_NAME_IS_DAY)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.isDay = JsonReadSupport.readBoolean(parser);
+            if (!parser.nextFieldName(JSON_NAME_CONDITION)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.condition = WeatherCurrentCondition.readJson(parser);
+            if (!parser.nextFieldName(JSON_NAME_HUMIDITY)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.humidity = JsonReadSupport.readDouble(parser);
+            if (!parser.nextFieldName(JSON_NAME_NOTE)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.note = JsonReadSupport.readAny(parser);
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "temp_c" -> result.tempC = JsonReadSupport.readDouble(parser);
+                case "is_day" -> result.isDay = JsonReadSupport.readBoolean(parser);
+                case "condition" -> result.condition = WeatherCurrentCondition.readJson(parser);
+                case "humidity" -> result.humidity = JsonReadSupport.readDouble(parser);
+                case "note" -> result.note = JsonReadSupport.readAny(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_TEMP_C);
+        JsonWriteSupport.writeDouble(generator, this.tempC);
+        generator.writeFieldName(JSON_NAME_IS_DAY);
+        JsonWriteSupport.writeBoolean(generator, this.isDay);
+        generator.writeFieldName(JSON_NAME_CONDITION);
+        WeatherCurrentCondition.writeJson(generator, this.condition);
+        generator.writeFieldName(JSON_NAME_HUMIDITY);
+        JsonWriteSupport.writeDouble(generator, this.humidity);
+        if (this.note != null) {
+            generator.writeFieldName(JSON_NAME_NOTE);
+            JsonWriteSupport.writeAny(generator, this.note);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, WeatherCurrent value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
@@ -0,0 +1,90 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.util.List;
+
+public class WeatherForecastForecastdayItem {
+
+    private String date;
+
+    private List<WeatherForecastForecastdayItemHourItem> hour;
+
+    private WeatherForecastForecastdayItemAstro astro;
+
+    private static final SerializedString JSON_NAME_DATE = new SerializedString("date");
+    private static final SerializedString JSON_NAME_HOUR = new SerializedString("hour");
+    private static final SerializedString JSON_NAME_ASTRO = new SerializedString("astro");
+
+    /**
+     * JSON 객체 하나를 읽어 WeatherForecastForecastdayItem로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static WeatherForecastForecastdayItem readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        WeatherForecastForecastdayItem result = new WeatherForecastForecastdayItem();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_DATE)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.date = JsonReadSupport.readString(parser);
+            if (!parser.nextFieldName(JSON_NAME_HOUR)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.hour = JsonReadSupport.readList(parser, WeatherForecastForecastdayItemHourItem::readJson);
+            if (!parser.nextFieldName(JSON_NAME_ASTRO)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.astro = WeatherForecastForecastdayItemAstro.readJson(parser);
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "date" -> result.date = JsonReadSupport.readString(parser);
+                case "hour" -> result.hour = JsonReadSupport.readList(parser, WeatherForecastForecastdayItemHourItem::readJson);
+                case "astro" -> result.astro = WeatherForecastForecastdayItemAstro.readJson(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_DATE);
+        JsonWriteSupport.writeString(generator, this.date);
+        generator.writeFieldName(JSON_NAME_HOUR);
+        JsonWriteSupport.writeList(generator, this.hour, WeatherForecastForecastdayItemHourItem::writeJson);
+        generator.writeFieldName(JSON_NAME_ASTRO);
+        WeatherForecastForecastdayItemAstro.writeJson(generator, this.astro);
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, WeatherForecastForecastdayItem value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
@@ -0,0 +1,80 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+
+public class WeatherForecastForecastdayItemAstro {
+
+    private String sunrise;
+
+    private String moonrise;
+
+    private static final SerializedString JSON_NAME_SUNRISE = new SerializedString("sunrise");
+    private static final SerializedString JSON_NAME_MOONRISE = new SerializedString("moonrise");
+
+    /**
+     * JSON 객체 하나를 읽어 WeatherForecastForecastdayItemAstro로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static WeatherForecastForecastdayItemAstro readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        WeatherForecastForecastdayItemAstro result = new WeatherForecastForecastdayItemAstro();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_SUNRISE)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.sunrise = JsonReadSupport.readString(parser);
+            if (!parser.nextFieldName(JSON_NAME_MOONRISE)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.moonrise = JsonReadSupport.readString(parser);
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "sunrise" -> result.sunrise = JsonReadSupport.readString(parser);
+                case "moonrise" -> result.moonrise = JsonReadSupport.readString(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_SUNRISE);
+        JsonWriteSupport.writeString(generator, this.sunrise);
+        if (this.moonrise != null) {
+            generator.writeFieldName(JSON_NAME_MOONRISE);
+            JsonWriteSupport.writeString(generator, this.moonrise);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, WeatherForecastForecastdayItemAstro value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
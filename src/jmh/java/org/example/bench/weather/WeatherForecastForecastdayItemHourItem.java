@@ -0,0 +1,104 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+
+public class WeatherForecastForecastdayItemHourItem {
+
+    private String time;
+
+    private Double tempC;
+
+    private Double chance;
+
+    private Boolean willItRain;
+
+    private static final SerializedString JSON_NAME_TIME = new SerializedString("time");
+    private static final SerializedString JSON_NAME_TEMP_C = new SerializedString("temp_c");
+    private static final SerializedString JSON_NAME_CHANCE = new SerializedString("chance");
+    private static final SerializedString JSON_NAME_WILL_IT_RAIN = new SerializedString("will_it_rain");
+
+    /**
+     * JSON 객체 하나를 읽어 WeatherForecastForecastdayItemHourItem로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static WeatherForecastForecastdayItemHourItem readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        WeatherForecastForecastdayItemHourItem result = new WeatherForecastForecastdayItemHourItem();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_TIME)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.time = JsonReadSupport.readString(parser);
+            if (!parser.nextFieldName(JSON_NAME_TEMP_C)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.tempC = JsonReadSupport.readDouble(parser);
+            if (!parser.nextFieldName(JSON_NAME_CHANCE)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.chance = JsonReadSupport.readDouble(parser);
+            if (!parser.nextFieldName(JSON_NAME_WILL_IT_RAIN)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.willItRain = JsonReadSupport.readBoolean(parser);
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "time" -> result.time = JsonReadSupport.readString(parser);
+                case "temp_c" -> result.tempC = JsonReadSupport.readDouble(parser);
+                case "chance" -> result.chance = JsonReadSupport.readDouble(parser);
+                case "will_it_rain" -> result.willItRain = JsonReadSupport.readBoolean(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_TIME);
+        JsonWriteSupport.writeString(generator, this.time);
+        generator.writeFieldName(JSON_NAME_TEMP_C);
+        JsonWriteSupport.writeDouble(generator, this.tempC);
+        if (this.chance != null) {
+            generator.writeFieldName(JSON_NAME_CHANCE);
+            JsonWriteSupport.writeDouble(generator, this.chance);
+        }
+        if (this.willItRain != null) {
+            generator.writeFieldName(JSON_NAME_WILL_IT_RAIN);
+            JsonWriteSupport.writeBoolean(generator, this.willItRain);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, WeatherForecastForecastdayItemHourItem value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
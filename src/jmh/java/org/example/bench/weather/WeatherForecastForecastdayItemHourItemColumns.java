@@ -0,0 +1,193 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class WeatherForecastForecastdayItemHourItemColumns {
+
+    private int $size;
+    private int $capacity;
+
+    private String[] time = new String[0];
+    private double[] tempC = new double[0];
+    private double[] chance = new double[0];
+    /** 값이 있는 행 (비트 집합) */
+    private long[] chance$present = new long[0];
+    private long[] willItRain = new long[0];
+    /** 값이 있는 행 (비트 집합) */
+    private long[] willItRain$present = new long[0];
+
+    /** 문자열 열에서 같은 값을 인스턴스 하나로 공유하기 위한 표 (최대 4096개) */
+    private final Map<String, String> $strings = new HashMap<>();
+
+    public int size() {
+        return $size;
+    }
+
+    /**
+     * 행 $row를 가리키는 커서. 커서는 {@link Cursor#at(int)}로 다른 행에 재사용할 수 있다.
+     */
+    public Cursor cursor(int $row) {
+        return new Cursor().at($row);
+    }
+
+    /**
+     * tempC 열. 앞의 size()개만 유효하며, 반환된 배열을 바꾸면 이 컨테이너도 바뀐다.
+     */
+    public double[] tempCColumn() {
+        return tempC;
+    }
+
+    /**
+     * chance 열. 앞의 size()개만 유효하며, 반환된 배열을 바꾸면 이 컨테이너도 바뀐다.
+     */
+    public double[] chanceColumn() {
+        return chance;
+    }
+
+    /**
+     * JSON 배열 하나를 읽어 열 컨테이너로 변환한다. (JSON null이면 null)
+     */
+    public static WeatherForecastForecastdayItemHourItemColumns readJson(JsonParser $parser) throws IOException {
+        WeatherForecastForecastdayItemHourItemColumns $columns = new WeatherForecastForecastdayItemHourItemColumns();
+        return $columns.appendJson($parser) ? $columns : null;
+    }
+
+    /**
+     * JSON 배열의 원소들을 행으로 덧붙인다. 원소가 JSON null이면 모든 값이 없는 행을 추가한다.
+     * 호출 전 $parser는 배열의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 배열의 마지막 토큰(END_ARRAY)에 위치한다. JSON null이면 false를 반환한다.
+     */
+    public boolean appendJson(JsonParser $parser) throws IOException {
+        JsonToken $token = $parser.currentToken();
+        if ($token == null) {
+            $token = $parser.nextToken();
+        }
+        if ($token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if ($token != JsonToken.START_ARRAY) {
+            throw new JsonParseException($parser, "Expected START_ARRAY but was " + $token);
+        }
+        while ($parser.nextToken() != JsonToken.END_ARRAY) {
+            int $row = addRow();
+            if (!JsonReadSupport.startObject($parser)) {
+                continue;
+            }
+            for (JsonToken $field = $parser.nextToken(); $field == JsonToken.FIELD_NAME; $field = $parser.nextToken()) {
+                String $name = $parser.currentName();
+                $parser.nextToken();
+                switch ($name) {
+                    case "time" -> time[$row] = share(JsonReadSupport.readString($parser));
+                    case "temp_c" -> tempC[$row] = JsonReadSupport.readDoubleValue($parser);
+                    case "chance" -> {
+                        if ($parser.currentToken() != JsonToken.VALUE_NULL) {
+                            chance[$row] = JsonReadSupport.readDoubleValue($parser);
+                            chance$present[$row >>> 6] |= 1L << $row;
+                        }
+                    }
+                    case "will_it_rain" -> {
+                        if ($parser.currentToken() != JsonToken.VALUE_NULL) {
+                            if (JsonReadSupport.readBooleanValue($parser)) {
+                                willItRain[$row >>> 6] |= 1L << $row;
+                            }
+                            willItRain$present[$row >>> 6] |= 1L << $row;
+                        }
+                    }
+                    default -> $parser.skipChildren();
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 열 배열을 size()에 맞게 줄여 남는 공간을 돌려준다. 읽기를 마친 뒤 오래 보관할 때 사용한다.
+     */
+    public void trimToSize() {
+        if ($capacity > $size) {
+            resize($size);
+        }
+    }
+
+    private int addRow() {
+        if ($size == $capacity) {
+            resize(Math.max(16, $capacity * 2));
+        }
+        return $size++;
+    }
+
+    private void resize(int $newCapacity) {
+        $capacity = $newCapacity;
+        int $words = ($capacity + 63) >>> 6;
+        time = Arrays.copyOf(time, $capacity);
+        tempC = Arrays.copyOf(tempC, $capacity);
+        chance = Arrays.copyOf(chance, $capacity);
+        chance$present = Arrays.copyOf(chance$present, $words);
+        willItRain = Arrays.copyOf(willItRain, $words);
+        willItRain$present = Arrays.copyOf(willItRain$present, $words);
+    }
+
+    private String share(String $value) {
+        if ($value == null) {
+            return null;
+        }
+        String $shared = $strings.get($value);
+        if ($shared != null) {
+            return $shared;
+        }
+        if ($strings.size() < 4096) {
+            $strings.put($value, $value);
+        }
+        return $value;
+    }
+
+    /**
+     * 한 행의 값을 WeatherForecastForecastdayItemHourItem와 같은 이름의 getter로 읽는 커서.
+     */
+    public final class Cursor {
+
+        private int $row;
+
+        public Cursor at(int $row) {
+            this.$row = Objects.checkIndex($row, $size);
+            return this;
+        }
+
+        public int row() {
+            return $row;
+        }
+
+        public String getTime() {
+            return time[$row];
+        }
+
+        public double getTempC() {
+            return tempC[$row];
+        }
+
+        public boolean hasChance() {
+            return (chance$present[$row >>> 6] & (1L << $row)) != 0;
+        }
+
+        public Double getChance() {
+            return hasChance() ? chance[$row] : null;
+        }
+
+        public boolean hasWillItRain() {
+            return (willItRain$present[$row >>> 6] & (1L << $row)) != 0;
+        }
+
+        public Boolean getWillItRain() {
+            return hasWillItRain() ? (willItRain[$row >>> 6] & (1L << $row)) != 0 : null;
+        }
+    }
+
+}
+
@@ -0,0 +1,100 @@
+package org.example.bench.weather;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+
+public class WeatherLocation {
+
+    private String name;
+
+    private String country;
+
+    private Double lat;
+
+    private Double localtimeEpoch;
+
+    private static final SerializedString JSON_NAME_NAME = new SerializedString("name");
+    private static final SerializedString JSON_NAME_COUNTRY = new SerializedString("country");
+    private static final SerializedString JSON_NAME_LAT = new SerializedString("lat");
+    private static final SerializedString JSON_NAME_LOCALTIME_EPOCH = new SerializedString("localtime_epoch");
+
+    /**
+     * JSON 객체 하나를 읽어 WeatherLocation로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static WeatherLocation readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        WeatherLocation result = new WeatherLocation();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_NAME)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.name = JsonReadSupport.readString(parser);
+            if (!parser.nextFieldName(JSON_NAME_COUNTRY)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.country = JsonReadSupport.readString(parser);
+            if (!parser.nextFieldName(JSON_NAME_LAT)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.lat = JsonReadSupport.readDouble(parser);
+            if (!parser.nextFieldName(JSON_NAME_LOCALTIME_EPOCH)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.localtimeEpoch = JsonReadSupport.readDouble(parser);
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "name" -> result.name = JsonReadSupport.readString(parser);
+                case "country" -> result.country = JsonReadSupport.readString(parser);
+                case "lat" -> result.lat = JsonReadSupport.readDouble(parser);
+                case "localtime_epoch" -> result.localtimeEpoch = JsonReadSupport.readDouble(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_NAME);
+        JsonWriteSupport.writeString(generator, this.name);
+        generator.writeFieldName(JSON_NAME_COUNTRY);
+        JsonWriteSupport.writeString(generator, this.country);
+        generator.writeFieldName(JSON_NAME_LAT);
+        JsonWriteSupport.writeDouble(generator, this.lat);
+        generator.writeFieldName(JSON_NAME_LOCALTIME_EPOCH);
+        JsonWriteSupport.writeDouble(generator, this.localtimeEpoch);
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, WeatherLocation value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
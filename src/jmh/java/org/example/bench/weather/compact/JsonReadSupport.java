@@ -0,0 +1,246 @@
+package org.example.bench.weather.compact;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class JsonReadSupport {
+
+    private static final int INITIAL_ARRAY_CAPACITY = 16;
+
+    private JsonReadSupport() {
+    }
+
+    /**
+     * 현재 토큰에서 시작하는 JSON 값 하나를 읽는 함수.
+     */
+    @FunctionalInterface
+    public interface ValueReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * 객체 시작 위치로 이동한다. JSON null이면 false를 반환한다.
+     */
+    public static boolean startObject(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected START_OBJECT but was " + token);
+        }
+        return true;
+    }
+
+    public static String readString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == null || !token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected string but was " + token);
+        }
+        return parser.getText();
+    }
+
+    public static Double readDouble(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == null || !token.isNumeric()) {
+            throw new JsonParseException(parser, "Expected number but was " + token);
+        }
+        return parser.getDoubleValue();
+    }
+
+    /**
+     * null이 관찰되지 않은 원시 필드용. JSON null이면 0을 반환한다.
+     */
+    public static double readDoubleValue(JsonParser parser) throws IOException {
+        return expectNumber(parser) ? parser.getDoubleValue() : 0.0;
+    }
+
+    public static long readLongValue(JsonParser parser) throws IOException {
+        return expectNumber(parser) ? parser.getLongValue() : 0L;
+    }
+
+    public static int readIntValue(JsonParser parser) throws IOException {
+        return expectNumber(parser) ? parser.getIntValue() : 0;
+    }
+
+    private static boolean expectNumber(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token == null || !token.isNumeric()) {
+            throw new JsonParseException(parser, "Expected number but was " + token);
+        }
+        return true;
+    }
+
+    /**
+     * null이 관찰되지 않은 불리언 필드용. JSON null이면 false를 반환한다.
+     */
+    public static boolean readBooleanValue(JsonParser parser) throws IOException {
+        return Boolean.TRUE.equals(readBoolean(parser));
+    }
+
+    public static Boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == null || !token.isBoolean()) {
+            throw new JsonParseException(parser, "Expected boolean but was " + token);
+        }
+        return token == JsonToken.VALUE_TRUE;
+    }
+
+    /**
+     * 타입을 특정할 수 없는 값을 Map/List/String/Number/Boolean/null로 읽는다.
+     */
+    public static Object readAny(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of input");
+        }
+        switch (token) {
+            case START_OBJECT: {
+                Map<String, Object> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    parser.nextToken();
+                    map.put(name, readAny(parser));
+                }
+                return map;
+            }
+            case START_ARRAY: {
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readAny(parser));
+                }
+                return list;
+            }
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            case VALUE_EMBEDDED_OBJECT:
+                return parser.getEmbeddedObject();
+            default:
+                throw new JsonParseException(parser, "Unexpected token " + token);
+        }
+    }
+
+    /**
+     * 배열을 읽어 각 원소를 reader로 변환한다. JSON null이면 null을 반환한다.
+     */
+    public static <T> List<T> readList(JsonParser parser, ValueReader<T> reader) throws IOException {
+        if (!startArray(parser)) {
+            return null;
+        }
+        List<T> list = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            list.add(reader.read(parser));
+        }
+        return list;
+    }
+
+    /**
+     * 숫자 배열을 박싱 없이 double[]로 읽는다. JSON null이면 null을 반환한다.
+     */
+    public static double[] readDoubleArray(JsonParser parser) throws IOException {
+        if (!startArray(parser)) {
+            return null;
+        }
+        double[] values = new double[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = readDoubleValue(parser);
+        }
+        return (size == values.length) ? values : Arrays.copyOf(values, size);
+    }
+
+    public static long[] readLongArray(JsonParser parser) throws IOException {
+        if (!startArray(parser)) {
+            return null;
+        }
+        long[] values = new long[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = readLongValue(parser);
+        }
+        return (size == values.length) ? values : Arrays.copyOf(values, size);
+    }
+
+    public static int[] readIntArray(JsonParser parser) throws IOException {
+        if (!startArray(parser)) {
+            return null;
+        }
+        int[] values = new int[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = readIntValue(parser);
+        }
+        return (size == values.length) ? values : Arrays.copyOf(values, size);
+    }
+
+    public static boolean[] readBooleanArray(JsonParser parser) throws IOException {
+        if (!startArray(parser)) {
+            return null;
+        }
+        boolean[] values = new boolean[INITIAL_ARRAY_CAPACITY];
+        int size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = readBooleanValue(parser);
+        }
+        return (size == values.length) ? values : Arrays.copyOf(values, size);
+    }
+
+    /**
+     * 배열 시작 토큰인지 확인한다. JSON null이면 false를 반환한다.
+     */
+    private static boolean startArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected START_ARRAY but was " + token);
+        }
+        return true;
+    }
+
+}
+
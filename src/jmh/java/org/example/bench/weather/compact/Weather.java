@@ -0,0 +1,190 @@
+package org.example.bench.weather.compact;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.util.List;
+
+public class Weather {
+
+    private WeatherLocation location;
+
+    private WeatherCurrent current;
+
+    private WeatherForecast forecast;
+
+    private WeatherAlerts alerts;
+
+    private List<String> tags;
+
+    private List<Object> mixed;
+
+    private List<List<Double>> matrix;
+
+    public WeatherLocation getLocation() {
+        return location;
+    }
+
+    public void setLocation(WeatherLocation location) {
+        this.location = location;
+    }
+
+    public WeatherCurrent getCurrent() {
+        return current;
+    }
+
+    public void setCurrent(WeatherCurrent current) {
+        this.current = current;
+    }
+
+    public WeatherForecast getForecast() {
+        return forecast;
+    }
+
+    public void setForecast(WeatherForecast forecast) {
+        this.forecast = forecast;
+    }
+
+    public WeatherAlerts getAlerts() {
+        return alerts;
+    }
+
+    public void setAlerts(WeatherAlerts alerts) {
+        this.alerts = alerts;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public List<Object> getMixed() {
+        return mixed;
+    }
+
+    public void setMixed(List<Object> mixed) {
+        this.mixed = mixed;
+    }
+
+    public List<List<Double>> getMatrix() {
+        return matrix;
+    }
+
+    public void setMatrix(List<List<Double>> matrix) {
+        this.matrix = matrix;
+    }
+
+    private static final SerializedString JSON_NAME_LOCATION = new SerializedString("location");
+    private static final SerializedString JSON_NAME_CURRENT = new SerializedString("current");
+    private static final SerializedString JSON_NAME_FORECAST = new SerializedString("forecast");
+    private static final SerializedString JSON_NAME_ALERTS = new SerializedString("alerts");
+    private static final SerializedString JSON_NAME_TAGS = new SerializedString("tags");
+    private static final SerializedString JSON_NAME_MIXED = new SerializedString("mixed");
+    private static final SerializedString JSON_NAME_MATRIX = new SerializedString("matrix");
+
+    /**
+     * JSON 객체 하나를 읽어 Weather로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static Weather readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        Weather result = new Weather();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_LOCATION)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setLocation(WeatherLocation.readJson(parser));
+            if (!parser.nextFieldName(JSON_NAME_CURRENT)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setCurrent(WeatherCurrent.readJson(parser));
+            if (!parser.nextFieldName(JSON_NAME_FORECAST)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setForecast(WeatherForecast.readJson(parser));
+            if (!parser.nextFieldName(JSON_NAME_ALERTS)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setAlerts(WeatherAlerts.readJson(parser));
+            if (!parser.nextFieldName(JSON_NAME_TAGS)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setTags(JsonReadSupport.readList(parser, JsonReadSupport::readString));
+            if (!parser.nextFieldName(JSON_NAME_MIXED)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setMixed(JsonReadSupport.readList(parser, JsonReadSupport::readAny));
+            if (!parser.nextFieldName(JSON_NAME_MATRIX)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setMatrix(JsonReadSupport.readList(parser, p1 -> JsonReadSupport.readList(p1, JsonReadSupport::readDouble)));
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "location" -> result.setLocation(WeatherLocation.readJson(parser));
+                case "current" -> result.setCurrent(WeatherCurrent.readJson(parser));
+                case "forecast" -> result.setForecast(WeatherForecast.readJson(parser));
+                case "alerts" -> result.setAlerts(WeatherAlerts.readJson(parser));
+                case "tags" -> result.setTags(JsonReadSupport.readList(parser, JsonReadSupport::readString));
+                case "mixed" -> result.setMixed(JsonReadSupport.readList(parser, JsonReadSupport::readAny));
+                case "matrix" -> result.setMatrix(JsonReadSupport.readList(parser, p1 -> JsonReadSupport.readList(p1, JsonReadSupport::readDouble)));
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_LOCATION);
+        WeatherLocation.writeJson(generator, getLocation());
+        generator.writeFieldName(JSON_NAME_CURRENT);
+        WeatherCurrent.writeJson(generator, getCurrent());
+        generator.writeFieldName(JSON_NAME_FORECAST);
+        WeatherForecast.writeJson(generator, getForecast());
+        generator.writeFieldName(JSON_NAME_ALERTS);
+        WeatherAlerts.writeJson(generator, getAlerts());
+        generator.writeFieldName(JSON_NAME_TAGS);
+        JsonWriteSupport.writeList(generator, getTags(), JsonWriteSupport::writeString);
+        generator.writeFieldName(JSON_NAME_MIXED);
+        JsonWriteSupport.writeList(generator, getMixed(), JsonWriteSupport::writeAny);
+        generator.writeFieldName(JSON_NAME_MATRIX);
+        JsonWriteSupport.writeList(generator, getMatrix(), (g1, v1) -> JsonWriteSupport.writeList(g1, v1, JsonWriteSupport::writeDouble));
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, Weather value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
@@ -0,0 +1,76 @@
+package org.example.bench.weather.compact;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import java.util.List;
+
+public class WeatherAlerts {
+
+    private List<Object> alert;
+
+    public List<Object> getAlert() {
+        return alert;
+    }
+
+    public void setAlert(List<Object> alert) {
+        this.alert = alert;
+    }
+
+    private static final SerializedString JSON_NAME_ALERT = new SerializedString("alert");
+
+    /**
+     * JSON 객체 하나를 읽어 WeatherAlerts로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static WeatherAlerts readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        WeatherAlerts result = new WeatherAlerts();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_ALERT)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setAlert(JsonReadSupport.readList(parser, JsonReadSupport::readAny));
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "alert" -> result.setAlert(JsonReadSupport.readList(parser, JsonReadSupport::readAny));
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_ALERT);
+        JsonWriteSupport.writeList(generator, getAlert(), JsonWriteSupport::writeAny);
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, WeatherAlerts value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
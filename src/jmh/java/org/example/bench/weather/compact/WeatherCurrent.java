@@ -0,0 +1,160 @@
+package org.example.bench.weather.compact;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+
+public class WeatherCurrent {
+
+    private double tempC;
+
+    private WeatherCurrentCondition condition;
+
+    private double humidity;
+
+    private Object note;
+
+    /**
+     * 불리언 필드 값 비트 (0번 비트부터: isDay)
+     */
+    private long booleanBits0;
+
+    public double getTempC() {
+        return tempC;
+    }
+
+    public void setTempC(double tempC) {
+        this.tempC = tempC;
+    }
+
+    public boolean getIsDay() {
+        return (booleanBits0 & (1L << 0)) != 0;
+    }
+
+    public void setIsDay(boolean isDay) {
+        if (isDay) {
+            booleanBits0 |= (1L << 0);
+        } else {
+            booleanBits0 &= ~(1L << 0);
+        }
+    }
+
+    public WeatherCurrentCondition getCondition() {
+        return condition;
+    }
+
+    public void setCondition(WeatherCurrentCondition condition) {
+        this.condition = condition;
+    }
+
+    public double getHumidity() {
+        return humidity;
+    }
+
+    public void setHumidity(double humidity) {
+        this.humidity = humidity;
+    }
+
+    public Object getNote() {
+        return note;
+    }
+
+    public void setNote(Object note) {
+        this.note = note;
+    }
+
+    private static final SerializedString JSON_NAME_TEMP_C = new SerializedString("temp_c");
+    private static final SerializedString JSON_NAME_IS_DAY = new SerializedString("is_day");
+    private static final SerializedString JSON_NAME_CONDITION = new SerializedString("condition");
+    private static final SerializedString JSON_NAME_HUMIDITY = new SerializedString("humidity");
+    private static final SerializedString JSON_NAME_NOTE = new SerializedString("note");
+
+    /**
+     * JSON 객체 하나를 읽어 WeatherCurrent로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static WeatherCurrent readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        WeatherCurrent result = new WeatherCurrent();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_TEMP_C)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setTempC(JsonReadSupport.readDoubleValue(parser));
+            if (!parser.nextFieldName(JSON_NAME_IS_DAY)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setIsDay(JsonReadSupport.readBooleanValue(parser));
+            if (!parser.nextFieldName(JSON_NAME_CONDITION)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setCondition(WeatherCurrentCondition.readJson(parser));
+            if (!parser.nextFieldName(JSON_NAME_HUMIDITY)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setHumidity(JsonReadSupport.readDoubleValue(parser));
+            if (!parser.nextFieldName(JSON_NAME_NOTE)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setNote(JsonReadSupport.readAny(parser));
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "temp_c" -> result.setTempC(JsonReadSupport.readDoubleValue(parser));
+                case "is_day" -> result.setIsDay(JsonReadSupport.readBooleanValue(parser));
+                case "condition" -> result.setCondition(WeatherCurrentCondition.readJson(parser));
+                case "humidity" -> result.setHumidity(JsonReadSupport.readDoubleValue(parser));
+                case "note" -> result.setNote(JsonReadSupport.readAny(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_TEMP_C);
+        generator.writeNumber(getTempC());
+        generator.writeFieldName(JSON_NAME_IS_DAY);
+        generator.writeBoolean(getIsDay());
+        generator.writeFieldName(JSON_NAME_CONDITION);
+        WeatherCurrentCondition.writeJson(generator, getCondition());
+        generator.writeFieldName(JSON_NAME_HUMIDITY);
+        generator.writeNumber(getHumidity());
+        if (getNote() != null) {
+            generator.writeFieldName(JSON_NAME_NOTE);
+            JsonWriteSupport.writeAny(generator, getNote());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, WeatherCurrent value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
@@ -0,0 +1,168 @@
+package org.example.bench.weather.compact;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+
+public class WeatherForecastForecastdayItemHourItem {
+
+    private String time;
+
+    private double tempC;
+
+    private double chance;
+
+    /**
+     * 값이 있는 nullable 필드 비트 (0번 비트부터: chance, willItRain)
+     */
+    private long presenceBits0;
+
+    /**
+     * 불리언 필드 값 비트 (0번 비트부터: willItRain)
+     */
+    private long booleanBits0;
+
+    public String getTime() {
+        return time;
+    }
+
+    public void setTime(String time) {
+        this.time = time;
+    }
+
+    public double getTempC() {
+        return tempC;
+    }
+
+    public void setTempC(double tempC) {
+        this.tempC = tempC;
+    }
+
+    public boolean hasChance() {
+        return (presenceBits0 & (1L << 0)) != 0;
+    }
+
+    public Double getChance() {
+        return hasChance() ? chance : null;
+    }
+
+    public void setChance(Double chance) {
+        if (chance == null) {
+            this.chance = 0;
+            presenceBits0 &= ~(1L << 0);
+        } else {
+            this.chance = chance;
+            presenceBits0 |= (1L << 0);
+        }
+    }
+
+    public boolean hasWillItRain() {
+        return (presenceBits0 & (1L << 1)) != 0;
+    }
+
+    public Boolean getWillItRain() {
+        return hasWillItRain() ? (booleanBits0 & (1L << 0)) != 0 : null;
+    }
+
+    public void setWillItRain(Boolean willItRain) {
+        if (willItRain == null) {
+            booleanBits0 &= ~(1L << 0);
+            presenceBits0 &= ~(1L << 1);
+        } else {
+            if (willItRain) {
+                booleanBits0 |= (1L << 0);
+            } else {
+                booleanBits0 &= ~(1L << 0);
+            }
+            presenceBits0 |= (1L << 1);
+        }
+    }
+
+    private static final SerializedString JSON_NAME_TIME = new SerializedString("time");
+    private static final SerializedString JSON_NAME_TEMP_C = new SerializedString("temp_c");
+    private static final SerializedString JSON_NAME_CHANCE = new SerializedString("chance");
+    private static final SerializedString JSON_NAME_WILL_IT_RAIN = new SerializedString("will_it_rain");
+
+    /**
+     * JSON 객체 하나를 읽어 WeatherForecastForecastdayItemHourItem로 변환한다. (JSON null이면 null)
+     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,
+     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.
+     */
+    public static WeatherForecastForecastdayItemHourItem readJson(JsonParser parser) throws IOException {
+        if (!JsonReadSupport.startObject(parser)) {
+            return null;
+        }
+        WeatherForecastForecastdayItemHourItem result = new WeatherForecastForecastdayItemHourItem();
+        fast:
+        {
+            if (!parser.nextFieldName(JSON_NAME_TIME)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setTime(JsonReadSupport.readString(parser));
+            if (!parser.nextFieldName(JSON_NAME_TEMP_C)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setTempC(JsonReadSupport.readDoubleValue(parser));
+            if (!parser.nextFieldName(JSON_NAME_CHANCE)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setChance(JsonReadSupport.readDouble(parser));
+            if (!parser.nextFieldName(JSON_NAME_WILL_IT_RAIN)) {
+                break fast;
+            }
+            parser.nextToken();
+            result.setWillItRain(JsonReadSupport.readBoolean(parser));
+            parser.nextToken();
+        }
+        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "time" -> result.setTime(JsonReadSupport.readString(parser));
+                case "temp_c" -> result.setTempC(JsonReadSupport.readDoubleValue(parser));
+                case "chance" -> result.setChance(JsonReadSupport.readDouble(parser));
+                case "will_it_rain" -> result.setWillItRain(JsonReadSupport.readBoolean(parser));
+                default -> parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.
+     */
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(JSON_NAME_TIME);
+        JsonWriteSupport.writeString(generator, getTime());
+        generator.writeFieldName(JSON_NAME_TEMP_C);
+        generator.writeNumber(getTempC());
+        if (hasChance()) {
+            generator.writeFieldName(JSON_NAME_CHANCE);
+            JsonWriteSupport.writeDouble(generator, getChance());
+        }
+        if (hasWillItRain()) {
+            generator.writeFieldName(JSON_NAME_WILL_IT_RAIN);
+            JsonWriteSupport.writeBoolean(generator, getWillItRain());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * value를 기록한다. value가 null이면 JSON null을 기록한다.
+     */
+    public static void writeJson(JsonGenerator generator, WeatherForecastForecastdayItemHourItem value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            value.writeJson(generator);
+        }
+    }
+
+}
+
@@ -0,0 +1,76 @@
+package org.example.bench.weather.creator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public final class Weather {
+
+    @JsonProperty("location")
+    private final WeatherLocation location;
+
+    @JsonProperty("current")
+    private final WeatherCurrent current;
+
+    @JsonProperty("forecast")
+    private final WeatherForecast forecast;
+
+    @JsonProperty("alerts")
+    private final WeatherAlerts alerts;
+
+    @JsonProperty("tags")
+    private final List<String> tags;
+
+    @JsonProperty("mixed")
+    private final List<Object> mixed;
+
+    @JsonProperty("matrix")
+    private final List<List<Double>> matrix;
+
+    @JsonCreator
+    public Weather(@JsonProperty("location") WeatherLocation location,
+                   @JsonProperty("current") WeatherCurrent current,
+                   @JsonProperty("forecast") WeatherForecast forecast,
+                   @JsonProperty("alerts") WeatherAlerts alerts,
+                   @JsonProperty("tags") List<String> tags,
+                   @JsonProperty("mixed") List<Object> mixed,
+                   @JsonProperty("matrix") List<List<Double>> matrix) {
+        this.location = location;
+        this.current = current;
+        this.forecast = forecast;
+        this.alerts = alerts;
+        this.tags = tags;
+        this.mixed = mixed;
+        this.matrix = matrix;
+    }
+
+    public WeatherLocation getLocation() {
+        return location;
+    }
+
+    public WeatherCurrent getCurrent() {
+        return current;
+    }
+
+    public WeatherForecast getForecast() {
+        return forecast;
+    }
+
+    public WeatherAlerts getAlerts() {
+        return alerts;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public List<Object> getMixed() {
+        return mixed;
+    }
+
+    public List<List<Double>> getMatrix() {
+        return matrix;
+    }
+
+}
+
@@ -0,0 +1,22 @@
+package org.example.bench.weather.creator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public final class WeatherAlerts {
+
+    @JsonProperty("alert")
+    private final List<Object> alert;
+
+    @JsonCreator
+    public WeatherAlerts(@JsonProperty("alert") List<Object> alert) {
+        this.alert = alert;
+    }
+
+    public List<Object> getAlert() {
+        return alert;
+    }
+
+}
+
@@ -0,0 +1,57 @@
+package org.example.bench.weather.creator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public final class WeatherCurrent {
+
+    @JsonProperty("temp_c")
+    private final Double tempC;
+
+    @JsonProperty("is_day")
+    private final Boolean isDay;
+
+    @JsonProperty("condition")
+    private final WeatherCurrentCondition condition;
+
+    @JsonProperty("humidity")
+    private final Double humidity;
+
+    @JsonProperty("note")
+    private final Object note;
+
+    @JsonCreator
+    public WeatherCurrent(@JsonProperty("temp_c") Double tempC,
+                          @JsonProperty("is_day") Boolean isDay,
+                          @JsonProperty("condition") WeatherCurrentCondition condition,
+                          @JsonProperty("humidity") Double humidity,
+                          @JsonProperty("note") Object note) {
+        this.tempC = tempC;
+        this.isDay = isDay;
+        this.condition = condition;
+        this.humidity = humidity;
+        this.note = note;
+    }
+
+    public Double getTempC() {
+        return tempC;
+    }
+
+    public Boolean getIsDay() {
+        return isDay;
+    }
+
+    public WeatherCurrentCondition getCondition() {
+        return condition;
+    }
+
+    public Double getHumidity() {
+        return humidity;
+    }
+
+    public Object getNote() {
+        return note;
+    }
+
+}
+
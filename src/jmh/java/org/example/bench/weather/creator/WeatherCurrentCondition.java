@@ -0,0 +1,30 @@
+package org.example.bench.weather.creator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public final class WeatherCurrentCondition {
+
+    @JsonProperty("text")
+    private final String text;
+
+    @JsonProperty("code")
+    private final Double code;
+
+    @JsonCreator
+    public WeatherCurrentCondition(@JsonProperty("text") String text,
+                                   @JsonProperty("code") Double code) {
+        this.text = text;
+        this.code = code;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public Double getCode() {
+        return code;
+    }
+
+}
+
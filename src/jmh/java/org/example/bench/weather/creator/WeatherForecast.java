@@ -0,0 +1,22 @@
+package org.example.bench.weather.creator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public final class WeatherForecast {
+
+    @JsonProperty("forecastday")
+    private final List<WeatherForecastForecastdayItem> forecastday;
+
+    @JsonCreator
+    public WeatherForecast(@JsonProperty("forecastday") List<WeatherForecastForecastdayItem> forecastday) {
+        this.forecastday = forecastday;
+    }
+
+    public List<WeatherForecastForecastdayItem> getForecastday() {
+        return forecastday;
+    }
+
+}
+
@@ -0,0 +1,40 @@
+package org.example.bench.weather.creator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public final class WeatherForecastForecastdayItem {
+
+    @JsonProperty("date")
+    private final String date;
+
+    @JsonProperty("hour")
+    private final List<WeatherForecastForecastdayItemHourItem> hour;
+
+    @JsonProperty("astro")
+    private final WeatherForecastForecastdayItemAstro astro;
+
+    @JsonCreator
+    public WeatherForecastForecastdayItem(@JsonProperty("date") String date,
+                                          @JsonProperty("hour") List<WeatherForecastForecastdayItemHourItem> hour,
+                                          @JsonProperty("astro") WeatherForecastForecastdayItemAstro astro) {
+        this.date = date;
+        this.hour = hour;
+        this.astro = astro;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public List<WeatherForecastForecastdayItemHourItem> getHour() {
+        return hour;
+    }
+
+    public WeatherForecastForecastdayItemAstro getAstro() {
+        return astro;
+    }
+
+}
+
@@ -0,0 +1,30 @@
+package org.example.bench.weather.creator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public final class WeatherForecastForecastdayItemAstro {
+
+    @JsonProperty("sunrise")
+    private final String sunrise;
+
+    @JsonProperty("moonrise")
+    private final String moonrise;
+
+    @JsonCreator
+    public WeatherForecastForecastdayItemAstro(@JsonProperty("sunrise") String sunrise,
+                                               @JsonProperty("moonrise") String moonrise) {
+        this.sunrise = sunrise;
+        this.moonrise = moonrise;
+    }
+
+    public String getSunrise() {
+        return sunrise;
+    }
+
+    public String getMoonrise() {
+        return moonrise;
+    }
+
+}
+
@@ -0,0 +1,48 @@
+package org.example.bench.weather.creator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public final class WeatherForecastForecastdayItemHourItem {
+
+    @JsonProperty("time")
+    private final String time;
+
+    @JsonProperty("temp_c")
+    private final Double tempC;
+
+    @JsonProperty("chance")
+    private final Double chance;
+
+    @JsonProperty("will_it_rain")
+    private final Boolean willItRain;
+
+    @JsonCreator
+    public WeatherForecastForecastdayItemHourItem(@JsonProperty("time") String time,
+                                                  @JsonProperty("temp_c") Double tempC,
+                                                  @JsonProperty("chance") Double chance,
+                                                  @JsonProperty("will_it_rain") Boolean willItRain) {
+        this.time = time;
+        this.tempC = tempC;
+        this.chance = chance;
+        this.willItRain = willItRain;
+    }
+
+    public String getTime() {
+        return time;
+    }
+
+    public Double getTempC() {
+        return tempC;
+    }
+
+    public Double getChance() {
+        return chance;
+    }
+
+    public Boolean getWillItRain() {
+        return willItRain;
+    }
+
+}
+
@@ -0,0 +1,48 @@
+package org.example.bench.weather.creator;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public final class WeatherLocation {
+
+    @JsonProperty("name")
+    private final String name;
+
+    @JsonProperty("country")
+    private final String country;
+
+    @JsonProperty("lat")
+    private final Double lat;
+
+    @JsonProperty("localtime_epoch")
+    private final Double localtimeEpoch;
+
+    @JsonCreator
+    public WeatherLocation(@JsonProperty("name") String name,
+                           @JsonProperty("country") String country,
+                           @JsonProperty("lat") Double lat,
+                           @JsonProperty("localtime_epoch") Double localtimeEpoch) {
+        this.name = name;
+        this.country = country;
+        this.lat = lat;
+        this.localtimeEpoch = localtimeEpoch;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public Double getLat() {
+        return lat;
+    }
+
+    public Double getLocaltimeEpoch() {
+        return localtimeEpoch;
+    }
+
+}
+
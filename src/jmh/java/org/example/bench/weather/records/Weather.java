@@ -0,0 +1,17 @@
+package org.example.bench.weather.records;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record Weather(
+        @JsonProperty("location") WeatherLocation location,
+        @JsonProperty("current") WeatherCurrent current,
+        @JsonProperty("forecast") WeatherForecast forecast,
+        @JsonProperty("alerts") WeatherAlerts alerts,
+        @JsonProperty("tags") List<String> tags,
+        @JsonProperty("mixed") List<Object> mixed,
+        @JsonProperty("matrix") List<List<Double>> matrix
+) {
+
+}
+
@@ -0,0 +1,11 @@
+package org.example.bench.weather.records;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record WeatherAlerts(
+        @JsonProperty("alert") List<Object> alert
+) {
+
+}
+
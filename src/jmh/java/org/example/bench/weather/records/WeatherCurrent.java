@@ -0,0 +1,14 @@
+package org.example.bench.weather.records;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record WeatherCurrent(
+        @JsonProperty("temp_c") Double tempC,
+        @JsonProperty("is_day") Boolean isDay,
+        @JsonProperty("condition") WeatherCurrentCondition condition,
+        @JsonProperty("humidity") Double humidity,
+        @JsonProperty("note") Object note
+) {
+
+}
+
@@ -0,0 +1,11 @@
+package org.example.bench.weather.records;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record WeatherCurrentCondition(
+        @JsonProperty("text") String text,
+        @JsonProperty("code") Double code
+) {
+
+}
+
@@ -0,0 +1,13 @@
+package org.example.bench.weather.records;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+public record WeatherForecastForecastdayItem(
+        @JsonProperty("date") String date,
+        @JsonProperty("hour") List<WeatherForecastForecastdayItemHourItem> hour,
+        @JsonProperty("astro") WeatherForecastForecastdayItemAstro astro
+) {
+
+}
+
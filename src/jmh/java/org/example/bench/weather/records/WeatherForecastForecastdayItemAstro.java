@@ -0,0 +1,11 @@
+package org.example.bench.weather.records;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record WeatherForecastForecastdayItemAstro(
+        @JsonProperty("sunrise") String sunrise,
+        @JsonProperty("moonrise") String moonrise
+) {
+
+}
+
@@ -0,0 +1,13 @@
+package org.example.bench.weather.records;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record WeatherForecastForecastdayItemHourItem(
+        @JsonProperty("time") String time,
+        @JsonProperty("temp_c") Double tempC,
+        @JsonProperty("chance") Double chance,
+        @JsonProperty("will_it_rain") Boolean willItRain
+) {
+
+}
+
@@ -0,0 +1,13 @@
+package org.example.bench.weather.records;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record WeatherLocation(
+        @JsonProperty("name") String name,
+        @JsonProperty("country") String country,
+        @JsonProperty("lat") Double lat,
+        @JsonProperty("localtime_epoch") Double localtimeEpoch
+) {
+
+}
+
@@ -0,0 +1,92 @@
+package org.example.generator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수 MB 크기의 생성 소스를 대상으로 CodeFormatter 처리량을 측정한다.
+ *
+ * <ul>
+ *     <li>{@code format}: String -> String 정리 (단일 순회 필터)</li>
+ *     <li>{@code formatToWriter}: 생성 파이프라인처럼 Writer를 감싸 흘려보내는 경우</li>
+ *     <li>{@code legacySplitFormat}: 이전 구현(replace 2회 + split + 줄별 substring) 기준선</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CodeFormatterBenchmark {
+
+    @Param({"1", "8"})
+    public int sizeMb;
+
+    private final CodeFormatter formatter = new CodeFormatter();
+    private String source;
+
+    @Setup
+    public void setUp() {
+        // 생성기가 만드는 형태와 비슷하게: 필드 선언, 빈 줄 여러 개, 줄 끝 공백, CRLF 혼용
+        StringBuilder sb = new StringBuilder(sizeMb * 1024 * 1024 + 1024);
+        sb.append("package com.example.dto;\r\n\r\nimport java.util.List;\r\n\r\npublic class Generated {\n\n");
+        int i = 0;
+        while (sb.length() < sizeMb * 1024 * 1024) {
+            sb.append("    private List<GeneratedItem").append(i).append("> field").append(i).append(";   \r\n");
+            sb.append("\n\n\t\n");
+            sb.append("    private Double value").append(i).append(";\t\n");
+            i++;
+        }
+        sb.append("}\n");
+        source = sb.toString();
+    }
+
+    @Benchmark
+    public String format() {
+        return formatter.format(source);
+    }
+
+    @Benchmark
+    public Writer formatToWriter() throws IOException {
+        Writer sink = Writer.nullWriter();
+        FormattingWriter writer = formatter.formatting(sink);
+        writer.write(source);
+        writer.finish();
+        return sink;
+    }
+
+    @Benchmark
+    public String legacySplitFormat() {
+        String normalized = source.replace("\r\n", "\n").replace("\r", "\n");
+        String[] lines = normalized.split("\n", -1);
+
+        StringBuilder result = new StringBuilder();
+        boolean previousBlank = false;
+        for (String line : lines) {
+            int end = line.length();
+            while (end > 0 && (line.charAt(end - 1) == ' ' || line.charAt(end - 1) == '\t')) {
+                end--;
+            }
+            String trimmedEnd = (end == line.length()) ? line : line.substring(0, end);
+            if (trimmedEnd.isBlank()) {
+                if (previousBlank) {
+                    continue;
+                }
+                previousBlank = true;
+                result.append('\n');
+            } else {
+                previousBlank = false;
+                result.append(trimmedEnd).append('\n');
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.generator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 필드 선언 한 줄 크기의 템플릿을 렌더링하는 비용을 측정한다. (ClassGenerator가 필드마다 반복 호출하는 경로)
+ *
+ * <ul>
+ *     <li>{@code renderMap}: Map으로 값을 넘기는 편의 API</li>
+ *     <li>{@code renderValues}: 슬롯 인덱스별 값 배열과 버퍼를 재사용</li>
+ *     <li>{@code renderBinder}: 바인더가 출력 대상에 값을 직접 기록</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TemplateBenchmark {
+
+    private static final String PATTERN = "${comment}    ${annotations}${modifiers} ${type} ${name};\n";
+
+    private final Template template = new Template(PATTERN);
+    private final StringBuilder buffer = new StringBuilder(256);
+
+    private Map<String, String> variables;
+    private CharSequence[] values;
+    private Template.Binder binder;
+
+    @Setup
+    public void setUp() {
+        variables = Map.of(
+                "comment", "",
+                "annotations", "@JsonProperty(\"temp_c\")\n    ",
+                "modifiers", "private",
+                "type", "Double",
+                "name", "tempC");
+        values = new CharSequence[template.slotCount()];
+        for (String name : template.slotNames()) {
+            values[template.slotIndex(name)] = variables.get(name);
+        }
+        binder = (slot, out) -> {
+            out.append(values[slot]);
+            return true;
+        };
+    }
+
+    @Benchmark
+    public String renderMap() {
+        return template.render(variables);
+    }
+
+    @Benchmark
+    public int renderValues() {
+        buffer.setLength(0);
+        template.renderTo(buffer, values);
+        return buffer.length();
+    }
+
+    @Benchmark
+    public int renderBinder() throws IOException {
+        buffer.setLength(0);
+        template.renderTo(buffer, binder);
+        return buffer.length();
+    }
+}
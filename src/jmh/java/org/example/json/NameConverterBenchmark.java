@@ -0,0 +1,110 @@
+package org.example.json;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 키 하나를 클래스/필드 이름으로 바꾸는 비용을 측정한다. 키 표기법별로 {@value #KEYS}개 키를 한 번씩 변환한다.
+ *
+ * <ul>
+ *     <li>{@code regex}: 정규식(replaceAll/split)으로 구현했던 이전 변환기. 비교 기준</li>
+ *     <li>{@code default}: 정규식 없이 한 번만 훑는 {@link DefaultNameConverter}</li>
+ *     <li>{@code cached}: {@link CachingNameConverter}로 감싼 기본 변환기 (CLI처럼 같은 키를 반복 변환할 때)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NameConverterBenchmark {
+
+    static final int KEYS = 1024;
+
+    @Param({"snake", "camel", "kebab"})
+    public String style;
+
+    @Param({"regex", "default", "cached"})
+    public String impl;
+
+    private NameConverter converter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        converter = switch (impl) {
+            case "regex" -> new RegexNameConverter();
+            case "cached" -> new CachingNameConverter(new DefaultNameConverter());
+            default -> new DefaultNameConverter();
+        };
+        String[][] words = {
+                {"temp", "c"}, {"feels", "like", "f"}, {"wind", "dir"}, {"last", "updated", "epoch"},
+                {"air", "quality"}, {"is", "day"}, {"uv"}, {"gust", "kph"}
+        };
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            String[] parts = words[i % words.length];
+            StringBuilder sb = new StringBuilder();
+            for (int p = 0; p < parts.length; p++) {
+                String part = parts[p];
+                switch (style) {
+                    case "camel" -> sb.append(p == 0 ? part
+                            : Character.toUpperCase(part.charAt(0)) + part.substring(1));
+                    case "kebab" -> sb.append(p == 0 ? "" : "-").append(part);
+                    default -> sb.append(p == 0 ? "" : "_").append(part);
+                }
+            }
+            keys[i] = sb.append(i).toString();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void toPascalCase(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(converter.toPascalCase(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(KEYS)
+    public void toCamelCase(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(converter.toCamelCase(key));
+        }
+    }
+
+    /**
+     * 정규식으로 구현했던 이전 {@link DefaultNameConverter}. 호출마다 패턴을 컴파일하고 중간 문자열을 만든다.
+     */
+    static final class RegexNameConverter implements NameConverter {
+
+        @Override
+        public String toPascalCase(String s) {
+            if (s == null || s.isEmpty()) return s;
+            String[] parts = s.replaceAll("[^A-Za-z0-9]+", " ").trim().split("\\s+");
+            StringBuilder sb = new StringBuilder();
+            for (String p : parts) {
+                if (p.isEmpty()) continue;
+                sb.append(Character.toUpperCase(p.charAt(0)));
+                if (p.length() > 1) sb.append(p.substring(1));
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public String toCamelCase(String s) {
+            String pascal = toPascalCase(s);
+            if (pascal == null || pascal.isEmpty()) return pascal;
+            return Character.toLowerCase(pascal.charAt(0)) + pascal.substring(1);
+        }
+    }
+}
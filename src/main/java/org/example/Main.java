@@ -1,21 +1,52 @@
 package org.example;
 
+import org.example.batch.BatchReport;
+import org.example.batch.BatchRunner;
+import org.example.batch.JobResult;
 import org.example.cli.ArgumentParser;
+import org.example.cli.BatchArguments;
 import org.example.cli.ParsedArguments;
 import org.example.exception.InternalException;
 import org.example.exception.UserException;
+import org.example.json.CachingNameConverter;
+import org.example.json.DefaultNameConverter;
 import org.example.json.JsonAnalyzer;
+import org.example.json.NameConverter;
 import org.example.json.JsonValidator;
+import org.example.json.ResourceGovernor;
 import org.example.json.SchemaNode;
 import org.example.json.SchemaObject;   // ✅ 루트 타입 검사 위해 추가
 import org.example.json.TypeInferencer;
 import org.example.json.ModelGraph;
+import org.example.compiler.CompiledClasses;
+import org.example.compiler.InMemoryCompiler;
+import org.example.generator.ArchiveWriter;
+import org.example.generator.BenchmarkGenerator;
 import org.example.generator.ClassGenerator;
 import org.example.generator.FileWriter;
+import org.example.generator.SourceCache;
+import org.example.generator.SourceSink;
 import org.example.cli.FileValidator;
+import org.example.profile.PipelineProfiler;
+import org.example.stats.SchemaStats;
+import org.example.watch.InputWatcher;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Main {
 
@@ -23,58 +54,34 @@ public class Main {
         try {
             // 1. CLI 인자 파싱
             ArgumentParser parser = new ArgumentParser();
+            if (ArgumentParser.isBatch(args)) {
+                BatchArguments batch = parser.parseBatch(args);
+                if (batch.getJobs().get(0).isWatch()) {
+                    watch(batch.getJobs());
+                    return;
+                }
+                // --manifest: 작업마다 파이프라인을 동시에 실행하고, 하나라도 실패하면 가장 큰 종료 코드로 끝낸다.
+                int exitCode = runBatch(batch);
+                if (exitCode != 0) {
+                    System.exit(exitCode);
+                }
+                return;
+            }
             ParsedArguments parsed = parser.parse(args);
-
-            // 2. JSON 파일 로드 및 검증 (Result 확보)
-            JsonValidator.Result result = JsonValidator.validateAndLoad(parsed.getInputPath());
-
-            // 3. JsonAnalyzer로 스키마 트리 생성
-            JsonAnalyzer analyzer = new JsonAnalyzer();
-            SchemaNode schemaRoot = analyzer.analyze(result.root());
-
-            // 4. 루트 타입 검사: 반드시 JSON 객체여야 한다
-            if (!(schemaRoot instanceof SchemaObject)) {
-                throw new UserException(
-                        "[ERROR] JSON 루트는 객체(Object)여야 합니다. " +
-                                "현재 입력의 최상위 타입이 배열 혹은 값입니다. " +
-                                "루트가 { ... } 형태인지 확인해 주세요."
-                );
+            if (parsed.isWatch()) {
+                watch(List.of(parsed));
+                return;
             }
 
-            // 4. TypeInferencer로 타입 추론
-            TypeInferencer inferencer = new TypeInferencer();
-            Map<SchemaNode, TypeInferencer.TypeRef> typeMap =
-                    inferencer.inferTypes(schemaRoot, parsed.getRootClass());
-
-            // 디버깅/검증용 출력
-            System.out.println("[INFO] JSON 분석 및 타입 추론이 완료되었습니다.");
-            System.out.println("[INFO] 입력 파일: " + parsed.getInputPath());
-            System.out.println("[INFO] 루트 클래스 이름: " + parsed.getRootClass());
-            System.out.println("[INFO] 패키지 이름: " + parsed.getPackageName());
-            System.out.println("[INFO] 출력 디렉터리: " + parsed.getOutDir());
-            System.out.println("[INFO] 추론된 타입 수: " + typeMap.size());
-
-            // 5. ModelGraph 구성
-            ModelGraph modelGraph = ModelGraph.from(
-                    schemaRoot,
-                    typeMap,
-                    parsed.getPackageName(),
-                    parsed.getRootClass()
-            );
-
-            // 6. ClassGenerator를 이용해 Java 소스 생성
-            ClassGenerator generator = new ClassGenerator();
-            Map<String, String> sources = generator.generateAllFromModelGraph(
-                    modelGraph,
-                    parsed.isInnerClasses()
-            );
-
-            // 7. FileWriter를 이용해 .java 파일 출력
-            Path outDir = FileValidator.validateOutDirectory(parsed.getOutDir());
-            FileWriter fileWriter = new FileWriter();
-            fileWriter.writeAll(outDir, sources);
-
-            System.out.println("[INFO] DTO 클래스 생성이 완료되었습니다. 생성된 파일 수: " + sources.size());
+            // --profile이면 JFR Recording을 시작한다. 없으면 단계 이벤트만 내보낸다.
+            PipelineProfiler profiler = startProfiler(parsed);
+            try (profiler) {
+                run(parsed, profiler, Components.of(parsed), System.out, null);
+            }
+            if (profiler.isRecording()) {
+                // 요약은 Recording이 멈춘 뒤(.jfr 파일이 기록된 뒤)에 출력한다.
+                System.out.println(profiler.summary());
+            }
 
         } catch (UserException e) {
             // 사용자가 옵션/입력 파일 등을 잘못 준 경우
@@ -95,4 +102,403 @@ public class Main {
             System.exit(99);
         }
     }
+
+    private static PipelineProfiler startProfiler(ParsedArguments parsed) {
+        if (parsed.getProfilePath() == null) {
+            return new PipelineProfiler();
+        }
+        return PipelineProfiler.recording(FileValidator.validateOutFile(parsed.getProfilePath(), "--profile"));
+    }
+
+    /**
+     * 작업 사이에 공유하는 파이프라인 구성 요소. 모두 스레드 안전하며, 공통 옵션(생성 옵션, --max-* 한도)만으로 만든다.
+     * 일괄 처리에서는 이름 변환 캐시가 작업 사이에 그대로 이어진다.
+     */
+    private static final class Components {
+        private final JsonAnalyzer analyzer;
+        private final NameConverter nameConverter;
+        private final TypeInferencer inferencer;
+        private final ClassGenerator generator;
+
+        private Components(ParsedArguments parsed) {
+            this.analyzer = new JsonAnalyzer(parsed.getResourceLimits());
+            // 클래스 이름(TypeInferencer)과 필드 이름(ModelGraph)을 만들 때 같은 키를 반복 변환하므로 결과를 공유한다.
+            this.nameConverter = new CachingNameConverter(new DefaultNameConverter());
+            this.inferencer = new TypeInferencer(nameConverter, parsed.getGenerationOptions().primitiveArrays());
+            this.generator = new ClassGenerator(parsed.getGenerationOptions());
+        }
+
+        static Components of(ParsedArguments parsed) {
+            return new Components(parsed);
+        }
+    }
+
+    private static int runBatch(BatchArguments batch) {
+        List<ParsedArguments> jobs = batch.getJobs();
+        // 공통 옵션은 모든 작업이 같으므로 첫 작업으로 구성 요소를 한 번만 만든다.
+        Components components = Components.of(jobs.get(0));
+        BatchRunner runner = new BatchRunner(batch.getParallelism());
+        System.out.println("[BATCH] 매니페스트: " + batch.getManifestPath() + " (작업 " + jobs.size()
+                + "개, 병렬도 " + runner.parallelism() + ", 메모리 예산 " + runner.memoryBudgetBytes() / (1024 * 1024) + "MB)");
+
+        AtomicInteger done = new AtomicInteger();
+        BatchReport report = runner.run(jobs,
+                (job, log) -> run(job, new PipelineProfiler(), components, log, null),
+                result -> printProgress(result, done.incrementAndGet(), jobs.size()));
+        System.out.println(report.summary());
+        return report.exitCode();
+    }
+
+    private static void printProgress(JobResult result, int done, int total) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("[BATCH] (").append(done).append('/').append(total).append(") jobs[").append(result.index()).append("] ")
+                .append(result.succeeded() ? "OK " : "FAIL ").append(result.job().getRootClass())
+                .append(' ').append(result.elapsedNanos() / 1_000_000L).append("ms");
+        for (String warning : result.warnings()) {
+            sb.append(System.lineSeparator()).append("  ").append(warning);
+        }
+        if (result.message() != null) {
+            sb.append(System.lineSeparator()).append("  ").append(result.message());
+        }
+        // 작업 하나의 출력이 다른 작업의 출력과 섞이지 않도록 한 번에 내보낸다.
+        System.out.println(sb);
+    }
+
+    /**
+     * --watch로 감시하는 입력 하나의 상태. 마지막으로 생성에 성공한 입력 바이트와 클래스별 생성 결과를 기억한다.
+     */
+    private static final class WatchedJob {
+        private final int index;
+        private final ParsedArguments job;
+        private final Path input;
+        private final SourceCache sourceCache = new SourceCache();
+        private byte[] lastInput;
+
+        private WatchedJob(int index, ParsedArguments job) {
+            this.index = index;
+            this.job = job;
+            this.input = Paths.get(job.getInputPath()).toAbsolutePath().normalize();
+        }
+    }
+
+    /**
+     * 모든 작업을 한 번 생성한 뒤, 입력이 바뀔 때마다 그 입력의 작업만 같은 JVM에서 다시 생성한다. (종료는 Ctrl+C)
+     * 생성 중 오류가 나도 끝내지 않고 다음 변경을 기다린다. (편집 중인 JSON은 잠시 유효하지 않을 수 있다)
+     */
+    private static void watch(List<ParsedArguments> jobs) {
+        Components components = Components.of(jobs.get(0));
+        Map<Path, List<WatchedJob>> byInput = new LinkedHashMap<>();
+        List<WatchedJob> watched = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            WatchedJob job = new WatchedJob(i, jobs.get(i));
+            watched.add(job);
+            byInput.computeIfAbsent(job.input, input -> new ArrayList<>()).add(job);
+        }
+
+        // 첫 생성 중에 저장한 변경도 놓치지 않도록 감시를 먼저 시작한다.
+        try (InputWatcher watcher = new InputWatcher(byInput.keySet())) {
+            System.out.println("[WATCH] 입력 파일 " + byInput.size() + "개를 감시합니다. (종료: Ctrl+C)");
+            for (WatchedJob job : watched) {
+                regenerate(job, components);
+            }
+            while (true) {
+                for (Path changed : watcher.awaitChanges()) {
+                    for (WatchedJob job : byInput.get(changed)) {
+                        regenerate(job, components);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void regenerate(WatchedJob watched, Components components) {
+        String name = "jobs[" + watched.index + "] " + watched.job.getRootClass();
+        long start = System.nanoTime();
+        byte[] input;
+        try {
+            input = Files.readAllBytes(watched.input);
+        } catch (IOException e) {
+            input = null; // 읽기 오류는 파이프라인(JsonValidator)이 보고한다.
+        }
+        if (input != null && Arrays.equals(input, watched.lastInput)) {
+            System.out.println("[WATCH] " + name + ": 입력 내용이 그대로여서 건너뜁니다.");
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream log = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+        StringBuilder sb = new StringBuilder("[WATCH] ").append(name);
+        try {
+            run(watched.job, new PipelineProfiler(), components, log, watched.sourceCache);
+            watched.lastInput = input;
+            SourceCache cache = watched.sourceCache;
+            sb.append(": ").append((System.nanoTime() - start) / 1_000_000L).append("ms, 기록 ").append(cache.written())
+                    .append(", 그대로 ").append(cache.unchanged()).append(", 삭제 ").append(cache.removed());
+        } catch (UserException e) {
+            watched.lastInput = null;
+            sb.append(": 실패").append(System.lineSeparator()).append("  ").append(e.getMessage());
+        } catch (InternalException e) {
+            watched.lastInput = null;
+            sb.append(": 실패").append(System.lineSeparator())
+                    .append("  [ERROR] 프로그램 내부 오류가 발생했습니다: ").append(e.getMessage());
+        }
+        for (String line : buffer.toString(StandardCharsets.UTF_8).split("\\R")) {
+            if (line.startsWith("[WARN]")) {
+                sb.append(System.lineSeparator()).append("  ").append(line);
+            }
+        }
+        System.out.println(sb);
+    }
+
+    /**
+     * 작업 하나의 파이프라인을 실행한다.
+     *
+     * @param out         진행 로그를 쓸 스트림 (단일 실행은 System.out, 일괄 처리는 작업별 버퍼)
+     * @param sourceCache --watch에서 이전 생성 결과. 있으면 내용이 바뀐 클래스만 기록한다. (없으면 null)
+     * @return 기록한 파일 수
+     */
+    private static int run(ParsedArguments parsed,
+                           PipelineProfiler profiler,
+                           Components components,
+                           PrintStream out,
+                           SourceCache sourceCache) {
+        // 2. JSON 파일 로드 및 검증 (Result 확보)
+        PipelineProfiler.Span span = profiler.begin(PipelineProfiler.Stage.PARSE);
+        JsonValidator.Result result = JsonValidator.validateAndLoad(parsed.getInputPath());
+        span.bytesIn(result.sizeBytes()).end();
+
+        // 3. JsonAnalyzer로 스키마 트리 생성
+        span = profiler.begin(PipelineProfiler.Stage.ANALYZE);
+        ResourceGovernor governor = new ResourceGovernor(parsed.getResourceLimits());
+        SchemaNode schemaRoot = components.analyzer.analyze(result.root(), governor);
+        if (span.isEnabled()) {
+            span.nodes(PipelineProfiler.countSchemaNodes(schemaRoot));
+        }
+        span.end();
+        // --max-* 한도를 넘어 접힌 하위 트리 보고
+        for (String warning : governor.warnings()) {
+            out.println(warning);
+        }
+
+        // 4. 루트 타입 검사: 반드시 JSON 객체여야 한다
+        if (!(schemaRoot instanceof SchemaObject)) {
+            throw new UserException(
+                    "[ERROR] JSON 루트는 객체(Object)여야 합니다. " +
+                            "현재 입력의 최상위 타입이 배열 혹은 값입니다. " +
+                            "루트가 { ... } 형태인지 확인해 주세요."
+            );
+        }
+
+        // 4. TypeInferencer로 타입 추론
+        span = profiler.begin(PipelineProfiler.Stage.INFER);
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap =
+                components.inferencer.inferTypes(schemaRoot, parsed.getRootClass());
+        span.nodes(typeMap.size()).end();
+
+        // 디버깅/검증용 출력
+        out.println("[INFO] JSON 분석 및 타입 추론이 완료되었습니다.");
+        out.println("[INFO] 입력 파일: " + parsed.getInputPath());
+        out.println("[INFO] 루트 클래스 이름: " + parsed.getRootClass());
+        out.println("[INFO] 패키지 이름: " + parsed.getPackageName());
+        out.println("[INFO] 출력 디렉터리: " + parsed.getOutDir());
+        out.println("[INFO] 추론된 타입 수: " + typeMap.size());
+
+        // 5. ModelGraph 구성
+        span = profiler.begin(PipelineProfiler.Stage.MODEL);
+        ModelGraph modelGraph = ModelGraph.from(
+                schemaRoot,
+                typeMap,
+                parsed.getPackageName(),
+                parsed.getRootClass(),
+                components.nameConverter
+        );
+        span.classes(modelGraph.size()).end();
+
+        // --stats: 중간 구조의 크기 지표를 JSON 보고서로 기록
+        if (parsed.getStatsPath() != null) {
+            SchemaStats stats = SchemaStats.collect(result.sizeBytes(), result.root(), schemaRoot, typeMap, modelGraph);
+            writeStats(FileValidator.validateOutFile(parsed.getStatsPath(), "--stats"), stats, out);
+        }
+
+        // 6. ClassGenerator로 Java 소스를 생성하면서 --out-format에 맞는 출력 대상으로 곧바로 기록
+        Path outDir = FileValidator.validateOutDirectory(parsed.getOutDir());
+        FileWriter fileWriter = new FileWriter();
+        int written = writeOutput(parsed, modelGraph, components.generator, fileWriter, outDir, profiler, out,
+                sourceCache);
+
+        out.println("[INFO] DTO 클래스 생성이 완료되었습니다. 생성된 파일 수: " + written);
+
+        // 7. --jmh-out: 입력 JSON을 fixture로 쓰는 루트 DTO 벤치마크 생성
+        if (parsed.getJmhOutDir() != null) {
+            span = profiler.begin(PipelineProfiler.Stage.BENCHMARK);
+            Path jmhDir = FileValidator.validateOutDirectory(parsed.getJmhOutDir(), "--jmh-out");
+            String benchmark = new BenchmarkGenerator(parsed.getGenerationOptions())
+                    .generate(modelGraph, result.root().toString());
+            fileWriter.write(jmhDir, BenchmarkGenerator.className(modelGraph), benchmark);
+            span.classes(1).bytesOut(benchmark.length()).end();
+            out.println("[INFO] JMH 벤치마크 생성이 완료되었습니다: "
+                    + jmhDir.resolve(BenchmarkGenerator.className(modelGraph) + ".java"));
+        }
+        return written;
+    }
+
+    private static void writeStats(Path statsFile, SchemaStats stats, PrintStream out) {
+        try {
+            Files.writeString(statsFile, stats.toJsonString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UserException("[ERROR] 통계 보고서를 기록하는 중 오류가 발생했습니다: " + statsFile, e);
+        }
+        out.println("[INFO] 통계 보고서: " + statsFile
+                + " (스키마 노드 " + stats.schemaNodes() + "개, 클래스 " + stats.modelClasses()
+                + "개, 예상 힙 " + stats.estimatedRetainedBytes() + "B)");
+    }
+
+    /**
+     * 생성된 소스를 --out-format에 따라 기록한다.
+     * <ul>
+     *     <li>dir: 클래스마다 .java 파일</li>
+     *     <li>srcjar: 소스를 생성하는 즉시 "루트클래스.srcjar" 엔트리로 기록</li>
+     *     <li>jar: 소스를 메모리에서 컴파일해 "루트클래스.jar"에 .class만 기록</li>
+     * </ul>
+     * dir/srcjar는 생성과 기록이 한 단계(generate)로 섞여 있으므로, 기록에 쓴 시간은 이벤트의 writeNanos로 따로 남긴다.
+     *
+     * @return dir/srcjar는 기록한 소스 수, jar는 기록한 클래스 파일 수
+     */
+    private static int writeOutput(ParsedArguments parsed,
+                                   ModelGraph modelGraph,
+                                   ClassGenerator generator,
+                                   FileWriter fileWriter,
+                                   Path outDir,
+                                   PipelineProfiler profiler,
+                                   PrintStream out,
+                                   SourceCache sourceCache) {
+        return switch (parsed.getOutFormat()) {
+            case DIR -> writeSourceFiles(parsed, modelGraph, generator, fileWriter, outDir, profiler, sourceCache);
+            case SRCJAR -> writeSourceArchive(parsed, modelGraph, generator, outDir, profiler, out);
+            case JAR -> writeClassArchive(parsed, modelGraph, generator, outDir, profiler, out);
+        };
+    }
+
+    /**
+     * 소스를 생성해 sink로 기록한다. --parallelism이 2 이상이면 클래스별 렌더링/포매팅을 나눠 실행한 뒤
+     * 선언 순서대로 기록하고, 아니면 생성과 동시에 곧바로 흘려보낸다. 기록되는 내용과 순서는 같다.
+     *
+     * @return 기록한 소스 수
+     */
+    private static int generate(ParsedArguments parsed, ModelGraph modelGraph, ClassGenerator generator,
+                                SourceSink sink) {
+        if (!isParallel(parsed)) {
+            return generator.generateAllFromModelGraph(modelGraph, parsed.isInnerClasses(), sink);
+        }
+        Map<String, String> sources = generateSources(parsed, modelGraph, generator);
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            try (Writer writer = sink.open(entry.getKey())) {
+                writer.write(entry.getValue());
+            } catch (IOException e) {
+                throw new UserException("[ERROR] Java 파일을 생성하는 중 오류가 발생했습니다: " + entry.getKey(), e);
+            }
+        }
+        return sources.size();
+    }
+
+    /**
+     * 클래스 이름 → 소스 맵을 만든다. --parallelism이 2 이상이면 그만큼의 스레드에서 클래스별로 나눠 생성한다.
+     */
+    private static Map<String, String> generateSources(ParsedArguments parsed, ModelGraph modelGraph,
+                                                       ClassGenerator generator) {
+        if (!isParallel(parsed)) {
+            return generator.generateAllFromModelGraph(modelGraph, parsed.isInnerClasses());
+        }
+        int threads = Math.min(parsed.getParallelism(), modelGraph.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            return generator.generateAllFromModelGraphInParallel(modelGraph, parsed.isInnerClasses(), executor);
+        }
+    }
+
+    /** innerClasses 모드는 결과가 파일 하나이므로 나눠 생성할 것이 없다. */
+    private static boolean isParallel(ParsedArguments parsed) {
+        return parsed.getParallelism() > 1 && !parsed.isInnerClasses();
+    }
+
+    private static int writeSourceFiles(ParsedArguments parsed,
+                                        ModelGraph modelGraph,
+                                        ClassGenerator generator,
+                                        FileWriter fileWriter,
+                                        Path outDir,
+                                        PipelineProfiler profiler,
+                                        SourceCache sourceCache) {
+        PipelineProfiler.Span span = profiler.begin(PipelineProfiler.Stage.GENERATE);
+        SourceSink sink = fileWriter.sinkFor(outDir);
+        if (sourceCache != null) {
+            sink = sourceCache.begin(sink);
+        }
+        int written = generate(parsed, modelGraph, generator, profiler.instrument(sink, span));
+        span.end();
+        if (sourceCache == null) {
+            return written;
+        }
+        // 이전 생성에는 있었지만 이번에는 생성되지 않은 클래스 파일을 지운다.
+        for (String removed : sourceCache.finish()) {
+            Path file = outDir.resolve(removed + ".java");
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                throw new UserException("[ERROR] 더 이상 생성되지 않는 Java 파일을 지우는 중 오류가 발생했습니다: " + file, e);
+            }
+        }
+        return sourceCache.written();
+    }
+
+    private static int writeSourceArchive(ParsedArguments parsed,
+                                          ModelGraph modelGraph,
+                                          ClassGenerator generator,
+                                          Path outDir,
+                                          PipelineProfiler profiler,
+                                          PrintStream out) {
+        Path archive = outDir.resolve(parsed.getRootClass() + ".srcjar");
+        PipelineProfiler.Span span = profiler.begin(PipelineProfiler.Stage.GENERATE);
+        int written;
+        try (ArchiveWriter writer = ArchiveWriter.sources(archive)) {
+            written = generate(parsed, modelGraph, generator,
+                    profiler.instrument(writer.sinkFor(parsed.getPackageName()), span));
+        }
+        span.end();
+        out.println("[INFO] 소스 아카이브: " + archive);
+        return written;
+    }
+
+    private static int writeClassArchive(ParsedArguments parsed,
+                                         ModelGraph modelGraph,
+                                         ClassGenerator generator,
+                                         Path outDir,
+                                         PipelineProfiler profiler,
+                                         PrintStream out) {
+        PipelineProfiler.Span span = profiler.begin(PipelineProfiler.Stage.GENERATE);
+        Map<String, String> sources = generateSources(parsed, modelGraph, generator);
+        span.classes(sources.size()).end();
+
+        CompiledClasses compiled;
+        span = profiler.begin(PipelineProfiler.Stage.COMPILE);
+        // 한 번만 컴파일하므로 캐시는 쓰지 않는다. 컴파일이 성공한 뒤에만 아카이브 파일을 만든다.
+        try (InMemoryCompiler compiler = new InMemoryCompiler(
+                Main.class.getClassLoader(), System.getProperty("java.class.path"), 0)) {
+            compiled = compiler.compile(sources);
+        }
+        span.classes(compiled.classNames().size()).end();
+
+        Path archive = outDir.resolve(parsed.getRootClass() + ".jar");
+        span = profiler.begin(PipelineProfiler.Stage.WRITE);
+        int written;
+        try (ArchiveWriter writer = ArchiveWriter.classes(archive)) {
+            written = writer.writeClasses(compiled);
+        }
+        if (span.isEnabled()) {
+            span.bytesOut(archive.toFile().length());
+        }
+        span.classes(written).end();
+        out.println("[INFO] 클래스 아카이브: " + archive);
+        return written;
+    }
 }
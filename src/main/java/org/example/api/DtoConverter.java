@@ -0,0 +1,192 @@
+package org.example.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.exception.InternalException;
+import org.example.exception.UserException;
+import org.example.generator.ClassGenerator;
+import org.example.generator.GenerationOptions;
+import org.example.json.CachingNameConverter;
+import org.example.json.DefaultNameConverter;
+import org.example.json.JsonAnalyzer;
+import org.example.json.JsonValidator;
+import org.example.json.ModelGraph;
+import org.example.json.NameConverter;
+import org.example.json.ResourceGovernor;
+import org.example.json.ResourceLimits;
+import org.example.json.SchemaNode;
+import org.example.json.SchemaObject;
+import org.example.json.TypeInferencer;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 다른 애플리케이션 안에서 JSON → DTO 변환을 수행하는 진입점.
+ * <p>
+ * CLI({@code Main})와 같은 파이프라인(JsonAnalyzer → TypeInferencer → ModelGraph → ClassGenerator)을
+ * 한 번만 구성해 두고 호출마다 재사용한다.
+ * <ul>
+ *     <li>불변이며 스레드 안전하다. 하나의 인스턴스를 여러 스레드에서 동시에 호출해도 된다.</li>
+ *     <li>이름 변환 결과(JSON 키 → 클래스/필드 이름)는 호출 사이에 공유되는 캐시에 보관한다.</li>
+ *     <li>오류는 {@code System.exit} 대신 예외로 알린다.
+ *         입력 문제는 {@link UserException}, 그 밖의 내부 오류는 {@link InternalException}이다.</li>
+ *     <li>파일을 쓰지 않는다. 생성된 소스는 {@link Result#sources()}로 돌려준다.</li>
+ *     <li>{@link ResourceLimits}를 주면 한도를 넘은 하위 트리를 {@code Map<String, Object>}/{@code Object}로 접고,
+ *         접은 내역을 {@link Result#warnings()}로 알린다.</li>
+ * </ul>
+ * <pre>
+ * DtoConverter converter = new DtoConverter(GenerationOptions.defaults().withJsonReaders(true), false);
+ * DtoConverter.Result result = converter.convert(bytes, "com.example.dto", "Weather");
+ * </pre>
+ */
+public final class DtoConverter {
+
+    private final GenerationOptions options;
+    private final boolean innerClasses;
+    private final NameConverter nameConverter;
+    private final JsonAnalyzer analyzer;
+    private final TypeInferencer inferencer;
+    private final ClassGenerator generator;
+
+    public DtoConverter() {
+        this(GenerationOptions.defaults(), false);
+    }
+
+    /**
+     * @param options      클래스 생성 옵션
+     * @param innerClasses true면 루트 클래스 하나에 static inner class로 생성
+     */
+    public DtoConverter(GenerationOptions options, boolean innerClasses) {
+        this(options, innerClasses, ResourceLimits.unlimited());
+    }
+
+    /**
+     * @param options      클래스 생성 옵션
+     * @param innerClasses true면 루트 클래스 하나에 static inner class로 생성
+     * @param limits       스키마 분석 한도. 신뢰할 수 없는 입력을 받는 서비스에서 키 수, 깊이, 클래스 수 등을 제한한다.
+     */
+    public DtoConverter(GenerationOptions options, boolean innerClasses, ResourceLimits limits) {
+        this.options = Objects.requireNonNull(options, "options must not be null");
+        this.innerClasses = innerClasses;
+        this.nameConverter = new CachingNameConverter(new DefaultNameConverter());
+        this.analyzer = new JsonAnalyzer(Objects.requireNonNull(limits, "limits must not be null"));
+        this.inferencer = new TypeInferencer(nameConverter, options.primitiveArrays());
+        this.generator = new ClassGenerator(options);
+    }
+
+    public GenerationOptions options() {
+        return options;
+    }
+
+    public boolean innerClasses() {
+        return innerClasses;
+    }
+
+    public ResourceLimits limits() {
+        return analyzer.limits();
+    }
+
+    /**
+     * UTF-8 JSON 바이트를 변환한다. (BOM 허용)
+     *
+     * @param json        변환할 JSON (루트는 객체여야 한다)
+     * @param packageName 생성할 클래스의 패키지 이름
+     * @param rootClass   루트 클래스 이름
+     */
+    public Result convert(byte[] json, String packageName, String rootClass) {
+        Objects.requireNonNull(json, "json must not be null");
+        validateNames(packageName, rootClass);
+        return convertTree(JsonValidator.assertValidAndParse(json, rootClass), packageName, rootClass);
+    }
+
+    /**
+     * 스트림의 JSON을 끝까지 읽어 변환한다. 스트림은 닫지 않는다.
+     */
+    public Result convert(InputStream json, String packageName, String rootClass) {
+        Objects.requireNonNull(json, "json must not be null");
+        try {
+            return convert(json.readAllBytes(), packageName, rootClass);
+        } catch (IOException e) {
+            throw new UserException("[ERROR] JSON 스트림을 읽는 중 오류가 발생했습니다: " + rootClass, e);
+        }
+    }
+
+    /**
+     * 파일의 JSON을 읽어 변환한다.
+     */
+    public Result convert(Path json, String packageName, String rootClass) {
+        Objects.requireNonNull(json, "json must not be null");
+        validateNames(packageName, rootClass);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(json);
+        } catch (IOException e) {
+            throw new UserException("[ERROR] JSON 파일을 읽을 수 없습니다: " + json, e);
+        }
+        return convertTree(JsonValidator.assertValidAndParse(bytes, json.toString()), packageName, rootClass);
+    }
+
+    private Result convertTree(JsonNode root, String packageName, String rootClass) {
+        ResourceGovernor governor = new ResourceGovernor(analyzer.limits());
+        SchemaNode schemaRoot = analyzer.analyze(root, governor);
+        if (!(schemaRoot instanceof SchemaObject)) {
+            throw new UserException("[ERROR] JSON 루트는 객체(Object)여야 합니다: " + rootClass);
+        }
+
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = inferencer.inferTypes(schemaRoot, rootClass);
+        ModelGraph graph = ModelGraph.from(schemaRoot, typeMap, packageName, rootClass, nameConverter);
+        return new Result(graph, generator.generateAllFromModelGraph(graph, innerClasses), governor.warnings());
+    }
+
+    private static void validateNames(String packageName, String rootClass) {
+        if (rootClass == null || !SourceVersion.isIdentifier(rootClass) || SourceVersion.isKeyword(rootClass)) {
+            throw new UserException("[ERROR] 루트 클래스 이름이 유효한 자바 클래스명이 아닙니다: " + rootClass);
+        }
+        if (packageName == null || !SourceVersion.isName(packageName)) {
+            throw new UserException("[ERROR] 패키지 이름이 유효하지 않습니다: " + packageName);
+        }
+    }
+
+    /**
+     * 변환 결과
+     */
+    public static final class Result {
+        private final ModelGraph modelGraph;
+        private final Map<String, String> sources;
+        private final List<String> warnings;
+
+        Result(ModelGraph modelGraph, Map<String, String> sources, List<String> warnings) {
+            this.modelGraph = modelGraph;
+            this.sources = Collections.unmodifiableMap(sources);
+            this.warnings = List.copyOf(warnings);
+        }
+
+        /**
+         * 생성된 클래스 구조
+         */
+        public ModelGraph modelGraph() {
+            return modelGraph;
+        }
+
+        /**
+         * key: 클래스 이름(파일 이름), value: 소스 전체. 순서는 CLI가 파일을 쓰는 순서와 같다.
+         */
+        public Map<String, String> sources() {
+            return sources;
+        }
+
+        /**
+         * 한도를 넘어 접힌 하위 트리마다 한 줄씩인 경고. 한도 안이면 비어 있다.
+         */
+        public List<String> warnings() {
+            return warnings;
+        }
+    }
+}
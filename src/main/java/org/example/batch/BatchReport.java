@@ -0,0 +1,74 @@
+package org.example.batch;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 일괄 처리 전체 결과. 작업 결과는 매니페스트 순서로 정렬되어 있다.
+ */
+public final class BatchReport {
+
+    private final List<JobResult> results;
+    private final int parallelism;
+    private final long wallNanos;
+
+    BatchReport(List<JobResult> results, int parallelism, long wallNanos) {
+        this.results = List.copyOf(results);
+        this.parallelism = parallelism;
+        this.wallNanos = wallNanos;
+    }
+
+    public List<JobResult> results() {
+        return results;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    public long wallNanos() {
+        return wallNanos;
+    }
+
+    public int succeeded() {
+        return (int) results.stream().filter(JobResult::succeeded).count();
+    }
+
+    public int failed() {
+        return results.size() - succeeded();
+    }
+
+    /** 프로세스 종료 코드. 모든 작업이 성공하면 0, 아니면 작업 종료 코드 중 가장 큰 값 */
+    public int exitCode() {
+        int exitCode = 0;
+        for (JobResult result : results) {
+            exitCode = Math.max(exitCode, result.exitCode());
+        }
+        return exitCode;
+    }
+
+    /**
+     * 작업별 결과, 종료 코드, 대기/실행 시간을 표로 만든다.
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "[BATCH] 작업 %d개 완료: 성공 %d, 실패 %d (병렬도 %d, 전체 %dms)%n",
+                results.size(), succeeded(), failed(), parallelism, millis(wallNanos)));
+        sb.append(String.format(Locale.ROOT, "[BATCH] %5s  %-4s  %4s  %8s  %8s  %6s  %-24s  %s%n",
+                "#", "결과", "종료", "대기(ms)", "실행(ms)", "파일", "루트 클래스", "입력"));
+        for (JobResult result : results) {
+            sb.append(String.format(Locale.ROOT, "[BATCH] %5d  %-4s  %4d  %8d  %8d  %6d  %-24s  %s%n",
+                    result.index(), result.succeeded() ? "OK" : "FAIL", result.exitCode(),
+                    millis(result.queuedNanos()), millis(result.elapsedNanos()), result.written(),
+                    result.job().getRootClass(), result.job().getInputPath()));
+            if (result.message() != null) {
+                sb.append("[BATCH]        ").append(result.message()).append(System.lineSeparator());
+            }
+        }
+        return sb.toString().stripTrailing();
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+}
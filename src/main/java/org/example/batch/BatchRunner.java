@@ -0,0 +1,194 @@
+package org.example.batch;
+
+import org.example.cli.ParsedArguments;
+import org.example.exception.InternalException;
+import org.example.exception.UserException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * --manifest 작업들을 동시에 실행한다.
+ *
+ * <p>
+ * 동시 실행 수는 병렬도(--parallelism)로, 힙 사용량은 메모리 예산으로 제한한다. 작업마다 입력 크기로 예상 힙 사용량을
+ * 계산해 예산에서 예약하고, 예약할 수 없으면 앞 작업이 끝날 때까지 기다린다. ({@link #estimateBytes(ParsedArguments)})
+ * 큰 입력 여러 개가 한꺼번에 트리로 올라가 OutOfMemoryError로 전체가 실패하는 일을 막는다.
+ * <p>
+ * 작업마다 가상 스레드를 쓴다. 작업은 대부분 CPU를 쓰므로 동시 실행 수는 스레드 수가 아니라
+ * 병렬도만큼의 허가(Semaphore)로 제한한다.
+ * <p>
+ * 작업 하나가 실패해도 나머지 작업은 계속 실행된다. 실패는 {@link JobResult#exitCode()}로 남는다.
+ * 깊은 입력의 StackOverflowError나 큰 입력의 OutOfMemoryError도 그 작업만의 실패로 기록한다.
+ */
+public final class BatchRunner {
+
+    /**
+     * 작업 하나를 실행하는 파이프라인. 여러 스레드에서 동시에 불린다.
+     */
+    @FunctionalInterface
+    public interface Task {
+        /**
+         * @param job 작업 인자
+         * @param log 작업의 진행 로그. [WARN]으로 시작하는 줄은 {@link JobResult#warnings()}에 남는다.
+         * @return 기록한 파일 수
+         */
+        int run(ParsedArguments job, PrintStream log);
+    }
+
+    /** 입력 1바이트가 JsonNode 트리, 스키마, ModelGraph, 생성 소스로 불어나는 대략적인 배수 */
+    static final long INPUT_EXPANSION = 16;
+    /** 입력 크기와 관계없는 작업당 기본 사용량 (생성기 버퍼, 출력 스트림 등) */
+    static final long BASE_BYTES = 4L * 1024 * 1024;
+    /** --out-format jar의 메모리 내 컴파일러 사용량 */
+    static final long COMPILER_BYTES = 64L * 1024 * 1024;
+
+    private final int parallelism;
+    private final MemoryAdmission admission;
+
+    /**
+     * 최대 힙의 절반을 메모리 예산으로 쓴다.
+     */
+    public BatchRunner(int parallelism) {
+        this(parallelism, Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    /**
+     * @param parallelism       동시에 실행할 최대 작업 수
+     * @param memoryBudgetBytes 동시에 실행 중인 작업들의 예상 힙 사용량 합계 한도
+     */
+    public BatchRunner(int parallelism, long memoryBudgetBytes) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism은 1 이상이어야 합니다: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        this.admission = new MemoryAdmission(memoryBudgetBytes);
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    public long memoryBudgetBytes() {
+        return admission.budgetBytes();
+    }
+
+    /**
+     * 작업 하나의 예상 힙 사용량. 입력 파일을 읽을 수 없으면 기본 사용량만 잡는다. (오류는 작업 실행 중에 보고된다)
+     */
+    public static long estimateBytes(ParsedArguments job) {
+        long inputBytes;
+        try {
+            inputBytes = Files.size(Paths.get(job.getInputPath()));
+        } catch (IOException | RuntimeException e) {
+            inputBytes = 0;
+        }
+        long bytes = BASE_BYTES + inputBytes * INPUT_EXPANSION;
+        if (job.getOutFormat() == ParsedArguments.OutFormat.JAR) {
+            bytes += COMPILER_BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * 모든 작업을 실행하고 끝날 때까지 기다린다.
+     *
+     * @param onComplete 작업이 끝날 때마다 작업 스레드에서 불린다. (동시에 불릴 수 있다)
+     */
+    public BatchReport run(List<ParsedArguments> jobs, Task task, Consumer<JobResult> onComplete) {
+        long start = System.nanoTime();
+        Semaphore slots = new Semaphore(parallelism, true);
+        JobResult[] results = new JobResult[jobs.size()];
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<?>> futures = new ArrayList<>(jobs.size());
+            for (int i = 0; i < jobs.size(); i++) {
+                int index = i;
+                long submitted = System.nanoTime();
+                futures.add(executor.submit(() -> {
+                    results[index] = runJob(index, jobs.get(index), task, slots, submitted);
+                    onComplete.accept(results[index]);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalException("일괄 처리를 기다리는 중 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new InternalException("일괄 처리 결과를 보고하는 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return new BatchReport(Arrays.asList(results), parallelism, System.nanoTime() - start);
+    }
+
+    private JobResult runJob(int index, ParsedArguments job, Task task, Semaphore slots, long submitted)
+            throws InterruptedException {
+        slots.acquire();
+        try {
+            long reserved = admission.acquire(estimateBytes(job));
+            try {
+                long started = System.nanoTime();
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                PrintStream log = new PrintStream(buffer, true, StandardCharsets.UTF_8);
+                int exitCode = 0;
+                int written = 0;
+                String message = null;
+                try {
+                    written = task.run(job, log);
+                } catch (UserException e) {
+                    exitCode = 1;
+                    message = e.getMessage();
+                } catch (InternalException e) {
+                    exitCode = 2;
+                    message = "[ERROR] 프로그램 내부 오류가 발생했습니다: " + e.getMessage();
+                } catch (RuntimeException e) {
+                    exitCode = 99;
+                    message = "[ERROR] 처리되지 않은 예외가 발생했습니다: " + e;
+                } catch (StackOverflowError e) {
+                    exitCode = 2;
+                    message = "[ERROR] 입력의 중첩이 너무 깊어 스택이 부족합니다. --max-depth로 깊이를 제한해 주세요.";
+                } catch (OutOfMemoryError e) {
+                    // 던진 시점의 작업 데이터는 이미 해제할 수 있으므로 나머지 작업은 계속 실행한다.
+                    exitCode = 2;
+                    message = "[ERROR] 힙 메모리가 부족해 작업을 끝내지 못했습니다. "
+                            + "--parallelism을 줄이거나 -Xmx를 늘려 주세요: " + e.getMessage();
+                }
+                long elapsed = System.nanoTime() - started;
+                log.flush();
+                return new JobResult(index, job, exitCode, written, started - submitted, elapsed, reserved,
+                        message, warnings(buffer.toString(StandardCharsets.UTF_8)));
+            } finally {
+                admission.release(reserved);
+            }
+        } finally {
+            slots.release();
+        }
+    }
+
+    private static List<String> warnings(String log) {
+        List<String> warnings = new ArrayList<>();
+        for (String line : log.split("\\R")) {
+            if (line.startsWith("[WARN]")) {
+                warnings.add(line);
+            }
+        }
+        return warnings;
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.batch;
+
+import org.example.cli.ParsedArguments;
+
+import java.util.List;
+
+/**
+ * 일괄 처리 작업 하나의 결과. 종료 코드는 단일 실행({@code Main})과 같다.
+ * (0: 성공, 1: 사용자 오류, 2: 내부 오류, 99: 처리되지 않은 예외)
+ */
+public final class JobResult {
+
+    private final int index;
+    private final ParsedArguments job;
+    private final int exitCode;
+    private final int written;
+    private final long queuedNanos;
+    private final long elapsedNanos;
+    private final long reservedBytes;
+    private final String message;
+    private final List<String> warnings;
+
+    JobResult(int index,
+              ParsedArguments job,
+              int exitCode,
+              int written,
+              long queuedNanos,
+              long elapsedNanos,
+              long reservedBytes,
+              String message,
+              List<String> warnings) {
+        this.index = index;
+        this.job = job;
+        this.exitCode = exitCode;
+        this.written = written;
+        this.queuedNanos = queuedNanos;
+        this.elapsedNanos = elapsedNanos;
+        this.reservedBytes = reservedBytes;
+        this.message = message;
+        this.warnings = List.copyOf(warnings);
+    }
+
+    /** 매니페스트에서의 순서 (jobs[index]) */
+    public int index() {
+        return index;
+    }
+
+    public ParsedArguments job() {
+        return job;
+    }
+
+    public int exitCode() {
+        return exitCode;
+    }
+
+    public boolean succeeded() {
+        return exitCode == 0;
+    }
+
+    /** 기록한 파일 수 (dir/srcjar는 소스 수, jar는 클래스 파일 수). 실패하면 0 */
+    public int written() {
+        return written;
+    }
+
+    /** 제출부터 실행 시작까지 기다린 시간 (병렬도/메모리 예산 대기 포함) */
+    public long queuedNanos() {
+        return queuedNanos;
+    }
+
+    /** 실행 시간 */
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** 실행하는 동안 메모리 예산에서 예약한 바이트 수 */
+    public long reservedBytes() {
+        return reservedBytes;
+    }
+
+    /** 실패 사유. 성공했으면 null */
+    public String message() {
+        return message;
+    }
+
+    /** 작업이 남긴 [WARN] 메시지 (--max-* 한도로 접힌 하위 트리 등) */
+    public List<String> warnings() {
+        return warnings;
+    }
+}
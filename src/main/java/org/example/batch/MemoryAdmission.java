@@ -0,0 +1,83 @@
+package org.example.batch;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 작업마다 예상 힙 사용량을 예약하고, 예약 합계가 예산을 넘지 않을 때만 작업을 들여보낸다.
+ * <p>
+ * 도착 순서(번호표)대로 들여보내므로 큰 작업이 작은 작업에 계속 밀려 굶지 않는다.
+ * 예산보다 큰 예약은 예산으로 깎아, 그런 작업은 다른 작업이 모두 끝난 뒤 혼자 실행된다.
+ * 가상 스레드가 캐리어 스레드에 묶이지 않도록 synchronized 대신 ReentrantLock을 쓴다.
+ */
+final class MemoryAdmission {
+
+    private final long budgetBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private long reservedBytes;
+    private long nextTicket;
+    private long servingTicket;
+
+    MemoryAdmission(long budgetBytes) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("budgetBytes는 1 이상이어야 합니다: " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * 예약이 가능해질 때까지 기다린 뒤 예약한다.
+     *
+     * @return 실제로 예약한 바이트 수 ({@link #release(long)}에 그대로 넘긴다)
+     */
+    long acquire(long bytes) throws InterruptedException {
+        long reserve = Math.max(0, Math.min(bytes, budgetBytes));
+        lock.lock();
+        try {
+            long ticket = nextTicket++;
+            try {
+                while (ticket != servingTicket || reservedBytes + reserve > budgetBytes) {
+                    changed.await();
+                }
+            } catch (InterruptedException e) {
+                // 번호표를 버리면 뒤 작업이 영원히 기다리므로, 차례가 올 때까지 기다렸다가 넘긴다.
+                while (ticket != servingTicket) {
+                    changed.awaitUninterruptibly();
+                }
+                servingTicket++;
+                changed.signalAll();
+                throw e;
+            }
+            servingTicket++;
+            reservedBytes += reserve;
+            changed.signalAll();
+            return reserve;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(long reserved) {
+        lock.lock();
+        try {
+            reservedBytes -= reserved;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long budgetBytes() {
+        return budgetBytes;
+    }
+
+    long reservedBytes() {
+        lock.lock();
+        try {
+            return reservedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
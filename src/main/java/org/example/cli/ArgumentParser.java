@@ -1,9 +1,17 @@
 package org.example.cli;
 
 import org.example.exception.UserException;
+import org.example.generator.GenerationOptions;
+import org.example.json.ResourceLimits;
 
 import javax.lang.model.SourceVersion;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -17,9 +25,40 @@ public class ArgumentParser {
     private static final String OPT_PACKAGE = "--package";
     private static final String OPT_OUT = "--out";
     private static final String OPT_INNER_CLASSES = "--inner-classes";
+    private static final String OPT_JSON_READER = "--json-reader";
+    private static final String OPT_JSON_WRITER = "--json-writer";
+    private static final String OPT_LAYOUT = "--layout";
+    private static final String OPT_LAZY = "--lazy";
+    private static final String OPT_COLUMNAR = "--columnar";
+    private static final String OPT_PRIMITIVE_ARRAYS = "--primitive-arrays";
+    private static final String OPT_DTO_STYLE = "--dto-style";
+    private static final String OPT_JMH_OUT = "--jmh-out";
+    private static final String OPT_OUT_FORMAT = "--out-format";
+    private static final String OPT_PROFILE = "--profile";
+    private static final String OPT_STATS = "--stats";
+    private static final String OPT_MAX_KEYS = "--max-keys";
+    private static final String OPT_MAX_UNION_VARIANTS = "--max-union-variants";
+    private static final String OPT_MAX_DEPTH = "--max-depth";
+    private static final String OPT_MAX_SCHEMA_NODES = "--max-schema-nodes";
+    private static final String OPT_MAX_CLASSES = "--max-classes";
+    private static final String OPT_MANIFEST = "--manifest";
+    private static final String OPT_PARALLELISM = "--parallelism";
+    private static final String OPT_WATCH = "--watch";
 
     private static final Set<String> ALLOWED_OPTIONS = Set.of(
-            OPT_INPUT, OPT_ROOT_CLASS, OPT_PACKAGE, OPT_OUT, OPT_INNER_CLASSES
+            OPT_INPUT, OPT_ROOT_CLASS, OPT_PACKAGE, OPT_OUT, OPT_INNER_CLASSES, OPT_JSON_READER, OPT_JSON_WRITER,
+            OPT_LAYOUT, OPT_LAZY, OPT_COLUMNAR, OPT_PRIMITIVE_ARRAYS, OPT_DTO_STYLE, OPT_JMH_OUT, OPT_OUT_FORMAT,
+            OPT_PROFILE, OPT_STATS, OPT_MAX_KEYS, OPT_MAX_UNION_VARIANTS, OPT_MAX_DEPTH, OPT_MAX_SCHEMA_NODES,
+            OPT_MAX_CLASSES, OPT_MANIFEST, OPT_PARALLELISM, OPT_WATCH
+    );
+
+    /** --manifest와 함께 쓸 수 없는 옵션. 작업마다 정하는 값이거나, 작업마다 파일이 따로 필요한 옵션이다. */
+    private static final Set<String> PER_JOB_OPTIONS = Set.of(
+            OPT_INPUT, OPT_ROOT_CLASS, OPT_PACKAGE, OPT_OUT, OPT_JMH_OUT, OPT_PROFILE, OPT_STATS
+    );
+
+    private static final Set<String> LIMIT_OPTIONS = Set.of(
+            OPT_MAX_KEYS, OPT_MAX_UNION_VARIANTS, OPT_MAX_DEPTH, OPT_MAX_SCHEMA_NODES, OPT_MAX_CLASSES
     );
 
     /**
@@ -36,8 +75,90 @@ public class ArgumentParser {
      */
     public ParsedArguments parse(String[] args) {
         Map<String, String> options = validateAndBuildOptions(args);
+        if (options.containsKey(OPT_MANIFEST)) {
+            throw new UserException("[ERROR] " + OPT_MANIFEST + " 옵션은 일괄 처리(parseBatch)로만 파싱할 수 있습니다.");
+        }
         validateValues(options);
+        return toParsedArguments(options);
+    }
+
+    /**
+     * 인자에 --manifest가 있으면 true. (일괄 처리는 {@link #parseBatch(String[])}로 파싱한다)
+     */
+    public static boolean isBatch(String[] args) {
+        for (int i = 0; i < args.length; i += 2) {
+            if (OPT_MANIFEST.equals(args[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * --manifest 일괄 처리 인자를 파싱한다.
+     *
+     * <p>
+     * 매니페스트의 작업마다 input/rootClass/package/out/innerClasses를 CLI 옵션으로 바꾸고,
+     * 명령줄의 나머지 옵션(--json-reader, --out-format, --max-* 등)을 모든 작업에 공통으로 붙인 뒤
+     * 단일 실행과 같은 규칙으로 검증한다. 오류 메시지에는 몇 번째 작업인지(jobs[i])를 붙인다.
+     * 출력이 겹치는 작업(같은 --out에 같은 패키지, 아카이브는 같은 루트 클래스)은 동시에 쓰면 결과가 섞이므로 거부한다.
+     */
+    public BatchArguments parseBatch(String[] args) {
+        Map<String, String> shared = buildOptions(args);
+        String manifest = shared.remove(OPT_MANIFEST);
+        if (manifest == null) {
+            throw new UserException("[ERROR] " + OPT_MANIFEST + "는 필수입니다.");
+        }
+        for (String option : shared.keySet()) {
+            if (PER_JOB_OPTIONS.contains(option)) {
+                throw new UserException("[ERROR] " + option + " 옵션은 " + OPT_MANIFEST + "와 함께 사용할 수 없습니다.");
+            }
+        }
 
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        String parallelismValue = shared.remove(OPT_PARALLELISM);
+        if (parallelismValue != null) {
+            validatePositiveInt(OPT_PARALLELISM, parallelismValue);
+            parallelism = Integer.parseInt(parallelismValue);
+        }
+        validateValues(shared);
+
+        Path manifestPath = Paths.get(manifest).toAbsolutePath().normalize();
+        List<Map<String, String>> entries = ManifestReader.read(manifestPath);
+        List<ParsedArguments> jobs = new ArrayList<>(entries.size());
+        Map<String, Integer> outputs = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Map<String, String> options = new LinkedHashMap<>(shared);
+            options.putAll(entries.get(i));
+            ParsedArguments job;
+            try {
+                requireJobOptions(options);
+                validateValues(options);
+                job = toParsedArguments(options);
+            } catch (UserException e) {
+                throw new UserException(jobMessage(i, e.getMessage()), e);
+            }
+
+            // dir은 패키지와 관계없이 out 바로 아래에 ClassName.java를 쓰므로 out 하나를 작업 하나만 쓴다.
+            // srcjar/jar는 out 아래에 rootClass 이름의 아카이브 하나만 쓴다.
+            boolean dir = job.getOutFormat() == ParsedArguments.OutFormat.DIR;
+            String outDir = Paths.get(job.getOutDir()).toAbsolutePath().normalize().toString();
+            Integer previous = outputs.putIfAbsent(dir ? outDir : outDir + "|" + job.getRootClass(), i);
+            if (previous != null) {
+                throw new UserException(jobMessage(i, "jobs[" + previous + "]와 출력 위치가 겹칩니다. "
+                        + (dir ? "out을" : "out 또는 rootClass를") + " 다르게 지정해 주세요."));
+            }
+            jobs.add(job);
+        }
+        return new BatchArguments(manifestPath.toString(), parallelism, jobs);
+    }
+
+    private static String jobMessage(int index, String message) {
+        String detail = message.startsWith("[ERROR] ") ? message.substring("[ERROR] ".length()) : message;
+        return "[ERROR] " + OPT_MANIFEST + " jobs[" + index + "]: " + detail;
+    }
+
+    private ParsedArguments toParsedArguments(Map<String, String> options) {
         String inputPath = options.get(OPT_INPUT);
         String rootClass = options.get(OPT_ROOT_CLASS);
         String packageName = options.get(OPT_PACKAGE);
@@ -48,7 +169,67 @@ public class ArgumentParser {
             innerClasses = Boolean.parseBoolean(options.get(OPT_INNER_CLASSES));
         }
 
-        return new ParsedArguments(inputPath, rootClass, packageName, outDir, innerClasses);
+        GenerationOptions generationOptions = GenerationOptions.defaults();
+        if (options.containsKey(OPT_JSON_READER)) {
+            generationOptions = generationOptions.withJsonReaders(Boolean.parseBoolean(options.get(OPT_JSON_READER)));
+        }
+        if (options.containsKey(OPT_JSON_WRITER)) {
+            generationOptions = generationOptions.withJsonWriters(Boolean.parseBoolean(options.get(OPT_JSON_WRITER)));
+        }
+        if (options.containsKey(OPT_LAYOUT)) {
+            generationOptions = generationOptions.withLayout(
+                    GenerationOptions.Layout.valueOf(options.get(OPT_LAYOUT).toUpperCase(Locale.ROOT))
+            );
+        }
+        if (options.containsKey(OPT_LAZY)) {
+            generationOptions = generationOptions.withLazyDtos(Boolean.parseBoolean(options.get(OPT_LAZY)));
+        }
+        if (options.containsKey(OPT_COLUMNAR)) {
+            generationOptions = generationOptions.withColumnar(Boolean.parseBoolean(options.get(OPT_COLUMNAR)));
+        }
+        if (options.containsKey(OPT_PRIMITIVE_ARRAYS)) {
+            generationOptions = generationOptions.withPrimitiveArrays(
+                    Boolean.parseBoolean(options.get(OPT_PRIMITIVE_ARRAYS)));
+        }
+        if (options.containsKey(OPT_DTO_STYLE)) {
+            generationOptions = generationOptions.withDtoStyle(
+                    GenerationOptions.DtoStyle.valueOf(options.get(OPT_DTO_STYLE).toUpperCase(Locale.ROOT))
+            );
+        }
+
+        ParsedArguments.OutFormat outFormat = ParsedArguments.OutFormat.DIR;
+        if (options.containsKey(OPT_OUT_FORMAT)) {
+            outFormat = ParsedArguments.OutFormat.valueOf(options.get(OPT_OUT_FORMAT).toUpperCase(Locale.ROOT));
+        }
+
+        ResourceLimits limits = ResourceLimits.unlimited();
+        if (options.containsKey(OPT_MAX_KEYS)) {
+            limits = limits.withMaxKeysPerObject(Integer.parseInt(options.get(OPT_MAX_KEYS)));
+        }
+        if (options.containsKey(OPT_MAX_UNION_VARIANTS)) {
+            limits = limits.withMaxUnionVariants(Integer.parseInt(options.get(OPT_MAX_UNION_VARIANTS)));
+        }
+        if (options.containsKey(OPT_MAX_DEPTH)) {
+            limits = limits.withMaxDepth(Integer.parseInt(options.get(OPT_MAX_DEPTH)));
+        }
+        if (options.containsKey(OPT_MAX_SCHEMA_NODES)) {
+            limits = limits.withMaxSchemaNodes(Integer.parseInt(options.get(OPT_MAX_SCHEMA_NODES)));
+        }
+        if (options.containsKey(OPT_MAX_CLASSES)) {
+            limits = limits.withMaxClasses(Integer.parseInt(options.get(OPT_MAX_CLASSES)));
+        }
+
+        boolean watch = Boolean.parseBoolean(options.get(OPT_WATCH));
+
+        // 일괄 처리에서는 parseBatch가 --parallelism을 작업 동시 실행 수로 가져가므로, 작업 하나는 순차로 생성한다.
+        int parallelism = 1;
+        if (options.containsKey(OPT_PARALLELISM)) {
+            parallelism = Integer.parseInt(options.get(OPT_PARALLELISM));
+        }
+
+        return new ParsedArguments(inputPath, rootClass, packageName, outDir, innerClasses, generationOptions,
+                options.get(OPT_JMH_OUT), outFormat, options.get(OPT_PROFILE), options.get(OPT_STATS), limits, watch,
+                parallelism);
     }
 
     /**
@@ -60,6 +241,12 @@ public class ArgumentParser {
      * - 필수 옵션(--input, --root-class, --package, --out) 누락 시 예외
      */
     private Map<String, String> validateAndBuildOptions(String[] args) {
+        Map<String, String> options = buildOptions(args);
+        requireJobOptions(options);
+        return options;
+    }
+
+    private Map<String, String> buildOptions(String[] args) {
         if (args.length % 2 != 0) {
             throw new UserException("[ERROR] 옵션과 값은 쌍으로 입력해야 합니다.");
         }
@@ -85,8 +272,10 @@ public class ArgumentParser {
 
             options.put(option, value);
         }
+        return options;
+    }
 
-        // 필수 옵션 확인
+    private void requireJobOptions(Map<String, String> options) {
         if (!options.containsKey(OPT_INPUT)) {
             throw new UserException("[ERROR] --input은 필수입니다.");
         }
@@ -99,16 +288,20 @@ public class ArgumentParser {
         if (!options.containsKey(OPT_OUT)) {
             throw new UserException("[ERROR] --out은 필수입니다.");
         }
-
-        return options;
     }
 
     /**
      * 옵션 값들의 구체적인 유효성을 검사한다.
      * - --root-class: 자바 식별자 규칙 및 키워드 여부
      * - --package: 각 세그먼트의 식별자/키워드 여부
-     * - --out: 출력 디렉터리 경로 검증 (존재/생성/쓰기 가능 여부)
-     * - --inner-classes: true/false 여부
+     * - --out, --jmh-out: 출력 디렉터리 경로 검증 (존재/생성/쓰기 가능 여부)
+     * - --inner-classes, --json-reader, --json-writer, --lazy, --columnar, --primitive-arrays, --watch: true/false 여부
+     * - --layout: standard/compact 여부
+     * - --dto-style: fields/record/constructor 여부, compact 배치와 함께 쓰지 않았는지
+     * - --out-format: dir/srcjar/jar 여부
+     * - --profile, --stats: 출력 파일 경로 검증 (상위 디렉터리 준비, 디렉터리가 아닌지)
+     * - --max-keys, --max-union-variants, --max-depth, --max-schema-nodes, --max-classes, --parallelism: 1 이상의 정수 여부
+     * - --watch: dir 형식으로 출력하는지, --profile과 함께 쓰지 않았는지
      *
      * 파일 존재/JSON 파싱 등은 JsonValidator에서 처리하므로 여기서는 하지 않는다.
      */
@@ -148,11 +341,80 @@ public class ArgumentParser {
                 FileValidator.validateOutDirectory(value);
             }
 
-            if (OPT_INNER_CLASSES.equals(option)) {
-                if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
-                    throw new UserException("[ERROR] --inner-classes 옵션은 true 또는 false만 허용됩니다: " + value);
+            if (OPT_JMH_OUT.equals(option)) {
+                FileValidator.validateOutDirectory(value, OPT_JMH_OUT);
+            }
+
+            if (OPT_PROFILE.equals(option) || OPT_STATS.equals(option)) {
+                FileValidator.validateOutFile(value, option);
+            }
+
+            if (OPT_INNER_CLASSES.equals(option) || OPT_JSON_READER.equals(option) || OPT_JSON_WRITER.equals(option)
+                    || OPT_LAZY.equals(option) || OPT_COLUMNAR.equals(option)
+                    || OPT_PRIMITIVE_ARRAYS.equals(option) || OPT_WATCH.equals(option)) {
+                validateBoolean(option, value);
+            }
+
+            if (LIMIT_OPTIONS.contains(option) || OPT_PARALLELISM.equals(option)) {
+                validatePositiveInt(option, value);
+            }
+
+            if (OPT_LAYOUT.equals(option)) {
+                if (!value.equalsIgnoreCase("standard") && !value.equalsIgnoreCase("compact")) {
+                    throw new UserException("[ERROR] --layout 옵션은 standard 또는 compact만 허용됩니다: " + value);
+                }
+            }
+
+            if (OPT_DTO_STYLE.equals(option)) {
+                if (!value.equalsIgnoreCase("fields") && !value.equalsIgnoreCase("record")
+                        && !value.equalsIgnoreCase("constructor")) {
+                    throw new UserException(
+                            "[ERROR] --dto-style 옵션은 fields, record, constructor 중 하나만 허용됩니다: " + value);
                 }
             }
+
+            if (OPT_OUT_FORMAT.equals(option)) {
+                if (!value.equalsIgnoreCase("dir") && !value.equalsIgnoreCase("srcjar")
+                        && !value.equalsIgnoreCase("jar")) {
+                    throw new UserException("[ERROR] --out-format 옵션은 dir, srcjar, jar 중 하나만 허용됩니다: " + value);
+                }
+            }
+        }
+
+        boolean compact = "compact".equalsIgnoreCase(options.get(OPT_LAYOUT));
+        boolean immutable = options.containsKey(OPT_DTO_STYLE) && !"fields".equalsIgnoreCase(options.get(OPT_DTO_STYLE));
+        if (compact && immutable) {
+            throw new UserException("[ERROR] --dto-style " + options.get(OPT_DTO_STYLE)
+                    + " 옵션은 --layout compact와 함께 사용할 수 없습니다.");
+        }
+
+        if ("true".equalsIgnoreCase(options.get(OPT_WATCH))) {
+            // 바뀐 클래스 파일만 다시 쓰므로 클래스마다 파일이 있는 dir 형식만 지원한다.
+            if (options.containsKey(OPT_OUT_FORMAT) && !"dir".equalsIgnoreCase(options.get(OPT_OUT_FORMAT))) {
+                throw new UserException("[ERROR] --watch 옵션은 --out-format dir에서만 사용할 수 있습니다.");
+            }
+            // 종료하지 않고 계속 실행하므로 JFR 기록을 파일로 남길 시점이 없다.
+            if (options.containsKey(OPT_PROFILE)) {
+                throw new UserException("[ERROR] --watch 옵션은 --profile과 함께 사용할 수 없습니다.");
+            }
+        }
+    }
+
+    private void validatePositiveInt(String option, String value) {
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new UserException("[ERROR] " + option + " 옵션은 1 이상의 정수만 허용됩니다: " + value);
+        }
+        if (parsed < 1) {
+            throw new UserException("[ERROR] " + option + " 옵션은 1 이상의 정수만 허용됩니다: " + value);
+        }
+    }
+
+    private void validateBoolean(String option, String value) {
+        if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+            throw new UserException("[ERROR] " + option + " 옵션은 true 또는 false만 허용됩니다: " + value);
         }
     }
 }
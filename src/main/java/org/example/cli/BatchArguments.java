@@ -0,0 +1,37 @@
+package org.example.cli;
+
+import java.util.List;
+
+/**
+ * --manifest 일괄 처리 인자. 작업마다 단일 실행과 같은 {@link ParsedArguments}를 가진다.
+ */
+public class BatchArguments {
+
+    private final String manifestPath;
+    private final int parallelism;
+    private final List<ParsedArguments> jobs;
+
+    public BatchArguments(String manifestPath, int parallelism, List<ParsedArguments> jobs) {
+        this.manifestPath = manifestPath;
+        this.parallelism = parallelism;
+        this.jobs = List.copyOf(jobs);
+    }
+
+    public String getManifestPath() {
+        return manifestPath;
+    }
+
+    /**
+     * 동시에 실행할 최대 작업 수 (--parallelism). 지정하지 않으면 사용 가능한 프로세서 수
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 매니페스트 순서대로 정렬된 작업 목록
+     */
+    public List<ParsedArguments> getJobs() {
+        return jobs;
+    }
+}
@@ -19,19 +19,26 @@ public final class FileValidator {
      * - 쓰기 권한이 없는 경우 예외
      */
     public static Path validateOutDirectory(String pathStr) {
+        return validateOutDirectory(pathStr, "--out");
+    }
+
+    /**
+     * 출력 디렉터리 경로를 검증한다. 오류 메시지에는 경로를 지정한 옵션 이름(optionName)을 쓴다.
+     */
+    public static Path validateOutDirectory(String pathStr, String optionName) {
         Path path = Paths.get(pathStr).toAbsolutePath().normalize();
 
         try {
             if (Files.exists(path)) {
                 if (!Files.isDirectory(path)) {
-                    throw new UserException("[ERROR] --out 경로가 디렉터리가 아닙니다: " + path);
+                    throw new UserException("[ERROR] " + optionName + " 경로가 디렉터리가 아닙니다: " + path);
                 }
             } else {
                 Files.createDirectories(path); // 없으면 생성
             }
 
             if (!Files.isWritable(path)) {
-                throw new UserException("[ERROR] --out 경로에 쓰기 권한이 없습니다: " + path);
+                throw new UserException("[ERROR] " + optionName + " 경로에 쓰기 권한이 없습니다: " + path);
             }
 
             return path;
@@ -40,4 +47,21 @@ public final class FileValidator {
             throw new InternalException("출력 디렉터리를 준비하는 중 내부 오류가 발생했습니다: " + path, e);
         }
     }
+
+    /**
+     * 출력 파일 경로를 검증한다.
+     * - 상위 디렉터리는 {@link #validateOutDirectory(String, String)}와 같은 규칙으로 준비
+     * - 이미 디렉터리로 존재하는 경우 예외
+     */
+    public static Path validateOutFile(String pathStr, String optionName) {
+        Path path = Paths.get(pathStr).toAbsolutePath().normalize();
+        if (Files.isDirectory(path)) {
+            throw new UserException("[ERROR] " + optionName + " 경로가 파일이 아니라 디렉터리입니다: " + path);
+        }
+        Path parent = path.getParent();
+        if (parent != null) {
+            validateOutDirectory(parent.toString(), optionName);
+        }
+        return path;
+    }
 }
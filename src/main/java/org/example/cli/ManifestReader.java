@@ -0,0 +1,98 @@
+package org.example.cli;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.exception.UserException;
+import org.example.json.JsonValidator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * --manifest 파일(jobs.json)을 읽어 작업마다 CLI 옵션 Map으로 바꾼다.
+ * <pre>
+ * {
+ *   "jobs": [
+ *     { "input": "weather.json", "rootClass": "Weather", "package": "com.example.weather", "out": "build/weather" },
+ *     { "input": "order.json", "rootClass": "Order", "package": "com.example.order", "out": "build/order",
+ *       "innerClasses": true }
+ *   ]
+ * }
+ * </pre>
+ * 최상위가 작업 배열이어도 된다. 상대 경로(input, out)는 매니페스트 파일이 있는 디렉터리를 기준으로 푼다.
+ */
+final class ManifestReader {
+
+    /** 매니페스트 필드 → CLI 옵션 */
+    private static final Map<String, String> FIELDS = Map.of(
+            "input", "--input",
+            "rootClass", "--root-class",
+            "package", "--package",
+            "out", "--out",
+            "innerClasses", "--inner-classes"
+    );
+
+    private ManifestReader() {
+    }
+
+    static List<Map<String, String>> read(Path manifest) {
+        if (!Files.isRegularFile(manifest) || !Files.isReadable(manifest)) {
+            throw new UserException("[ERROR] --manifest 파일을 읽을 수 없습니다: " + manifest);
+        }
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(manifest);
+        } catch (IOException e) {
+            throw new UserException("[ERROR] --manifest 파일을 읽을 수 없습니다: " + manifest, e);
+        }
+        JsonNode root = JsonValidator.assertValidAndParse(bytes, manifest.toString());
+
+        JsonNode jobs = root.isObject() ? root.get("jobs") : root;
+        if (jobs == null || !jobs.isArray()) {
+            throw new UserException("[ERROR] --manifest 파일은 작업 배열이거나 \"jobs\" 배열을 가진 객체여야 합니다: "
+                    + manifest);
+        }
+        if (jobs.isEmpty()) {
+            throw new UserException("[ERROR] --manifest 파일에 작업이 없습니다: " + manifest);
+        }
+
+        Path baseDir = manifest.getParent();
+        List<Map<String, String>> entries = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            entries.add(toOptions(jobs.get(i), i, baseDir));
+        }
+        return entries;
+    }
+
+    private static Map<String, String> toOptions(JsonNode job, int index, Path baseDir) {
+        if (!job.isObject()) {
+            throw new UserException("[ERROR] --manifest jobs[" + index + "]는 객체여야 합니다.");
+        }
+        Map<String, String> options = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = job.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String option = FIELDS.get(field.getKey());
+            if (option == null) {
+                throw new UserException("[ERROR] --manifest jobs[" + index + "]에 지원하지 않는 필드가 있습니다: "
+                        + field.getKey() + " (허용: input, rootClass, package, out, innerClasses)");
+            }
+            JsonNode value = field.getValue();
+            if (!value.isTextual() && !("innerClasses".equals(field.getKey()) && value.isBoolean())) {
+                throw new UserException("[ERROR] --manifest jobs[" + index + "]." + field.getKey()
+                        + " 값은 문자열이어야 합니다.");
+            }
+            String text = value.asText();
+            if (("input".equals(field.getKey()) || "out".equals(field.getKey())) && !text.isBlank()) {
+                text = baseDir.resolve(text).normalize().toString();
+            }
+            options.put(option, text);
+        }
+        return options;
+    }
+}
@@ -1,18 +1,154 @@
 package org.example.cli;
 
+import org.example.generator.GenerationOptions;
+import org.example.json.ResourceLimits;
+
 public class ParsedArguments {
+
+    /**
+     * 생성 결과를 기록하는 형식 (--out-format)
+     */
+    public enum OutFormat {
+        /** --out 디렉터리에 클래스마다 .java 파일 */
+        DIR,
+        /** --out 디렉터리에 소스 아카이브 하나 (루트클래스.srcjar) */
+        SRCJAR,
+        /** --out 디렉터리에 컴파일된 클래스 아카이브 하나 (루트클래스.jar) */
+        JAR
+    }
+
     private final String inputPath;
     private final String rootClass;
     private final String packageName;
     private final String outDir;
     private final boolean innerClasses;
+    private final GenerationOptions generationOptions;
+    private final String jmhOutDir;
+    private final OutFormat outFormat;
+    private final String profilePath;
+    private final String statsPath;
+    private final ResourceLimits resourceLimits;
+    private final boolean watch;
+    private final int parallelism;
 
     public ParsedArguments(String inputPath, String rootClass, String packageName, String outDir, boolean innerClasses) {
+        this(inputPath, rootClass, packageName, outDir, innerClasses, GenerationOptions.defaults());
+    }
+
+    public ParsedArguments(String inputPath,
+                           String rootClass,
+                           String packageName,
+                           String outDir,
+                           boolean innerClasses,
+                           GenerationOptions generationOptions) {
+        this(inputPath, rootClass, packageName, outDir, innerClasses, generationOptions, null);
+    }
+
+    public ParsedArguments(String inputPath,
+                           String rootClass,
+                           String packageName,
+                           String outDir,
+                           boolean innerClasses,
+                           GenerationOptions generationOptions,
+                           String jmhOutDir) {
+        this(inputPath, rootClass, packageName, outDir, innerClasses, generationOptions, jmhOutDir, OutFormat.DIR);
+    }
+
+    public ParsedArguments(String inputPath,
+                           String rootClass,
+                           String packageName,
+                           String outDir,
+                           boolean innerClasses,
+                           GenerationOptions generationOptions,
+                           String jmhOutDir,
+                           OutFormat outFormat) {
+        this(inputPath, rootClass, packageName, outDir, innerClasses, generationOptions, jmhOutDir, outFormat, null);
+    }
+
+    public ParsedArguments(String inputPath,
+                           String rootClass,
+                           String packageName,
+                           String outDir,
+                           boolean innerClasses,
+                           GenerationOptions generationOptions,
+                           String jmhOutDir,
+                           OutFormat outFormat,
+                           String profilePath) {
+        this(inputPath, rootClass, packageName, outDir, innerClasses, generationOptions, jmhOutDir, outFormat,
+                profilePath, null);
+    }
+
+    public ParsedArguments(String inputPath,
+                           String rootClass,
+                           String packageName,
+                           String outDir,
+                           boolean innerClasses,
+                           GenerationOptions generationOptions,
+                           String jmhOutDir,
+                           OutFormat outFormat,
+                           String profilePath,
+                           String statsPath) {
+        this(inputPath, rootClass, packageName, outDir, innerClasses, generationOptions, jmhOutDir, outFormat,
+                profilePath, statsPath, ResourceLimits.unlimited());
+    }
+
+    public ParsedArguments(String inputPath,
+                           String rootClass,
+                           String packageName,
+                           String outDir,
+                           boolean innerClasses,
+                           GenerationOptions generationOptions,
+                           String jmhOutDir,
+                           OutFormat outFormat,
+                           String profilePath,
+                           String statsPath,
+                           ResourceLimits resourceLimits) {
+        this(inputPath, rootClass, packageName, outDir, innerClasses, generationOptions, jmhOutDir, outFormat,
+                profilePath, statsPath, resourceLimits, false);
+    }
+
+    public ParsedArguments(String inputPath,
+                           String rootClass,
+                           String packageName,
+                           String outDir,
+                           boolean innerClasses,
+                           GenerationOptions generationOptions,
+                           String jmhOutDir,
+                           OutFormat outFormat,
+                           String profilePath,
+                           String statsPath,
+                           ResourceLimits resourceLimits,
+                           boolean watch) {
+        this(inputPath, rootClass, packageName, outDir, innerClasses, generationOptions, jmhOutDir, outFormat,
+                profilePath, statsPath, resourceLimits, watch, 1);
+    }
+
+    public ParsedArguments(String inputPath,
+                           String rootClass,
+                           String packageName,
+                           String outDir,
+                           boolean innerClasses,
+                           GenerationOptions generationOptions,
+                           String jmhOutDir,
+                           OutFormat outFormat,
+                           String profilePath,
+                           String statsPath,
+                           ResourceLimits resourceLimits,
+                           boolean watch,
+                           int parallelism) {
         this.inputPath = inputPath;
         this.rootClass = rootClass;
         this.packageName = packageName;
         this.outDir = outDir;
         this.innerClasses = innerClasses;
+        this.generationOptions = generationOptions;
+        this.jmhOutDir = jmhOutDir;
+        this.outFormat = outFormat;
+        this.profilePath = profilePath;
+        this.statsPath = statsPath;
+        this.resourceLimits = resourceLimits;
+        this.watch = watch;
+        this.parallelism = parallelism;
     }
 
     public String getInputPath() {
@@ -34,4 +170,54 @@ public class ParsedArguments {
     public boolean isInnerClasses() {
         return innerClasses;
     }
+
+    public GenerationOptions getGenerationOptions() {
+        return generationOptions;
+    }
+
+    /**
+     * JMH 벤치마크 소스를 쓸 디렉터리. --jmh-out을 지정하지 않았으면 null
+     */
+    public String getJmhOutDir() {
+        return jmhOutDir;
+    }
+
+    public OutFormat getOutFormat() {
+        return outFormat;
+    }
+
+    /**
+     * JFR 기록(.jfr)을 쓸 파일 경로. --profile을 지정하지 않았으면 null
+     */
+    public String getProfilePath() {
+        return profilePath;
+    }
+
+    /**
+     * 스키마 크기 지표 보고서(JSON)를 쓸 파일 경로. --stats를 지정하지 않았으면 null
+     */
+    public String getStatsPath() {
+        return statsPath;
+    }
+
+    /**
+     * 스키마 분석 한도 (--max-keys 등). 지정하지 않은 한도는 없다.
+     */
+    public ResourceLimits getResourceLimits() {
+        return resourceLimits;
+    }
+
+    /**
+     * --watch: 입력이 바뀔 때마다 다시 생성하며 계속 실행한다.
+     */
+    public boolean isWatch() {
+        return watch;
+    }
+
+    /**
+     * 클래스 소스를 동시에 생성할 스레드 수 (단일 실행의 --parallelism). 1이면 순차로 생성한다.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
 }
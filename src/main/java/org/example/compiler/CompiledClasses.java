@@ -0,0 +1,67 @@
+package org.example.compiler;
+
+import org.example.exception.InternalException;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@link InMemoryCompiler}로 컴파일한 DTO 클래스 묶음.
+ * <p>
+ * 묶음마다 전용 클래스 로더를 가지므로 같은 이름의 클래스를 다른 구조로 여러 번 컴파일해도 서로 충돌하지 않는다.
+ * 이 객체와 로드한 클래스, 그 인스턴스를 모두 놓으면(그리고 컴파일러 캐시에서 밀려나면) 클래스가 언로드된다.
+ */
+public final class CompiledClasses {
+
+    private final String sourceHash;
+    private final Map<String, byte[]> bytecode;
+    private final ClassLoader classLoader;
+
+    CompiledClasses(String sourceHash, Map<String, byte[]> bytecode, ClassLoader parent) {
+        this.sourceHash = sourceHash;
+        this.bytecode = Map.copyOf(bytecode);
+        this.classLoader = new MemoryClassLoader(parent, this.bytecode);
+    }
+
+    /**
+     * 입력 소스 전체의 SHA-256 (16진수). 캐시 키로 쓰인다.
+     */
+    public String sourceHash() {
+        return sourceHash;
+    }
+
+    /**
+     * 컴파일된 모든 클래스의 바이너리 이름 (중첩 클래스는 {@code Outer$Inner})
+     */
+    public Set<String> classNames() {
+        return bytecode.keySet();
+    }
+
+    /**
+     * 클래스 파일 내용. 없는 이름이면 null
+     */
+    public byte[] bytecode(String binaryName) {
+        byte[] bytes = bytecode.get(binaryName);
+        return bytes == null ? null : bytes.clone();
+    }
+
+    public ClassLoader classLoader() {
+        return classLoader;
+    }
+
+    /**
+     * 바이너리 이름으로 클래스를 로드한다.
+     *
+     * @throws InternalException 이 묶음에 없는 이름인 경우
+     */
+    public Class<?> load(String binaryName) {
+        if (!bytecode.containsKey(binaryName)) {
+            throw new InternalException("컴파일 결과에 없는 클래스입니다: " + binaryName);
+        }
+        try {
+            return classLoader.loadClass(binaryName);
+        } catch (ClassNotFoundException e) {
+            throw new InternalException("컴파일된 클래스를 로드하지 못했습니다: " + binaryName, e);
+        }
+    }
+}
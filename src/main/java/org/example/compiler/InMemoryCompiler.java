@@ -0,0 +1,200 @@
+package org.example.compiler;
+
+import org.example.exception.InternalException;
+import org.example.exception.UserException;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * 생성된 DTO 소스를 디스크를 거치지 않고 컴파일해 바로 로드한다.
+ * <p>
+ * {@link org.example.generator.ClassGenerator#generateAllFromModelGraph(org.example.json.ModelGraph, boolean)}가
+ * 돌려주는 {@code Map<클래스이름, 소스>}를 그대로 받아 {@link javax.tools.JavaCompiler}로 컴파일하고,
+ * 결과마다 전용 클래스 로더를 가진 {@link CompiledClasses}를 돌려준다.
+ * <ul>
+ *     <li>같은 소스 묶음(SHA-256이 같은 경우)은 다시 컴파일하지 않고 캐시된 결과를 돌려준다.</li>
+ *     <li>캐시는 최근에 쓴 순서로 {@code maxCachedResults}개까지만 유지한다. 밀려난 결과는 참조가 끊기면 언로드된다.</li>
+ *     <li>표준 파일 매니저(클래스패스 jar 인덱스)를 재사용하므로 두 번째 컴파일부터는 훨씬 빠르다.</li>
+ * </ul>
+ * 컴파일은 한 번에 하나씩 수행된다. 캐시는 조회할 때도 순서가 바뀌므로 조회마다 캐시에 짧게 잠금을 걸지만,
+ * 컴파일 잠금과는 별개이므로 다른 스레드가 컴파일하는 동안에도 캐시된 결과는 바로 돌려준다.
+ * JDK(javac)가 없는 런타임(JRE)에서는 사용할 수 없다.
+ */
+public final class InMemoryCompiler implements AutoCloseable {
+
+    /** 기본 캐시 크기 */
+    public static final int DEFAULT_MAX_CACHED_RESULTS = 64;
+
+    private final JavaCompiler compiler;
+    private final StandardJavaFileManager standardFileManager;
+    private final ClassLoader parent;
+    private final List<String> options;
+    private final Map<String, CompiledClasses> cache;
+
+    /**
+     * 현재 스레드의 컨텍스트 클래스 로더와 {@code java.class.path}로 컴파일/로드한다.
+     */
+    public InMemoryCompiler() {
+        this(defaultParent(), System.getProperty("java.class.path"), DEFAULT_MAX_CACHED_RESULTS);
+    }
+
+    /**
+     * @param parent           로드한 DTO가 jackson 등 외부 클래스를 찾을 부모 클래스 로더
+     * @param classPath        컴파일할 때 쓸 클래스패스 (생성된 코드가 참조하는 jackson jar 포함)
+     * @param maxCachedResults 캐시에 유지할 컴파일 결과 수 (0이면 캐시하지 않음)
+     */
+    public InMemoryCompiler(ClassLoader parent, String classPath, int maxCachedResults) {
+        if (maxCachedResults < 0) {
+            throw new IllegalArgumentException("maxCachedResults는 0 이상이어야 합니다: " + maxCachedResults);
+        }
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new UserException("[ERROR] 메모리 내 컴파일에는 JDK가 필요합니다. 현재 런타임에는 javac가 없습니다.");
+        }
+        this.parent = Objects.requireNonNull(parent, "parent must not be null");
+        this.standardFileManager = compiler.getStandardFileManager(null, Locale.ROOT, StandardCharsets.UTF_8);
+        this.options = List.of("-proc:none", "-classpath", classPath == null ? "" : classPath);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledClasses> eldest) {
+                return size() > maxCachedResults;
+            }
+        };
+    }
+
+    private static ClassLoader defaultParent() {
+        ClassLoader context = Thread.currentThread().getContextClassLoader();
+        return context != null ? context : InMemoryCompiler.class.getClassLoader();
+    }
+
+    /**
+     * 소스 묶음을 컴파일한다. 같은 묶음을 이미 컴파일했다면 캐시된 결과를 돌려준다.
+     *
+     * @param sources key: 클래스 이름(파일 이름), value: 소스 전체
+     * @throws InternalException 생성된 소스가 컴파일되지 않는 경우 (진단 메시지 포함)
+     */
+    public CompiledClasses compile(Map<String, String> sources) {
+        Objects.requireNonNull(sources, "sources must not be null");
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("컴파일할 소스가 없습니다.");
+        }
+
+        String hash = sourceHash(sources);
+        CompiledClasses cached = cached(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (standardFileManager) {
+            // 같은 묶음을 다른 스레드가 먼저 컴파일했을 수 있다.
+            cached = cached(hash);
+            if (cached != null) {
+                return cached;
+            }
+            CompiledClasses compiled = new CompiledClasses(hash, doCompile(sources), parent);
+            synchronized (cache) {
+                cache.put(hash, compiled);
+            }
+            return compiled;
+        }
+    }
+
+    private CompiledClasses cached(String hash) {
+        synchronized (cache) {
+            return cache.get(hash);
+        }
+    }
+
+    private Map<String, byte[]> doCompile(Map<String, String> sources) {
+        List<JavaFileObject> units = new ArrayList<>(sources.size());
+        for (Map.Entry<String, String> entry : sources.entrySet()) {
+            units.add(MemoryFileManager.source(entry.getKey(), entry.getValue()));
+        }
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        MemoryFileManager fileManager = new MemoryFileManager(standardFileManager);
+        boolean success = compiler.getTask(null, fileManager, diagnostics, options, null, units).call();
+        if (!success) {
+            throw new InternalException("생성된 소스를 컴파일하지 못했습니다:\n" + describe(diagnostics));
+        }
+        return fileManager.classFiles();
+    }
+
+    private static String describe(DiagnosticCollector<JavaFileObject> diagnostics) {
+        StringBuilder sb = new StringBuilder();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() != Diagnostic.Kind.ERROR) {
+                continue;
+            }
+            String file = diagnostic.getSource() == null ? "?" : diagnostic.getSource().getName();
+            sb.append("  ").append(file.substring(file.lastIndexOf('/') + 1))
+                    .append(':').append(diagnostic.getLineNumber())
+                    .append(": ").append(diagnostic.getMessage(Locale.ROOT))
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 클래스 이름 순으로 (이름, 소스)를 이어 붙인 SHA-256. 맵의 순회 순서와 관계없이 같은 묶음이면 같은 값이다.
+     */
+    static String sourceHash(Map<String, String> sources) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<String, String> entry : new TreeMap<>(sources).entrySet()) {
+                digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new InternalException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 현재 캐시에 있는 컴파일 결과 수
+     */
+    public int cachedResults() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * 캐시를 비운다. 이미 돌려준 {@link CompiledClasses}는 그대로 쓸 수 있다.
+     */
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        clearCache();
+        try {
+            standardFileManager.close();
+        } catch (IOException e) {
+            throw new InternalException("컴파일러 파일 매니저를 닫는 중 내부 오류가 발생했습니다.", e);
+        }
+    }
+}
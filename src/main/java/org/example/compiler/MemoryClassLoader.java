@@ -0,0 +1,50 @@
+package org.example.compiler;
+
+import java.util.Map;
+
+/**
+ * 한 번의 컴파일 결과만 담는 클래스 로더.
+ * <p>
+ * 컴파일 결과마다 별도 인스턴스를 쓰므로, 이 로더와 로드된 클래스/인스턴스를 아무도 참조하지 않으면
+ * 클래스가 통째로 언로드된다. 컴파일 결과에 있는 이름은 부모 로더보다 먼저 찾으므로(child-first)
+ * 애플리케이션에 같은 이름의 클래스가 있어도 가려지지 않는다.
+ */
+final class MemoryClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final Map<String, byte[]> bytecode;
+
+    MemoryClassLoader(ClassLoader parent, Map<String, byte[]> bytecode) {
+        super("json-to-dto-memory", parent);
+        this.bytecode = bytecode;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!bytecode.containsKey(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                loaded = findClass(name);
+            }
+            if (resolve) {
+                resolveClass(loaded);
+            }
+            return loaded;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] bytes = bytecode.get(name);
+        if (bytes == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.compiler;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 컴파일 결과(.class)를 디스크 대신 메모리에 모으는 파일 매니저.
+ * <p>
+ * 소스 읽기와 클래스패스 탐색은 표준 파일 매니저에 그대로 맡기고, 출력 파일만 가로챈다.
+ * 컴파일 한 번마다 새로 만들어 쓰며, 스레드 안전하지 않다.
+ */
+final class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final Map<String, ClassFile> outputs = new LinkedHashMap<>();
+
+    MemoryFileManager(StandardJavaFileManager fileManager) {
+        super(fileManager);
+    }
+
+    /**
+     * 문자열 소스를 컴파일러 입력으로 감싼다. 파일 이름은 public 클래스 이름과 같아야 한다.
+     */
+    static JavaFileObject source(String className, String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className + JavaFileObject.Kind.SOURCE.extension),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(JavaFileManager.Location location,
+                                               String className,
+                                               JavaFileObject.Kind kind,
+                                               FileObject sibling) {
+        ClassFile file = new ClassFile(className, kind);
+        outputs.put(className, file);
+        return file;
+    }
+
+    /**
+     * 지금까지 생성된 클래스 파일. key: 바이너리 이름(예: {@code com.example.Weather$Location})
+     */
+    Map<String, byte[]> classFiles() {
+        Map<String, byte[]> bytecode = new LinkedHashMap<>();
+        for (Map.Entry<String, ClassFile> entry : outputs.entrySet()) {
+            bytecode.put(entry.getKey(), entry.getValue().bytes.toByteArray());
+        }
+        return bytecode;
+    }
+
+    private static final class ClassFile extends SimpleJavaFileObject {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+
+        private ClassFile(String className, JavaFileObject.Kind kind) {
+            super(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind);
+        }
+
+        @Override
+        public OutputStream openOutputStream() {
+            bytes.reset();
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package org.example.corpus;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.example.exception.InternalException;
+import org.example.exception.UserException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * 시드를 고정한 합성 JSON 코퍼스 생성기. 큰 입력 파일을 저장소에 넣지 않고도 성능 측정용 입력을 만든다.
+ *
+ * <p>동작:
+ * <ul>
+ *     <li>생성자에서 {@link CorpusSpec}과 시드로 레코드의 모양(필드 이름, 타입, 중첩 구조)을 한 번 정한다.
+ *         모든 레코드는 이 모양을 따르고, 값과 누락/타입 변화만 레코드마다 달라진다. (실제 API 응답처럼)</li>
+ *     <li>같은 spec이면 언제, 몇 번을 만들어도 같은 바이트가 나온다.</li>
+ *     <li>형식: JSON 문서 하나({@code {"count":N,"items":[...]}}), NDJSON(한 줄에 레코드 하나),
+ *         디렉터리(레코드마다 .json 파일 하나)</li>
+ * </ul>
+ * 이 객체는 불변이므로 여러 스레드에서 함께 써도 된다.
+ */
+public final class CorpusGenerator {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private static final String[] WORDS = {
+            "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel",
+            "india", "juliet", "kilo", "lima", "mike", "november", "oscar", "papa"
+    };
+
+    /** 값 난수를 레코드 모양 난수와 다른 흐름으로 쓰기 위한 시드 보정값 */
+    private static final long VALUE_SEED_SALT = 0x9E3779B97F4A7C15L;
+
+    private enum Kind { INT, DOUBLE, BOOLEAN, STRING, PRIMITIVE_ARRAY, OBJECT, OBJECT_ARRAY }
+
+    private record FieldShape(String name, Kind kind, CorpusSpec.StringFormat format, List<FieldShape> children) {
+    }
+
+    private final CorpusSpec spec;
+    private final List<FieldShape> recordShape;
+
+    public CorpusGenerator(CorpusSpec spec) {
+        this.spec = Objects.requireNonNull(spec, "spec must not be null");
+        this.recordShape = buildObjectShape(new SplittableRandom(spec.seed()), 1);
+    }
+
+    public CorpusSpec spec() {
+        return spec;
+    }
+
+    // ==========================
+    // 출력
+    // ==========================
+
+    /**
+     * 레코드 전체를 {@code items} 배열로 담은 JSON 문서 하나를 문자열로 만든다.
+     */
+    public String json() {
+        StringWriter out = new StringWriter();
+        try {
+            writeJson(out);
+        } catch (IOException e) {
+            throw new InternalException("메모리 버퍼에 코퍼스를 기록하는 중 내부 오류가 발생했습니다.", e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * 레코드 전체를 {@code items} 배열로 담은 JSON 문서 하나를 기록한다. out은 닫지 않는다.
+     */
+    public void writeJson(Writer out) throws IOException {
+        SplittableRandom random = valueRandom();
+        try (JsonGenerator gen = FACTORY.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.writeStartObject();
+            gen.writeNumberField("count", spec.records());
+            gen.writeArrayFieldStart("items");
+            for (int i = 0; i < spec.records(); i++) {
+                writeRecord(gen, random, i);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * 한 줄에 레코드 하나씩 NDJSON으로 기록한다. out은 닫지 않는다.
+     */
+    public void writeNdjson(Writer out) throws IOException {
+        SplittableRandom random = valueRandom();
+        try (JsonGenerator gen = FACTORY.createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 루트 값 사이 구분자를 줄바꿈으로
+            gen.setRootValueSeparator(new SerializedString("\n"));
+            for (int i = 0; i < spec.records(); i++) {
+                writeRecord(gen, random, i);
+            }
+            gen.writeRaw('\n');
+        }
+    }
+
+    /**
+     * 디렉터리에 레코드마다 {@code record-00000.json} 형식의 파일을 하나씩 만든다.
+     *
+     * @param dir 출력 디렉터리 (없으면 만든다)
+     * @return 만든 파일 경로 (레코드 순서)
+     */
+    public List<Path> writeDirectory(Path dir) {
+        SplittableRandom random = valueRandom();
+        List<Path> files = new ArrayList<>(spec.records());
+        Path file = dir;
+        try {
+            Files.createDirectories(dir);
+            for (int i = 0; i < spec.records(); i++) {
+                file = dir.resolve(String.format("record-%05d.json", i));
+                try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                     JsonGenerator gen = FACTORY.createGenerator(out)) {
+                    writeRecord(gen, random, i);
+                }
+                files.add(file);
+            }
+        } catch (IOException e) {
+            throw new UserException("[ERROR] 코퍼스 파일을 생성하는 중 오류가 발생했습니다: " + file, e);
+        }
+        return files;
+    }
+
+    private SplittableRandom valueRandom() {
+        return new SplittableRandom(spec.seed() ^ VALUE_SEED_SALT);
+    }
+
+    // ==========================
+    // 레코드 모양
+    // ==========================
+
+    /**
+     * 객체 하나의 필드 모양을 정한다.
+     * 첫 필드는 항상 있는 식별자, 깊이가 남았으면 두 번째 필드(너비가 1이면 첫 필드)가 하위 객체/객체 배열이다.
+     */
+    private List<FieldShape> buildObjectShape(SplittableRandom random, int level) {
+        int width = spec.width();
+        List<FieldShape> fields = new ArrayList<>(width);
+        Set<String> names = new HashSet<>();
+        int nestedIndex = (level < spec.depth()) ? Math.min(1, width - 1) : -1;
+
+        for (int i = 0; i < width; i++) {
+            String name = uniqueName(random, names, i == 0 && nestedIndex != 0 ? "id" : null);
+            if (i == nestedIndex) {
+                Kind kind = random.nextBoolean() ? Kind.OBJECT : Kind.OBJECT_ARRAY;
+                fields.add(new FieldShape(name, kind, null, buildObjectShape(random, level + 1)));
+            } else if (i == 0) {
+                fields.add(new FieldShape(name, Kind.INT, null, null));
+            } else {
+                Kind kind = switch (random.nextInt(6)) {
+                    case 0 -> Kind.INT;
+                    case 1 -> Kind.DOUBLE;
+                    case 2 -> Kind.BOOLEAN;
+                    case 3 -> Kind.PRIMITIVE_ARRAY;
+                    default -> Kind.STRING;
+                };
+                CorpusSpec.StringFormat format = (kind == Kind.STRING) ? pickFormat(random) : null;
+                fields.add(new FieldShape(name, kind, format, null));
+            }
+        }
+        return fields;
+    }
+
+    private static String uniqueName(SplittableRandom random, Set<String> names, String preferred) {
+        String name = preferred;
+        if (name == null) {
+            name = WORDS[random.nextInt(WORDS.length)] + "_" + WORDS[random.nextInt(WORDS.length)];
+        }
+        String candidate = name;
+        for (int suffix = 2; !names.add(candidate); suffix++) {
+            candidate = name + "_" + suffix;
+        }
+        return candidate;
+    }
+
+    private CorpusSpec.StringFormat pickFormat(SplittableRandom random) {
+        int index = random.nextInt(spec.stringFormats().size());
+        for (CorpusSpec.StringFormat format : spec.stringFormats()) {
+            if (index-- == 0) {
+                return format;
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    // ==========================
+    // 값 기록
+    // ==========================
+
+    private void writeRecord(JsonGenerator gen, SplittableRandom random, int index) throws IOException {
+        gen.writeStartObject();
+        writeFields(gen, random, recordShape, index);
+        if (spec.keyCardinality() > 0) {
+            writeAttributes(gen, random);
+        }
+        gen.writeEndObject();
+    }
+
+    private void writeObject(JsonGenerator gen, SplittableRandom random, List<FieldShape> shape, int index)
+            throws IOException {
+        gen.writeStartObject();
+        writeFields(gen, random, shape, index);
+        gen.writeEndObject();
+    }
+
+    private void writeFields(JsonGenerator gen, SplittableRandom random, List<FieldShape> shape, int index)
+            throws IOException {
+        for (int i = 0; i < shape.size(); i++) {
+            FieldShape field = shape.get(i);
+            if (i > 0 && random.nextDouble() < spec.optionalRate()) {
+                continue;
+            }
+            gen.writeFieldName(field.name());
+            if (random.nextDouble() < spec.unionRate()) {
+                writeOtherType(gen, random, field);
+            } else {
+                writeValue(gen, random, field, index);
+            }
+        }
+    }
+
+    private void writeValue(JsonGenerator gen, SplittableRandom random, FieldShape field, int index)
+            throws IOException {
+        switch (field.kind()) {
+            case INT -> gen.writeNumber(field.name().equals("id") ? index : random.nextInt(100_000));
+            case DOUBLE -> gen.writeNumber(random.nextInt(1_000_000) / 100.0);
+            case BOOLEAN -> gen.writeBoolean(random.nextBoolean());
+            case STRING -> gen.writeString(formatString(random, field.format()));
+            case PRIMITIVE_ARRAY -> {
+                gen.writeStartArray();
+                int length = random.nextInt(5);
+                for (int i = 0; i < length; i++) {
+                    gen.writeNumber(random.nextInt(1000));
+                }
+                gen.writeEndArray();
+            }
+            case OBJECT -> writeObject(gen, random, field.children(), index);
+            case OBJECT_ARRAY -> {
+                gen.writeStartArray();
+                int length = 1 + random.nextInt(3);
+                for (int i = 0; i < length; i++) {
+                    writeObject(gen, random, field.children(), i);
+                }
+                gen.writeEndArray();
+            }
+        }
+    }
+
+    /**
+     * 원래 타입 대신 다른 타입의 값을 기록한다. 숫자/불리언은 문자열로, 문자열은 숫자로, 객체/배열은 null로.
+     */
+    private static void writeOtherType(JsonGenerator gen, SplittableRandom random, FieldShape field)
+            throws IOException {
+        switch (field.kind()) {
+            case INT, DOUBLE -> gen.writeString(Integer.toString(random.nextInt(100_000)));
+            case BOOLEAN -> gen.writeString(random.nextBoolean() ? "Y" : "N");
+            case STRING -> gen.writeNumber(random.nextInt(100_000));
+            default -> gen.writeNull();
+        }
+    }
+
+    /**
+     * 키 풀({@code key_0} ~ {@code key_(keyCardinality-1)})에서 연속한 키 최대 8개를 골라 값처럼 쓰는 객체를 기록한다.
+     */
+    private void writeAttributes(JsonGenerator gen, SplittableRandom random) throws IOException {
+        int cardinality = spec.keyCardinality();
+        int count = Math.min(cardinality, 8);
+        int start = random.nextInt(cardinality);
+        gen.writeObjectFieldStart("attributes");
+        for (int i = 0; i < count; i++) {
+            gen.writeNumberField("key_" + ((start + i) % cardinality), random.nextInt(1000));
+        }
+        gen.writeEndObject();
+    }
+
+    private static String formatString(SplittableRandom random, CorpusSpec.StringFormat format) {
+        return switch (format) {
+            case PLAIN -> WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+            case DATE_TIME -> Instant.ofEpochSecond(1_600_000_000L + random.nextInt(200_000_000)).toString();
+            case UUID -> new UUID(random.nextLong(), random.nextLong()).toString();
+            case EMAIL -> WORDS[random.nextInt(WORDS.length)] + random.nextInt(1000) + "@"
+                    + WORDS[random.nextInt(WORDS.length)] + ".example";
+            case URL -> "https://" + WORDS[random.nextInt(WORDS.length)] + ".example/"
+                    + WORDS[random.nextInt(WORDS.length)] + "/" + random.nextInt(10_000);
+            case NUMERIC -> Long.toString(10_000L + random.nextLong(99_999_999_990L));
+        };
+    }
+}
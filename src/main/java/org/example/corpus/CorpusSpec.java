@@ -0,0 +1,172 @@
+package org.example.corpus;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 합성 JSON 코퍼스의 모양. ({@link CorpusGenerator} 참고)
+ * <p>
+ * 불변 객체이며, 값을 바꿀 때는 {@code withXxx} 메서드로 복사본을 만든다.
+ * <pre>
+ * CorpusSpec spec = CorpusSpec.defaults().withRecords(10_000).withDepth(4).withUnionRate(0.1);
+ * </pre>
+ */
+public final class CorpusSpec {
+
+    /**
+     * 문자열 필드 값의 형식
+     */
+    public enum StringFormat {
+        /** 영단어 조합 (예: "delta bravo") */
+        PLAIN,
+        /** ISO-8601 시각 (예: "2024-03-05T12:30:00Z") */
+        DATE_TIME,
+        /** UUID (예: "3f2b...-...") */
+        UUID,
+        /** 이메일 주소 */
+        EMAIL,
+        /** URL */
+        URL,
+        /** 숫자로만 된 문자열 (예: 우편번호, 전화번호) */
+        NUMERIC
+    }
+
+    private static final CorpusSpec DEFAULTS =
+            new CorpusSpec(100, 3, 8, 0.0, 0.0, EnumSet.of(StringFormat.PLAIN), 0, 42L);
+
+    private final int records;
+    private final int depth;
+    private final int width;
+    private final double optionalRate;
+    private final double unionRate;
+    private final Set<StringFormat> stringFormats;
+    private final int keyCardinality;
+    private final long seed;
+
+    private CorpusSpec(int records, int depth, int width, double optionalRate, double unionRate,
+                       Set<StringFormat> stringFormats, int keyCardinality, long seed) {
+        if (records < 0) {
+            throw new IllegalArgumentException("records는 0 이상이어야 합니다: " + records);
+        }
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth는 1 이상이어야 합니다: " + depth);
+        }
+        if (width < 1) {
+            throw new IllegalArgumentException("width는 1 이상이어야 합니다: " + width);
+        }
+        checkRate("optionalRate", optionalRate);
+        checkRate("unionRate", unionRate);
+        Objects.requireNonNull(stringFormats, "stringFormats must not be null");
+        if (stringFormats.isEmpty()) {
+            throw new IllegalArgumentException("stringFormats는 비어 있을 수 없습니다.");
+        }
+        if (keyCardinality < 0) {
+            throw new IllegalArgumentException("keyCardinality는 0 이상이어야 합니다: " + keyCardinality);
+        }
+        this.records = records;
+        this.depth = depth;
+        this.width = width;
+        this.optionalRate = optionalRate;
+        this.unionRate = unionRate;
+        // EnumSet은 선언 순서로 순회하므로 같은 시드면 필드마다 같은 형식이 정해진다.
+        this.stringFormats = Collections.unmodifiableSet(EnumSet.copyOf(stringFormats));
+        this.keyCardinality = keyCardinality;
+        this.seed = seed;
+    }
+
+    private static void checkRate(String name, double rate) {
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException(name + "는 0 이상 1 이하여야 합니다: " + rate);
+        }
+    }
+
+    /**
+     * 레코드 100개, 깊이 3, 객체당 필드 8개, 모든 필드 필수, 타입 변화 없음, 평범한 문자열, 시드 42
+     */
+    public static CorpusSpec defaults() {
+        return DEFAULTS;
+    }
+
+    /** 레코드 수. JSON 문서는 {@code items} 배열의 원소 수, NDJSON은 줄 수, 디렉터리는 파일 수 */
+    public int records() {
+        return records;
+    }
+
+    /** 레코드 객체의 중첩 단계 수 (레코드 자신이 1) */
+    public int depth() {
+        return depth;
+    }
+
+    /** 객체 하나의 필드 수 */
+    public int width() {
+        return width;
+    }
+
+    /** 필수가 아닌 필드(객체마다 첫 필드를 뺀 나머지)가 레코드에서 빠질 확률 */
+    public double optionalRate() {
+        return optionalRate;
+    }
+
+    /** 값 하나가 원래 타입 대신 다른 타입(문자열, 숫자, null)으로 나올 확률 */
+    public double unionRate() {
+        return unionRate;
+    }
+
+    /** 문자열 필드에 쓸 형식들. 필드마다 이 중 하나가 정해진다. */
+    public Set<StringFormat> stringFormats() {
+        return stringFormats;
+    }
+
+    /**
+     * 레코드마다 붙는 {@code attributes} 객체의 서로 다른 키 개수. 0이면 붙이지 않는다.
+     * 키를 값처럼 쓰는 응답(사용자 ID를 키로 쓰는 맵 등)을 흉내 내며, 스키마 너비가 이 값만큼 커진다.
+     */
+    public int keyCardinality() {
+        return keyCardinality;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    public CorpusSpec withRecords(int records) {
+        return new CorpusSpec(records, depth, width, optionalRate, unionRate, stringFormats, keyCardinality, seed);
+    }
+
+    public CorpusSpec withDepth(int depth) {
+        return new CorpusSpec(records, depth, width, optionalRate, unionRate, stringFormats, keyCardinality, seed);
+    }
+
+    public CorpusSpec withWidth(int width) {
+        return new CorpusSpec(records, depth, width, optionalRate, unionRate, stringFormats, keyCardinality, seed);
+    }
+
+    public CorpusSpec withOptionalRate(double optionalRate) {
+        return new CorpusSpec(records, depth, width, optionalRate, unionRate, stringFormats, keyCardinality, seed);
+    }
+
+    public CorpusSpec withUnionRate(double unionRate) {
+        return new CorpusSpec(records, depth, width, optionalRate, unionRate, stringFormats, keyCardinality, seed);
+    }
+
+    public CorpusSpec withStringFormats(Set<StringFormat> stringFormats) {
+        return new CorpusSpec(records, depth, width, optionalRate, unionRate, stringFormats, keyCardinality, seed);
+    }
+
+    public CorpusSpec withKeyCardinality(int keyCardinality) {
+        return new CorpusSpec(records, depth, width, optionalRate, unionRate, stringFormats, keyCardinality, seed);
+    }
+
+    public CorpusSpec withSeed(long seed) {
+        return new CorpusSpec(records, depth, width, optionalRate, unionRate, stringFormats, keyCardinality, seed);
+    }
+
+    @Override
+    public String toString() {
+        return "CorpusSpec{records=" + records + ", depth=" + depth + ", width=" + width
+                + ", optionalRate=" + optionalRate + ", unionRate=" + unionRate
+                + ", stringFormats=" + stringFormats + ", keyCardinality=" + keyCardinality + ", seed=" + seed + '}';
+    }
+}
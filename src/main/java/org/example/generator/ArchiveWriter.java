@@ -0,0 +1,181 @@
+package org.example.generator;
+
+import org.example.compiler.CompiledClasses;
+import org.example.exception.UserException;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 생성 결과를 파일 여러 개 대신 아카이브 하나로 기록한다. ({@code --out-format srcjar|jar})
+ *
+ * <p>책임:
+ * <ul>
+ *   <li>소스(.java)나 클래스(.class)를 패키지 디렉터리 구조의 엔트리로 기록</li>
+ *   <li>{@link SourceSink}로 생성과 동시에 엔트리 하나씩 스트리밍 기록</li>
+ *   <li>엔트리 시각을 고정해 같은 입력이면 같은 바이트의 아카이브를 생성 (빌드 캐시 친화적)</li>
+ *   <li>쓰기 과정에서 발생하는 예외를 UserException으로 래핑</li>
+ * </ul>
+ * ZipOutputStream은 한 번에 엔트리 하나만 열 수 있으므로, sink에서 연 Writer는 다음 엔트리를 열기 전에 닫아야 한다.
+ * ({@link ClassGenerator}는 클래스마다 Writer를 열고 곧바로 닫는다.)
+ */
+public final class ArchiveWriter implements Closeable {
+
+    /** 엔트리 시각. 실행 환경의 시간대와 관계없이 같은 값이 기록되도록 로컬 시각으로 고정한다. */
+    private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 2, 1, 0, 0);
+
+    private final Path archive;
+    private final ZipOutputStream zip;
+    private final Set<String> directories = new HashSet<>();
+
+    private ArchiveWriter(Path archive, ZipOutputStream zip) {
+        this.archive = archive;
+        this.zip = zip;
+    }
+
+    /**
+     * 소스 아카이브(.srcjar)를 연다.
+     */
+    public static ArchiveWriter sources(Path archive) {
+        try {
+            return new ArchiveWriter(archive, new ZipOutputStream(newOutputStream(archive)));
+        } catch (IOException e) {
+            throw failure(archive, e);
+        }
+    }
+
+    /**
+     * 클래스 아카이브(.jar)를 연다. {@code META-INF/MANIFEST.MF}가 첫 엔트리로 기록된다.
+     */
+    public static ArchiveWriter classes(Path archive) {
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(new Attributes.Name("Created-By"), "json-to-dto");
+        try {
+            OutputStream out = newOutputStream(archive);
+            JarOutputStream jar = new JarOutputStream(out);
+            ArchiveWriter writer = new ArchiveWriter(archive, jar);
+            writer.putEntry("META-INF/MANIFEST.MF");
+            manifest.write(jar);
+            jar.closeEntry();
+            return writer;
+        } catch (IOException e) {
+            throw failure(archive, e);
+        }
+    }
+
+    private static OutputStream newOutputStream(Path archive) throws IOException {
+        return new BufferedOutputStream(Files.newOutputStream(archive), 64 * 1024);
+    }
+
+    /**
+     * 주어진 패키지 경로 아래 "className.java" 엔트리를 여는 {@link SourceSink}를 반환한다.
+     *
+     * @param packageName 생성된 클래스의 패키지 이름
+     */
+    public SourceSink sinkFor(String packageName) {
+        String prefix = packageName.replace('.', '/') + "/";
+        return className -> {
+            if (className == null) {
+                throw new IllegalArgumentException("className은 null일 수 없습니다.");
+            }
+            putEntry(prefix + className + ".java");
+            return new BufferedWriter(new OutputStreamWriter(new EntryOutputStream(zip), StandardCharsets.UTF_8));
+        };
+    }
+
+    /**
+     * 컴파일된 클래스를 바이너리 이름 순서대로 모두 기록한다.
+     *
+     * @return 기록한 클래스 파일 개수
+     */
+    public int writeClasses(CompiledClasses compiled) {
+        int written = 0;
+        try {
+            for (String binaryName : new TreeSet<>(compiled.classNames())) {
+                putEntry(binaryName.replace('.', '/') + ".class");
+                zip.write(compiled.bytecode(binaryName));
+                zip.closeEntry();
+                written++;
+            }
+        } catch (IOException e) {
+            throw failure(archive, e);
+        }
+        return written;
+    }
+
+    /**
+     * 엔트리를 연다. 상위 디렉터리 엔트리가 아직 없으면 먼저 기록한다.
+     */
+    private void putEntry(String name) throws IOException {
+        for (int slash = name.indexOf('/'); slash >= 0; slash = name.indexOf('/', slash + 1)) {
+            String directory = name.substring(0, slash + 1);
+            if (directories.add(directory)) {
+                zip.putNextEntry(entry(directory));
+                zip.closeEntry();
+            }
+        }
+        zip.putNextEntry(entry(name));
+    }
+
+    private static ZipEntry entry(String name) {
+        ZipEntry entry = new ZipEntry(name);
+        entry.setTimeLocal(ENTRY_TIME);
+        return entry;
+    }
+
+    @Override
+    public void close() {
+        try {
+            zip.close();
+        } catch (IOException e) {
+            throw failure(archive, e);
+        }
+    }
+
+    private static UserException failure(Path archive, IOException e) {
+        return new UserException("[ERROR] 아카이브 파일을 생성하는 중 오류가 발생했습니다: " + archive, e);
+    }
+
+    /**
+     * 현재 엔트리에만 쓰는 스트림. 닫으면 아카이브 대신 엔트리를 닫는다.
+     */
+    private static final class EntryOutputStream extends OutputStream {
+        private final ZipOutputStream zip;
+
+        private EntryOutputStream(ZipOutputStream zip) {
+            this.zip = zip;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            zip.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            zip.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            zip.closeEntry();
+        }
+    }
+}
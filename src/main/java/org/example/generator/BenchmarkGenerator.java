@@ -0,0 +1,285 @@
+package org.example.generator;
+
+import org.example.json.ModelGraph;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 생성된 DTO 그래프의 루트 클래스에 대한 JMH 벤치마크 소스({@code XxxBenchmark})를 만든다. ({@code --jmh-out})
+ * <p>
+ * 입력 JSON을 소스 안에 fixture로 담아 두고, 같은 입력을 세 가지 방식으로 읽고 쓰는 비용을 비교한다.
+ * <ul>
+ *     <li>databind: {@code ObjectMapper}로 생성된 DTO에 바인딩</li>
+ *     <li>tree: {@code JsonNode} 트리</li>
+ *     <li>map: {@code Map<String, Object>}</li>
+ * </ul>
+ * 생성 옵션에서 스트리밍 reader/writer를 켰다면 생성된 {@code readJson}/{@code writeJson}도 함께 측정한다.
+ * 처리량은 기본 모드로, 할당률은 JMH의 {@code -prof gc}(gc.alloc.rate.norm)로 확인한다.
+ */
+public final class BenchmarkGenerator {
+
+    /** fixture 문자열 상수 하나에 담을 최대 문자 수 (이스케이프 후에도 상수 풀 항목 한도 64KB 이하) */
+    static final int FIXTURE_CHUNK_CHARS = 8192;
+
+    private final GenerationOptions options;
+
+    public BenchmarkGenerator(GenerationOptions options) {
+        this.options = Objects.requireNonNull(options, "options must not be null");
+    }
+
+    /**
+     * 벤치마크 클래스 이름. 루트 클래스 이름 뒤에 {@code Benchmark}를 붙인다.
+     */
+    public static String className(ModelGraph graph) {
+        return graph.getRootClass().getSimpleName() + "Benchmark";
+    }
+
+    /**
+     * 루트 클래스와 같은 패키지에 둘 벤치마크 소스를 만든다.
+     *
+     * @param graph       생성된 DTO 구조
+     * @param fixtureJson 벤치마크 입력으로 쓸 JSON 원문 (보통 DTO 생성에 쓴 입력 파일)
+     */
+    public String generate(ModelGraph graph, String fixtureJson) {
+        Objects.requireNonNull(graph, "graph must not be null");
+        Objects.requireNonNull(fixtureJson, "fixtureJson must not be null");
+
+        String rootName = graph.getRootClass().getSimpleName();
+        boolean readers = options.jsonReaders() || options.columnar();
+        boolean writers = options.jsonWriters();
+        boolean streaming = readers || writers;
+
+        // fields 스타일은 @JsonProperty가 없으므로 필드(또는 compact 접근자) 이름을 JSON 키로 되돌리는 규칙이 필요하다.
+        boolean fieldsStyle = options.dtoStyle() == GenerationOptions.DtoStyle.FIELDS;
+        boolean fieldAccess = fieldsStyle && options.layout() == GenerationOptions.Layout.STANDARD;
+        Map<String, String> renamed = fieldsStyle ? renamedProperties(graph) : Map.of();
+
+        StringBuilder sb = new StringBuilder(6144 + fixtureJson.length() * 2);
+        sb.append("package ").append(graph.getRootClass().getPackageName()).append(";\n")
+                .append("\n");
+        appendImports(sb, readers, writers, fieldAccess, !renamed.isEmpty());
+
+        sb.append("/**\n")
+                .append(" * ").append(rootName).append(" 역직렬화/직렬화 벤치마크. (json-to-dto {@code --jmh-out}으로 생성)\n")
+                .append(" * <p>\n")
+                .append(" * DTO 생성에 쓴 입력 JSON을 fixture로 databind / JsonNode / Map 바인딩을 비교한다.\n")
+                .append(" * 다른 샘플로 측정하려면 {@code -p fixture=/path/to/sample.json}을 지정한다.\n")
+                .append(" * 할당률은 {@code -prof gc}로 확인한다.\n")
+                .append(" */\n")
+                .append("@State(Scope.Benchmark)\n")
+                .append("@BenchmarkMode(Mode.Throughput)\n")
+                .append("@OutputTimeUnit(TimeUnit.SECONDS)\n")
+                .append("public class ").append(className(graph)).append(" {\n")
+                .append("\n");
+        appendFixture(sb, fixtureJson);
+        sb.append("\n")
+                .append("    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {\n")
+                .append("    };\n")
+                .append("\n")
+                .append("    /** 측정에 쓸 JSON 파일 경로. 비어 있으면 내장 fixture를 사용한다. */\n")
+                .append("    @Param({\"\"})\n")
+                .append("    public String fixture;\n")
+                .append("\n")
+                .append("    private ObjectMapper mapper;\n");
+        if (streaming) {
+            sb.append("    private JsonFactory factory;\n");
+        }
+        sb.append("    private byte[] payload;\n")
+                .append("    private ").append(rootName).append(" dto;\n")
+                .append("    private JsonNode tree;\n")
+                .append("    private Map<String, Object> map;\n")
+                .append("\n");
+
+        appendSetUp(sb, rootName, streaming, fieldAccess, !renamed.isEmpty());
+        appendBenchmarks(sb, rootName, readers, writers);
+        if (!renamed.isEmpty()) {
+            appendNamingStrategy(sb, renamed);
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static void appendImports(StringBuilder sb,
+                                      boolean readers,
+                                      boolean writers,
+                                      boolean fieldAccess,
+                                      boolean namingStrategy) {
+        if (fieldAccess) {
+            sb.append("import com.fasterxml.jackson.annotation.JsonAutoDetect;\n")
+                    .append("import com.fasterxml.jackson.annotation.PropertyAccessor;\n");
+        }
+        if (readers || writers) {
+            sb.append("import com.fasterxml.jackson.core.JsonFactory;\n");
+        }
+        if (writers) {
+            sb.append("import com.fasterxml.jackson.core.JsonGenerator;\n");
+        }
+        if (readers) {
+            sb.append("import com.fasterxml.jackson.core.JsonParser;\n");
+        }
+        sb.append("import com.fasterxml.jackson.core.type.TypeReference;\n")
+                .append("import com.fasterxml.jackson.databind.JsonNode;\n")
+                .append("import com.fasterxml.jackson.databind.ObjectMapper;\n");
+        if (namingStrategy) {
+            sb.append("import com.fasterxml.jackson.databind.PropertyNamingStrategy;\n")
+                    .append("import com.fasterxml.jackson.databind.cfg.MapperConfig;\n")
+                    .append("import com.fasterxml.jackson.databind.introspect.AnnotatedField;\n")
+                    .append("import com.fasterxml.jackson.databind.introspect.AnnotatedMember;\n")
+                    .append("import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;\n");
+        }
+        sb.append("import org.openjdk.jmh.annotations.Benchmark;\n")
+                .append("import org.openjdk.jmh.annotations.BenchmarkMode;\n")
+                .append("import org.openjdk.jmh.annotations.Mode;\n")
+                .append("import org.openjdk.jmh.annotations.OutputTimeUnit;\n")
+                .append("import org.openjdk.jmh.annotations.Param;\n")
+                .append("import org.openjdk.jmh.annotations.Scope;\n")
+                .append("import org.openjdk.jmh.annotations.Setup;\n")
+                .append("import org.openjdk.jmh.annotations.State;\n")
+                .append("\n");
+        if (writers) {
+            sb.append("import java.io.ByteArrayOutputStream;\n");
+        }
+        sb.append("import java.io.IOException;\n")
+                .append("import java.nio.charset.StandardCharsets;\n")
+                .append("import java.nio.file.Files;\n")
+                .append("import java.nio.file.Path;\n")
+                .append("import java.util.Map;\n")
+                .append("import java.util.concurrent.TimeUnit;\n")
+                .append("\n");
+    }
+
+    /**
+     * 입력 JSON을 여러 문자열 상수로 나눠 담는다.
+     * 컴파일러가 상수끼리의 {@code +}를 하나의 상수로 접어 버리므로 배열로 두고 실행 시점에 잇는다.
+     */
+    private static void appendFixture(StringBuilder sb, String fixtureJson) {
+        sb.append("    private static final String[] FIXTURE = {\n");
+        for (int start = 0; start < fixtureJson.length(); start += FIXTURE_CHUNK_CHARS) {
+            int end = Math.min(fixtureJson.length(), start + FIXTURE_CHUNK_CHARS);
+            sb.append("            ").append(JsonCodecGenerator.javaString(fixtureJson.substring(start, end)));
+            sb.append(end < fixtureJson.length() ? ",\n" : "\n");
+        }
+        sb.append("    };\n");
+    }
+
+    private static void appendSetUp(StringBuilder sb,
+                                    String rootName,
+                                    boolean streaming,
+                                    boolean fieldAccess,
+                                    boolean namingStrategy) {
+        sb.append("    @Setup\n")
+                .append("    public void setUp() throws IOException {\n")
+                .append("        mapper = new ObjectMapper()");
+        if (namingStrategy) {
+            sb.append("\n                .setPropertyNamingStrategy(new JsonNames())");
+        }
+        if (fieldAccess) {
+            sb.append("\n                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)");
+        }
+        sb.append(";\n");
+        if (streaming) {
+            sb.append("        factory = mapper.getFactory();\n");
+        }
+        sb.append("        payload = fixture.isEmpty()\n")
+                .append("                ? String.join(\"\", FIXTURE).getBytes(StandardCharsets.UTF_8)\n")
+                .append("                : Files.readAllBytes(Path.of(fixture));\n")
+                .append("        dto = mapper.readValue(payload, ").append(rootName).append(".class);\n")
+                .append("        tree = mapper.readTree(payload);\n")
+                .append("        map = mapper.readValue(payload, MAP_TYPE);\n")
+                .append("    }\n")
+                .append("\n");
+    }
+
+    private static void appendBenchmarks(StringBuilder sb, String rootName, boolean readers, boolean writers) {
+        appendBenchmark(sb, rootName, "readDatabind", "return mapper.readValue(payload, " + rootName + ".class);");
+        appendBenchmark(sb, "JsonNode", "readTree", "return mapper.readTree(payload);");
+        appendBenchmark(sb, "Map<String, Object>", "readMap", "return mapper.readValue(payload, MAP_TYPE);");
+        if (readers) {
+            sb.append("    @Benchmark\n")
+                    .append("    public ").append(rootName).append(" readGenerated() throws IOException {\n")
+                    .append("        try (JsonParser parser = factory.createParser(payload)) {\n")
+                    .append("            return ").append(rootName).append(".readJson(parser);\n")
+                    .append("        }\n")
+                    .append("    }\n")
+                    .append("\n");
+        }
+
+        appendBenchmark(sb, "byte[]", "writeDatabind", "return mapper.writeValueAsBytes(dto);");
+        appendBenchmark(sb, "byte[]", "writeTree", "return mapper.writeValueAsBytes(tree);");
+        appendBenchmark(sb, "byte[]", "writeMap", "return mapper.writeValueAsBytes(map);");
+        if (writers) {
+            sb.append("    @Benchmark\n")
+                    .append("    public byte[] writeGenerated() throws IOException {\n")
+                    .append("        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length);\n")
+                    .append("        try (JsonGenerator generator = factory.createGenerator(out)) {\n")
+                    .append("            dto.writeJson(generator);\n")
+                    .append("        }\n")
+                    .append("        return out.toByteArray();\n")
+                    .append("    }\n")
+                    .append("\n");
+        }
+    }
+
+    private static void appendBenchmark(StringBuilder sb, String returnType, String name, String statement) {
+        sb.append("    @Benchmark\n")
+                .append("    public ").append(returnType).append(" ").append(name).append("() throws IOException {\n")
+                .append("        ").append(statement).append("\n")
+                .append("    }\n")
+                .append("\n");
+    }
+
+    /**
+     * 필드/접근자 이름과 JSON 키가 다른 경우만 모은다. key: "클래스이름.프로퍼티이름", value: JSON 키
+     * <p>
+     * 프로퍼티 이름은 Jackson이 필드 또는 getX/setX 접근자에서 얻는 기본 이름(필드 이름)과 같다.
+     */
+    static Map<String, String> renamedProperties(ModelGraph graph) {
+        Map<String, String> renamed = new LinkedHashMap<>();
+        for (ModelGraph.ModelClass modelClass : graph.getDeclaredClasses()) {
+            for (ModelGraph.Field field : modelClass.getFields()) {
+                if (!field.getFieldName().equals(field.getJsonName())) {
+                    renamed.put(modelClass.getSimpleName() + "." + field.getFieldName(), field.getJsonName());
+                }
+            }
+        }
+        return renamed;
+    }
+
+    private static void appendNamingStrategy(StringBuilder sb, Map<String, String> renamed) {
+        sb.append("    /**\n")
+                .append("     * 생성된 DTO의 프로퍼티 이름을 원래 JSON 키로 되돌리는 이름 규칙.\n")
+                .append("     */\n")
+                .append("    private static final class JsonNames extends PropertyNamingStrategy {\n")
+                .append("\n")
+                .append("        private static final Map<String, String> NAMES = Map.ofEntries(\n");
+        int i = 0;
+        for (Map.Entry<String, String> entry : renamed.entrySet()) {
+            sb.append("                Map.entry(").append(JsonCodecGenerator.javaString(entry.getKey())).append(", ")
+                    .append(JsonCodecGenerator.javaString(entry.getValue())).append(")")
+                    .append(++i < renamed.size() ? ",\n" : "\n");
+        }
+        sb.append("        );\n")
+                .append("\n")
+                .append("        @Override\n")
+                .append("        public String nameForField(MapperConfig<?> config, AnnotatedField field, String defaultName) {\n")
+                .append("            return rename(field, defaultName);\n")
+                .append("        }\n")
+                .append("\n")
+                .append("        @Override\n")
+                .append("        public String nameForGetterMethod(MapperConfig<?> config, AnnotatedMethod method, String defaultName) {\n")
+                .append("            return rename(method, defaultName);\n")
+                .append("        }\n")
+                .append("\n")
+                .append("        @Override\n")
+                .append("        public String nameForSetterMethod(MapperConfig<?> config, AnnotatedMethod method, String defaultName) {\n")
+                .append("            return rename(method, defaultName);\n")
+                .append("        }\n")
+                .append("\n")
+                .append("        private static String rename(AnnotatedMember member, String defaultName) {\n")
+                .append("            return NAMES.getOrDefault(member.getDeclaringClass().getSimpleName() + \".\" + defaultName, defaultName);\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+}
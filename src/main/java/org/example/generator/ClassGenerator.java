@@ -1,14 +1,21 @@
 package org.example.generator;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.LinkedHashMap;
+import org.example.exception.InternalException;
+import org.example.exception.UserException;
 import org.example.json.ModelGraph;
 
 /**
@@ -33,12 +40,14 @@ public class ClassGenerator {
      * name: "name", "age" 등의 필드명 (camelCase 가정)
      * comment: 필드 설명이 있을 경우 필드 위에 Javadoc으로 출력 (없으면 생략)
      * requiredImports: 이 필드 타입을 위해 필요한 import FQCN 집합
+     * annotations: 필드(레코드에서는 컴포넌트) 앞에 붙일 애너테이션 소스 (예: {@code @JsonProperty("temp_c")})
      */
     public static final class FieldSpec {
         private final String type;
         private final String name;
         private final String comment;
         private final java.util.Set<String> requiredImports;
+        private final List<String> annotations;
 
         public FieldSpec(String type, String name) {
             this(type, name, null, java.util.Set.of());
@@ -52,6 +61,14 @@ public class ClassGenerator {
                          String name,
                          String comment,
                          java.util.Set<String> requiredImports) {
+            this(type, name, comment, requiredImports, List.of());
+        }
+
+        public FieldSpec(String type,
+                         String name,
+                         String comment,
+                         java.util.Set<String> requiredImports,
+                         List<String> annotations) {
             this.type = Objects.requireNonNull(type, "type must not be null");
             this.name = Objects.requireNonNull(name, "name must not be null");
             this.comment = comment;
@@ -60,6 +77,7 @@ public class ClassGenerator {
                             requiredImports != null ? requiredImports : java.util.Set.of()
                     )
             );
+            this.annotations = List.copyOf(annotations != null ? annotations : List.of());
         }
 
         public String type() {
@@ -77,6 +95,10 @@ public class ClassGenerator {
         public java.util.Set<String> requiredImports() {
             return requiredImports;
         }
+
+        public List<String> annotations() {
+            return annotations;
+        }
     }
 
     /**
@@ -84,16 +106,63 @@ public class ClassGenerator {
      * packageName: "com.example.dto"
      * className: "WeatherApiResponse"
      * fields: 필드 목록
+     * members: 필드 뒤에 이어 붙일 추가 멤버 소스 (메서드, 상수 등. 클래스 본문 들여쓰기 기준, 없으면 빈 문자열)
+     * imports: 추가 멤버를 위해 필요한 import FQCN 집합
+     * kind: 선언 형태 (일반 클래스 / final 클래스 / 레코드)
      */
     public static final class ClassSpec {
+
+        /**
+         * 클래스 선언 형태.
+         * FINAL_CLASS는 클래스와 필드를 모두 final로 선언하고, RECORD는 필드를 레코드 컴포넌트로 선언한다.
+         */
+        public enum Kind {
+            CLASS("class", "static class"),
+            FINAL_CLASS("final class", "static final class"),
+            RECORD("record", "record");
+
+            private final String keyword;
+            private final String nestedKeyword;
+
+            Kind(String keyword, String nestedKeyword) {
+                this.keyword = keyword;
+                this.nestedKeyword = nestedKeyword;
+            }
+        }
+
         private final String packageName;
         private final String className;
         private final List<FieldSpec> fields;
+        private final String members;
+        private final Set<String> imports;
+        private final Kind kind;
 
         public ClassSpec(String packageName, String className, List<FieldSpec> fields) {
+            this(packageName, className, fields, "", Set.of());
+        }
+
+        public ClassSpec(String packageName,
+                         String className,
+                         List<FieldSpec> fields,
+                         String members,
+                         Set<String> imports) {
+            this(packageName, className, fields, members, imports, Kind.CLASS);
+        }
+
+        public ClassSpec(String packageName,
+                         String className,
+                         List<FieldSpec> fields,
+                         String members,
+                         Set<String> imports,
+                         Kind kind) {
+            this.kind = Objects.requireNonNull(kind, "kind must not be null");
             this.packageName = Objects.requireNonNull(packageName, "packageName must not be null");
             this.className = Objects.requireNonNull(className, "className must not be null");
             this.fields = List.copyOf(Objects.requireNonNull(fields, "fields must not be null"));
+            this.members = Objects.requireNonNull(members, "members must not be null");
+            this.imports = java.util.Collections.unmodifiableSet(
+                    new LinkedHashSet<>(Objects.requireNonNull(imports, "imports must not be null"))
+            );
         }
 
         public String packageName() {
@@ -107,11 +176,39 @@ public class ClassGenerator {
         public List<FieldSpec> fields() {
             return fields;
         }
+
+        public String members() {
+            return members;
+        }
+
+        public Set<String> imports() {
+            return imports;
+        }
+
+        public Kind kind() {
+            return kind;
+        }
     }
 
     private final Template classTemplate;
     private final Template fieldTemplate;
     private final CodeFormatter codeFormatter;
+    private final List<MemberGenerator> memberGenerators;
+    private final GenerationOptions.Layout layout;
+    private final GenerationOptions.DtoStyle dtoStyle;
+
+    // 템플릿 슬롯 인덱스는 생성 시점에 한 번만 해석해 둔다. (템플릿에 없는 슬롯은 -1)
+    private final int packageSlot;
+    private final int classNameSlot;
+    private final int fieldsSlot;
+    private final int importsSlot;
+    private final int kindSlot;
+    private final int componentsSlot;
+    private final int commentSlot;
+    private final int annotationsSlot;
+    private final int modifiersSlot;
+    private final int typeSlot;
+    private final int nameSlot;
 
     /**
      * CodeFormatter를 기본값으로 사용하는 기본 생성자.
@@ -126,23 +223,20 @@ public class ClassGenerator {
      * - package, imports, class 선언, 필드까지 전부 Template로 치환한다.
      */
     public ClassGenerator(CodeFormatter codeFormatter) {
+        this(defaultClassTemplate(), defaultFieldTemplate(), codeFormatter);
+    }
+
+    /**
+     * 생성 옵션에 따라 추가 멤버(스트리밍 reader 등)를 함께 생성하는 생성자.
+     */
+    public ClassGenerator(GenerationOptions options) {
         this(
-                // 클래스 전체 템플릿
-                new Template(
-                        "package ${package};\n" +
-                                "\n" +
-                                "${imports}" +
-                                "public class ${className} {\n" +
-                                "\n" +
-                                "${fields}\n" +
-                                "}\n"
-                ),
-                // 단일 필드 템플릿
-                new Template(
-                        "${comment}" +
-                                "    private ${type} ${name};\n"
-                ),
-                codeFormatter
+                defaultClassTemplate(),
+                defaultFieldTemplate(),
+                new CodeFormatter(),
+                Objects.requireNonNull(options, "options must not be null").memberGenerators(),
+                options.layout(),
+                options.dtoStyle()
         );
     }
 
@@ -150,9 +244,70 @@ public class ClassGenerator {
      * 테스트나 확장을 위해 Template를 직접 주입하고 싶을 때 사용하는 생성자.
      */
     public ClassGenerator(Template classTemplate, Template fieldTemplate, CodeFormatter codeFormatter) {
+        this(classTemplate, fieldTemplate, codeFormatter, List.of());
+    }
+
+    /**
+     * Template와 추가 멤버 생성기까지 직접 주입하는 생성자.
+     *
+     * @param memberGenerators 각 클래스의 필드 뒤에 멤버를 덧붙일 생성기 목록 (등록 순서대로 기록)
+     */
+    public ClassGenerator(Template classTemplate,
+                          Template fieldTemplate,
+                          CodeFormatter codeFormatter,
+                          List<MemberGenerator> memberGenerators) {
+        this(classTemplate, fieldTemplate, codeFormatter, memberGenerators,
+                GenerationOptions.Layout.STANDARD, GenerationOptions.DtoStyle.FIELDS);
+    }
+
+    private ClassGenerator(Template classTemplate,
+                           Template fieldTemplate,
+                           CodeFormatter codeFormatter,
+                           List<MemberGenerator> memberGenerators,
+                           GenerationOptions.Layout layout,
+                           GenerationOptions.DtoStyle dtoStyle) {
+        this.layout = Objects.requireNonNull(layout, "layout must not be null");
+        this.dtoStyle = Objects.requireNonNull(dtoStyle, "dtoStyle must not be null");
         this.classTemplate = Objects.requireNonNull(classTemplate, "classTemplate must not be null");
         this.fieldTemplate = Objects.requireNonNull(fieldTemplate, "fieldTemplate must not be null");
         this.codeFormatter = Objects.requireNonNull(codeFormatter, "codeFormatter must not be null");
+        this.memberGenerators = List.copyOf(
+                Objects.requireNonNull(memberGenerators, "memberGenerators must not be null")
+        );
+
+        this.packageSlot = classTemplate.slotIndex("package");
+        this.classNameSlot = classTemplate.slotIndex("className");
+        this.fieldsSlot = classTemplate.slotIndex("fields");
+        this.importsSlot = classTemplate.slotIndex("imports");
+        this.kindSlot = classTemplate.slotIndex("kind");
+        this.componentsSlot = classTemplate.slotIndex("components");
+        this.commentSlot = fieldTemplate.slotIndex("comment");
+        this.annotationsSlot = fieldTemplate.slotIndex("annotations");
+        this.modifiersSlot = fieldTemplate.slotIndex("modifiers");
+        this.typeSlot = fieldTemplate.slotIndex("type");
+        this.nameSlot = fieldTemplate.slotIndex("name");
+    }
+
+    // 클래스 전체 템플릿
+    private static Template defaultClassTemplate() {
+        return new Template(
+                "package ${package};\n" +
+                        "\n" +
+                        "${imports}" +
+                        "public ${kind} ${className}${components} {\n" +
+                        "\n" +
+                        "${fields}\n" +
+                        "}\n"
+        );
+    }
+
+    // 단일 필드 템플릿
+    private static Template defaultFieldTemplate() {
+        return new Template(
+                "${comment}" +
+                        "${annotations}" +
+                        "    private ${modifiers}${type} ${name};\n"
+        );
     }
 
     /**
@@ -164,23 +319,17 @@ public class ClassGenerator {
     public String generate(ClassSpec spec) {
         Objects.requireNonNull(spec, "spec must not be null");
 
-        // 1. 필드 코드 생성
-        String fieldsSource = buildFieldsSource(spec.fields());
-
-        // 2. import 목록 추출
-        String importsSource = buildImportsSource(spec.fields());
-
-        // 3. 템플릿 치환
-        Map<String, String> vars = new HashMap<>();
-        vars.put("package", spec.packageName());
-        vars.put("className", spec.className());
-        vars.put("fields", fieldsSource);
-        vars.put("imports", importsSource);
-
-        String rawSource = classTemplate.render(vars);
-
-        // 4. 코드 포매팅 적용
-        return codeFormatter.format(rawSource);
+        // 렌더링 결과를 포매팅 필터에 바로 흘려보낸다.
+        StringBuilder source = new StringBuilder(256 + spec.fields().size() * 48);
+        try {
+            FormattingWriter formatting = codeFormatter.formatting(source);
+            writeClass(spec, formatting);
+            formatting.finish();
+        } catch (IOException e) {
+            // StringBuilder에 쓰는 동안에는 발생하지 않는다.
+            throw new InternalException("클래스 소스를 렌더링하는 중 내부 오류가 발생했습니다: " + spec.className(), e);
+        }
+        return source.toString();
     }
 
     /**
@@ -199,105 +348,413 @@ public class ClassGenerator {
         if (!innerClasses) {
             // 1. 각 ModelClass를 개별 top-level 클래스로 생성
             for (ModelGraph.ModelClass modelClass : graph.getDeclaredClasses()) {
-                ClassSpec spec = toClassSpec(modelClass);
+                ClassSpec spec = toClassSpec(modelClass, graph);
                 String source = generate(spec);
                 sources.put(modelClass.getSimpleName(), source);
             }
+            // 짝 클래스와 추가 멤버가 공유하는 지원 클래스도 별도 파일로 생성
+            for (ClassSpec spec : collectSupportSpecs(graph)) {
+                sources.put(spec.className(), generate(spec));
+            }
             return sources;
         }
 
-        // 2. innerClasses == true 인 경우:
-        //    - 루트 클래스 하나만 파일로 생성
-        //    - 나머지 클래스는 루트 내부의 public static class로 생성
-        ModelGraph.ModelClass root = graph.getRootClass();
-        ClassSpec rootSpec = toClassSpec(root);
+        // 2. innerClasses == true 인 경우: 루트 클래스 하나만 파일로 생성
+        ClassSpec rootSpec = toClassSpec(graph.getRootClass(), graph);
+        StringBuilder source = new StringBuilder(4096);
+        try {
+            FormattingWriter formatting = codeFormatter.formatting(source);
+            writeInnerClassesRoot(rootSpec, collectInnerSpecs(graph), formatting);
+            formatting.finish();
+        } catch (IOException e) {
+            throw new InternalException("클래스 소스를 렌더링하는 중 내부 오류가 발생했습니다: " + rootSpec.className(), e);
+        }
+        sources.put(rootSpec.className(), source.toString());
+        return sources;
+    }
 
-        // 루트 이외의 클래스들을 inner class 대상으로 수집
-        java.util.List<ClassSpec> innerSpecs = graph.getDeclaredClasses().stream()
-                .filter(mc -> mc != root)
-                .map(this::toClassSpec)
-                .toList();
+    /**
+     * ModelGraph를 기반으로 DTO 클래스들의 Java 소스를 생성하면서 곧바로 sink로 내보낸다.
+     * <p>
+     * 전체 결과를 Map으로 모으지 않고 렌더링 결과를 포매팅 필터({@link FormattingWriter})를 거쳐
+     * sink의 Writer로 곧바로 흘려보내므로, 완성된 소스 문자열을 메모리에 따로 만들지 않는다.
+     * 생성되는 내용과 순서는 {@link #generateAllFromModelGraph(ModelGraph, boolean)}와 같다.
+     *
+     * @param graph        생성할 클래스 구조
+     * @param innerClasses static inner class 모드 여부
+     * @param sink         클래스 이름별로 Writer를 열어 주는 출력 대상
+     * @return 기록한 소스(파일) 개수
+     */
+    public int generateAllFromModelGraph(ModelGraph graph, boolean innerClasses, SourceSink sink) {
+        Objects.requireNonNull(graph, "graph must not be null");
+        Objects.requireNonNull(sink, "sink must not be null");
 
-        // 루트 필드 코드 생성
-        String rootFieldsSource = buildFieldsSource(rootSpec.fields());
+        if (!innerClasses) {
+            int written = 0;
+            for (ModelGraph.ModelClass modelClass : graph.getDeclaredClasses()) {
+                ClassSpec spec = toClassSpec(modelClass, graph);
+                writeTo(sink, spec.className(), formatting -> writeClass(spec, formatting));
+                written++;
+            }
+            for (ClassSpec spec : collectSupportSpecs(graph)) {
+                writeTo(sink, spec.className(), formatting -> writeClass(spec, formatting));
+                written++;
+            }
+            return written;
+        }
 
-        // inner class 코드 생성
-        String innerClassesSource = buildInnerClassesSource(innerSpecs);
+        ClassSpec rootSpec = toClassSpec(graph.getRootClass(), graph);
+        List<ClassSpec> innerSpecs = collectInnerSpecs(graph);
+        writeTo(sink, rootSpec.className(), formatting -> writeInnerClassesRoot(rootSpec, innerSpecs, formatting));
+        return 1;
+    }
 
-        // import는 루트 + inner 클래스의 모든 필드 타입을 기준으로 계산
-        java.util.List<FieldSpec> allFields = new java.util.ArrayList<>(rootSpec.fields());
-        for (ClassSpec spec : innerSpecs) {
-            allFields.addAll(spec.fields());
+    /**
+     * sink에서 연 Writer를 포매팅 필터로 감싸 렌더링 결과를 곧바로 기록한다.
+     */
+    private void writeTo(SourceSink sink, String className, SourceRenderer renderer) {
+        try (Writer writer = sink.open(className)) {
+            FormattingWriter formatting = codeFormatter.formatting(writer);
+            renderer.render(formatting);
+            formatting.finish();
+        } catch (IOException e) {
+            throw new UserException("[ERROR] Java 파일을 생성하는 중 오류가 발생했습니다: " + className, e);
         }
-        String importsSource = buildImportsSource(allFields);
+    }
+
+    @FunctionalInterface
+    private interface SourceRenderer {
+        void render(Appendable out) throws IOException;
+    }
+
+    /**
+     * ModelGraph의 각 클래스를 주어진 Executor에서 병렬로 렌더링/포매팅한다.
+     * <p>
+     * 각 ModelClass의 생성은 서로 독립적이므로 클래스 단위로 작업을 나눈다.
+     * 결과 Map의 순서와 내용은 {@link #generateAllFromModelGraph(ModelGraph, boolean)}와
+     * 바이트 단위까지 같다. (작업 완료 순서와 무관하게 선언 순서대로 모은다.)
+     * <p>
+     * innerClasses 모드는 결과가 루트 파일 하나이므로 순차 경로를 그대로 사용한다.
+     *
+     * @param graph        생성할 클래스 구조
+     * @param innerClasses static inner class 모드 여부
+     * @param executor     클래스별 생성 작업을 실행할 Executor (호출자가 수명을 관리한다)
+     * @return key: 클래스 이름(simpleName), value: Java 소스 코드
+     */
+    public Map<String, String> generateAllFromModelGraphInParallel(ModelGraph graph,
+                                                                   boolean innerClasses,
+                                                                   Executor executor) {
+        Objects.requireNonNull(graph, "graph must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
 
-        Map<String, String> vars = new HashMap<>();
-        vars.put("package", rootSpec.packageName());
-        vars.put("className", rootSpec.className());
+        if (innerClasses) {
+            return generateAllFromModelGraph(graph, true);
+        }
 
-        String combinedFields;
-        if (innerClassesSource.isBlank()) {
-            combinedFields = rootFieldsSource;
-        } else if (rootFieldsSource.isBlank()) {
-            combinedFields = innerClassesSource;
-        } else {
-            combinedFields = rootFieldsSource + "\n\n" + innerClassesSource;
+        List<ModelGraph.ModelClass> classes = new ArrayList<>(graph.getDeclaredClasses());
+        List<CompletableFuture<String>> futures = new ArrayList<>(classes.size());
+        for (ModelGraph.ModelClass modelClass : classes) {
+            futures.add(CompletableFuture.supplyAsync(() -> generate(toClassSpec(modelClass, graph)), executor));
         }
-        vars.put("fields", combinedFields);
-        vars.put("imports", importsSource);
 
-        String rawSource = classTemplate.render(vars);
-        String formatted = codeFormatter.format(rawSource);
-        sources.put(rootSpec.className(), formatted);
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (int i = 0; i < classes.size(); i++) {
+            sources.put(classes.get(i).getSimpleName(), join(futures.get(i)));
+        }
+        for (ClassSpec spec : collectSupportSpecs(graph)) {
+            sources.put(spec.className(), generate(spec));
+        }
         return sources;
     }
 
+    private static String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new InternalException("클래스 소스를 병렬로 생성하는 중 내부 오류가 발생했습니다.", cause);
+        }
+    }
+
+    /**
+     * 루트 이외의 클래스들을 inner class 대상으로 수집한다.
+     * 짝 클래스와 추가 멤버가 공유하는 지원 클래스도 inner class로 맨 뒤에 붙인다.
+     */
+    private List<ClassSpec> collectInnerSpecs(ModelGraph graph) {
+        ModelGraph.ModelClass root = graph.getRootClass();
+        List<ClassSpec> specs = new ArrayList<>();
+        for (ModelGraph.ModelClass modelClass : graph.getDeclaredClasses()) {
+            if (modelClass != root) {
+                specs.add(toClassSpec(modelClass, graph));
+            }
+        }
+        specs.addAll(collectSupportSpecs(graph));
+        return specs;
+    }
+
+    /**
+     * 등록된 MemberGenerator들이 요구하는 짝 클래스와 지원 클래스를 수집한다.
+     * 짝 클래스는 ModelClass 선언 순서대로, 지원 클래스는 루트 패키지 기준으로 이름당 하나만 모은다.
+     */
+    private List<ClassSpec> collectSupportSpecs(ModelGraph graph) {
+        if (memberGenerators.isEmpty()) {
+            return List.of();
+        }
+        List<ClassSpec> specs = new ArrayList<>();
+        for (ModelGraph.ModelClass modelClass : graph.getDeclaredClasses()) {
+            for (MemberGenerator memberGenerator : memberGenerators) {
+                specs.addAll(memberGenerator.companionClasses(modelClass, graph));
+            }
+        }
+
+        String packageName = graph.getRootClass().getPackageName();
+        Set<String> supportNames = new LinkedHashSet<>();
+        for (MemberGenerator memberGenerator : memberGenerators) {
+            for (ClassSpec spec : memberGenerator.supportClasses(packageName)) {
+                if (supportNames.add(spec.className())) {
+                    specs.add(spec);
+                }
+            }
+        }
+        return specs;
+    }
+
+    /**
+     * 단일 클래스 소스를 out에 렌더링한다. (포매팅 전 원본)
+     */
+    private void writeClass(ClassSpec spec, Appendable out) throws IOException {
+        String importsSource = buildImportsSource(spec.fields(), spec.imports());
+
+        classTemplate.renderTo(out, (slot, target) -> {
+            if (slot == fieldsSlot) {
+                writeBody(spec, target);
+                return true;
+            }
+            return bindClassSlot(slot, spec, importsSource, target);
+        });
+    }
+
+    /**
+     * 필드 선언부와 추가 멤버를 차례로 기록한다. (둘 사이에는 빈 줄 하나)
+     * 레코드는 필드를 선언부의 컴포넌트로 기록하므로 본문에는 추가 멤버만 남는다.
+     */
+    private void writeBody(ClassSpec spec, Appendable out) throws IOException {
+        boolean declaresFields = spec.kind() != ClassSpec.Kind.RECORD && !spec.fields().isEmpty();
+        if (declaresFields) {
+            writeFields(spec, out);
+        }
+        if (spec.members().isEmpty()) {
+            return;
+        }
+        if (declaresFields) {
+            out.append("\n");
+        }
+        out.append(spec.members());
+    }
+
+    /**
+     * 레코드 컴포넌트 목록을 기록한다. 레코드가 아니면 아무것도 기록하지 않는다.
+     * <pre>
+     * (
+     *         &#64;JsonProperty("temp_c") Double tempC,
+     *         &#64;JsonProperty("is_day") Boolean isDay
+     * )
+     * </pre>
+     */
+    private void writeComponents(ClassSpec spec, Appendable out) throws IOException {
+        if (spec.kind() != ClassSpec.Kind.RECORD) {
+            return;
+        }
+        List<FieldSpec> fields = spec.fields();
+        if (fields.isEmpty()) {
+            out.append("()");
+            return;
+        }
+        out.append("(\n");
+        for (int i = 0; i < fields.size(); i++) {
+            FieldSpec field = fields.get(i);
+            out.append("        ");
+            for (String annotation : field.annotations()) {
+                out.append(annotation).append(' ');
+            }
+            out.append(field.type()).append(' ').append(field.name());
+            out.append(i < fields.size() - 1 ? ",\n" : "\n");
+        }
+        out.append(")");
+    }
+
+    /**
+     * innerClasses 모드의 루트 클래스 소스를 out에 렌더링한다. (포매팅 전 원본)
+     * <p>
+     * 루트 필드 뒤에 나머지 클래스들을 static inner class로 이어서 기록한다.
+     */
+    private void writeInnerClassesRoot(ClassSpec rootSpec, List<ClassSpec> innerSpecs, Appendable out)
+            throws IOException {
+        // import는 루트 + inner 클래스의 모든 필드 타입과 추가 멤버를 기준으로 계산
+        List<FieldSpec> allFields = new ArrayList<>(rootSpec.fields());
+        Set<String> allImports = new LinkedHashSet<>(rootSpec.imports());
+        for (ClassSpec spec : innerSpecs) {
+            allFields.addAll(spec.fields());
+            allImports.addAll(spec.imports());
+        }
+        String importsSource = buildImportsSource(allFields, allImports);
+
+        // 루트 본문은 비어 있는지 확인해야 하므로 먼저 렌더링해 둔다.
+        StringBuilder rootFields = new StringBuilder(rootSpec.fields().size() * 48 + rootSpec.members().length());
+        writeBody(rootSpec, rootFields);
+
+        classTemplate.renderTo(out, (slot, target) -> {
+            if (slot == fieldsSlot) {
+                if (innerSpecs.isEmpty()) {
+                    target.append(rootFields);
+                } else {
+                    if (!rootFields.toString().isBlank()) {
+                        target.append(rootFields).append("\n\n");
+                    }
+                    writeInnerClasses(innerSpecs, target);
+                }
+                return true;
+            }
+            return bindClassSlot(slot, rootSpec, importsSource, target);
+        });
+    }
+
+    /**
+     * 클래스 템플릿의 package/className/imports 슬롯을 채운다.
+     */
+    private boolean bindClassSlot(int slot, ClassSpec spec, String importsSource, Appendable target)
+            throws IOException {
+        if (slot == packageSlot) {
+            target.append(spec.packageName());
+            return true;
+        }
+        if (slot == classNameSlot) {
+            target.append(spec.className());
+            return true;
+        }
+        if (slot == importsSlot) {
+            target.append(importsSource);
+            return true;
+        }
+        if (slot == kindSlot) {
+            target.append(spec.kind().keyword);
+            return true;
+        }
+        if (slot == componentsSlot) {
+            writeComponents(spec, target);
+            return true;
+        }
+        return false;
+    }
 
-    private ClassSpec toClassSpec(ModelGraph.ModelClass modelClass) {
+    private ClassSpec toClassSpec(ModelGraph.ModelClass modelClass, ModelGraph graph) {
         // ModelGraph.Field -> FieldSpec 변환 (requiredImports까지 전달)
-        java.util.List<FieldSpec> fieldSpecs = modelClass.getFields().stream()
-                .map(f -> new FieldSpec(
-                        f.getTypeName(),
-                        f.getFieldName(),
-                        null,
-                        f.getRequiredImports()
-                ))
-                .toList();
+        java.util.List<FieldSpec> fieldSpecs;
+        if (layout == GenerationOptions.Layout.COMPACT) {
+            fieldSpecs = CompactLayout.fieldSpecs(modelClass);
+        } else if (dtoStyle != GenerationOptions.DtoStyle.FIELDS) {
+            fieldSpecs = ImmutableStyle.fieldSpecs(modelClass);
+        } else {
+            fieldSpecs = modelClass.getFields().stream()
+                    .map(f -> new FieldSpec(
+                            f.getTypeName(),
+                            f.getFieldName(),
+                            null,
+                            f.getRequiredImports()
+                    ))
+                    .toList();
+        }
+        ClassSpec.Kind kind = ImmutableStyle.classKind(dtoStyle);
+
+        if (memberGenerators.isEmpty()) {
+            return new ClassSpec(
+                    modelClass.getPackageName(),
+                    modelClass.getSimpleName(),
+                    fieldSpecs,
+                    "",
+                    Set.of(),
+                    kind
+            );
+        }
+
+        // 등록된 MemberGenerator들의 멤버를 순서대로 이어 붙인다. (멤버 블록 사이에는 빈 줄 하나)
+        StringBuilder members = new StringBuilder();
+        Set<String> imports = new LinkedHashSet<>();
+        for (MemberGenerator memberGenerator : memberGenerators) {
+            String source = memberGenerator.members(modelClass, graph);
+            if (source.isEmpty()) {
+                continue;
+            }
+            if (members.length() > 0) {
+                members.append("\n");
+            }
+            members.append(source);
+            imports.addAll(memberGenerator.requiredImports(modelClass, graph));
+        }
 
         return new ClassSpec(
                 modelClass.getPackageName(),
                 modelClass.getSimpleName(),
-                fieldSpecs
+                fieldSpecs,
+                members.toString(),
+                imports,
+                kind
         );
     }
 
 
 
     /**
-     * 필드 리스트를 순회하면서 필드 선언부 문자열을 만든다.
+     * 필드 리스트를 순회하면서 필드 선언부를 out에 기록한다.
+     * <p>
+     * 값 배열은 호출당 한 번만 만들고 필드마다 재사용하므로,
+     * 필드 단위로는 (주석이 없는 한) 추가 객체를 만들지 않는다.
      */
-    private String buildFieldsSource(List<FieldSpec> fields) {
-        StringBuilder sb = new StringBuilder();
+    private void writeFields(ClassSpec spec, Appendable out) throws IOException {
+        List<FieldSpec> fields = spec.fields();
+        CharSequence[] values = new CharSequence[fieldTemplate.slotCount()];
+        bind(values, modifiersSlot, spec.kind() == ClassSpec.Kind.FINAL_CLASS ? "final " : "");
 
         for (int i = 0; i < fields.size(); i++) {
             FieldSpec field = fields.get(i);
 
-            String commentBlock = field.comment()
-                    .map(this::toFieldJavadoc)
-                    .orElse("");
+            String commentBlock = field.comment().isPresent()
+                    ? toFieldJavadoc(field.comment().get())
+                    : "";
 
-            Map<String, String> vars = new HashMap<>();
-            vars.put("comment", commentBlock);
-            vars.put("type", field.type());
-            vars.put("name", field.name());
+            bind(values, commentSlot, commentBlock);
+            bind(values, annotationsSlot, toAnnotationLines(field.annotations()));
+            bind(values, typeSlot, field.type());
+            bind(values, nameSlot, field.name());
 
-            sb.append(fieldTemplate.render(vars));
+            fieldTemplate.renderTo(out, values);
 
             if (i < fields.size() - 1) {
-                sb.append("\n");
+                out.append("\n");
             }
         }
+    }
+
+    private static void bind(CharSequence[] values, int slot, CharSequence value) {
+        if (slot >= 0) {
+            values[slot] = value;
+        }
+    }
 
+    private static String toAnnotationLines(List<String> annotations) {
+        if (annotations.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String annotation : annotations) {
+            sb.append("    ").append(annotation).append("\n");
+        }
         return sb.toString();
     }
 
@@ -323,8 +780,8 @@ public class ClassGenerator {
      * - List, Map 등 컬렉션 인터페이스는 java.util 패키지를 import 한다.
      *   (실제 규칙은 필요에 따라 확장/수정 가능)
      */
-    private String buildImportsSource(List<FieldSpec> fields) {
-        Set<String> imports = new LinkedHashSet<>();
+    private String buildImportsSource(List<FieldSpec> fields, Set<String> extraImports) {
+        Set<String> imports = new LinkedHashSet<>(extraImports);
 
         for (FieldSpec field : fields) {
             // 1차: TypeRef에서 전달된 requiredImports 사용
@@ -346,7 +803,8 @@ public class ClassGenerator {
     }
 
     /**
-     * innerClasses 모드에서 사용할 static inner class 선언부를 생성한다.
+     * innerClasses 모드에서 사용할 static inner class 선언부를 기록한다.
+     * 각 inner class의 필드는 {@link IndentingAppendable}을 거쳐 한 단계 더 들여쓴다.
      *
      * 예:
      *     public static class Location {
@@ -355,56 +813,26 @@ public class ClassGenerator {
      *         private double lat;
      *     }
      */
-    private String buildInnerClassesSource(List<ClassSpec> innerClassSpecs) {
-        if (innerClassSpecs == null || innerClassSpecs.isEmpty()) {
-            return "";
-        }
-
-        StringBuilder sb = new StringBuilder();
-
+    private void writeInnerClasses(List<ClassSpec> innerClassSpecs, Appendable out) throws IOException {
         for (int i = 0; i < innerClassSpecs.size(); i++) {
             ClassSpec spec = innerClassSpecs.get(i);
 
-            sb.append("    public static class ")
-                    .append(spec.className())
-                    .append(" {\n\n");
+            Appendable header = new IndentingAppendable(out, 1);
+            header.append("public ")
+                    .append(spec.kind().nestedKeyword)
+                    .append(" ")
+                    .append(spec.className());
+            writeComponents(spec, header);
+            header.append(" {\n\n");
 
-            String fieldsSource = buildFieldsSource(spec.fields());
-            sb.append(indent(fieldsSource, 1)).append("\n");
+            writeBody(spec, new IndentingAppendable(out, 1));
+            out.append("\n");
 
-            sb.append("    }");
+            out.append("    }");
             if (i < innerClassSpecs.size() - 1) {
-                sb.append("\n\n");
+                out.append("\n\n");
             }
         }
-
-        return sb.toString();
-    }
-
-    /**
-     * 주어진 문자열의 각 줄 앞에 indentLevel만큼의 들여쓰기를 추가한다.
-     * indentLevel 1은 공백 4칸을 의미한다.
-     */
-    private String indent(String text, int indentLevel) {
-        if (text == null || text.isEmpty()) {
-            return text;
-        }
-        String indent = "    ".repeat(Math.max(0, indentLevel));
-        String[] lines = text.split("\n", -1);
-        StringBuilder sb = new StringBuilder();
-
-        for (int i = 0; i < lines.length; i++) {
-            String line = lines[i];
-            if (!line.isEmpty()) {
-                sb.append(indent).append(line);
-            } else {
-                sb.append(line);
-            }
-            if (i < lines.length - 1) {
-                sb.append("\n");
-            }
-        }
-        return sb.toString();
     }
 
     /**
@@ -1,5 +1,8 @@
 package org.example.generator;
 
+import org.example.exception.InternalException;
+
+import java.io.IOException;
 import java.util.Objects;
 
 /**
@@ -26,6 +29,8 @@ public class CodeFormatter {
      *     <li>연속된 빈 줄은 하나로 축소</li>
      *     <li>마지막 줄이 개행으로 끝나도록 보장</li>
      * </ul>
+     * 내부적으로 {@link #formatting(Appendable)}과 같은 필터를 사용하므로,
+     * 소스를 한 번만 훑고 결과 버퍼 외에는 줄 단위 복사를 하지 않는다.
      *
      * @param source 포매팅할 원본 Java 코드 문자열
      * @return 정리된 코드 문자열
@@ -33,59 +38,29 @@ public class CodeFormatter {
     public String format(String source) {
         Objects.requireNonNull(source, "source must not be null");
 
-        String normalized = normalizeLineEndings(source);
-        String[] lines = normalized.split("\n", -1);
-
-        StringBuilder result = new StringBuilder();
-        boolean previousBlank = false;
-
-        for (String line : lines) {
-            String trimmedEnd = trimTrailingWhitespace(line);
-            boolean isBlank = trimmedEnd.isBlank();
-
-            if (isBlank) {
-                if (previousBlank) {
-                    continue;
-                }
-                previousBlank = true;
-                result.append('\n');
-            } else {
-                previousBlank = false;
-                result.append(trimmedEnd).append('\n');
-            }
+        StringBuilder result = new StringBuilder(source.length() + 1);
+        FormattingWriter writer = formatting(result);
+        try {
+            writer.write(source);
+            writer.finish();
+        } catch (IOException e) {
+            // StringBuilder에 쓰는 동안에는 발생하지 않는다.
+            throw new InternalException("코드 포매팅 중 내부 오류가 발생했습니다.", e);
         }
-
         return result.toString();
     }
 
     /**
-     * 줄 끝 문자를 모두 '\n'으로 통일한다.
+     * 기록되는 소스에 {@link #format(String)}과 같은 정리 규칙을 적용하면서
+     * out으로 흘려보내는 Writer를 만든다.
      * <p>
-     * - Windows 스타일 CRLF("\r\n") -> "\n"
-     * - 단독 CR("\r") -> "\n"
-     */
-    private String normalizeLineEndings(String source) {
-        String withoutWindows = source.replace("\r\n", "\n");
-        return withoutWindows.replace("\r", "\n");
-    }
-
-    /**
-     * 한 줄 끝의 공백 문자(스페이스, 탭)를 제거한다.
+     * 기록이 끝나면 {@link FormattingWriter#finish()}(대상은 열어 둠) 또는
+     * {@link FormattingWriter#close()}(대상까지 닫음)를 호출해야 마지막 줄이 마무리된다.
      *
-     * @param line 입력 줄
-     * @return 끝의 whitespace가 제거된 줄
+     * @param out 정리된 결과를 받을 대상
+     * @return 포매팅 필터 Writer
      */
-    private String trimTrailingWhitespace(String line) {
-        int end = line.length();
-        while (end > 0) {
-            char ch = line.charAt(end - 1);
-            if (ch == ' ' || ch == '\t') {
-                end--;
-            } else {
-                break;
-            }
-        }
-        return (end == line.length()) ? line : line.substring(0, end);
+    public FormattingWriter formatting(Appendable out) {
+        return new FormattingWriter(out);
     }
-
 }
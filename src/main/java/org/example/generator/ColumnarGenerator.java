@@ -0,0 +1,436 @@
+package org.example.generator;
+
+import org.example.json.ModelGraph;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 객체 배열({@code List<X>})의 원소 클래스마다 열 단위 컨테이너 {@code XColumns}를 생성한다. ({@code --columnar true})
+ * <p>
+ * 원소 하나마다 객체를 만들고 숫자/불리언을 박싱해 담는 대신, 필드마다 배열 하나(열)에 모든 원소의 값을 담는다.
+ * <ul>
+ *     <li>숫자 필드는 {@code double[]} 같은 원시 타입 배열, 불리언 필드는 {@code long[]} 비트 집합에 저장한다.</li>
+ *     <li>nullable 원시 필드는 값이 있는 행을 {@code long[] xxxPresent} 비트 집합으로 기록한다.</li>
+ *     <li>문자열은 {@code String[]}에 담되, 같은 값은 인스턴스 하나를 공유한다. (시각, 코드 같은 반복 값이 많다)</li>
+ *     <li>그 밖의 타입(중첩 클래스, 리스트 등)은 {@code Object[]}에 그대로 담는다.</li>
+ * </ul>
+ * 원소 접근은 행 번호만 바꿔 가며 재사용하는 커서({@code XColumns.Cursor})로 하고,
+ * 생성되는 {@code readJson(JsonParser)}/{@code appendJson(JsonParser)}는 JSON 배열을 읽으며 열을 바로 채운다.
+ * 중첩 클래스 값은 생성된 {@code readJson}으로 읽으므로 이 생성기는 {@link JsonCodecGenerator}의 reader와 함께 사용한다.
+ * <p>
+ * 접근자 이름과 null 의미는 {@link CompactLayout}과 같다. (원시 getter, nullable이면 박싱 getter + {@code hasXxx()})
+ * <p>
+ * 열 배열은 필드 이름을 그대로 쓰므로, 컨테이너 자체의 필드와 생성 코드의 지역 변수/파라미터는 모두 {@code $}로 시작한다.
+ * 필드 이름은 영문자와 숫자로만 만들어지므로 어떤 JSON 키와도 겹치지 않는다.
+ */
+final class ColumnarGenerator implements MemberGenerator {
+
+    static final String COLUMNS_SUFFIX = "Columns";
+
+    /**
+     * 문자열 공유 표의 최대 크기. 값의 종류가 이보다 많으면 나머지는 공유하지 않는다.
+     */
+    static final int STRING_POOL_LIMIT = 4096;
+
+    private static final String READ_SUPPORT_CLASS = JsonCodecGenerator.READ_SUPPORT_CLASS;
+
+    /**
+     * 필드 하나의 열 저장 방식.
+     *
+     * @param primitive 원시 타입 이름 (참조 타입 열이면 null)
+     * @param array     열 배열의 선언 타입
+     */
+    private record Column(ModelGraph.Field field, String primitive, String array) {
+
+        boolean bits() {
+            return "boolean".equals(primitive);
+        }
+
+        boolean tracksPresence() {
+            return primitive != null && field.isNullable();
+        }
+
+        String name() {
+            return field.getFieldName();
+        }
+
+        String presenceName() {
+            return field.getFieldName() + "$present";
+        }
+    }
+
+    @Override
+    public String members(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        // 원래 DTO에는 아무것도 추가하지 않는다.
+        return "";
+    }
+
+    @Override
+    public Set<String> requiredImports(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        return Set.of();
+    }
+
+    @Override
+    public List<ClassGenerator.ClassSpec> companionClasses(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        Objects.requireNonNull(modelClass, "modelClass must not be null");
+        Objects.requireNonNull(graph, "graph must not be null");
+
+        if (!isListElement(modelClass, graph)) {
+            return List.of();
+        }
+
+        Set<String> imports = new LinkedHashSet<>();
+        imports.add("com.fasterxml.jackson.core.JsonParseException");
+        imports.add("com.fasterxml.jackson.core.JsonParser");
+        imports.add("com.fasterxml.jackson.core.JsonToken");
+        imports.add("java.io.IOException");
+        imports.add("java.util.Arrays");
+        imports.add("java.util.Objects");
+        if (hasStringColumn(modelClass.getFields().stream().map(ColumnarGenerator::column).toList())) {
+            imports.add("java.util.HashMap");
+            imports.add("java.util.Map");
+        }
+        for (ModelGraph.Field field : modelClass.getFields()) {
+            imports.addAll(field.getRequiredImports());
+        }
+
+        return List.of(new ClassGenerator.ClassSpec(
+                modelClass.getPackageName(),
+                columnsName(modelClass.getSimpleName()),
+                List.of(),
+                columnsMembers(modelClass, graph),
+                imports
+        ));
+    }
+
+    @Override
+    public List<ClassGenerator.ClassSpec> supportClasses(String packageName) {
+        return List.of(JsonCodecGenerator.readSupportSpec(packageName));
+    }
+
+    static String columnsName(String simpleName) {
+        return simpleName + COLUMNS_SUFFIX;
+    }
+
+    /**
+     * 어떤 필드의 타입이 {@code List<modelClass>}이면 true.
+     */
+    static boolean isListElement(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        for (ModelGraph.ModelClass owner : graph.getDeclaredClasses()) {
+            for (ModelGraph.Field field : owner.getFields()) {
+                String type = field.getTypeName().trim();
+                if (JsonCodecGenerator.isList(type)
+                        && JsonCodecGenerator.findModelClass(JsonCodecGenerator.listElement(type).trim(), graph)
+                        .filter(element -> element == modelClass)
+                        .isPresent()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasStringColumn(List<Column> columns) {
+        return columns.stream().anyMatch(column -> column.array().equals("String[]"));
+    }
+
+    private static Column column(ModelGraph.Field field) {
+        Optional<String> primitive = CompactLayout.primitiveType(field.getTypeName());
+        if (primitive.isPresent()) {
+            return new Column(field, primitive.get(), primitive.get().equals("boolean") ? "long[]" : primitive.get() + "[]");
+        }
+        String type = field.getTypeName().trim();
+        return new Column(field, null, type.equals("String") ? "String[]" : "Object[]");
+    }
+
+    private String columnsMembers(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        String className = columnsName(modelClass.getSimpleName());
+        List<Column> columns = modelClass.getFields().stream().map(ColumnarGenerator::column).toList();
+
+        StringBuilder sb = new StringBuilder(2048 + columns.size() * 600);
+        sb.append("    private int $size;\n")
+                .append("    private int $capacity;\n");
+        if (!columns.isEmpty()) {
+            sb.append("\n");
+        }
+        for (Column column : columns) {
+            sb.append("    private ").append(column.array()).append(" ").append(column.name())
+                    .append(" = ").append(emptyArray(column.array())).append(";\n");
+            if (column.tracksPresence()) {
+                sb.append("    /** 값이 있는 행 (비트 집합) */\n")
+                        .append("    private long[] ").append(column.presenceName()).append(" = new long[0];\n");
+            }
+        }
+        if (hasStringColumn(columns)) {
+            sb.append("\n")
+                    .append("    /** 문자열 열에서 같은 값을 인스턴스 하나로 공유하기 위한 표 (최대 ").append(STRING_POOL_LIMIT).append("개) */\n")
+                    .append("    private final Map<String, String> $strings = new HashMap<>();\n");
+        }
+
+        appendAccessors(columns, sb);
+        appendReader(modelClass, className, columns, graph, sb);
+        appendGrow(columns, sb);
+        appendCursor(modelClass, columns, sb);
+        return sb.toString();
+    }
+
+    private static String emptyArray(String arrayType) {
+        return "new " + arrayType.substring(0, arrayType.length() - 2) + "[0]";
+    }
+
+    private void appendAccessors(List<Column> columns, StringBuilder sb) {
+        sb.append("\n")
+                .append("    public int size() {\n")
+                .append("        return $size;\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    /**\n")
+                .append("     * 행 $row를 가리키는 커서. 커서는 {@link Cursor#at(int)}로 다른 행에 재사용할 수 있다.\n")
+                .append("     */\n")
+                .append("    public Cursor cursor(int $row) {\n")
+                .append("        return new Cursor().at($row);\n")
+                .append("    }\n");
+
+        // 열 배열 자체. 분석 코드가 박싱 없이 순회할 수 있도록 복사하지 않고 그대로 넘긴다.
+        for (Column column : columns) {
+            if (column.primitive() == null || column.bits()) {
+                continue;
+            }
+            sb.append("\n")
+                    .append("    /**\n")
+                    .append("     * ").append(column.name()).append(" 열. 앞의 size()개만 유효하며, 반환된 배열을 바꾸면 이 컨테이너도 바뀐다.\n")
+                    .append("     */\n")
+                    .append("    public ").append(column.array()).append(" ").append(column.name()).append("Column() {\n")
+                    .append("        return ").append(column.name()).append(";\n")
+                    .append("    }\n");
+        }
+    }
+
+    private void appendReader(ModelGraph.ModelClass modelClass,
+                              String className,
+                              List<Column> columns,
+                              ModelGraph graph,
+                              StringBuilder sb) {
+        sb.append("\n")
+                .append("    /**\n")
+                .append("     * JSON 배열 하나를 읽어 열 컨테이너로 변환한다. (JSON null이면 null)\n")
+                .append("     */\n")
+                .append("    public static ").append(className).append(" readJson(JsonParser $parser) throws IOException {\n")
+                .append("        ").append(className).append(" $columns = new ").append(className).append("();\n")
+                .append("        return $columns.appendJson($parser) ? $columns : null;\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    /**\n")
+                .append("     * JSON 배열의 원소들을 행으로 덧붙인다. 원소가 JSON null이면 모든 값이 없는 행을 추가한다.\n")
+                .append("     * 호출 전 $parser는 배열의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,\n")
+                .append("     * 반환 후에는 배열의 마지막 토큰(END_ARRAY)에 위치한다. JSON null이면 false를 반환한다.\n")
+                .append("     */\n")
+                .append("    public boolean appendJson(JsonParser $parser) throws IOException {\n")
+                .append("        JsonToken $token = $parser.currentToken();\n")
+                .append("        if ($token == null) {\n")
+                .append("            $token = $parser.nextToken();\n")
+                .append("        }\n")
+                .append("        if ($token == JsonToken.VALUE_NULL) {\n")
+                .append("            return false;\n")
+                .append("        }\n")
+                .append("        if ($token != JsonToken.START_ARRAY) {\n")
+                .append("            throw new JsonParseException($parser, \"Expected START_ARRAY but was \" + $token);\n")
+                .append("        }\n")
+                .append("        while ($parser.nextToken() != JsonToken.END_ARRAY) {\n")
+                .append("            int $row = addRow();\n")
+                .append("            if (!").append(READ_SUPPORT_CLASS).append(".startObject($parser)) {\n")
+                .append("                continue;\n")
+                .append("            }\n");
+        if (columns.isEmpty()) {
+            sb.append("            $parser.skipChildren();\n");
+        } else {
+            sb.append("            for (JsonToken $field = $parser.nextToken(); $field == JsonToken.FIELD_NAME; $field = $parser.nextToken()) {\n")
+                    .append("                String $name = $parser.currentName();\n")
+                    .append("                $parser.nextToken();\n")
+                    .append("                switch ($name) {\n");
+            for (Column column : columns) {
+                sb.append("                    case ").append(JsonCodecGenerator.javaString(column.field().getJsonName()))
+                        .append(" -> ");
+                appendCellRead(column, graph, sb);
+            }
+            sb.append("                    default -> $parser.skipChildren();\n")
+                    .append("                }\n")
+                    .append("            }\n");
+        }
+        sb.append("        }\n")
+                .append("        return true;\n")
+                .append("    }\n");
+    }
+
+    /**
+     * 현재 값을 $row 행에 넣는 switch 분기 본문.
+     */
+    private void appendCellRead(Column column, ModelGraph graph, StringBuilder sb) {
+        String name = column.name();
+        if (column.array().equals("String[]")) {
+            sb.append(name).append("[$row] = share(").append(READ_SUPPORT_CLASS).append(".readString($parser));\n");
+            return;
+        }
+        if (column.primitive() == null) {
+            sb.append(name).append("[$row] = ")
+                    .append(JsonCodecGenerator.readExpression(column.field().getTypeName(), "$parser", 0, graph,
+                            JsonCodecGenerator.GENERATED_READERS))
+                    .append(";\n");
+            return;
+        }
+
+        String value = READ_SUPPORT_CLASS + "." + primitiveReadMethod(column.primitive()) + "($parser)";
+        if (!column.tracksPresence() && !column.bits()) {
+            sb.append(name).append("[$row] = ").append(value).append(";\n");
+            return;
+        }
+
+        String indent = "                        ";
+        sb.append("{\n");
+        if (column.tracksPresence()) {
+            sb.append(indent).append("if ($parser.currentToken() != JsonToken.VALUE_NULL) {\n");
+            indent += "    ";
+        }
+        if (column.bits()) {
+            sb.append(indent).append("if (").append(value).append(") {\n")
+                    .append(indent).append("    ").append(setBit(name)).append("\n")
+                    .append(indent).append("}\n");
+        } else {
+            sb.append(indent).append(name).append("[$row] = ").append(value).append(";\n");
+        }
+        if (column.tracksPresence()) {
+            sb.append(indent).append(setBit(column.presenceName())).append("\n")
+                    .append("                        }\n");
+        }
+        sb.append("                    }\n");
+    }
+
+    private static String setBit(String bits) {
+        return bits + "[$row >>> 6] |= 1L << $row;";
+    }
+
+    private static String primitiveReadMethod(String primitive) {
+        return switch (primitive) {
+            case "double" -> "readDoubleValue";
+            case "long" -> "readLongValue";
+            case "int" -> "readIntValue";
+            case "boolean" -> "readBooleanValue";
+            default -> throw new IllegalArgumentException("unsupported primitive: " + primitive);
+        };
+    }
+
+    private void appendGrow(List<Column> columns, StringBuilder sb) {
+        sb.append("\n")
+                .append("    /**\n")
+                .append("     * 열 배열을 size()에 맞게 줄여 남는 공간을 돌려준다. 읽기를 마친 뒤 오래 보관할 때 사용한다.\n")
+                .append("     */\n")
+                .append("    public void trimToSize() {\n")
+                .append("        if ($capacity > $size) {\n")
+                .append("            resize($size);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    private int addRow() {\n")
+                .append("        if ($size == $capacity) {\n")
+                .append("            resize(Math.max(16, $capacity * 2));\n")
+                .append("        }\n")
+                .append("        return $size++;\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    private void resize(int $newCapacity) {\n")
+                .append("        $capacity = $newCapacity;\n");
+        boolean usesBitWords = columns.stream().anyMatch(column -> column.bits() || column.tracksPresence());
+        if (usesBitWords) {
+            sb.append("        int $words = ($capacity + 63) >>> 6;\n");
+        }
+        for (Column column : columns) {
+            sb.append("        ").append(column.name()).append(" = Arrays.copyOf(").append(column.name())
+                    .append(", ").append(column.bits() ? "$words" : "$capacity").append(");\n");
+            if (column.tracksPresence()) {
+                sb.append("        ").append(column.presenceName()).append(" = Arrays.copyOf(")
+                        .append(column.presenceName()).append(", $words);\n");
+            }
+        }
+        sb.append("    }\n");
+
+        if (hasStringColumn(columns)) {
+            sb.append("\n")
+                    .append("    private String share(String $value) {\n")
+                    .append("        if ($value == null) {\n")
+                    .append("            return null;\n")
+                    .append("        }\n")
+                    .append("        String $shared = $strings.get($value);\n")
+                    .append("        if ($shared != null) {\n")
+                    .append("            return $shared;\n")
+                    .append("        }\n")
+                    .append("        if ($strings.size() < ").append(STRING_POOL_LIMIT).append(") {\n")
+                    .append("            $strings.put($value, $value);\n")
+                    .append("        }\n")
+                    .append("        return $value;\n")
+                    .append("    }\n");
+        }
+    }
+
+    private void appendCursor(ModelGraph.ModelClass modelClass, List<Column> columns, StringBuilder sb) {
+        sb.append("\n")
+                .append("    /**\n")
+                .append("     * 한 행의 값을 ").append(modelClass.getSimpleName()).append("와 같은 이름의 getter로 읽는 커서.\n")
+                .append("     */\n")
+                .append("    public final class Cursor {\n")
+                .append("\n")
+                .append("        private int $row;\n")
+                .append("\n")
+                .append("        public Cursor at(int $row) {\n")
+                .append("            this.$row = Objects.checkIndex($row, $size);\n")
+                .append("            return this;\n")
+                .append("        }\n")
+                .append("\n")
+                .append("        public int row() {\n")
+                .append("            return $row;\n")
+                .append("        }\n");
+
+        for (Column column : columns) {
+            ModelGraph.Field field = column.field();
+            String name = column.name();
+            String getter = CompactLayout.getter(field);
+            sb.append("\n");
+
+            if (column.primitive() == null) {
+                String type = field.getTypeName().trim();
+                // Object 필드는 Object[]에서 꺼낸 값을 그대로 돌려주므로 캐스트가 필요 없다. (-Xlint:cast 경고 방지)
+                boolean cast = column.array().equals("Object[]") && !type.equals("Object");
+                boolean unchecked = cast && type.contains("<");
+                if (unchecked) {
+                    sb.append("        @SuppressWarnings(\"unchecked\")\n");
+                }
+                sb.append("        public ").append(type).append(" ").append(getter).append("() {\n")
+                        .append("            return ").append(cast ? "(" + type + ") " : "").append(name).append("[$row];\n")
+                        .append("        }\n");
+                continue;
+            }
+
+            String value = column.bits()
+                    ? "(" + name + "[$row >>> 6] & (1L << $row)) != 0"
+                    : name + "[$row]";
+            if (!column.tracksPresence()) {
+                sb.append("        public ").append(column.primitive()).append(" ").append(getter).append("() {\n")
+                        .append("            return ").append(value).append(";\n")
+                        .append("        }\n");
+                continue;
+            }
+            sb.append("        public boolean ").append(CompactLayout.presence(field)).append("() {\n")
+                    .append("            return (").append(column.presenceName()).append("[$row >>> 6] & (1L << $row)) != 0;\n")
+                    .append("        }\n")
+                    .append("\n")
+                    .append("        public ").append(field.getTypeName().trim()).append(" ").append(getter).append("() {\n")
+                    .append("            return ").append(CompactLayout.presence(field)).append("() ? ").append(value)
+                    .append(" : null;\n")
+                    .append("        }\n");
+        }
+        sb.append("    }\n");
+    }
+}
@@ -0,0 +1,259 @@
+package org.example.generator;
+
+import org.example.json.ModelGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 메모리를 적게 쓰는 DTO 필드 배치({@code --layout compact}).
+ * <p>
+ * 표준 배치는 모든 필드를 참조 타입(Double, Boolean, String ...)으로 선언하므로
+ * 숫자/불리언 값마다 박싱 객체가 생기고, "값 없음"은 null로 표현한다. compact 배치는
+ * <ul>
+ *     <li>숫자 필드를 원시 타입(double, int, long)으로 선언하고,</li>
+ *     <li>불리언 필드는 {@code long booleanBitsN} 비트 하나로 묶어 저장하며,</li>
+ *     <li>nullable(누락/null 관찰) 필드의 "값 있음" 여부는 {@code long presenceBitsN} 비트로 기록한다.</li>
+ * </ul>
+ * 필드는 private으로 두고 접근자를 생성한다. nullable 필드의 getter는 박싱 타입을 반환하며
+ * 값이 없으면 null을 돌려주므로 표준 배치와 같은 null 의미를 유지한다. ({@code hasXxx()}로 박싱 없이 확인 가능)
+ * 참조 타입 필드(String, List, 중첩 클래스)는 표준 배치와 같이 저장하고 접근자만 추가한다.
+ */
+final class CompactLayout implements MemberGenerator {
+
+    static final String PRESENCE_BITS = "presenceBits";
+    static final String BOOLEAN_BITS = "booleanBits";
+
+    /**
+     * 필드 하나의 저장 방식.
+     *
+     * @param primitive   원시 타입 이름 (참조 타입으로 저장하면 null)
+     * @param booleanBit  booleanBits 안의 비트 번호 (불리언이 아니면 -1)
+     * @param presenceBit presenceBits 안의 비트 번호 (nullable 원시 필드가 아니면 -1)
+     */
+    record Slot(ModelGraph.Field field, String primitive, int booleanBit, int presenceBit) {
+
+        boolean unboxed() {
+            return primitive != null;
+        }
+
+        boolean packedBoolean() {
+            return booleanBit >= 0;
+        }
+
+        boolean tracksPresence() {
+            return presenceBit >= 0;
+        }
+    }
+
+    /**
+     * 클래스 하나의 필드 배치. 슬롯 순서는 필드 선언 순서와 같다.
+     */
+    record Plan(List<Slot> slots, int presenceBitCount, int booleanBitCount) {
+
+        Slot slotOf(ModelGraph.Field field) {
+            for (Slot slot : slots) {
+                if (slot.field() == field) {
+                    return slot;
+                }
+            }
+            throw new IllegalArgumentException("field is not part of this class: " + field.getFieldName());
+        }
+    }
+
+    static Plan plan(ModelGraph.ModelClass modelClass) {
+        Objects.requireNonNull(modelClass, "modelClass must not be null");
+
+        List<Slot> slots = new ArrayList<>(modelClass.getFields().size());
+        int presenceBits = 0;
+        int booleanBits = 0;
+        for (ModelGraph.Field field : modelClass.getFields()) {
+            Optional<String> primitive = primitiveType(field.getTypeName());
+            if (primitive.isEmpty()) {
+                slots.add(new Slot(field, null, -1, -1));
+                continue;
+            }
+            int booleanBit = primitive.get().equals("boolean") ? booleanBits++ : -1;
+            int presenceBit = field.isNullable() ? presenceBits++ : -1;
+            slots.add(new Slot(field, primitive.get(), booleanBit, presenceBit));
+        }
+        return new Plan(List.copyOf(slots), presenceBits, booleanBits);
+    }
+
+    /**
+     * 원시 타입으로 풀어 저장할 수 있는 박싱 타입이면 해당 원시 타입 이름을 반환한다.
+     */
+    static Optional<String> primitiveType(String typeName) {
+        return switch (typeName.trim()) {
+            case "Double" -> Optional.of("double");
+            case "Long" -> Optional.of("long");
+            case "Integer" -> Optional.of("int");
+            case "Boolean" -> Optional.of("boolean");
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * compact 배치의 필드 선언 목록. 묶인 불리언은 빠지고, 비트 필드가 맨 뒤에 추가된다.
+     */
+    static List<ClassGenerator.FieldSpec> fieldSpecs(ModelGraph.ModelClass modelClass) {
+        Plan plan = plan(modelClass);
+
+        List<ClassGenerator.FieldSpec> specs = new ArrayList<>();
+        List<String> presenceNames = new ArrayList<>();
+        List<String> booleanNames = new ArrayList<>();
+        for (Slot slot : plan.slots()) {
+            ModelGraph.Field field = slot.field();
+            if (slot.tracksPresence()) {
+                presenceNames.add(field.getFieldName());
+            }
+            if (slot.packedBoolean()) {
+                booleanNames.add(field.getFieldName());
+                continue;
+            }
+            specs.add(new ClassGenerator.FieldSpec(
+                    slot.unboxed() ? slot.primitive() : field.getTypeName(),
+                    field.getFieldName(),
+                    null,
+                    slot.unboxed() ? Set.of() : field.getRequiredImports()
+            ));
+        }
+        addBitFields(specs, PRESENCE_BITS, presenceNames, "값이 있는 nullable 필드");
+        addBitFields(specs, BOOLEAN_BITS, booleanNames, "불리언 필드 값");
+        return specs;
+    }
+
+    private static void addBitFields(List<ClassGenerator.FieldSpec> specs,
+                                     String prefix,
+                                     List<String> names,
+                                     String description) {
+        for (int word = 0; word * 64 < names.size(); word++) {
+            List<String> bits = names.subList(word * 64, Math.min(names.size(), (word + 1) * 64));
+            specs.add(new ClassGenerator.FieldSpec(
+                    "long",
+                    prefix + word,
+                    description + " 비트 (0번 비트부터: " + String.join(", ", bits) + ")"
+            ));
+        }
+    }
+
+    @Override
+    public String members(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        Plan plan = plan(modelClass);
+        StringBuilder sb = new StringBuilder(modelClass.getFields().size() * 200);
+        for (Slot slot : plan.slots()) {
+            if (sb.length() > 0) {
+                sb.append("\n");
+            }
+            appendAccessors(slot, sb);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public Set<String> requiredImports(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        // 접근자는 필드 선언과 같은 타입만 사용하므로 추가 import가 없다.
+        return Set.of();
+    }
+
+    private void appendAccessors(Slot slot, StringBuilder sb) {
+        ModelGraph.Field field = slot.field();
+        String name = field.getFieldName();
+
+        if (!slot.unboxed()) {
+            String type = field.getTypeName();
+            appendMethod(sb, "public " + type + " " + getter(field) + "()", "return " + name + ";");
+            sb.append("\n");
+            appendMethod(sb, "public void " + setter(field) + "(" + type + " " + name + ")", "this." + name + " = " + name + ";");
+            return;
+        }
+
+        String boxed = field.getTypeName().trim();
+        String value = slot.packedBoolean()
+                ? "(" + bitWord(BOOLEAN_BITS, slot.booleanBit()) + " & " + mask(slot.booleanBit()) + ") != 0"
+                : name;
+
+        if (!slot.tracksPresence()) {
+            appendMethod(sb, "public " + slot.primitive() + " " + getter(field) + "()", "return " + value + ";");
+            sb.append("\n");
+            sb.append("    public void ").append(setter(field)).append("(").append(slot.primitive()).append(" ")
+                    .append(name).append(") {\n");
+            if (slot.packedBoolean()) {
+                appendSetBit(sb, "        ", name, BOOLEAN_BITS, slot.booleanBit());
+            } else {
+                sb.append("        this.").append(name).append(" = ").append(name).append(";\n");
+            }
+            sb.append("    }\n");
+            return;
+        }
+
+        String presenceWord = bitWord(PRESENCE_BITS, slot.presenceBit());
+        String presenceMask = mask(slot.presenceBit());
+        appendMethod(sb, "public boolean " + presence(field) + "()",
+                "return (" + presenceWord + " & " + presenceMask + ") != 0;");
+        sb.append("\n");
+        appendMethod(sb, "public " + boxed + " " + getter(field) + "()",
+                "return " + presence(field) + "() ? " + value + " : null;");
+        sb.append("\n");
+        sb.append("    public void ").append(setter(field)).append("(").append(boxed).append(" ").append(name).append(") {\n")
+                .append("        if (").append(name).append(" == null) {\n");
+        if (slot.packedBoolean()) {
+            sb.append("            ").append(bitWord(BOOLEAN_BITS, slot.booleanBit())).append(" &= ~")
+                    .append(mask(slot.booleanBit())).append(";\n");
+        } else {
+            sb.append("            this.").append(name).append(" = 0;\n");
+        }
+        sb.append("            ").append(presenceWord).append(" &= ~").append(presenceMask).append(";\n")
+                .append("        } else {\n");
+        if (slot.packedBoolean()) {
+            appendSetBit(sb, "            ", name, BOOLEAN_BITS, slot.booleanBit());
+        } else {
+            sb.append("            this.").append(name).append(" = ").append(name).append(";\n");
+        }
+        sb.append("            ").append(presenceWord).append(" |= ").append(presenceMask).append(";\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    private static void appendMethod(StringBuilder sb, String signature, String statement) {
+        sb.append("    ").append(signature).append(" {\n")
+                .append("        ").append(statement).append("\n")
+                .append("    }\n");
+    }
+
+    private static void appendSetBit(StringBuilder sb, String indent, String condition, String prefix, int bit) {
+        String word = bitWord(prefix, bit);
+        sb.append(indent).append("if (").append(condition).append(") {\n")
+                .append(indent).append("    ").append(word).append(" |= ").append(mask(bit)).append(";\n")
+                .append(indent).append("} else {\n")
+                .append(indent).append("    ").append(word).append(" &= ~").append(mask(bit)).append(";\n")
+                .append(indent).append("}\n");
+    }
+
+    private static String bitWord(String prefix, int bit) {
+        return prefix + (bit / 64);
+    }
+
+    private static String mask(int bit) {
+        return "(1L << " + (bit % 64) + ")";
+    }
+
+    static String getter(ModelGraph.Field field) {
+        return "get" + capitalize(field.getFieldName());
+    }
+
+    static String setter(ModelGraph.Field field) {
+        return "set" + capitalize(field.getFieldName());
+    }
+
+    static String presence(ModelGraph.Field field) {
+        return "has" + capitalize(field.getFieldName());
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -3,6 +3,7 @@ package org.example.generator;
 import org.example.exception.UserException;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -16,6 +17,7 @@ import java.util.Map;
  * <ul>
  *   <li>지정된 출력 디렉터리 아래에 클래스명.java 파일 생성</li>
  *   <li>UTF-8로 콘텐츠 저장</li>
+ *   <li>{@link SourceSink}로 생성과 동시에 스트리밍 기록</li>
  *   <li>쓰기 과정에서 발생하는 예외를 UserException으로 래핑</li>
  * </ul>
  */
@@ -38,10 +40,42 @@ public class FileWriter {
         try {
             Files.writeString(filePath, content, StandardCharsets.UTF_8);
         } catch (IOException e) {
-            throw new UserException("[ERROR] Java 파일을 생성하는 중 오류가 발생했습니다: " + filePath, e);
+            throw failure(filePath, e);
         }
     }
 
+    /**
+     * 지정된 출력 디렉터리에 "className.java" 파일을 여는 {@link SourceSink}를 반환한다.
+     * <p>
+     * {@link ClassGenerator#generateAllFromModelGraph(org.example.json.ModelGraph, boolean, SourceSink)}와
+     * 함께 쓰면 클래스가 생성되는 즉시 파일로 기록된다.
+     * 파일을 열거나 쓰거나 닫다가 실패하면 파일 경로를 담은 UserException을 던진다.
+     *
+     * @param outDir 출력 디렉터리 (이미 존재해야 함)
+     */
+    public SourceSink sinkFor(Path outDir) {
+        if (outDir == null) {
+            throw new IllegalArgumentException("outDir는 null일 수 없습니다.");
+        }
+        return className -> openWriter(outDir, className);
+    }
+
+    private Writer openWriter(Path outDir, String className) {
+        if (className == null) {
+            throw new IllegalArgumentException("className은 null일 수 없습니다.");
+        }
+        Path filePath = outDir.resolve(className + ".java");
+        try {
+            return new FileSourceWriter(filePath, Files.newBufferedWriter(filePath, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw failure(filePath, e);
+        }
+    }
+
+    private static UserException failure(Path filePath, IOException e) {
+        return new UserException("[ERROR] Java 파일을 생성하는 중 오류가 발생했습니다: " + filePath, e);
+    }
+
     /**
      * 클래스 이름 - 소스 코드 맵을 받아 여러 .java 파일을 한 번에 생성한다.
      */
@@ -51,4 +85,62 @@ public class FileWriter {
         }
     }
 
+    /**
+     * 파일 하나에 쓰는 Writer. 권한, 디스크 공간 등의 오류를 파일 경로와 함께 알리도록 UserException으로 바꾼다.
+     */
+    private static final class FileSourceWriter extends Writer {
+        private final Path filePath;
+        private final Writer out;
+
+        private FileSourceWriter(Path filePath, Writer out) {
+            this.filePath = filePath;
+            this.out = out;
+        }
+
+        @Override
+        public void write(int c) {
+            try {
+                out.write(c);
+            } catch (IOException e) {
+                throw failure(filePath, e);
+            }
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            try {
+                out.write(cbuf, off, len);
+            } catch (IOException e) {
+                throw failure(filePath, e);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            try {
+                out.write(str, off, len);
+            } catch (IOException e) {
+                throw failure(filePath, e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw failure(filePath, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                out.close();
+            } catch (IOException e) {
+                throw failure(filePath, e);
+            }
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,259 @@
+package org.example.generator;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * {@link CodeFormatter}의 정리 규칙을 한 번의 순회로 적용하는 문자 필터 Writer.
+ *
+ * <p>들어오는 문자를 줄 단위로 나누지 않고 흘려보내면서 다음을 처리한다.
+ * <ul>
+ *     <li>CRLF / CR 개행을 '\n'으로 통일 (CRLF가 write 호출 경계에 걸쳐도 동일)</li>
+ *     <li>줄 끝 공백 · 탭 제거 (아직 내보내지 않은 공백만 따로 보관)</li>
+ *     <li>공백만 있는 줄은 빈 줄로 보고, 연속된 빈 줄은 하나로 축소</li>
+ *     <li>{@link #finish()} 시점에 마지막 줄을 마무리하여 파일 끝 개행 보장</li>
+ * </ul>
+ *
+ * <p>줄마다 substring이나 새 버퍼를 만들지 않는다. 특별한 처리가 필요 없는 문자 구간은
+ * 통째로 복사하고, 출력은 내부 버퍼에 모았다가 한 번에 대상 {@link Appendable}로 넘긴다.
+ * 생성 파이프라인에서 파일 Writer를 감싸 사용할 수 있다.</p>
+ *
+ * <p>스레드 안전하지 않으며, 인스턴스 하나는 소스 하나를 처리하는 데 사용한다.</p>
+ */
+public final class FormattingWriter extends Writer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Appendable out;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final char[] scratch = new char[BUFFER_SIZE];
+    private int buffered;
+
+    // 현재 줄에서 아직 내보내지 않은 공백 (줄 끝 공백이면 버려진다)
+    private final StringBuilder pendingWhitespace = new StringBuilder();
+
+    private boolean lineHasContent;
+    private boolean previousBlank;
+    private boolean skipLineFeed;
+    private boolean finished;
+
+    /**
+     * @param out 정리된 결과를 받을 대상 (StringBuilder, Writer 등)
+     */
+    public FormattingWriter(Appendable out) {
+        this.out = Objects.requireNonNull(out, "out must not be null");
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureOpen();
+        accept((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, cbuf.length);
+        ensureOpen();
+        process(cbuf, off, off + len);
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, str.length());
+        ensureOpen();
+        // 문자열은 작은 조각 단위로 배열에 옮겨 같은 경로로 처리한다.
+        int end = off + len;
+        while (off < end) {
+            int chunk = Math.min(scratch.length, end - off);
+            str.getChars(off, off + chunk, scratch, 0);
+            process(scratch, 0, chunk);
+            off += chunk;
+        }
+    }
+
+    @Override
+    public Writer append(CharSequence csq) throws IOException {
+        CharSequence text = (csq != null) ? csq : "null";
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence text = (csq != null) ? csq : "null";
+        Objects.checkFromToIndex(start, end, text.length());
+        if (text instanceof String str) {
+            write(str, start, end - start);
+            return this;
+        }
+        ensureOpen();
+        for (int i = start; i < end; i++) {
+            accept(text.charAt(i));
+        }
+        return this;
+    }
+
+    /**
+     * 마지막 줄을 마무리하고 버퍼에 남은 내용을 대상에 넘긴다.
+     * 대상 자체는 닫지 않는다. 이후에는 더 이상 기록할 수 없다.
+     */
+    public void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        endLine();
+        finished = true;
+        drain();
+    }
+
+    /**
+     * 버퍼에 모인 내용을 대상에 넘기고, 대상이 {@link Flushable}이면 flush 한다.
+     * 아직 끝나지 않은 줄의 끝 공백은 보류 상태로 남는다.
+     */
+    @Override
+    public void flush() throws IOException {
+        drain();
+        if (out instanceof Flushable flushable) {
+            flushable.flush();
+        }
+    }
+
+    /**
+     * {@link #finish()} 후 대상을 flush 하고, 대상이 {@link Closeable}이면 닫는다.
+     */
+    @Override
+    public void close() throws IOException {
+        finish();
+        flush();
+        if (out instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * 줄 내용이 이미 시작되었고 보류 중인 공백이 없으면, 특별한 처리가 필요 없는 문자 구간을
+     * 한 번에 복사한다. 그 밖의 문자는 {@link #accept(char)}로 하나씩 처리한다.
+     */
+    private void process(char[] src, int from, int to) throws IOException {
+        int i = from;
+        while (i < to) {
+            if (lineHasContent && !skipLineFeed && pendingWhitespace.length() == 0 && isPlain(src[i])) {
+                int runStart = i;
+                while (i < to && isPlain(src[i])) {
+                    i++;
+                }
+                emit(src, runStart, i - runStart);
+                continue;
+            }
+            accept(src[i]);
+            i++;
+        }
+    }
+
+    private static boolean isPlain(char c) {
+        return c != ' ' && c != '\t' && c != '\n' && c != '\r';
+    }
+
+    private void accept(char c) throws IOException {
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (c == '\n') {
+                return; // CRLF의 LF
+            }
+        }
+
+        if (c == '\r') {
+            endLine();
+            skipLineFeed = true;
+            return;
+        }
+        if (c == '\n') {
+            endLine();
+            return;
+        }
+
+        if (lineHasContent) {
+            // 내용이 시작된 뒤에는 공백 · 탭만 줄 끝 후보로 보류한다.
+            if (c == ' ' || c == '\t') {
+                pendingWhitespace.append(c);
+                return;
+            }
+        } else {
+            // 내용이 나오기 전까지는 공백 문자 전체를 보류한다. (공백만 있는 줄 = 빈 줄)
+            if (Character.isWhitespace(c)) {
+                pendingWhitespace.append(c);
+                return;
+            }
+            lineHasContent = true;
+        }
+
+        emitPendingWhitespace();
+        emit(c);
+    }
+
+    private void endLine() throws IOException {
+        if (lineHasContent) {
+            emit('\n');
+            previousBlank = false;
+        } else if (!previousBlank) {
+            emit('\n');
+            previousBlank = true;
+        }
+        pendingWhitespace.setLength(0);
+        lineHasContent = false;
+    }
+
+    private void emitPendingWhitespace() throws IOException {
+        for (int i = 0; i < pendingWhitespace.length(); i++) {
+            emit(pendingWhitespace.charAt(i));
+        }
+        pendingWhitespace.setLength(0);
+    }
+
+    private void emit(char c) throws IOException {
+        if (buffered == buffer.length) {
+            drain();
+        }
+        buffer[buffered++] = c;
+    }
+
+    private void emit(char[] src, int off, int len) throws IOException {
+        if (len > buffer.length - buffered) {
+            drain();
+            if (len > buffer.length) {
+                // 버퍼보다 큰 구간은 복사 없이 바로 넘긴다.
+                appendTo(src, off, len);
+                return;
+            }
+        }
+        System.arraycopy(src, off, buffer, buffered, len);
+        buffered += len;
+    }
+
+    private void drain() throws IOException {
+        if (buffered == 0) {
+            return;
+        }
+        appendTo(buffer, 0, buffered);
+        buffered = 0;
+    }
+
+    private void appendTo(char[] src, int off, int len) throws IOException {
+        if (out instanceof StringBuilder sb) {
+            sb.append(src, off, len);
+        } else if (out instanceof Writer writer) {
+            writer.write(src, off, len);
+        } else {
+            out.append(CharBuffer.wrap(src, off, len));
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) {
+            throw new IOException("이미 마무리된 FormattingWriter에는 기록할 수 없습니다.");
+        }
+    }
+}
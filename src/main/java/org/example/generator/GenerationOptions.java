@@ -0,0 +1,172 @@
+package org.example.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DTO 소스 생성 옵션.
+ * <p>
+ * 불변 객체이며, 값을 바꿀 때는 {@code withXxx} 메서드로 복사본을 만든다.
+ * <pre>
+ * GenerationOptions options = GenerationOptions.defaults().withJsonReaders(true);
+ * </pre>
+ */
+public final class GenerationOptions {
+
+    /**
+     * DTO 필드 배치 방식.
+     */
+    public enum Layout {
+        /** 모든 필드를 참조 타입 private 필드로 선언 (기본값) */
+        STANDARD,
+        /** 원시 타입 + 비트 필드 + 접근자로 선언 ({@link CompactLayout} 참고) */
+        COMPACT
+    }
+
+    /**
+     * DTO 선언 형태. ({@link ImmutableStyle} 참고)
+     */
+    public enum DtoStyle {
+        /** private 필드만 선언 (기본값). Jackson은 리플렉션으로 필드에 값을 넣는다. */
+        FIELDS,
+        /** {@code @JsonProperty} 컴포넌트를 가진 Java 레코드로 선언 */
+        RECORD,
+        /** final 클래스 + final 필드 + {@code @JsonCreator} 전체 인자 생성자 + getter로 선언 */
+        CONSTRUCTOR
+    }
+
+    private static final GenerationOptions DEFAULTS =
+            new GenerationOptions(false, false, Layout.STANDARD, false, false, false, DtoStyle.FIELDS);
+
+    private final boolean jsonReaders;
+    private final boolean jsonWriters;
+    private final Layout layout;
+    private final boolean lazyDtos;
+    private final boolean columnar;
+    private final boolean primitiveArrays;
+    private final DtoStyle dtoStyle;
+
+    private GenerationOptions(boolean jsonReaders, boolean jsonWriters, Layout layout, boolean lazyDtos, boolean columnar,
+                              boolean primitiveArrays, DtoStyle dtoStyle) {
+        this.jsonReaders = jsonReaders;
+        this.jsonWriters = jsonWriters;
+        this.layout = Objects.requireNonNull(layout, "layout must not be null");
+        this.lazyDtos = lazyDtos;
+        this.columnar = columnar;
+        this.primitiveArrays = primitiveArrays;
+        this.dtoStyle = Objects.requireNonNull(dtoStyle, "dtoStyle must not be null");
+        if (layout == Layout.COMPACT && dtoStyle != DtoStyle.FIELDS) {
+            throw new IllegalArgumentException("compact layout cannot be combined with dto style " + dtoStyle);
+        }
+    }
+
+    /**
+     * 필드 선언만 생성하는 기본 옵션.
+     */
+    public static GenerationOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * 각 DTO에 jackson-core JsonParser 기반 스트리밍 reader({@code readJson})를 함께 생성할지 여부.
+     */
+    public boolean jsonReaders() {
+        return jsonReaders;
+    }
+
+    /**
+     * 각 DTO에 jackson-core JsonGenerator 기반 스트리밍 writer({@code writeJson})를 함께 생성할지 여부.
+     */
+    public boolean jsonWriters() {
+        return jsonWriters;
+    }
+
+    public Layout layout() {
+        return layout;
+    }
+
+    /**
+     * 각 DTO마다 필드를 처음 읽을 때 디코딩하는 짝 클래스({@code LazyXxx})를 함께 생성할지 여부.
+     * ({@link LazyDtoGenerator} 참고)
+     */
+    public boolean lazyDtos() {
+        return lazyDtos;
+    }
+
+    /**
+     * 객체 배열의 원소 클래스마다 열 단위 컨테이너({@code XxxColumns})를 함께 생성할지 여부.
+     * 컨테이너의 디코더가 생성된 reader를 사용하므로, 켜면 {@link #jsonReaders()}와 관계없이 reader도 생성된다.
+     * ({@link ColumnarGenerator} 참고)
+     */
+    public boolean columnar() {
+        return columnar;
+    }
+
+    /**
+     * null 없는 숫자/불리언 배열을 {@code List<Double>} 대신 {@code int[]}/{@code long[]}/{@code double[]}/{@code boolean[]}로
+     * 선언할지 여부. 타입 추론 단계의 옵션이므로 {@code TypeInferencer}에 전달해야 적용된다.
+     */
+    public boolean primitiveArrays() {
+        return primitiveArrays;
+    }
+
+    /**
+     * DTO 선언 형태. {@link Layout#COMPACT}는 {@link DtoStyle#FIELDS}와만 함께 쓸 수 있다.
+     */
+    public DtoStyle dtoStyle() {
+        return dtoStyle;
+    }
+
+    public GenerationOptions withJsonReaders(boolean jsonReaders) {
+        return new GenerationOptions(jsonReaders, jsonWriters, layout, lazyDtos, columnar, primitiveArrays, dtoStyle);
+    }
+
+    public GenerationOptions withJsonWriters(boolean jsonWriters) {
+        return new GenerationOptions(jsonReaders, jsonWriters, layout, lazyDtos, columnar, primitiveArrays, dtoStyle);
+    }
+
+    public GenerationOptions withLayout(Layout layout) {
+        return new GenerationOptions(jsonReaders, jsonWriters, layout, lazyDtos, columnar, primitiveArrays, dtoStyle);
+    }
+
+    public GenerationOptions withLazyDtos(boolean lazyDtos) {
+        return new GenerationOptions(jsonReaders, jsonWriters, layout, lazyDtos, columnar, primitiveArrays, dtoStyle);
+    }
+
+    public GenerationOptions withColumnar(boolean columnar) {
+        return new GenerationOptions(jsonReaders, jsonWriters, layout, lazyDtos, columnar, primitiveArrays, dtoStyle);
+    }
+
+    public GenerationOptions withPrimitiveArrays(boolean primitiveArrays) {
+        return new GenerationOptions(jsonReaders, jsonWriters, layout, lazyDtos, columnar, primitiveArrays, dtoStyle);
+    }
+
+    public GenerationOptions withDtoStyle(DtoStyle dtoStyle) {
+        return new GenerationOptions(jsonReaders, jsonWriters, layout, lazyDtos, columnar, primitiveArrays, dtoStyle);
+    }
+
+    /**
+     * 옵션에 따라 ClassGenerator에 등록할 MemberGenerator 목록을 만든다.
+     */
+    List<MemberGenerator> memberGenerators() {
+        List<MemberGenerator> generators = new ArrayList<>();
+        if (layout == Layout.COMPACT) {
+            generators.add(new CompactLayout());
+        }
+        if (dtoStyle == DtoStyle.CONSTRUCTOR) {
+            generators.add(new ImmutableStyle());
+        }
+        boolean readers = jsonReaders || columnar;
+        if (readers || jsonWriters) {
+            generators.add(new JsonCodecGenerator(readers, jsonWriters, layout, dtoStyle));
+        }
+        if (lazyDtos) {
+            generators.add(new LazyDtoGenerator());
+        }
+        if (columnar) {
+            generators.add(new ColumnarGenerator());
+        }
+        return generators;
+    }
+}
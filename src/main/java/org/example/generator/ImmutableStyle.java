@@ -0,0 +1,99 @@
+package org.example.generator;
+
+import org.example.json.ModelGraph;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 불변 DTO 선언 방식({@code --dto-style record|constructor}).
+ * <p>
+ * 기본 선언(private 필드만 있는 클래스)은 Jackson이 인스턴스마다 리플렉션으로 필드에 값을 넣어야 한다.
+ * 불변 선언은 모든 값을 생성자 한 번으로 받는다.
+ * <ul>
+ *     <li>{@code record}: 각 필드를 {@code @JsonProperty("jsonName")}이 붙은 레코드 컴포넌트로 선언한다.</li>
+ *     <li>{@code constructor}: final 클래스에 {@code @JsonProperty} final 필드,
+ *         {@code @JsonCreator} 전체 인자 생성자, getter를 생성한다.</li>
+ * </ul>
+ * 생성자 인자 순서는 {@link ModelGraph.ModelClass#getFields()} 순서와 같다.
+ */
+final class ImmutableStyle implements MemberGenerator {
+
+    static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    static final String JSON_CREATOR = "com.fasterxml.jackson.annotation.JsonCreator";
+
+    static ClassGenerator.ClassSpec.Kind classKind(GenerationOptions.DtoStyle dtoStyle) {
+        return switch (dtoStyle) {
+            case FIELDS -> ClassGenerator.ClassSpec.Kind.CLASS;
+            case RECORD -> ClassGenerator.ClassSpec.Kind.RECORD;
+            case CONSTRUCTOR -> ClassGenerator.ClassSpec.Kind.FINAL_CLASS;
+        };
+    }
+
+    /**
+     * JSON 키 이름을 {@code @JsonProperty}로 붙인 필드(레코드 컴포넌트) 선언 목록.
+     */
+    static List<ClassGenerator.FieldSpec> fieldSpecs(ModelGraph.ModelClass modelClass) {
+        List<ClassGenerator.FieldSpec> specs = new ArrayList<>(modelClass.getFields().size());
+        for (ModelGraph.Field field : modelClass.getFields()) {
+            Set<String> imports = new LinkedHashSet<>(field.getRequiredImports());
+            imports.add(JSON_PROPERTY);
+            specs.add(new ClassGenerator.FieldSpec(
+                    field.getTypeName(),
+                    field.getFieldName(),
+                    null,
+                    imports,
+                    List.of(jsonProperty(field))
+            ));
+        }
+        return specs;
+    }
+
+    static String jsonProperty(ModelGraph.Field field) {
+        return "@JsonProperty(" + JsonCodecGenerator.javaString(field.getJsonName()) + ")";
+    }
+
+    /**
+     * {@code @JsonCreator} 생성자와 getter. 필드가 없으면 기본 생성자로 충분하므로 아무것도 생성하지 않는다.
+     */
+    @Override
+    public String members(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        List<ModelGraph.Field> fields = modelClass.getFields();
+        if (fields.isEmpty()) {
+            return "";
+        }
+
+        String className = modelClass.getSimpleName();
+        String continuation = " ".repeat("    public ".length() + className.length() + 1);
+        StringBuilder sb = new StringBuilder(fields.size() * 160);
+        sb.append("    @JsonCreator\n")
+                .append("    public ").append(className).append("(");
+        for (int i = 0; i < fields.size(); i++) {
+            ModelGraph.Field field = fields.get(i);
+            if (i > 0) {
+                sb.append(",\n").append(continuation);
+            }
+            sb.append(jsonProperty(field)).append(" ").append(field.getTypeName()).append(" ").append(field.getFieldName());
+        }
+        sb.append(") {\n");
+        for (ModelGraph.Field field : fields) {
+            sb.append("        this.").append(field.getFieldName()).append(" = ").append(field.getFieldName()).append(";\n");
+        }
+        sb.append("    }\n");
+
+        for (ModelGraph.Field field : fields) {
+            sb.append("\n")
+                    .append("    public ").append(field.getTypeName()).append(" ").append(CompactLayout.getter(field)).append("() {\n")
+                    .append("        return ").append(field.getFieldName()).append(";\n")
+                    .append("    }\n");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public Set<String> requiredImports(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        return modelClass.getFields().isEmpty() ? Set.of() : Set.of(JSON_CREATOR, JSON_PROPERTY);
+    }
+}
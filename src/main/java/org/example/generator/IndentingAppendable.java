@@ -0,0 +1,52 @@
+package org.example.generator;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 기록되는 각 줄 앞에 들여쓰기를 붙여 주는 {@link Appendable} 래퍼.
+ * <p>
+ * 빈 줄에는 들여쓰기를 붙이지 않는다.
+ * 문자열을 줄 단위로 split 하지 않고 흘려보내면서 처리하므로,
+ * 이미 렌더링된 큰 문자열을 다시 복사할 필요가 없다.
+ */
+final class IndentingAppendable implements Appendable {
+
+    private final Appendable out;
+    private final String indent;
+    private boolean atLineStart = true;
+
+    /**
+     * @param out         실제 출력 대상
+     * @param indentLevel 들여쓰기 단계 (1단계 = 공백 4칸)
+     */
+    IndentingAppendable(Appendable out, int indentLevel) {
+        this.out = Objects.requireNonNull(out, "out must not be null");
+        this.indent = "    ".repeat(Math.max(0, indentLevel));
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        CharSequence text = (csq != null) ? csq : "null";
+        return append(text, 0, text.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        CharSequence text = (csq != null) ? csq : "null";
+        for (int i = start; i < end; i++) {
+            append(text.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (atLineStart && c != '\n') {
+            out.append(indent);
+        }
+        out.append(c);
+        atLineStart = (c == '\n');
+        return this;
+    }
+}
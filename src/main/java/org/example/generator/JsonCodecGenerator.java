@@ -0,0 +1,946 @@
+package org.example.generator;
+
+import org.example.json.ModelGraph;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 각 DTO 안에 jackson-core {@code JsonParser}/{@code JsonGenerator}를 직접 사용하는
+ * 스트리밍 reader/writer를 생성한다.
+ * <p>
+ * 키 이름은 클래스마다 {@code SerializedString} 상수로 한 번만 인코딩해 두고 reader와 writer가 함께 사용한다.
+ * <p>
+ * 생성되는 {@code readJson(JsonParser)}는 리플렉션이나 bean introspection 없이 동작한다.
+ * <ol>
+ *     <li>빠른 경로: 샘플에서 관찰된 키 순서({@link ModelGraph.ModelClass#getObservedFieldOrder()})대로
+ *         {@code nextFieldName(SerializableString)}으로 키를 맞춰 본다.
+ *         미리 인코딩된 이름과 바이트 단위로 비교하므로 키 문자열을 만들지 않는다.</li>
+ *     <li>순서가 어긋나는 순간 빠른 경로를 빠져나와, 남은 키들은 {@code switch}로 분기한다.
+ *         알 수 없는 키의 값은 건너뛴다.</li>
+ * </ol>
+ * <p>
+ * 생성되는 {@code writeJson(JsonGenerator)}는 미리 인코딩된 키 이름으로 필드를 기록한다.
+ * nullable 필드의 값이 null이면 키 자체를 생략하고, 중첩 클래스와 리스트는 생성된 writer를 직접 호출한다.
+ * <p>
+ * 값 읽기/쓰기에 필요한 공통 코드는 지원 클래스 {@value #READ_SUPPORT_CLASS}, {@value #WRITE_SUPPORT_CLASS}로 생성된다.
+ */
+public class JsonCodecGenerator implements MemberGenerator {
+
+    static final String READ_SUPPORT_CLASS = "JsonReadSupport";
+    static final String WRITE_SUPPORT_CLASS = "JsonWriteSupport";
+
+    private static final String PARSER = "parser";
+    private static final String GENERATOR = "generator";
+
+    private final boolean readers;
+    private final boolean writers;
+    private final GenerationOptions.Layout layout;
+    private final GenerationOptions.DtoStyle dtoStyle;
+
+    /**
+     * reader만 생성한다.
+     */
+    public JsonCodecGenerator() {
+        this(true, false);
+    }
+
+    /**
+     * @param readers {@code readJson(JsonParser)} 생성 여부
+     * @param writers {@code writeJson(JsonGenerator)} 생성 여부
+     */
+    public JsonCodecGenerator(boolean readers, boolean writers) {
+        this(readers, writers, GenerationOptions.Layout.STANDARD);
+    }
+
+    /**
+     * @param readers {@code readJson(JsonParser)} 생성 여부
+     * @param writers {@code writeJson(JsonGenerator)} 생성 여부
+     * @param layout  DTO 필드 배치. COMPACT면 필드 대신 생성된 접근자를 통해 값을 읽고 쓴다.
+     */
+    public JsonCodecGenerator(boolean readers, boolean writers, GenerationOptions.Layout layout) {
+        this(readers, writers, layout, GenerationOptions.DtoStyle.FIELDS);
+    }
+
+    /**
+     * @param readers  {@code readJson(JsonParser)} 생성 여부
+     * @param writers  {@code writeJson(JsonGenerator)} 생성 여부
+     * @param layout   DTO 필드 배치. COMPACT면 필드 대신 생성된 접근자를 통해 값을 읽고 쓴다.
+     * @param dtoStyle DTO 선언 형태. FIELDS가 아니면 reader가 값을 지역 변수에 모았다가 생성자를 한 번 호출한다.
+     */
+    public JsonCodecGenerator(boolean readers,
+                              boolean writers,
+                              GenerationOptions.Layout layout,
+                              GenerationOptions.DtoStyle dtoStyle) {
+        if (!readers && !writers) {
+            throw new IllegalArgumentException("readers 또는 writers 중 하나는 생성해야 합니다.");
+        }
+        this.readers = readers;
+        this.writers = writers;
+        this.layout = Objects.requireNonNull(layout, "layout must not be null");
+        this.dtoStyle = Objects.requireNonNull(dtoStyle, "dtoStyle must not be null");
+    }
+
+    @Override
+    public String members(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        Objects.requireNonNull(modelClass, "modelClass must not be null");
+        Objects.requireNonNull(graph, "graph must not be null");
+
+        StringBuilder sb = new StringBuilder(512 + modelClass.getFields().size() * 240);
+        appendNameConstants(modelClass, sb);
+        if (readers) {
+            appendReader(modelClass, graph, sb);
+        }
+        if (writers) {
+            if (readers) {
+                sb.append("\n");
+            }
+            appendWriter(modelClass, graph, sb);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public Set<String> requiredImports(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        Set<String> imports = new LinkedHashSet<>();
+        imports.add("java.io.IOException");
+        if (!modelClass.getFields().isEmpty()) {
+            imports.add("com.fasterxml.jackson.core.io.SerializedString");
+        }
+        if (readers) {
+            imports.add("com.fasterxml.jackson.core.JsonParser");
+            if (!modelClass.getFields().isEmpty()) {
+                imports.add("com.fasterxml.jackson.core.JsonToken");
+            }
+        }
+        if (writers) {
+            imports.add("com.fasterxml.jackson.core.JsonGenerator");
+        }
+        return imports;
+    }
+
+    @Override
+    public List<ClassGenerator.ClassSpec> supportClasses(String packageName) {
+        List<ClassGenerator.ClassSpec> specs = new java.util.ArrayList<>();
+        if (readers) {
+            specs.add(readSupportSpec(packageName));
+        }
+        if (writers) {
+            specs.add(new ClassGenerator.ClassSpec(
+                    packageName,
+                    WRITE_SUPPORT_CLASS,
+                    List.of(),
+                    writeSupportMembers(),
+                    Set.of(
+                            "com.fasterxml.jackson.core.JsonGenerator",
+                            "java.io.IOException",
+                            "java.math.BigDecimal",
+                            "java.math.BigInteger",
+                            "java.util.List",
+                            "java.util.Map"
+                    )
+            ));
+        }
+        return specs;
+    }
+
+    /**
+     * 값 읽기 지원 클래스({@value #READ_SUPPORT_CLASS}). 다른 MemberGenerator도 같은 클래스를 공유한다.
+     */
+    static ClassGenerator.ClassSpec readSupportSpec(String packageName) {
+        return new ClassGenerator.ClassSpec(
+                packageName,
+                READ_SUPPORT_CLASS,
+                List.of(),
+                readSupportMembers(),
+                Set.of(
+                        "com.fasterxml.jackson.core.JsonParseException",
+                        "com.fasterxml.jackson.core.JsonParser",
+                        "com.fasterxml.jackson.core.JsonToken",
+                        "java.io.IOException",
+                        "java.util.ArrayList",
+                        "java.util.Arrays",
+                        "java.util.LinkedHashMap",
+                        "java.util.List",
+                        "java.util.Map"
+                )
+        );
+    }
+
+    /**
+     * JSON 키 이름을 한 번만 인코딩해 두는 SerializedString 상수들.
+     */
+    private void appendNameConstants(ModelGraph.ModelClass modelClass, StringBuilder sb) {
+        if (modelClass.getFields().isEmpty()) {
+            return;
+        }
+        for (ModelGraph.Field field : modelClass.getFields()) {
+            sb.append("    private static final SerializedString ")
+                    .append(nameConstant(field))
+                    .append(" = new SerializedString(")
+                    .append(javaString(field.getJsonName()))
+                    .append(");\n");
+        }
+        sb.append("\n");
+    }
+
+    private void appendReader(ModelGraph.ModelClass modelClass, ModelGraph graph, StringBuilder sb) {
+        String className = modelClass.getSimpleName();
+
+        sb.append("    /**\n")
+                .append("     * JSON 객체 하나를 읽어 ").append(className).append("로 변환한다. (JSON null이면 null)\n")
+                .append("     * 호출 전 parser는 객체의 시작 토큰에 있거나 아직 토큰을 읽지 않은 상태여야 하며,\n")
+                .append("     * 반환 후에는 객체의 마지막 토큰(END_OBJECT)에 위치한다.\n")
+                .append("     */\n")
+                .append("    public static ").append(className)
+                .append(" readJson(JsonParser ").append(PARSER).append(") throws IOException {\n")
+                .append("        if (!").append(READ_SUPPORT_CLASS).append(".startObject(").append(PARSER).append(")) {\n")
+                .append("            return null;\n")
+                .append("        }\n");
+        boolean immutable = dtoStyle != GenerationOptions.DtoStyle.FIELDS;
+        if (!immutable) {
+            sb.append("        ").append(className).append(" result = new ").append(className).append("();\n");
+        } else {
+            // 불변 DTO는 값을 생성자 인자 순서대로 f0, f1 ...에 모았다가 마지막에 한 번 생성한다.
+            List<ModelGraph.Field> fields = modelClass.getFields();
+            for (int i = 0; i < fields.size(); i++) {
+                sb.append("        ").append(fields.get(i).getTypeName()).append(" ").append(local(i)).append(" = null;\n");
+            }
+        }
+        String result = immutable ? constructorCall(modelClass) : "result";
+
+        if (modelClass.getFields().isEmpty()) {
+            sb.append("        parser.skipChildren();\n")
+                    .append("        return ").append(result).append(";\n")
+                    .append("    }\n");
+            return;
+        }
+
+        // 1. 빠른 경로: 관찰된 키 순서대로 맞춰 본다.
+        sb.append("        fast:\n")
+                .append("        {\n");
+        CompactLayout.Plan plan = compactPlan(modelClass);
+        for (ModelGraph.Field field : modelClass.getObservedFieldOrder()) {
+            sb.append("            if (!parser.nextFieldName(").append(nameConstant(field)).append(")) {\n")
+                    .append("                break fast;\n")
+                    .append("            }\n")
+                    .append("            parser.nextToken();\n")
+                    .append("            ").append(assignment(modelClass, field, plan, graph)).append(";\n");
+        }
+        sb.append("            parser.nextToken();\n")
+                .append("        }\n");
+
+        // 2. 순서가 어긋난 뒤의 키들은 switch로 분기한다.
+        sb.append("        for (JsonToken token = parser.currentToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {\n")
+                .append("            String name = parser.currentName();\n")
+                .append("            parser.nextToken();\n")
+                .append("            switch (name) {\n");
+        for (ModelGraph.Field field : modelClass.getFields()) {
+            sb.append("                case ").append(javaString(field.getJsonName())).append(" -> ")
+                    .append(assignment(modelClass, field, plan, graph)).append(";\n");
+        }
+        sb.append("                default -> parser.skipChildren();\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return ").append(result).append(";\n")
+                .append("    }\n");
+    }
+
+    private CompactLayout.Plan compactPlan(ModelGraph.ModelClass modelClass) {
+        return (layout == GenerationOptions.Layout.COMPACT) ? CompactLayout.plan(modelClass) : null;
+    }
+
+    private static String local(int index) {
+        return "f" + index;
+    }
+
+    private static String constructorCall(ModelGraph.ModelClass modelClass) {
+        StringBuilder sb = new StringBuilder("new ").append(modelClass.getSimpleName()).append("(");
+        for (int i = 0; i < modelClass.getFields().size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(local(i));
+        }
+        return sb.append(")").toString();
+    }
+
+    /**
+     * 현재 값을 읽어 result의 필드에 넣는 문장. (세미콜론 제외)
+     * <ul>
+     *     <li>STANDARD: {@code result.name = ...}</li>
+     *     <li>COMPACT: {@code result.setName(...)}. null이 관찰되지 않은 원시 필드는 원시 값으로 읽는다.</li>
+     *     <li>RECORD/CONSTRUCTOR: {@code f0 = ...} (생성자 인자용 지역 변수)</li>
+     * </ul>
+     */
+    private String assignment(ModelGraph.ModelClass modelClass, ModelGraph.Field field, CompactLayout.Plan plan,
+                              ModelGraph graph) {
+        if (dtoStyle != GenerationOptions.DtoStyle.FIELDS) {
+            return local(modelClass.getFields().indexOf(field)) + " = " + readExpression(field.getTypeName(), PARSER, 0, graph);
+        }
+        if (plan == null) {
+            return "result." + field.getFieldName() + " = " + readExpression(field.getTypeName(), PARSER, 0, graph);
+        }
+        CompactLayout.Slot slot = plan.slotOf(field);
+        String value = (slot.unboxed() && !slot.tracksPresence())
+                ? READ_SUPPORT_CLASS + "." + primitiveReadMethod(slot.primitive()) + "(" + PARSER + ")"
+                : readExpression(field.getTypeName(), PARSER, 0, graph);
+        return "result." + CompactLayout.setter(field) + "(" + value + ")";
+    }
+
+    private static String primitiveReadMethod(String primitive) {
+        return switch (primitive) {
+            case "double" -> "readDoubleValue";
+            case "long" -> "readLongValue";
+            case "int" -> "readIntValue";
+            case "boolean" -> "readBooleanValue";
+            default -> throw new IllegalArgumentException("unsupported primitive: " + primitive);
+        };
+    }
+
+    private void appendWriter(ModelGraph.ModelClass modelClass, ModelGraph graph, StringBuilder sb) {
+        String className = modelClass.getSimpleName();
+
+        sb.append("    /**\n")
+                .append("     * 이 객체를 JSON 객체 하나로 기록한다. nullable 필드의 값이 null이면 키를 생략한다.\n")
+                .append("     */\n")
+                .append("    public void writeJson(JsonGenerator ").append(GENERATOR).append(") throws IOException {\n")
+                .append("        generator.writeStartObject();\n");
+        CompactLayout.Plan plan = compactPlan(modelClass);
+        for (ModelGraph.Field field : modelClass.getFields()) {
+            CompactLayout.Slot slot = (plan != null) ? plan.slotOf(field) : null;
+            // 파라미터(generator)와 같은 이름의 필드도 있으므로 필드는 this로 읽는다.
+            String value = (slot != null) ? CompactLayout.getter(field) + "()" : "this." + field.getFieldName();
+
+            String indent = "        ";
+            if (field.isNullable()) {
+                String present = (slot != null && slot.tracksPresence())
+                        ? CompactLayout.presence(field) + "()"
+                        : value + " != null";
+                sb.append("        if (").append(present).append(") {\n");
+                indent = "            ";
+            }
+            String statement = (slot != null && slot.unboxed() && !slot.tracksPresence())
+                    ? GENERATOR + "." + primitiveWriteMethod(slot.primitive()) + "(" + value + ")"
+                    : writeStatement(field.getTypeName(), GENERATOR, value, 0, graph);
+            sb.append(indent).append("generator.writeFieldName(").append(nameConstant(field)).append(");\n")
+                    .append(indent).append(statement).append(";\n");
+            if (field.isNullable()) {
+                sb.append("        }\n");
+            }
+        }
+        sb.append("        generator.writeEndObject();\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    /**\n")
+                .append("     * value를 기록한다. value가 null이면 JSON null을 기록한다.\n")
+                .append("     */\n")
+                .append("    public static void writeJson(JsonGenerator ").append(GENERATOR).append(", ")
+                .append(className).append(" value) throws IOException {\n")
+                .append("        if (value == null) {\n")
+                .append("            generator.writeNull();\n")
+                .append("        } else {\n")
+                .append("            value.writeJson(generator);\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    private static String primitiveWriteMethod(String primitive) {
+        return primitive.equals("boolean") ? "writeBoolean" : "writeNumber";
+    }
+
+    /**
+     * value 식의 값을 type으로 기록하는 문장을 만든다. (세미콜론 제외)
+     *
+     * @param depth 중첩 리스트의 람다 파라미터 이름이 겹치지 않도록 사용하는 깊이
+     */
+    private String writeStatement(String type, String generator, String value, int depth, ModelGraph graph) {
+        String trimmed = type.trim();
+
+        Optional<String> supportMethod = supportWriteMethod(trimmed);
+        if (supportMethod.isPresent()) {
+            return WRITE_SUPPORT_CLASS + "." + supportMethod.get() + "(" + generator + ", " + value + ")";
+        }
+        if (isList(trimmed)) {
+            String element = listElement(trimmed);
+            return WRITE_SUPPORT_CLASS + ".writeList(" + generator + ", " + value + ", "
+                    + elementWriter(element, depth + 1, graph) + ")";
+        }
+        if (findModelClass(trimmed, graph).isPresent()) {
+            return trimmed + ".writeJson(" + generator + ", " + value + ")";
+        }
+        // 그 밖의 타입(Map 등)은 범용 값으로 기록한다.
+        return WRITE_SUPPORT_CLASS + ".writeAny(" + generator + ", " + value + ")";
+    }
+
+    /**
+     * 리스트 원소를 기록하는 ValueWriter 식. 가능하면 메서드 참조를, 아니면 람다를 사용한다.
+     */
+    private String elementWriter(String elementType, int depth, ModelGraph graph) {
+        String trimmed = elementType.trim();
+
+        Optional<String> supportMethod = supportWriteMethod(trimmed);
+        if (supportMethod.isPresent()) {
+            return WRITE_SUPPORT_CLASS + "::" + supportMethod.get();
+        }
+        if (!isList(trimmed) && findModelClass(trimmed, graph).isPresent()) {
+            return trimmed + "::writeJson";
+        }
+        String generator = "g" + depth;
+        String value = "v" + depth;
+        return "(" + generator + ", " + value + ") -> "
+                + writeStatement(trimmed, generator, value, depth, graph);
+    }
+
+    private static Optional<String> supportWriteMethod(String type) {
+        return switch (type) {
+            case "String" -> Optional.of("writeString");
+            case "Double" -> Optional.of("writeDouble");
+            case "Boolean" -> Optional.of("writeBoolean");
+            case "Object" -> Optional.of("writeAny");
+            case "double[]" -> Optional.of("writeDoubleArray");
+            case "long[]" -> Optional.of("writeLongArray");
+            case "int[]" -> Optional.of("writeIntArray");
+            case "boolean[]" -> Optional.of("writeBooleanArray");
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * ModelClass 타입의 값을 읽는 식을 만드는 규칙.
+     */
+    interface ModelReader {
+
+        /**
+         * @param className ModelClass의 simpleName
+         * @param parser    값의 첫 토큰에 있는 JsonParser 변수 이름
+         */
+        String expression(String className, String parser);
+
+        /**
+         * 리스트 원소 reader로 쓸 수 있는 메서드 참조. (없으면 람다를 만든다)
+         */
+        default Optional<String> methodReference(String className) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 생성된 {@code readJson(JsonParser)}로 중첩 클래스를 읽는다.
+     */
+    static final ModelReader GENERATED_READERS = new ModelReader() {
+        @Override
+        public String expression(String className, String parser) {
+            return className + ".readJson(" + parser + ")";
+        }
+
+        @Override
+        public Optional<String> methodReference(String className) {
+            return Optional.of(className + "::readJson");
+        }
+    };
+
+    private String readExpression(String type, String parser, int depth, ModelGraph graph) {
+        return readExpression(type, parser, depth, graph, GENERATED_READERS);
+    }
+
+    /**
+     * 현재 토큰에서 시작하는 값 하나를 type으로 읽는 식을 만든다.
+     *
+     * @param depth       중첩 리스트의 람다 파라미터 이름이 겹치지 않도록 사용하는 깊이
+     * @param modelReader ModelClass 타입 값을 읽는 식을 만드는 규칙
+     */
+    static String readExpression(String type, String parser, int depth, ModelGraph graph, ModelReader modelReader) {
+        String trimmed = type.trim();
+
+        Optional<String> supportMethod = supportReadMethod(trimmed);
+        if (supportMethod.isPresent()) {
+            return READ_SUPPORT_CLASS + "." + supportMethod.get() + "(" + parser + ")";
+        }
+        if (isList(trimmed)) {
+            String element = listElement(trimmed);
+            return READ_SUPPORT_CLASS + ".readList(" + parser + ", "
+                    + elementReader(element, depth + 1, graph, modelReader) + ")";
+        }
+        if (findModelClass(trimmed, graph).isPresent()) {
+            return modelReader.expression(trimmed, parser);
+        }
+        // 그 밖의 타입(Map 등)은 범용 값으로 읽어 캐스팅한다.
+        return "(" + trimmed + ") " + READ_SUPPORT_CLASS + ".readAny(" + parser + ")";
+    }
+
+    /**
+     * 리스트 원소를 읽는 ValueReader 식. 가능하면 메서드 참조를, 아니면 람다를 사용한다.
+     */
+    private static String elementReader(String elementType, int depth, ModelGraph graph, ModelReader modelReader) {
+        String trimmed = elementType.trim();
+
+        Optional<String> supportMethod = supportReadMethod(trimmed);
+        if (supportMethod.isPresent()) {
+            return READ_SUPPORT_CLASS + "::" + supportMethod.get();
+        }
+        if (!isList(trimmed) && findModelClass(trimmed, graph).isPresent()) {
+            Optional<String> reference = modelReader.methodReference(trimmed);
+            if (reference.isPresent()) {
+                return reference.get();
+            }
+        }
+        String parameter = "p" + depth;
+        return parameter + " -> " + readExpression(trimmed, parameter, depth, graph, modelReader);
+    }
+
+    private static Optional<String> supportReadMethod(String type) {
+        return switch (type) {
+            case "String" -> Optional.of("readString");
+            case "Double" -> Optional.of("readDouble");
+            case "Boolean" -> Optional.of("readBoolean");
+            case "Object" -> Optional.of("readAny");
+            case "double[]" -> Optional.of("readDoubleArray");
+            case "long[]" -> Optional.of("readLongArray");
+            case "int[]" -> Optional.of("readIntArray");
+            case "boolean[]" -> Optional.of("readBooleanArray");
+            default -> Optional.empty();
+        };
+    }
+
+    static boolean isList(String type) {
+        return type.startsWith("List<") && type.endsWith(">");
+    }
+
+    static String listElement(String listType) {
+        return listType.substring("List<".length(), listType.length() - 1);
+    }
+
+    /**
+     * 타입 이름이 그래프 안의 ModelClass를 가리키는지 찾는다. (같은 패키지 우선, 없으면 simpleName)
+     */
+    static Optional<ModelGraph.ModelClass> findModelClass(String type, ModelGraph graph) {
+        String packageName = graph.getRootClass().getPackageName();
+        Optional<ModelGraph.ModelClass> samePackage = graph.findClass(
+                packageName.isEmpty() ? type : packageName + "." + type
+        );
+        if (samePackage.isPresent()) {
+            return samePackage;
+        }
+        return graph.getDeclaredClasses().stream()
+                .filter(mc -> mc.getSimpleName().equals(type))
+                .findFirst();
+    }
+
+    /**
+     * 필드 이름(camelCase)으로 만든 키 이름 상수명. 예: tempC → JSON_NAME_TEMP_C
+     */
+    static String nameConstant(ModelGraph.Field field) {
+        String fieldName = field.getFieldName();
+        StringBuilder sb = new StringBuilder("JSON_NAME_");
+        for (int i = 0; i < fieldName.length(); i++) {
+            char c = fieldName.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                sb.append('_');
+            }
+            sb.append(c);
+        }
+        return sb.toString().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * 문자열을 Java 문자열 리터럴로 변환한다. (따옴표 포함)
+     */
+    static String javaString(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * 생성된 writer들이 공유하는 값 쓰기 코드. 모든 메서드는 null을 JSON null로 기록한다.
+     */
+    private static String writeSupportMembers() {
+        return """
+                    private JsonWriteSupport() {
+                    }
+
+                    /**
+                     * 값 하나를 JSON으로 기록하는 함수.
+                     */
+                    @FunctionalInterface
+                    public interface ValueWriter<T> {
+                        void write(JsonGenerator generator, T value) throws IOException;
+                    }
+
+                    public static void writeString(JsonGenerator generator, String value) throws IOException {
+                        if (value == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeString(value);
+                        }
+                    }
+
+                    public static void writeDouble(JsonGenerator generator, Double value) throws IOException {
+                        if (value == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeNumber(value.doubleValue());
+                        }
+                    }
+
+                    public static void writeBoolean(JsonGenerator generator, Boolean value) throws IOException {
+                        if (value == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeBoolean(value.booleanValue());
+                        }
+                    }
+
+                    public static void writeDoubleArray(JsonGenerator generator, double[] values) throws IOException {
+                        if (values == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeArray(values, 0, values.length);
+                        }
+                    }
+
+                    public static void writeLongArray(JsonGenerator generator, long[] values) throws IOException {
+                        if (values == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeArray(values, 0, values.length);
+                        }
+                    }
+
+                    public static void writeIntArray(JsonGenerator generator, int[] values) throws IOException {
+                        if (values == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeArray(values, 0, values.length);
+                        }
+                    }
+
+                    public static void writeBooleanArray(JsonGenerator generator, boolean[] values) throws IOException {
+                        if (values == null) {
+                            generator.writeNull();
+                            return;
+                        }
+                        generator.writeStartArray(values, values.length);
+                        for (boolean value : values) {
+                            generator.writeBoolean(value);
+                        }
+                        generator.writeEndArray();
+                    }
+
+                    /**
+                     * 리스트의 각 원소를 writer로 기록한다.
+                     */
+                    public static <T> void writeList(JsonGenerator generator, List<T> values, ValueWriter<T> writer)
+                            throws IOException {
+                        if (values == null) {
+                            generator.writeNull();
+                            return;
+                        }
+                        generator.writeStartArray(values, values.size());
+                        for (T value : values) {
+                            writer.write(generator, value);
+                        }
+                        generator.writeEndArray();
+                    }
+
+                    /**
+                     * 타입을 특정할 수 없는 값(Map/List/String/Number/Boolean/null)을 기록한다.
+                     */
+                    public static void writeAny(JsonGenerator generator, Object value) throws IOException {
+                        if (value == null) {
+                            generator.writeNull();
+                        } else if (value instanceof String) {
+                            generator.writeString((String) value);
+                        } else if (value instanceof Boolean) {
+                            generator.writeBoolean((Boolean) value);
+                        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                            generator.writeNumber(((Number) value).intValue());
+                        } else if (value instanceof Long) {
+                            generator.writeNumber((Long) value);
+                        } else if (value instanceof Double || value instanceof Float) {
+                            generator.writeNumber(((Number) value).doubleValue());
+                        } else if (value instanceof BigInteger) {
+                            generator.writeNumber((BigInteger) value);
+                        } else if (value instanceof BigDecimal) {
+                            generator.writeNumber((BigDecimal) value);
+                        } else if (value instanceof Map) {
+                            generator.writeStartObject();
+                            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                                generator.writeFieldName(String.valueOf(entry.getKey()));
+                                writeAny(generator, entry.getValue());
+                            }
+                            generator.writeEndObject();
+                        } else if (value instanceof List) {
+                            List<?> list = (List<?>) value;
+                            generator.writeStartArray(list, list.size());
+                            for (Object element : list) {
+                                writeAny(generator, element);
+                            }
+                            generator.writeEndArray();
+                        } else {
+                            generator.writeString(value.toString());
+                        }
+                    }
+                """;
+    }
+
+    /**
+     * 생성된 reader들이 공유하는 값 읽기 코드.
+     * 각 메서드는 현재 토큰에서 시작하는 값 하나를 읽고, 값의 마지막 토큰에 멈춘다.
+     */
+    private static String readSupportMembers() {
+        return """
+                    private static final int INITIAL_ARRAY_CAPACITY = 16;
+
+                    private JsonReadSupport() {
+                    }
+
+                    /**
+                     * 현재 토큰에서 시작하는 JSON 값 하나를 읽는 함수.
+                     */
+                    @FunctionalInterface
+                    public interface ValueReader<T> {
+                        T read(JsonParser parser) throws IOException;
+                    }
+
+                    /**
+                     * 객체 시작 위치로 이동한다. JSON null이면 false를 반환한다.
+                     */
+                    public static boolean startObject(JsonParser parser) throws IOException {
+                        JsonToken token = parser.currentToken();
+                        if (token == null) {
+                            token = parser.nextToken();
+                        }
+                        if (token == JsonToken.VALUE_NULL) {
+                            return false;
+                        }
+                        if (token != JsonToken.START_OBJECT) {
+                            throw new JsonParseException(parser, "Expected START_OBJECT but was " + token);
+                        }
+                        return true;
+                    }
+
+                    public static String readString(JsonParser parser) throws IOException {
+                        JsonToken token = parser.currentToken();
+                        if (token == JsonToken.VALUE_NULL) {
+                            return null;
+                        }
+                        if (token == null || !token.isScalarValue()) {
+                            throw new JsonParseException(parser, "Expected string but was " + token);
+                        }
+                        return parser.getText();
+                    }
+
+                    public static Double readDouble(JsonParser parser) throws IOException {
+                        JsonToken token = parser.currentToken();
+                        if (token == JsonToken.VALUE_NULL) {
+                            return null;
+                        }
+                        if (token == null || !token.isNumeric()) {
+                            throw new JsonParseException(parser, "Expected number but was " + token);
+                        }
+                        return parser.getDoubleValue();
+                    }
+
+                    /**
+                     * null이 관찰되지 않은 원시 필드용. JSON null이면 0을 반환한다.
+                     */
+                    public static double readDoubleValue(JsonParser parser) throws IOException {
+                        return expectNumber(parser) ? parser.getDoubleValue() : 0.0;
+                    }
+
+                    public static long readLongValue(JsonParser parser) throws IOException {
+                        return expectNumber(parser) ? parser.getLongValue() : 0L;
+                    }
+
+                    public static int readIntValue(JsonParser parser) throws IOException {
+                        return expectNumber(parser) ? parser.getIntValue() : 0;
+                    }
+
+                    private static boolean expectNumber(JsonParser parser) throws IOException {
+                        JsonToken token = parser.currentToken();
+                        if (token == JsonToken.VALUE_NULL) {
+                            return false;
+                        }
+                        if (token == null || !token.isNumeric()) {
+                            throw new JsonParseException(parser, "Expected number but was " + token);
+                        }
+                        return true;
+                    }
+
+                    /**
+                     * null이 관찰되지 않은 불리언 필드용. JSON null이면 false를 반환한다.
+                     */
+                    public static boolean readBooleanValue(JsonParser parser) throws IOException {
+                        return Boolean.TRUE.equals(readBoolean(parser));
+                    }
+
+                    public static Boolean readBoolean(JsonParser parser) throws IOException {
+                        JsonToken token = parser.currentToken();
+                        if (token == JsonToken.VALUE_NULL) {
+                            return null;
+                        }
+                        if (token == null || !token.isBoolean()) {
+                            throw new JsonParseException(parser, "Expected boolean but was " + token);
+                        }
+                        return token == JsonToken.VALUE_TRUE;
+                    }
+
+                    /**
+                     * 타입을 특정할 수 없는 값을 Map/List/String/Number/Boolean/null로 읽는다.
+                     */
+                    public static Object readAny(JsonParser parser) throws IOException {
+                        JsonToken token = parser.currentToken();
+                        if (token == null) {
+                            throw new JsonParseException(parser, "Unexpected end of input");
+                        }
+                        switch (token) {
+                            case START_OBJECT: {
+                                Map<String, Object> map = new LinkedHashMap<>();
+                                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                                    String name = parser.currentName();
+                                    parser.nextToken();
+                                    map.put(name, readAny(parser));
+                                }
+                                return map;
+                            }
+                            case START_ARRAY: {
+                                List<Object> list = new ArrayList<>();
+                                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                                    list.add(readAny(parser));
+                                }
+                                return list;
+                            }
+                            case VALUE_STRING:
+                                return parser.getText();
+                            case VALUE_NUMBER_INT:
+                            case VALUE_NUMBER_FLOAT:
+                                return parser.getNumberValue();
+                            case VALUE_TRUE:
+                                return Boolean.TRUE;
+                            case VALUE_FALSE:
+                                return Boolean.FALSE;
+                            case VALUE_NULL:
+                                return null;
+                            case VALUE_EMBEDDED_OBJECT:
+                                return parser.getEmbeddedObject();
+                            default:
+                                throw new JsonParseException(parser, "Unexpected token " + token);
+                        }
+                    }
+
+                    /**
+                     * 배열을 읽어 각 원소를 reader로 변환한다. JSON null이면 null을 반환한다.
+                     */
+                    public static <T> List<T> readList(JsonParser parser, ValueReader<T> reader) throws IOException {
+                        if (!startArray(parser)) {
+                            return null;
+                        }
+                        List<T> list = new ArrayList<>();
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            list.add(reader.read(parser));
+                        }
+                        return list;
+                    }
+
+                    /**
+                     * 숫자 배열을 박싱 없이 double[]로 읽는다. JSON null이면 null을 반환한다.
+                     */
+                    public static double[] readDoubleArray(JsonParser parser) throws IOException {
+                        if (!startArray(parser)) {
+                            return null;
+                        }
+                        double[] values = new double[INITIAL_ARRAY_CAPACITY];
+                        int size = 0;
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if (size == values.length) {
+                                values = Arrays.copyOf(values, size << 1);
+                            }
+                            values[size++] = readDoubleValue(parser);
+                        }
+                        return (size == values.length) ? values : Arrays.copyOf(values, size);
+                    }
+
+                    public static long[] readLongArray(JsonParser parser) throws IOException {
+                        if (!startArray(parser)) {
+                            return null;
+                        }
+                        long[] values = new long[INITIAL_ARRAY_CAPACITY];
+                        int size = 0;
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if (size == values.length) {
+                                values = Arrays.copyOf(values, size << 1);
+                            }
+                            values[size++] = readLongValue(parser);
+                        }
+                        return (size == values.length) ? values : Arrays.copyOf(values, size);
+                    }
+
+                    public static int[] readIntArray(JsonParser parser) throws IOException {
+                        if (!startArray(parser)) {
+                            return null;
+                        }
+                        int[] values = new int[INITIAL_ARRAY_CAPACITY];
+                        int size = 0;
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if (size == values.length) {
+                                values = Arrays.copyOf(values, size << 1);
+                            }
+                            values[size++] = readIntValue(parser);
+                        }
+                        return (size == values.length) ? values : Arrays.copyOf(values, size);
+                    }
+
+                    public static boolean[] readBooleanArray(JsonParser parser) throws IOException {
+                        if (!startArray(parser)) {
+                            return null;
+                        }
+                        boolean[] values = new boolean[INITIAL_ARRAY_CAPACITY];
+                        int size = 0;
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            if (size == values.length) {
+                                values = Arrays.copyOf(values, size << 1);
+                            }
+                            values[size++] = readBooleanValue(parser);
+                        }
+                        return (size == values.length) ? values : Arrays.copyOf(values, size);
+                    }
+
+                    /**
+                     * 배열 시작 토큰인지 확인한다. JSON null이면 false를 반환한다.
+                     */
+                    private static boolean startArray(JsonParser parser) throws IOException {
+                        JsonToken token = parser.currentToken();
+                        if (token == JsonToken.VALUE_NULL) {
+                            return false;
+                        }
+                        if (token != JsonToken.START_ARRAY) {
+                            throw new JsonParseException(parser, "Expected START_ARRAY but was " + token);
+                        }
+                        return true;
+                    }
+                """;
+    }
+}
@@ -0,0 +1,338 @@
+package org.example.generator;
+
+import org.example.json.ModelGraph;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 원본 UTF-8 바이트를 그대로 들고 있다가 필드를 처음 읽을 때 디코딩하는 DTO 변형({@code --lazy true}).
+ * <p>
+ * ModelClass마다 짝 클래스 {@code Lazy<클래스명>}을 생성한다.
+ * <ol>
+ *     <li>{@code of(byte[])}/{@code of(ByteBuffer)}는 객체를 한 번 훑으며(구조 패스) 알려진 키마다
+ *         값의 시작/끝 바이트 위치만 {@code int[] $offsets}에 기록한다. 값 자체는 만들지 않는다.</li>
+ *     <li>getter를 처음 호출하면 기록된 구간의 값 하나만 디코딩하고 결과를 캐시한다.
+ *         이스케이프 없는 문자열, 숫자, 불리언은 parser 없이 바이트에서 바로 변환하고,
+ *         그 밖의 값은 해당 구간만 담은 parser로 읽는다. 중첩 클래스는 다시 {@code Lazy<클래스명>}으로
+ *         색인만 되므로, 실제로 접근한 경로만 디코딩된다.</li>
+ * </ol>
+ * 값마다 끝 위치까지 기록하는 이유는 jackson이 최상위 숫자 값 뒤에 공백이 아닌 문자(',' 등)가 오면
+ * 오류로 처리하기 때문이다. 값 하나만 담긴 구간으로 parser를 열면 이 검사를 피할 수 있다.
+ * <p>
+ * 일부 필드만 읽고 넘기는 경우 비용이 전체 크기가 아니라 읽은 필드에 비례한다.
+ * 모든 필드를 읽는다면 구조 패스만큼 {@code readJson}보다 느리다.
+ * <p>
+ * 캐시는 동기화하지 않으므로 생성된 객체는 스레드 안전하지 않다. 원본 배열은 복사하지 않으므로 읽는 동안 변경하면 안 된다.
+ * 필드 타입은 레이아웃 옵션과 관계없이 표준 배치와 같은 참조 타입을 사용한다.
+ * <p>
+ * 값 필드는 필드 이름을 그대로 쓰므로, 원본 배열과 위치 색인 같은 내부 필드는 {@code $}로 시작한다.
+ * 필드 이름은 영문자와 숫자로만 만들어지므로 {@code "source"} 같은 키와도 겹치지 않는다.
+ */
+final class LazyDtoGenerator implements MemberGenerator {
+
+    static final String LAZY_PREFIX = "Lazy";
+    static final String LAZY_SUPPORT_CLASS = "JsonLazySupport";
+
+    private static final String READ_SUPPORT_CLASS = JsonCodecGenerator.READ_SUPPORT_CLASS;
+
+    @Override
+    public String members(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        // 원래 DTO에는 아무것도 추가하지 않는다.
+        return "";
+    }
+
+    @Override
+    public Set<String> requiredImports(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        return Set.of();
+    }
+
+    @Override
+    public List<ClassGenerator.ClassSpec> companionClasses(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        Objects.requireNonNull(modelClass, "modelClass must not be null");
+        Objects.requireNonNull(graph, "graph must not be null");
+
+        Set<String> imports = new LinkedHashSet<>();
+        imports.add("com.fasterxml.jackson.core.JsonParser");
+        imports.add("java.io.IOException");
+        imports.add("java.io.UncheckedIOException");
+        imports.add("java.nio.ByteBuffer");
+        if (!modelClass.getFields().isEmpty()) {
+            imports.add("com.fasterxml.jackson.core.JsonToken");
+            imports.add("java.util.Arrays");
+        }
+
+        for (ModelGraph.Field field : modelClass.getFields()) {
+            imports.addAll(field.getRequiredImports());
+        }
+
+        return List.of(new ClassGenerator.ClassSpec(
+                modelClass.getPackageName(),
+                lazyName(modelClass.getSimpleName()),
+                List.of(),
+                lazyMembers(modelClass, graph),
+                imports
+        ));
+    }
+
+    @Override
+    public List<ClassGenerator.ClassSpec> supportClasses(String packageName) {
+        return List.of(
+                JsonCodecGenerator.readSupportSpec(packageName),
+                new ClassGenerator.ClassSpec(
+                        packageName,
+                        LAZY_SUPPORT_CLASS,
+                        List.of(),
+                        lazySupportMembers(),
+                        Set.of(
+                                "com.fasterxml.jackson.core.JsonFactory",
+                                "com.fasterxml.jackson.core.JsonParser",
+                                "com.fasterxml.jackson.core.JsonToken",
+                                "java.io.IOException",
+                                "java.io.UncheckedIOException",
+                                "java.nio.charset.StandardCharsets"
+                        )
+                )
+        );
+    }
+
+    static String lazyName(String simpleName) {
+        return LAZY_PREFIX + simpleName;
+    }
+
+    /**
+     * 필드 타입 안의 ModelClass 이름을 짝 클래스 이름으로 바꾼다. (예: {@code List<WeatherDay>} → {@code List<LazyWeatherDay>})
+     */
+    static String lazyType(String type, ModelGraph graph) {
+        String trimmed = type.trim();
+        if (JsonCodecGenerator.isList(trimmed)) {
+            return "List<" + lazyType(JsonCodecGenerator.listElement(trimmed), graph) + ">";
+        }
+        if (JsonCodecGenerator.findModelClass(trimmed, graph).isPresent()) {
+            return lazyName(trimmed);
+        }
+        return trimmed;
+    }
+
+    private String lazyMembers(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        String className = lazyName(modelClass.getSimpleName());
+        List<ModelGraph.Field> fields = modelClass.getFields();
+
+        StringBuilder sb = new StringBuilder(1024 + fields.size() * 400);
+        sb.append("    private final byte[] $source;\n");
+        if (!fields.isEmpty()) {
+            sb.append("\n")
+                    .append("    /** i번째 필드 값의 $source 내 [시작, 끝) 위치가 $offsets[2i], $offsets[2i + 1]에 있다. (키가 없으면 시작이 -1) */\n")
+                    .append("    private final int[] $offsets = new int[").append(fields.size() * 2).append("];\n");
+            for (int word = 0; word * 64 < fields.size(); word++) {
+                sb.append("    private long $decoded").append(word).append(";\n");
+            }
+            sb.append("\n");
+            for (ModelGraph.Field field : fields) {
+                sb.append("    private ").append(lazyType(field.getTypeName(), graph)).append(" ")
+                        .append(field.getFieldName()).append(";\n");
+            }
+        }
+
+        sb.append("\n")
+                .append("    private ").append(className).append("(byte[] source) {\n")
+                .append("        this.$source = source;\n");
+        if (!fields.isEmpty()) {
+            sb.append("        Arrays.fill($offsets, -1);\n");
+        }
+        sb.append("    }\n");
+
+        appendFactories(className, sb);
+        appendIndex(modelClass, className, sb);
+        for (int i = 0; i < fields.size(); i++) {
+            sb.append("\n");
+            appendGetter(fields.get(i), i, graph, sb);
+        }
+        return sb.toString();
+    }
+
+    private void appendFactories(String className, StringBuilder sb) {
+        sb.append("\n")
+                .append("    /**\n")
+                .append("     * source 전체를 JSON 객체 하나로 보고 위치 색인만 만든다. (JSON null이면 null)\n")
+                .append("     */\n")
+                .append("    public static ").append(className).append(" of(byte[] source) {\n")
+                .append("        return of(source, 0, source.length);\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    public static ").append(className).append(" of(byte[] source, int offset, int length) {\n")
+                .append("        try (JsonParser parser = ").append(LAZY_SUPPORT_CLASS)
+                .append(".parserAt(source, offset, offset + length)) {\n")
+                .append("            return index(parser, source, offset);\n")
+                .append("        } catch (IOException e) {\n")
+                .append("            throw new UncheckedIOException(e);\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    /**\n")
+                .append("     * buffer의 position부터 limit까지를 읽는다. 힙 버퍼는 배열을 공유하고, 다이렉트 버퍼는 복사한다.\n")
+                .append("     */\n")
+                .append("    public static ").append(className).append(" of(ByteBuffer buffer) {\n")
+                .append("        if (buffer.hasArray()) {\n")
+                .append("            return of(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());\n")
+                .append("        }\n")
+                .append("        byte[] copy = new byte[buffer.remaining()];\n")
+                .append("        buffer.duplicate().get(copy);\n")
+                .append("        return of(copy);\n")
+                .append("    }\n");
+    }
+
+    /**
+     * 구조 패스: 알려진 키의 값 위치만 기록하고 값은 건너뛴다.
+     */
+    private void appendIndex(ModelGraph.ModelClass modelClass, String className, StringBuilder sb) {
+        sb.append("\n")
+                .append("    /**\n")
+                .append("     * parser가 가리키는 객체의 필드 위치를 색인한다. base는 parser가 시작한 source 내 위치다.\n")
+                .append("     * 반환 후 parser는 객체의 마지막 토큰(END_OBJECT)에 위치한다.\n")
+                .append("     */\n")
+                .append("    static ").append(className)
+                .append(" index(JsonParser parser, byte[] source, int base) throws IOException {\n")
+                .append("        if (!").append(READ_SUPPORT_CLASS).append(".startObject(parser)) {\n")
+                .append("            return null;\n")
+                .append("        }\n")
+                .append("        ").append(className).append(" result = new ").append(className).append("(source);\n");
+
+        if (modelClass.getFields().isEmpty()) {
+            sb.append("        parser.skipChildren();\n")
+                    .append("        return result;\n")
+                    .append("    }\n");
+            return;
+        }
+
+        sb.append("        for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {\n")
+                .append("            String name = parser.currentName();\n")
+                .append("            parser.nextToken();\n")
+                .append("            switch (name) {\n");
+        List<ModelGraph.Field> fields = modelClass.getFields();
+        for (int i = 0; i < fields.size(); i++) {
+            sb.append("                case ").append(JsonCodecGenerator.javaString(fields.get(i).getJsonName()))
+                    .append(" -> ").append(LAZY_SUPPORT_CLASS).append(".skipValue(parser, base, result.$offsets, ")
+                    .append(i * 2).append(");\n");
+        }
+        sb.append("                default -> parser.skipChildren();\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return result;\n")
+                .append("    }\n");
+    }
+
+    private void appendGetter(ModelGraph.Field field, int index, ModelGraph graph, StringBuilder sb) {
+        String name = field.getFieldName();
+        String start = "$offsets[" + (index * 2) + "]";
+        String range = "$source, " + start + ", $offsets[" + (index * 2 + 1) + "]";
+        String decodedWord = "$decoded" + (index / 64);
+        String mask = "(1L << " + (index % 64) + ")";
+
+        // 중첩 클래스는 해당 구간을 다시 색인만 한다. 위치는 parser를 연 위치(start) 기준이다.
+        JsonCodecGenerator.ModelReader nestedIndex = (nested, parser) ->
+                lazyName(nested) + ".index(" + parser + ", $source, " + start + ")";
+        String type = field.getTypeName().trim();
+        String decode = switch (type) {
+            case "String", "Double", "Boolean" -> LAZY_SUPPORT_CLASS + ".read" + type + "(" + range + ")";
+            default -> LAZY_SUPPORT_CLASS + ".decode(" + range + ", parser -> "
+                    + JsonCodecGenerator.readExpression(type, "parser", 0, graph, nestedIndex) + ")";
+        };
+
+        sb.append("    public ").append(lazyType(type, graph)).append(" ").append(CompactLayout.getter(field)).append("() {\n")
+                .append("        if ((").append(decodedWord).append(" & ").append(mask).append(") == 0) {\n")
+                .append("            ").append(name).append(" = ").append(decode).append(";\n")
+                .append("            ").append(decodedWord).append(" |= ").append(mask).append(";\n")
+                .append("        }\n")
+                .append("        return ").append(name).append(";\n")
+                .append("    }\n");
+    }
+
+    private static String lazySupportMembers() {
+        return """
+                    private static final JsonFactory FACTORY = new JsonFactory();
+
+                    private JsonLazySupport() {
+                    }
+
+                    /**
+                     * source[start, end) 구간을 읽는 parser를 만들고 첫 토큰으로 이동한다.
+                     */
+                    public static JsonParser parserAt(byte[] source, int start, int end) throws IOException {
+                        JsonParser parser = FACTORY.createParser(source, start, end - start);
+                        parser.nextToken();
+                        return parser;
+                    }
+
+                    /**
+                     * 현재 값을 건너뛰며 source 내 [시작, 끝) 위치를 offsets[slot], offsets[slot + 1]에 기록한다.
+                     * parser가 보고하는 위치는 parser를 만든 위치(base) 기준이다.
+                     */
+                    public static void skipValue(JsonParser parser, int base, int[] offsets, int slot) throws IOException {
+                        offsets[slot] = base + (int) parser.currentTokenLocation().getByteOffset();
+                        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+                            // 문자열은 다음 토큰으로 넘어갈 때 내용을 읽지 않고 건너뛰므로 끝 위치를 알 수 없다.
+                            // 문자열 뒤에는 무엇이 와도 오류가 아니므로 끝을 -1(source 끝까지)로 둔다.
+                            offsets[slot + 1] = -1;
+                            return;
+                        }
+                        parser.skipChildren();
+                        offsets[slot + 1] = base + (int) parser.currentLocation().getByteOffset();
+                    }
+
+                    /**
+                     * source[start, end) 구간의 값 하나를 reader로 디코딩한다. start가 음수(키 없음)면 null을 반환한다.
+                     * end가 음수면 source 끝까지를 구간으로 본다.
+                     */
+                    public static <T> T decode(byte[] source, int start, int end, JsonReadSupport.ValueReader<T> reader) {
+                        if (start < 0) {
+                            return null;
+                        }
+                        try (JsonParser parser = parserAt(source, start, (end < 0) ? source.length : end)) {
+                            return reader.read(parser);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }
+
+                    /**
+                     * 이스케이프가 없는 문자열은 parser 없이 바이트에서 바로 만든다.
+                     */
+                    public static String readString(byte[] source, int start, int end) {
+                        if (start >= 0 && source[start] == '"') {
+                            for (int i = start + 1; i < source.length; i++) {
+                                if (source[i] == '"') {
+                                    return new String(source, start + 1, i - start - 1, StandardCharsets.UTF_8);
+                                }
+                                if (source[i] == '\\\\') {
+                                    break;
+                                }
+                            }
+                        }
+                        return decode(source, start, end, JsonReadSupport::readString);
+                    }
+
+                    /**
+                     * 숫자 리터럴은 parser 없이 바로 변환한다. (JSON 숫자 문법은 Double.parseDouble이 받는 형식에 포함된다)
+                     */
+                    public static Double readDouble(byte[] source, int start, int end) {
+                        if (start >= 0 && (source[start] == '-' || (source[start] >= '0' && source[start] <= '9'))) {
+                            return Double.parseDouble(new String(source, start, end - start, StandardCharsets.ISO_8859_1));
+                        }
+                        return decode(source, start, end, JsonReadSupport::readDouble);
+                    }
+
+                    public static Boolean readBoolean(byte[] source, int start, int end) {
+                        if (start >= 0 && source[start] == 't') {
+                            return Boolean.TRUE;
+                        }
+                        if (start >= 0 && source[start] == 'f') {
+                            return Boolean.FALSE;
+                        }
+                        return decode(source, start, end, JsonReadSupport::readBoolean);
+                    }
+                """;
+    }
+}
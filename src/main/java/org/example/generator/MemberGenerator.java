@@ -0,0 +1,50 @@
+package org.example.generator;
+
+import org.example.json.ModelGraph;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 각 DTO 클래스의 필드 선언 뒤에 추가 멤버(메서드, 상수 등)를 덧붙이는 확장 지점.
+ * <p>
+ * {@link ClassGenerator}는 등록된 MemberGenerator들을 순서대로 호출해
+ * 반환된 소스를 클래스 본문에 이어 붙이고, 필요한 import를 합친다.
+ * 클래스마다 짝을 이루는 별도 클래스는 {@link #companionClasses(ModelGraph.ModelClass, ModelGraph)}로,
+ * 여러 클래스가 함께 사용하는 보조 코드는 {@link #supportClasses(String)}로 한 번만 생성한다.
+ */
+public interface MemberGenerator {
+
+    /**
+     * modelClass 본문에 추가할 멤버 소스를 반환한다.
+     * 클래스 본문 들여쓰기(공백 4칸) 기준으로 작성하며, 추가할 멤버가 없으면 빈 문자열을 반환한다.
+     *
+     * @param modelClass 멤버를 추가할 클래스
+     * @param graph      다른 클래스 참조를 해석할 때 사용하는 전체 클래스 구조
+     */
+    String members(ModelGraph.ModelClass modelClass, ModelGraph graph);
+
+    /**
+     * {@link #members(ModelGraph.ModelClass, ModelGraph)}가 생성한 소스에 필요한 import FQCN 집합.
+     */
+    Set<String> requiredImports(ModelGraph.ModelClass modelClass, ModelGraph graph);
+
+    /**
+     * modelClass와 짝을 이루는 별도 클래스 목록. (기본: 없음)
+     * 개별 파일 모드에서는 각각 별도 .java 파일로, inner class 모드에서는 루트 클래스의 inner class로 생성된다.
+     */
+    default List<ClassGenerator.ClassSpec> companionClasses(ModelGraph.ModelClass modelClass, ModelGraph graph) {
+        return List.of();
+    }
+
+    /**
+     * 생성된 멤버들이 공유하는 지원 클래스 목록. (기본: 없음)
+     * 여러 MemberGenerator가 같은 이름의 지원 클래스를 반환하면 처음 것 하나만 생성된다.
+     * 개별 파일 모드에서는 각각 별도 .java 파일로, inner class 모드에서는 루트 클래스의 inner class로 생성된다.
+     *
+     * @param packageName 루트 클래스의 패키지 이름
+     */
+    default List<ClassGenerator.ClassSpec> supportClasses(String packageName) {
+        return List.of();
+    }
+}
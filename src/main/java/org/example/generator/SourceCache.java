@@ -0,0 +1,106 @@
+package org.example.generator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 이전 생성 결과를 클래스 단위로 기억해, 내용이 바뀐 클래스만 출력 대상에 기록하는 {@link SourceSink} 캐시.
+ *
+ * <p>같은 입력을 반복해서 다시 생성할 때(--watch) 쓴다.
+ * <pre>
+ * SourceSink sink = cache.begin(fileWriter.sinkFor(outDir));
+ * generator.generateAllFromModelGraph(modelGraph, innerClasses, sink);
+ * Set&lt;String&gt; removed = cache.finish(); // 이번에 생성되지 않은 클래스 (파일 삭제 대상)
+ * </pre>
+ * 소스는 메모리에 모은 뒤 Writer를 닫을 때 이전 내용과 비교하므로, 바뀌지 않은 파일은 다시 쓰지 않는다.
+ * (빌드 도구와 IDE가 변경을 감지하지 않는다) 스레드 안전하지 않으며, 입력 하나에 하나씩 둔다.</p>
+ */
+public final class SourceCache {
+
+    private final Map<String, String> sources = new HashMap<>();
+    private Set<String> generated;
+    private int written;
+    private int unchanged;
+    private int removed;
+
+    /**
+     * 새 생성을 시작하고, 바뀐 클래스만 target으로 넘기는 출력 대상을 돌려준다.
+     */
+    public SourceSink begin(SourceSink target) {
+        generated = new LinkedHashSet<>();
+        written = 0;
+        unchanged = 0;
+        removed = 0;
+        return className -> new StringWriter() {
+            private boolean closed;
+
+            @Override
+            public void close() throws IOException {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                record(target, className, toString());
+            }
+        };
+    }
+
+    private void record(SourceSink target, String className, String source) throws IOException {
+        if (generated == null) {
+            throw new IllegalStateException("begin()을 먼저 호출해야 합니다.");
+        }
+        generated.add(className);
+        if (source.equals(sources.get(className))) {
+            unchanged++;
+            return;
+        }
+        try (Writer writer = target.open(className)) {
+            writer.write(source);
+        }
+        sources.put(className, source);
+        written++;
+    }
+
+    /**
+     * 생성을 마친다.
+     *
+     * @return 이전 생성에는 있었지만 이번에는 생성되지 않은 클래스 이름 (캐시에서도 지운다)
+     */
+    public Set<String> finish() {
+        if (generated == null) {
+            throw new IllegalStateException("begin()을 먼저 호출해야 합니다.");
+        }
+        Set<String> removed = new HashSet<>(sources.keySet());
+        removed.removeAll(generated);
+        sources.keySet().removeAll(removed);
+        generated = null;
+        this.removed = removed.size();
+        return removed;
+    }
+
+    /** 마지막 생성에서 내용이 바뀌어 기록한 클래스 수 */
+    public int written() {
+        return written;
+    }
+
+    /** 마지막 생성에서 내용이 같아 기록하지 않은 클래스 수 */
+    public int unchanged() {
+        return unchanged;
+    }
+
+    /** 마지막 생성에서 더 이상 생성되지 않은 클래스 수 */
+    public int removed() {
+        return removed;
+    }
+
+    /** 기억하고 있는 클래스 수 */
+    public int size() {
+        return sources.size();
+    }
+}
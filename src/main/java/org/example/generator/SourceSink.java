@@ -0,0 +1,24 @@
+package org.example.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 생성된 Java 소스를 클래스 단위로 받아 가는 출력 대상.
+ *
+ * <p>{@link ClassGenerator}는 클래스 하나를 만들 때마다 {@link #open(String)}으로
+ * Writer를 열어 소스를 기록하고 곧바로 닫는다.
+ * 파일, 아카이브, 메모리 버퍼 등 어떤 대상이든 이 인터페이스로 연결할 수 있다.</p>
+ */
+@FunctionalInterface
+public interface SourceSink {
+
+    /**
+     * 주어진 클래스의 소스를 기록할 Writer를 연다.
+     * 호출자는 기록이 끝나면 반드시 Writer를 닫는다.
+     *
+     * @param className 클래스 이름 (simpleName)
+     * @return 소스를 기록할 Writer
+     */
+    Writer open(String className) throws IOException;
+}
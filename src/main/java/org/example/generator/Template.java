@@ -1,5 +1,8 @@
 package org.example.generator;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -18,6 +21,11 @@ import java.util.Objects;
  *     "fields", "    private String name;"
  * ));
  * </pre>
+ *
+ * <p>패턴은 생성 시점에 리터럴/슬롯 세그먼트 배열로 한 번만 컴파일된다.
+ * 반복 렌더링이 필요한 곳에서는 {@link #slotIndex(String)}로 슬롯 인덱스를 미리 구해 두고
+ * {@link #renderTo(StringBuilder, CharSequence[])} 또는 {@link #renderTo(Appendable, Binder)}로
+ * 호출자가 가진 버퍼에 직접 렌더링한다.</p>
  */
 public class Template {
 
@@ -27,13 +35,100 @@ public class Template {
 
     private final String pattern;
 
+    // 컴파일된 렌더 플랜: 세그먼트 i가 리터럴이면 segmentSlots[i] == -1, 슬롯이면 슬롯 인덱스
+    private final String[] segmentLiterals;
+    private final int[] segmentSlots;
+
+    // 슬롯 인덱스별 이름과, 값이 바인딩되지 않았을 때 그대로 남길 원본 플레이스홀더
+    private final String[] slotNames;
+    private final String[] slotPlaceholders;
+
+    /**
+     * 슬롯 값을 출력 대상에 직접 기록하는 바인더.
+     * <p>
+     * 값 문자열을 따로 만들지 않고 {@link Appendable}에 바로 쓸 수 있으므로,
+     * 필드 선언처럼 반복 호출되는 경로에서 중간 객체를 만들지 않는다.
+     */
+    @FunctionalInterface
+    public interface Binder {
+
+        /**
+         * 슬롯 값을 out에 기록한다.
+         *
+         * @param slot 슬롯 인덱스 ({@link #slotIndex(String)} 참고)
+         * @param out  출력 대상
+         * @return 값을 기록했으면 true, 바인딩하지 않을 슬롯이라 플레이스홀더를 그대로 남기려면 false
+         */
+        boolean bind(int slot, Appendable out) throws IOException;
+    }
+
     /**
      * 주어진 패턴 문자열로 템플릿을 생성한다.
+     * <p>
+     * 생성 시점에 패턴을 한 번만 훑어서 리터럴/슬롯 세그먼트 배열로 컴파일해 두고,
+     * 이후 렌더링은 이 배열만 순회한다.
      *
      * @param pattern 플레이스홀더를 포함할 수 있는 패턴 문자열
      */
     public Template(String pattern) {
         this.pattern = Objects.requireNonNull(pattern, "pattern must not be null");
+
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int length = pattern.length();
+        int index = 0;
+
+        while (index < length) {
+            char ch = pattern.charAt(index);
+
+            if (ch == DOLLAR && index + 1 < length && pattern.charAt(index + 1) == OPEN_BRACE) {
+                // 플레이스홀더 시작: "${"
+                int start = index + 2; // 이름 시작 위치
+                int end = pattern.indexOf(CLOSE_BRACE, start);
+
+                if (end == -1) {
+                    // '}'를 찾지 못한 경우: 남은 부분을 리터럴로 취급하고 종료
+                    literal.append(pattern, index, length);
+                    break;
+                }
+
+                String name = pattern.substring(start, end);
+                int slot = names.indexOf(name);
+                if (slot < 0) {
+                    slot = names.size();
+                    names.add(name);
+                }
+
+                if (literal.length() > 0) {
+                    literals.add(literal.toString());
+                    slots.add(-1);
+                    literal.setLength(0);
+                }
+                literals.add(null);
+                slots.add(slot);
+
+                index = end + 1;
+            } else {
+                literal.append(ch);
+                index++;
+            }
+        }
+
+        if (literal.length() > 0) {
+            literals.add(literal.toString());
+            slots.add(-1);
+        }
+
+        this.segmentLiterals = literals.toArray(new String[0]);
+        this.segmentSlots = slots.stream().mapToInt(Integer::intValue).toArray();
+        this.slotNames = names.toArray(new String[0]);
+        this.slotPlaceholders = new String[slotNames.length];
+        for (int i = 0; i < slotNames.length; i++) {
+            slotPlaceholders[i] = "${" + slotNames[i] + "}";
+        }
     }
 
     /**
@@ -43,6 +138,37 @@ public class Template {
         return pattern;
     }
 
+    /**
+     * 서로 다른 플레이스홀더(슬롯)의 개수.
+     */
+    public int slotCount() {
+        return slotNames.length;
+    }
+
+    /**
+     * 플레이스홀더 이름에 해당하는 슬롯 인덱스를 반환한다.
+     * 같은 이름이 여러 번 등장해도 하나의 슬롯을 공유한다.
+     *
+     * @param name 플레이스홀더 이름 (예: "className")
+     * @return 슬롯 인덱스, 패턴에 없는 이름이면 -1
+     */
+    public int slotIndex(String name) {
+        Objects.requireNonNull(name, "name must not be null");
+        for (int i = 0; i < slotNames.length; i++) {
+            if (slotNames[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 슬롯 인덱스 순서대로 정렬된 플레이스홀더 이름 목록.
+     */
+    public List<String> slotNames() {
+        return List.of(slotNames);
+    }
+
     /**
      * 주어진 변수 맵을 사용해 템플릿을 렌더링한다.
      * <p>
@@ -60,45 +186,89 @@ public class Template {
     public String render(Map<String, String> variables) {
         Objects.requireNonNull(variables, "variables must not be null");
 
-        StringBuilder result = new StringBuilder();
-        int length = pattern.length();
-        int index = 0;
-
-        while (index < length) {
-            char ch = pattern.charAt(index);
-
-            if (ch == DOLLAR && index + 1 < length && pattern.charAt(index + 1) == OPEN_BRACE) {
-                // 플레이스홀더 시작: "${"
-                int start = index + 2; // 이름 시작 위치
-                int end = pattern.indexOf(CLOSE_BRACE, start);
+        CharSequence[] values = new CharSequence[slotNames.length];
+        int capacity = pattern.length();
+        for (int i = 0; i < slotNames.length; i++) {
+            // 키 존재 여부와 값 null 여부를 구분해서 처리
+            if (variables.containsKey(slotNames[i])) {
+                String value = variables.get(slotNames[i]);
+                values[i] = (value != null) ? value : "";
+                capacity += values[i].length();
+            }
+        }
 
-                if (end == -1) {
-                    // '}'를 찾지 못한 경우: 남은 부분을 그대로 출력하고 종료
-                    result.append(pattern.substring(index));
-                    break;
-                }
+        StringBuilder result = new StringBuilder(capacity);
+        renderTo(result, values);
+        return result.toString();
+    }
 
-                String name = pattern.substring(start, end);
+    /**
+     * 슬롯 인덱스별 값 배열로 템플릿을 렌더링하여 out 뒤에 이어 붙인다.
+     * <p>
+     * {@code values[i]}가 {@code null}이면 해당 플레이스홀더를 그대로 남긴다.
+     * (빈 문자열로 치환하려면 {@code ""}를 넘긴다.)
+     * 호출자가 값 배열과 버퍼를 재사용하면 렌더링 과정에서 추가 할당이 발생하지 않는다.
+     *
+     * @param out    결과를 이어 붙일 버퍼
+     * @param values 슬롯 인덱스별 값 (길이는 {@link #slotCount()} 이상)
+     */
+    public void renderTo(StringBuilder out, CharSequence[] values) {
+        Objects.requireNonNull(out, "out must not be null");
+        Objects.requireNonNull(values, "values must not be null");
 
-                // 키 존재 여부와 값 null 여부를 구분해서 처리
-                if (!variables.containsKey(name)) {
-                    // 맵에 해당 키가 없는 경우: 플레이스홀더 그대로 남김
-                    result.append(pattern, index, end + 1);
-                } else {
-                    String value = variables.get(name);
-                    // 값이 null이면 빈 문자열로 치환
-                    result.append(value != null ? value : "");
-                }
+        for (int i = 0; i < segmentSlots.length; i++) {
+            int slot = segmentSlots[i];
+            if (slot < 0) {
+                out.append(segmentLiterals[i]);
+            } else {
+                CharSequence value = values[slot];
+                out.append(value != null ? value : slotPlaceholders[slot]);
+            }
+        }
+    }
 
+    /**
+     * 슬롯 인덱스별 값 배열로 템플릿을 임의의 {@link Appendable}에 렌더링한다.
+     * 값 배열 규칙은 {@link #renderTo(StringBuilder, CharSequence[])}와 같다.
+     *
+     * @param out    출력 대상 (Writer 등)
+     * @param values 슬롯 인덱스별 값 (길이는 {@link #slotCount()} 이상)
+     */
+    public void renderTo(Appendable out, CharSequence[] values) throws IOException {
+        Objects.requireNonNull(out, "out must not be null");
+        Objects.requireNonNull(values, "values must not be null");
 
-                index = end + 1;
+        for (int i = 0; i < segmentSlots.length; i++) {
+            int slot = segmentSlots[i];
+            if (slot < 0) {
+                out.append(segmentLiterals[i]);
             } else {
-                result.append(ch);
-                index++;
+                CharSequence value = values[slot];
+                out.append(value != null ? value : slotPlaceholders[slot]);
             }
         }
+    }
 
-        return result.toString();
+    /**
+     * 바인더를 사용해 템플릿을 임의의 {@link Appendable}로 렌더링한다.
+     * <p>
+     * 바인더가 false를 반환한 슬롯은 플레이스홀더를 그대로 남긴다.
+     *
+     * @param out    출력 대상 (StringBuilder, Writer 등)
+     * @param binder 슬롯 값을 기록하는 바인더
+     */
+    public void renderTo(Appendable out, Binder binder) throws IOException {
+        Objects.requireNonNull(out, "out must not be null");
+        Objects.requireNonNull(binder, "binder must not be null");
+
+        for (int i = 0; i < segmentSlots.length; i++) {
+            int slot = segmentSlots[i];
+            if (slot < 0) {
+                out.append(segmentLiterals[i]);
+            } else if (!binder.bind(slot, out)) {
+                out.append(slotPlaceholders[slot]);
+            }
+        }
     }
 
 
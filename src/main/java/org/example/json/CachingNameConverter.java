@@ -0,0 +1,75 @@
+package org.example.json;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 변환 결과를 호출 사이에 공유하는 스레드 안전한 {@link NameConverter}.
+ * <p>
+ * 같은 API의 JSON 키는 요청마다 반복되므로, 한 번 변환한 이름을 그대로 돌려주면
+ * 변환 비용이 사라지고 모든 결과가 같은 String 인스턴스를 공유한다.
+ * 키 종류가 한도를 넘으면 캐시를 비우고 다시 채운다. (장기 실행 서비스에서 무한히 커지지 않도록)
+ * <p>
+ * CLI에서는 TypeInferencer(클래스 이름)와 ModelGraph(필드 이름)가 하나를 공유해, 같은 키를 두 번 변환하지 않는다.
+ */
+public final class CachingNameConverter implements NameConverter {
+
+    /** 기본 캐시 한도 (PascalCase/camelCase 각각) */
+    public static final int MAX_ENTRIES = 16_384;
+
+    private final NameConverter delegate;
+    private final int maxEntries;
+    private final Map<String, String> pascalCase = new ConcurrentHashMap<>();
+    private final Map<String, String> camelCase = new ConcurrentHashMap<>();
+
+    public CachingNameConverter(NameConverter delegate) {
+        this(delegate, MAX_ENTRIES);
+    }
+
+    /**
+     * @param delegate   실제 변환기 (스레드 안전해야 한다)
+     * @param maxEntries 변환 방향별 최대 항목 수
+     */
+    public CachingNameConverter(NameConverter delegate, int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public String toPascalCase(String s) {
+        return convert(pascalCase, s, true);
+    }
+
+    @Override
+    public String toCamelCase(String s) {
+        return convert(camelCase, s, false);
+    }
+
+    private String convert(Map<String, String> cache, String s, boolean pascal) {
+        if (s == null) {
+            return pascal ? delegate.toPascalCase(null) : delegate.toCamelCase(null);
+        }
+        String cached = cache.get(s);
+        if (cached != null) {
+            return cached;
+        }
+        String converted = pascal ? delegate.toPascalCase(s) : delegate.toCamelCase(s);
+        if (converted == null) {
+            return null;
+        }
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        String previous = cache.putIfAbsent(s, converted);
+        return previous != null ? previous : converted;
+    }
+
+    /** 캐시된 항목 수 (두 방향 합계) */
+    public int size() {
+        return pascalCase.size() + camelCase.size();
+    }
+}
@@ -1,18 +1,64 @@
 package org.example.json;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import org.example.exception.UserException;
 
 /**
  * Jackson JsonNode 트리를 관찰 기반 스키마(중간 모델)로 변환한다.
+ * <p>
+ * {@link ResourceLimits}를 주면 한도를 넘은 하위 트리를 {@link SchemaOpaque}로 접는다.
+ * 접은 내역은 {@link #analyze(JsonNode, ResourceGovernor)}에 넘긴 {@link ResourceGovernor}로 확인한다.
+ * 분석 상태는 호출마다 따로 만들므로 하나의 인스턴스를 여러 스레드에서 동시에 써도 된다.
  */
 public final class JsonAnalyzer {
 
+    // 객체 하나에 기록할 최대 필드 수. 넘는 키는 버린다. (키가 값처럼 쓰이는 입력을 계속 관찰해도 스키마가 무한히 커지지 않도록)
+    private final int maxFieldsPerObject;
+    private final ResourceLimits limits;
+
+    public JsonAnalyzer() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public JsonAnalyzer(int maxFieldsPerObject) {
+        this(maxFieldsPerObject, ResourceLimits.unlimited());
+    }
+
+    public JsonAnalyzer(ResourceLimits limits) {
+        this(Integer.MAX_VALUE, limits);
+    }
+
+    /**
+     * @param maxFieldsPerObject 객체 하나에 기록할 최대 필드 수. 넘는 키는 버린다.
+     * @param limits             넘으면 하위 트리를 접는 한도. ({@code maxKeysPerObject}를 넘은 객체는 키를 버리지 않고 통째로 접는다)
+     */
+    public JsonAnalyzer(int maxFieldsPerObject, ResourceLimits limits) {
+        if (maxFieldsPerObject <= 0) {
+            throw new IllegalArgumentException("maxFieldsPerObject는 1 이상이어야 합니다: " + maxFieldsPerObject);
+        }
+        this.maxFieldsPerObject = maxFieldsPerObject;
+        this.limits = java.util.Objects.requireNonNull(limits, "limits must not be null");
+    }
+
+    public ResourceLimits limits() {
+        return limits;
+    }
+
     /** JsonNode 루트를 스키마 트리로 변환한다. */
     public SchemaNode analyze(JsonNode root) {
+        return analyze(root, new ResourceGovernor(limits));
+    }
+
+    /**
+     * JsonNode 루트를 스키마 트리로 변환하며, 한도 검사와 접은 내역 기록에 주어진 governor를 쓴다.
+     * (이 분석기의 한도 대신 governor의 한도가 적용된다)
+     */
+    public SchemaNode analyze(JsonNode root, ResourceGovernor governor) {
+        java.util.Objects.requireNonNull(governor, "governor must not be null");
         if (root == null) {
             return new SchemaPrimitive(SchemaPrimitive.PKind.NULL);
         }
-        return visit(root);
+        return governor.applyBudgets(visit(root, governor));
     }
 
     public SchemaNode analyze(JsonValidator.Result result) {
@@ -22,40 +68,101 @@ public final class JsonAnalyzer {
         return analyze(result.root());
     }
 
+    /**
+     * 따로 분석한 두 스키마 트리를 하나로 병합한다. (여러 샘플을 누적할 때 사용)
+     * <p>
+     * 입력 트리는 변경하지 않는다. 결과는 바뀌지 않은 하위 트리를 입력과 공유할 수 있으므로,
+     * 병합 결과를 만든 뒤에도 입력 트리를 수정하면 안 된다.
+     */
+    public SchemaNode merge(SchemaNode a, SchemaNode b) {
+        return merge(a, b, new ResourceGovernor(limits));
+    }
+
+    /**
+     * {@link #merge(SchemaNode, SchemaNode)}와 같으며, 한도 검사와 접은 내역 기록에 주어진 governor를 쓴다.
+     */
+    public SchemaNode merge(SchemaNode a, SchemaNode b, ResourceGovernor governor) {
+        java.util.Objects.requireNonNull(governor, "governor must not be null");
+        SchemaNode merged = mergeSchemas(a, b, governor);
+        if (a instanceof SchemaObject left && b instanceof SchemaObject right && merged instanceof SchemaOpaque) {
+            java.util.Set<String> names = new java.util.HashSet<>(left.fields().keySet());
+            names.addAll(right.fields().keySet());
+            throw rootTooWide(names.size(), governor.limits().maxKeysPerObject());
+        }
+        return governor.applyBudgets(merged);
+    }
+
     /**
      * 내부 방문 함수.
      * JsonNode의 종류에 따라 객체/배열/프리미티브/NULL 등을 재귀적으로 스키마 트리로 변환한다.
      */
-    private SchemaNode visit(JsonNode n) {
+    private SchemaNode visit(JsonNode n, ResourceGovernor governor) {
+        governor.countNode();
         if (n.isObject()) {
-            return visitObject(n);
+            return visitObject(n, governor);
         }
 
         if (n.isArray()) {
-            return visitArray(n);
+            return visitArray(n, governor);
         }
 
         if (n.isTextual())  return new SchemaPrimitive(SchemaPrimitive.PKind.STRING);
-        if (n.isNumber())   return new SchemaPrimitive(SchemaPrimitive.PKind.NUMBER);
+        if (n.isNumber())   return new SchemaPrimitive(SchemaPrimitive.PKind.NUMBER, numberWidth(n));
         if (n.isBoolean())  return new SchemaPrimitive(SchemaPrimitive.PKind.BOOLEAN);
         if (n.isNull())     return new SchemaPrimitive(SchemaPrimitive.PKind.NULL);
 
         return new SchemaPrimitive(SchemaPrimitive.PKind.STRING);
     }
 
-    private SchemaNode visitObject(JsonNode obj) {
+    private SchemaPrimitive.NumberWidth numberWidth(JsonNode n) {
+        if (!n.isIntegralNumber()) return SchemaPrimitive.NumberWidth.DOUBLE;
+        if (n.canConvertToInt())   return SchemaPrimitive.NumberWidth.INT;
+        if (n.canConvertToLong())  return SchemaPrimitive.NumberWidth.LONG;
+        return SchemaPrimitive.NumberWidth.DOUBLE;
+    }
+
+    private SchemaNode visitObject(JsonNode obj, ResourceGovernor governor) {
+        // 한도를 넘은 객체는 자식을 방문하지 않고 접는다. (키가 수십만 개인 객체도 스키마를 만들지 않는다)
+        if (governor.tooDeep()) {
+            return governor.collapse(ResourceGovernor.Reason.DEPTH, governor.depth() + 1,
+                    governor.limits().maxDepth(), SchemaOpaque.map());
+        }
+        if (obj.size() > governor.limits().maxKeysPerObject()) {
+            if (governor.depth() == 0) {
+                throw rootTooWide(obj.size(), governor.limits().maxKeysPerObject());
+            }
+            return governor.collapse(ResourceGovernor.Reason.KEYS, obj.size(),
+                    governor.limits().maxKeysPerObject(), SchemaOpaque.map());
+        }
+
         SchemaObject so = new SchemaObject();
         java.util.Iterator<String> it = obj.fieldNames();
-        while (it.hasNext()) {
+        int position = 0;
+        governor.descend();
+        while (it.hasNext() && position < maxFieldsPerObject) {
             String name = it.next();
             JsonNode child = obj.get(name);
-            SchemaNode childSchema = visit(child);
-            so.fields().put(name, SchemaObject.FieldInfo.presentOnce(childSchema));
+            governor.enterKey(name);
+            SchemaNode childSchema = visit(child, governor);
+            governor.exitKey();
+            so.fields().put(name, SchemaObject.FieldInfo.presentOnce(childSchema, position++));
         }
+        governor.ascend();
         return so;
     }
 
-    private SchemaNode visitArray(JsonNode arr) {
+    /** 루트 객체는 클래스가 되어야 하므로 Map으로 접지 않고 한도를 알려 준다. */
+    private static UserException rootTooWide(int observed, int limit) {
+        return new UserException("[ERROR] JSON 루트 객체의 키 수(" + observed + ")가 --max-keys 한도(" + limit
+                + ")를 넘습니다. 루트 객체는 Map으로 접을 수 없으므로 --max-keys를 키 수 이상으로 늘려 주세요.");
+    }
+
+    private SchemaNode visitArray(JsonNode arr, ResourceGovernor governor) {
+        if (governor.tooDeep()) {
+            return governor.collapse(ResourceGovernor.Reason.DEPTH, governor.depth() + 1,
+                    governor.limits().maxDepth(), SchemaOpaque.any());
+        }
+
         SchemaArray sa = new SchemaArray();
         if (arr.size() == 0) {
             sa.setEmpty(true);
@@ -63,10 +170,14 @@ public final class JsonAnalyzer {
         }
 
         SchemaNode acc = null;
+        governor.descend();
+        governor.enterKey("[]");
         for (JsonNode elem : arr) {
-            SchemaNode elemSchema = visit(elem);
-            acc = (acc == null) ? elemSchema : mergeSchemas(acc, elemSchema);
+            SchemaNode elemSchema = visit(elem, governor);
+            acc = (acc == null) ? elemSchema : mergeSchemas(acc, elemSchema, governor);
         }
+        governor.exitKey();
+        governor.ascend();
 
         if (acc instanceof SchemaUnion) {
             sa.elementTypes().addAll(((SchemaUnion) acc).variants());
@@ -78,46 +189,108 @@ public final class JsonAnalyzer {
 
     /**
      * 두 스키마 노드를 병합하여 변동성을 포착한다.
-     * - Primitive/Primitive: 종류가 다르면 Union
-     * - Object/Object: 필드 단위로 present/total 합산 및 재귀 병합
-     * - Array/Array: elementTypes 합집합(1차 버전 단순화)
+     * - Primitive/Primitive: 종류가 다르면 Union, 같으면 숫자 범위를 넓은 쪽으로 합침
+     * - Object/Object: 필드 단위로 present/total/키 위치 합산 및 재귀 병합
+     * - Array/Array: 원소 스키마를 하나로 병합
+     * - Union: 같은 모양의 변형끼리 병합하고 나머지는 변형으로 추가
+     * - Opaque: 접힌 값은 다시 펼치지 않는다 (객체/null과 합치면 MAP, 그 밖에는 ANY)
      * - 서로 다른 종류: Union으로 승격
      */
-    private SchemaNode mergeSchemas(SchemaNode a, SchemaNode b) {
+    private SchemaNode mergeSchemas(SchemaNode a, SchemaNode b, ResourceGovernor governor) {
         if (a == null) return b;
         if (b == null) return a;
 
+        if (a instanceof SchemaOpaque || b instanceof SchemaOpaque) {
+            return (mapLike(a) && mapLike(b)) ? SchemaOpaque.map() : SchemaOpaque.any();
+        }
+
         // Primitive <--> Primitive
         if (a instanceof SchemaPrimitive && b instanceof SchemaPrimitive) {
             SchemaPrimitive pa = (SchemaPrimitive) a;
             SchemaPrimitive pb = (SchemaPrimitive) b;
-            return (pa.pkind() == pb.pkind()) ? pa : unionOf(pa, pb);
+            if (pa.pkind() != pb.pkind()) return unionOf(pa, pb, governor);
+            SchemaPrimitive.NumberWidth width = pa.numberWidth().widen(pb.numberWidth());
+            return (width == pa.numberWidth()) ? pa : new SchemaPrimitive(pa.pkind(), width);
         }
 
         if (a instanceof SchemaObject && b instanceof SchemaObject) {
-            return mergeObjects((SchemaObject) a, (SchemaObject) b);
+            return mergeObjects((SchemaObject) a, (SchemaObject) b, governor);
         }
 
         if (a instanceof SchemaArray && b instanceof SchemaArray) {
-            return mergeArrays((SchemaArray) a, (SchemaArray) b);
+            return mergeArrays((SchemaArray) a, (SchemaArray) b, governor);
         }
 
-        if (a instanceof SchemaUnion) {
-            ((SchemaUnion) a).addVariant(b);
-            return a;
+        if (a instanceof SchemaUnion || b instanceof SchemaUnion) {
+            return mergeIntoUnion(a, b, governor);
         }
-        if (b instanceof SchemaUnion) {
-            ((SchemaUnion) b).addVariant(a);
-            return b;
+
+        return unionOf(a, b, governor);
+    }
+
+    /** {@code Map<String, Object>}에 담을 수 있는 값인지 (객체, MAP으로 접힌 값, null) */
+    private static boolean mapLike(SchemaNode node) {
+        if (node instanceof SchemaOpaque opaque) {
+            return opaque.shape() == SchemaOpaque.Shape.MAP;
+        }
+        if (node instanceof SchemaPrimitive primitive) {
+            return primitive.pkind() == SchemaPrimitive.PKind.NULL;
+        }
+        return node instanceof SchemaObject;
+    }
+
+    /**
+     * 유니온에 새 변형을 합친다. 같은 모양(같은 종류의 원시값, 객체, 배열)의 변형이 이미 있으면
+     * 새로 추가하지 않고 그 변형과 병합하므로, 관찰을 반복해도 변형 수가 늘지 않는다.
+     */
+    private SchemaNode mergeIntoUnion(SchemaNode a, SchemaNode b, ResourceGovernor governor) {
+        java.util.List<SchemaNode> variants = new java.util.ArrayList<>();
+        addVariants(variants, a, governor);
+        addVariants(variants, b, governor);
+        if (variants.size() > governor.limits().maxUnionVariants()) {
+            return governor.collapse(ResourceGovernor.Reason.UNION_VARIANTS, variants.size(),
+                    governor.limits().maxUnionVariants(), SchemaOpaque.any());
         }
 
-        return unionOf(a, b);
+        SchemaUnion merged = new SchemaUnion();
+        for (SchemaNode variant : variants) {
+            merged.addVariant(variant);
+        }
+        return merged;
     }
 
-    private SchemaNode mergeObjects(SchemaObject left, SchemaObject right) {
+    private void addVariants(java.util.List<SchemaNode> variants, SchemaNode node, ResourceGovernor governor) {
+        if (node instanceof SchemaUnion) {
+            for (SchemaNode variant : ((SchemaUnion) node).variants()) {
+                addVariants(variants, variant, governor);
+            }
+            return;
+        }
+        for (int i = 0; i < variants.size(); i++) {
+            if (sameShape(variants.get(i), node)) {
+                variants.set(i, mergeSchemas(variants.get(i), node, governor));
+                return;
+            }
+        }
+        variants.add(node);
+    }
+
+    /** 병합했을 때 유니온이 아닌 하나의 노드가 되는 관계인지 (같은 노드 종류, 원시값이면 같은 PKind) */
+    private static boolean sameShape(SchemaNode a, SchemaNode b) {
+        if (a.kind() != b.kind()) return false;
+        if (a instanceof SchemaPrimitive) {
+            return ((SchemaPrimitive) a).pkind() == ((SchemaPrimitive) b).pkind();
+        }
+        return true;
+    }
+
+    private SchemaNode mergeObjects(SchemaObject left, SchemaObject right, ResourceGovernor governor) {
         SchemaObject merged = new SchemaObject();
 
         java.util.Set<String> rightNames = new java.util.HashSet<>(right.fields().keySet());
+        // 한쪽에만 있는 필드마다 다시 훑으면 필드 수에 대해 제곱 시간이 되므로 한 번만 계산한다.
+        long leftTotal = estimateObjectTotalSamples(left);
+        long rightTotal = estimateObjectTotalSamples(right);
 
         for (java.util.Map.Entry<String, SchemaObject.FieldInfo> e : left.fields().entrySet()) {
             String name = e.getKey();
@@ -125,34 +298,42 @@ public final class JsonAnalyzer {
 
             if (right.fields().containsKey(name)) {
                 SchemaObject.FieldInfo rf = right.fields().get(name);
-                SchemaNode mergedSchema = mergeSchemas(lf.schema(), rf.schema());
-                int present = lf.presentCount() + rf.presentCount();
-                int total = lf.totalSamples() + rf.totalSamples();
-                merged.fields().put(name, new SchemaObject.FieldInfo(mergedSchema, present, total));
+                governor.enterKey(name);
+                SchemaNode mergedSchema = mergeSchemas(lf.schema(), rf.schema(), governor);
+                governor.exitKey();
+                long present = lf.presentCount() + rf.presentCount();
+                long total = lf.totalSamples() + rf.totalSamples();
+                long positionSum = lf.positionSum() + rf.positionSum();
+                merged.fields().put(name, new SchemaObject.FieldInfo(mergedSchema, present, total, positionSum));
                 rightNames.remove(name);
             } else {
-                int rightTotal = estimateObjectTotalSamples(right);
-                int present = lf.presentCount();
-                int total = lf.totalSamples() + rightTotal;
-                merged.fields().put(name, new SchemaObject.FieldInfo(lf.schema(), present, total));
+                long present = lf.presentCount();
+                long total = lf.totalSamples() + rightTotal;
+                merged.fields().put(name, new SchemaObject.FieldInfo(lf.schema(), present, total, lf.positionSum()));
             }
         }
 
-        int leftTotal = estimateObjectTotalSamples(left);
-        int rightTotal = estimateObjectTotalSamples(right);
         for (String name : rightNames) {
+            if (merged.fields().size() >= maxFieldsPerObject) {
+                break;
+            }
             SchemaObject.FieldInfo rf = right.fields().get(name);
-            int present = rf.presentCount();
-            int total = leftTotal + rightTotal;
-            merged.fields().put(name, new SchemaObject.FieldInfo(rf.schema(), present, total));
+            long present = rf.presentCount();
+            long total = leftTotal + rightTotal;
+            merged.fields().put(name, new SchemaObject.FieldInfo(rf.schema(), present, total, rf.positionSum()));
         }
 
+        // 샘플마다 키가 다른 객체(키를 값처럼 쓰는 맵)는 병합할수록 넓어지므로 여기서도 키 수를 검사한다.
+        if (merged.fields().size() > governor.limits().maxKeysPerObject()) {
+            return governor.collapse(ResourceGovernor.Reason.KEYS, merged.fields().size(),
+                    governor.limits().maxKeysPerObject(), SchemaOpaque.map());
+        }
         return merged;
     }
 
     /** 객체의 관찰된 총 샘플 수 추정: 필드들의 totalSamples 중 최댓값 사용(안전장치 포함) */
-    private int estimateObjectTotalSamples(SchemaObject obj) {
-        int max = 0;
+    private long estimateObjectTotalSamples(SchemaObject obj) {
+        long max = 0;
         for (SchemaObject.FieldInfo fi : obj.fields().values()) {
             if (fi.totalSamples() > max) {
                 max = fi.totalSamples();
@@ -164,15 +345,37 @@ public final class JsonAnalyzer {
         return max;
     }
 
-    private SchemaNode mergeArrays(SchemaArray left, SchemaArray right) {
+    /**
+     * 두 배열의 원소 스키마를 {@link #visitArray(JsonNode, ResourceGovernor)}와 같은 방식으로 하나로 접어 합친다.
+     * 참조 동일성으로 합집합을 만들면 같은 구조의 원소가 관찰할 때마다 따로 쌓인다.
+     */
+    private SchemaNode mergeArrays(SchemaArray left, SchemaArray right, ResourceGovernor governor) {
         SchemaArray merged = new SchemaArray();
         merged.setEmpty(left.isEmpty() || right.isEmpty());
-        merged.elementTypes().addAll(left.elementTypes());
-        merged.elementTypes().addAll(right.elementTypes());
+
+        SchemaNode acc = null;
+        governor.enterKey("[]");
+        for (SchemaNode element : left.elementTypes()) {
+            acc = (acc == null) ? element : mergeSchemas(acc, element, governor);
+        }
+        for (SchemaNode element : right.elementTypes()) {
+            acc = (acc == null) ? element : mergeSchemas(acc, element, governor);
+        }
+        governor.exitKey();
+
+        if (acc instanceof SchemaUnion) {
+            merged.elementTypes().addAll(((SchemaUnion) acc).variants());
+        } else if (acc != null) {
+            merged.elementTypes().add(acc);
+        }
         return merged;
     }
 
-    private SchemaUnion unionOf(SchemaNode x, SchemaNode y) {
+    private SchemaNode unionOf(SchemaNode x, SchemaNode y, ResourceGovernor governor) {
+        if (governor.limits().maxUnionVariants() < 2) {
+            return governor.collapse(ResourceGovernor.Reason.UNION_VARIANTS, 2,
+                    governor.limits().maxUnionVariants(), SchemaOpaque.any());
+        }
         SchemaUnion u = new SchemaUnion();
         u.addVariant(x);
         u.addVariant(y);
@@ -52,6 +52,17 @@ public final class JsonValidator {
         }
     }
 
+    // 바이트 JSON 유효성 검증 + 파싱 (UTF-8, BOM 허용, 파일 I/O 없음)
+    public static JsonNode assertValidAndParse(byte[] bytes, String sourceNameForMsg) {
+        try {
+            return MAPPER.readTree(hasUtf8Bom(bytes) ? stripBom(bytes) : bytes);
+        } catch (JsonProcessingException e) {
+            throw new UserException("[ERROR] 유효한 JSON이 아닙니다: " + sourceNameForMsg, e);
+        } catch (IOException e) {
+            throw new InternalException("JSON을 읽는 중 내부 오류가 발생했습니다: " + sourceNameForMsg, e);
+        }
+    }
+
     // 문자열 JSON 유효성 검증 + 파싱 (파일 I/O 없음)
     public static JsonNode assertValidAndParse(String json, String sourceNameForMsg) {
         try {
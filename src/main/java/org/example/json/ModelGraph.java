@@ -3,11 +3,14 @@ package org.example.json;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import org.example.json.SchemaObject.FieldInfo;
 import org.example.json.TypeInferencer.TypeRef;
 
@@ -22,6 +25,11 @@ import org.example.json.TypeInferencer.TypeRef;
  * 예를 들어, WeatherApiResponse.location 필드의 타입이 Location 이라면
  * WeatherApiResponse -> Location 이라는 관계가 생긴다.</p>
  *
+ * <p>엣지는 그래프 생성 시점에 한 번만 계산되어 인접 리스트(나가는/들어오는 방향)로 보관되며,
+ * 위상 정렬 순서, 강한 연결 요소(SCC), 의존 레벨도 함께 캐시된다.
+ * 덕분에 소비자는 {@link Field#getTypeName()} 문자열을 다시 훑지 않고도
+ * 의존 관계를 조회할 수 있다.</p>
+ *
  * <p>이 계층은 오직 "출력 세계(Java 타입들)의 구조"에만 관심을 가지며,
  * JSON 스키마나 타입 추론 내부 구현에는 의존하지 않는다.</p>
  */
@@ -30,12 +38,37 @@ public final class ModelGraph {
     private final ModelClass rootClass;
     private final Map<String, ModelClass> classesByQualifiedName;
 
+    // 인접 리스트는 classes 리스트의 인덱스를 기준으로 보관한다.
+    private final List<ModelClass> classes;
+    private final Map<ModelClass, Integer> indexByClass;
+    private final int[][] outgoing;
+    private final int[][] incoming;
+
+    // 위상 정렬/SCC/레벨 캐시 (의존 대상이 항상 먼저 온다)
+    private final List<List<ModelClass>> components;
+    private final List<ModelClass> topologicalOrder;
+    private final List<List<ModelClass>> dependencyLevels;
+
     private ModelGraph(ModelClass rootClass, Map<String, ModelClass> classesByQualifiedName) {
         this.rootClass = Objects.requireNonNull(rootClass, "rootClass must not be null");
         Map<String, ModelClass> copy = new LinkedHashMap<>(
                 Objects.requireNonNull(classesByQualifiedName, "classesByQualifiedName must not be null")
         );
         this.classesByQualifiedName = Collections.unmodifiableMap(copy);
+
+        this.classes = List.copyOf(copy.values());
+        this.indexByClass = new IdentityHashMap<>();
+        for (int i = 0; i < classes.size(); i++) {
+            indexByClass.put(classes.get(i), i);
+        }
+
+        this.outgoing = buildOutgoingEdges();
+        this.incoming = invert(outgoing);
+
+        List<int[]> sccIndices = findStronglyConnectedComponents();
+        this.components = toClassLists(sccIndices);
+        this.topologicalOrder = flatten(components);
+        this.dependencyLevels = buildDependencyLevels(sccIndices);
     }
 
     /**
@@ -131,6 +164,7 @@ public final class ModelGraph {
         }
 
         List<Field> fields = new ArrayList<>();
+        List<Double> meanPositions = new ArrayList<>();
 
         for (Map.Entry<String, FieldInfo> entry : obj.fields().entrySet()) {
             String jsonName = entry.getKey();
@@ -146,7 +180,8 @@ public final class ModelGraph {
 
             // TypeRef의 Java 타입 이름 사용
             String typeName = ref.getJavaType();
-            boolean nullable = fieldInfo.optional();
+            // 누락이 관찰되었거나, 값으로 null이 관찰된 경우 nullable
+            boolean nullable = fieldInfo.optional() || mayBeNull(fieldSchema);
 
             fields.add(new Field(
                     jsonName,
@@ -155,16 +190,55 @@ public final class ModelGraph {
                     nullable,
                     ref.getRequiredImports()
             ));
+            meanPositions.add(fieldInfo.meanPosition());
 
             createNestedClassesIfNeeded(fieldSchema, typeMap, packageName, nameConverter, created);
         }
 
-        ModelClass modelClass = new ModelClass(packageName, suggestedSimpleName, fields, root);
+        ModelClass modelClass = new ModelClass(
+                packageName,
+                suggestedSimpleName,
+                fields,
+                orderByMeanPosition(fields, meanPositions),
+                root
+        );
         created.put(node, modelClass);
         return modelClass;
 
     }
 
+    private static boolean mayBeNull(SchemaNode schema) {
+        if (schema instanceof SchemaPrimitive primitive) {
+            return primitive.pkind() == SchemaPrimitive.PKind.NULL;
+        }
+        if (schema instanceof SchemaUnion union) {
+            for (SchemaNode variant : union.variants()) {
+                if (mayBeNull(variant)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 샘플에서 관찰된 평균 키 위치 순서로 필드를 정렬한다. (위치가 같으면 선언 순서 유지)
+     * 샘플들의 키 순서가 일정하다면 이 순서가 곧 가장 자주 관찰된 순서이다.
+     */
+    private static List<Field> orderByMeanPosition(List<Field> fields, List<Double> meanPositions) {
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < fields.size(); i++) {
+            indices.add(i);
+        }
+        indices.sort(java.util.Comparator.comparingDouble(meanPositions::get));
+
+        List<Field> ordered = new ArrayList<>(fields.size());
+        for (int index : indices) {
+            ordered.add(fields.get(index));
+        }
+        return ordered;
+    }
+
     /**
      * 필드 스키마에 따라 필요한 중첩 ModelClass들을 생성한다.
      * - SchemaObject: 해당 노드에 대한 ModelClass를 생성
@@ -233,6 +307,291 @@ public final class ModelGraph {
         return classesByQualifiedName.size();
     }
 
+    // =====================================================================
+    //  Edges / ordering
+    // =====================================================================
+
+    /**
+     * 주어진 클래스의 필드가 참조하는 클래스들(나가는 엣지)을 선언 순서대로 반환한다.
+     * 예: WeatherApiResponse -> [Location, Current]
+     */
+    public List<ModelClass> getDependencies(ModelClass modelClass) {
+        return toClassList(outgoing[requireIndex(modelClass)]);
+    }
+
+    /**
+     * 주어진 클래스를 필드 타입으로 참조하는 클래스들(들어오는 엣지)을 선언 순서대로 반환한다.
+     * 예: Location -> [WeatherApiResponse]
+     */
+    public List<ModelClass> getDependents(ModelClass modelClass) {
+        return toClassList(incoming[requireIndex(modelClass)]);
+    }
+
+    /**
+     * 의존 대상이 항상 먼저 오도록 정렬된 전체 클래스 목록.
+     * 순환이 있는 경우 같은 SCC에 속한 클래스들은 선언 순서대로 연속해서 나온다.
+     */
+    public List<ModelClass> getTopologicalOrder() {
+        return topologicalOrder;
+    }
+
+    /**
+     * 강한 연결 요소(SCC) 목록. 의존 대상 SCC가 먼저 오도록 정렬되어 있다.
+     * JSON 샘플에서 만들어진 그래프는 순환이 없으므로 보통 모든 SCC의 크기는 1이다.
+     */
+    public List<List<ModelClass>> getStronglyConnectedComponents() {
+        return components;
+    }
+
+    /**
+     * 의존 레벨별 클래스 묶음.
+     * 레벨 0은 다른 클래스에 의존하지 않는 클래스들이고,
+     * 레벨 n의 클래스는 레벨 n 미만의 클래스에만 의존한다.
+     * 같은 레벨에 속한 클래스들은 서로 독립적이므로 병렬로 처리할 수 있다.
+     */
+    public List<List<ModelClass>> getDependencyLevels() {
+        return dependencyLevels;
+    }
+
+    /**
+     * 주어진 클래스들이 바뀌었을 때 다시 생성해야 하는 클래스 목록을 구한다.
+     * 변경된 클래스 자신과, 들어오는 엣지를 따라 (직접/간접적으로) 참조하는 모든 클래스가 포함되며,
+     * 결과는 위상 정렬 순서를 따른다.
+     */
+    public List<ModelClass> findAffectedClasses(Collection<ModelClass> changed) {
+        Objects.requireNonNull(changed, "changed must not be null");
+
+        boolean[] affected = new boolean[classes.size()];
+        java.util.ArrayDeque<Integer> queue = new java.util.ArrayDeque<>();
+        for (ModelClass modelClass : changed) {
+            int index = requireIndex(modelClass);
+            if (!affected[index]) {
+                affected[index] = true;
+                queue.add(index);
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            for (int dependent : incoming[current]) {
+                if (!affected[dependent]) {
+                    affected[dependent] = true;
+                    queue.add(dependent);
+                }
+            }
+        }
+
+        List<ModelClass> result = new ArrayList<>();
+        for (ModelClass modelClass : topologicalOrder) {
+            if (affected[indexByClass.get(modelClass)]) {
+                result.add(modelClass);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private int requireIndex(ModelClass modelClass) {
+        Objects.requireNonNull(modelClass, "modelClass must not be null");
+        Integer index = indexByClass.get(modelClass);
+        if (index == null) {
+            throw new IllegalArgumentException("Model class is not part of this graph: " + modelClass.getQualifiedName());
+        }
+        return index;
+    }
+
+    /**
+     * 각 필드의 타입 이름에서 식별자 토큰을 뽑아 그래프 안의 클래스와 연결한다.
+     * 예: "List<ForecastdayItem>" -> [List, ForecastdayItem] 중 ForecastdayItem만 엣지가 된다.
+     */
+    private int[][] buildOutgoingEdges() {
+        Map<String, Integer> bySimpleName = new java.util.HashMap<>();
+        for (int i = 0; i < classes.size(); i++) {
+            bySimpleName.putIfAbsent(classes.get(i).getSimpleName(), i);
+        }
+
+        int[][] edges = new int[classes.size()][];
+        for (int i = 0; i < classes.size(); i++) {
+            ModelClass from = classes.get(i);
+            Set<Integer> targets = new LinkedHashSet<>();
+            for (Field field : from.getFields()) {
+                collectReferencedClasses(field.getTypeName(), from.getPackageName(), bySimpleName, targets);
+            }
+            edges[i] = targets.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return edges;
+    }
+
+    private void collectReferencedClasses(String typeName,
+                                          String packageName,
+                                          Map<String, Integer> bySimpleName,
+                                          Set<Integer> targets) {
+        int length = typeName.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean identifierPart = i < length
+                    && (Character.isJavaIdentifierPart(typeName.charAt(i)) || typeName.charAt(i) == '.');
+            if (identifierPart) {
+                if (start < 0) {
+                    start = i;
+                }
+                continue;
+            }
+            if (start >= 0) {
+                Integer target = resolveClass(typeName.substring(start, i), packageName, bySimpleName);
+                if (target != null) {
+                    targets.add(target);
+                }
+                start = -1;
+            }
+        }
+    }
+
+    private Integer resolveClass(String token, String packageName, Map<String, Integer> bySimpleName) {
+        ModelClass qualified = classesByQualifiedName.get(token);
+        if (qualified == null && !packageName.isEmpty()) {
+            qualified = classesByQualifiedName.get(packageName + '.' + token);
+        }
+        if (qualified != null) {
+            return indexByClass.get(qualified);
+        }
+        int lastDot = token.lastIndexOf('.');
+        return bySimpleName.get(lastDot >= 0 ? token.substring(lastDot + 1) : token);
+    }
+
+    private static int[][] invert(int[][] edges) {
+        List<List<Integer>> reversed = new ArrayList<>();
+        for (int i = 0; i < edges.length; i++) {
+            reversed.add(new ArrayList<>());
+        }
+        for (int from = 0; from < edges.length; from++) {
+            for (int to : edges[from]) {
+                reversed.get(to).add(from);
+            }
+        }
+        int[][] result = new int[edges.length][];
+        for (int i = 0; i < edges.length; i++) {
+            result[i] = reversed.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    /**
+     * Tarjan 알고리즘으로 SCC를 찾는다.
+     * Tarjan은 한 SCC에서 도달 가능한 SCC를 모두 내보낸 뒤에 그 SCC를 내보내므로,
+     * 결과 순서가 곧 "의존 대상 먼저" 위상 정렬 순서가 된다.
+     */
+    private List<int[]> findStronglyConnectedComponents() {
+        int n = classes.size();
+        int[] order = new int[n];
+        int[] lowLink = new int[n];
+        boolean[] onStack = new boolean[n];
+        java.util.Arrays.fill(order, -1);
+        java.util.ArrayDeque<Integer> stack = new java.util.ArrayDeque<>();
+        List<int[]> result = new ArrayList<>();
+        int[] counter = {0};
+
+        for (int i = 0; i < n; i++) {
+            if (order[i] < 0) {
+                strongConnect(i, order, lowLink, onStack, stack, counter, result);
+            }
+        }
+        return result;
+    }
+
+    private void strongConnect(int v,
+                               int[] order,
+                               int[] lowLink,
+                               boolean[] onStack,
+                               java.util.ArrayDeque<Integer> stack,
+                               int[] counter,
+                               List<int[]> result) {
+        order[v] = counter[0];
+        lowLink[v] = counter[0];
+        counter[0]++;
+        stack.push(v);
+        onStack[v] = true;
+
+        for (int w : outgoing[v]) {
+            if (order[w] < 0) {
+                strongConnect(w, order, lowLink, onStack, stack, counter, result);
+                lowLink[v] = Math.min(lowLink[v], lowLink[w]);
+            } else if (onStack[w]) {
+                lowLink[v] = Math.min(lowLink[v], order[w]);
+            }
+        }
+
+        if (lowLink[v] == order[v]) {
+            List<Integer> members = new ArrayList<>();
+            int w;
+            do {
+                w = stack.pop();
+                onStack[w] = false;
+                members.add(w);
+            } while (w != v);
+            // 같은 SCC 안에서는 선언 순서를 유지한다.
+            result.add(members.stream().mapToInt(Integer::intValue).sorted().toArray());
+        }
+    }
+
+    private List<List<ModelClass>> buildDependencyLevels(List<int[]> sccIndices) {
+        int[] componentOf = new int[classes.size()];
+        for (int c = 0; c < sccIndices.size(); c++) {
+            for (int member : sccIndices.get(c)) {
+                componentOf[member] = c;
+            }
+        }
+
+        // SCC는 의존 대상이 먼저 나오므로 앞에서부터 한 번만 훑으면 레벨이 확정된다.
+        int[] levelOf = new int[sccIndices.size()];
+        List<List<ModelClass>> levels = new ArrayList<>();
+        for (int c = 0; c < sccIndices.size(); c++) {
+            int level = 0;
+            for (int member : sccIndices.get(c)) {
+                for (int target : outgoing[member]) {
+                    int targetComponent = componentOf[target];
+                    if (targetComponent != c) {
+                        level = Math.max(level, levelOf[targetComponent] + 1);
+                    }
+                }
+            }
+            levelOf[c] = level;
+            while (levels.size() <= level) {
+                levels.add(new ArrayList<>());
+            }
+            levels.get(level).addAll(toClassList(sccIndices.get(c)));
+        }
+
+        List<List<ModelClass>> result = new ArrayList<>();
+        for (List<ModelClass> level : levels) {
+            result.add(Collections.unmodifiableList(level));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private List<List<ModelClass>> toClassLists(List<int[]> indexLists) {
+        List<List<ModelClass>> result = new ArrayList<>();
+        for (int[] indices : indexLists) {
+            result.add(toClassList(indices));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private List<ModelClass> toClassList(int[] indices) {
+        List<ModelClass> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(classes.get(index));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<ModelClass> flatten(List<List<ModelClass>> lists) {
+        List<ModelClass> result = new ArrayList<>();
+        for (List<ModelClass> list : lists) {
+            result.addAll(list);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
     /**
      * 디버깅/로그용 간단한 문자열 표현.
      */
@@ -259,6 +618,7 @@ public final class ModelGraph {
         private final String simpleName;
         private final boolean root;
         private final List<Field> fields;
+        private final List<Field> observedFieldOrder;
 
         /**
          * @param packageName 패키지 이름 (예: "com.example.dto")
@@ -267,12 +627,32 @@ public final class ModelGraph {
          * @param root        루트 클래스 여부
          */
         public ModelClass(String packageName, String simpleName, List<Field> fields, boolean root) {
+            this(packageName, simpleName, fields, fields, root);
+        }
+
+        /**
+         * @param packageName        패키지 이름 (예: "com.example.dto")
+         * @param simpleName         클래스 이름 (예: "WeatherApiResponse")
+         * @param fields             필드 목록 (선언 순서)
+         * @param observedFieldOrder 같은 필드들을 샘플에서 관찰된 JSON 키 순서로 나열한 목록
+         * @param root               루트 클래스 여부
+         */
+        public ModelClass(String packageName,
+                          String simpleName,
+                          List<Field> fields,
+                          List<Field> observedFieldOrder,
+                          boolean root) {
             this.packageName = Objects.requireNonNull(packageName, "packageName must not be null");
             this.simpleName = Objects.requireNonNull(simpleName, "simpleName must not be null");
             this.root = root;
             Objects.requireNonNull(fields, "fields must not be null");
+            Objects.requireNonNull(observedFieldOrder, "observedFieldOrder must not be null");
+            if (observedFieldOrder.size() != fields.size()) {
+                throw new IllegalArgumentException("observedFieldOrder must contain the same fields: " + simpleName);
+            }
             // 필드 순서 고정 + 불변 리스트로 래핑
             this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+            this.observedFieldOrder = Collections.unmodifiableList(new ArrayList<>(observedFieldOrder));
         }
 
         /**
@@ -313,6 +693,14 @@ public final class ModelGraph {
             return fields;
         }
 
+        /**
+         * 샘플에서 관찰된 JSON 키 순서대로 필드를 반환한다.
+         * 스트리밍 reader의 빠른 경로처럼 "예상 키 순서"가 필요한 곳에서 사용한다.
+         */
+        public List<Field> getObservedFieldOrder() {
+            return observedFieldOrder;
+        }
+
         @Override
         public String toString() {
             return "ModelClass{" +
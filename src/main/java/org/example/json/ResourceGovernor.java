@@ -0,0 +1,386 @@
+package org.example.json;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 스키마 분석 한 번의 자원 사용량을 {@link ResourceLimits}와 비교하고, 한도를 넘은 하위 트리를 {@link SchemaOpaque}로 접는다.
+ * <p>
+ * {@link JsonAnalyzer}가 분석(또는 병합) 한 번마다 하나씩 만들어 쓴다. 스레드 안전하지 않으며 재사용하지 않는다.
+ * <ul>
+ *     <li>키 수, 유니온 변형 수, 깊이: 트리를 만드는 도중에 검사한다. 한도를 넘은 객체는 자식을 방문하지 않으므로
+ *         키가 수십만 개인 객체나 아주 깊은 입력도 스키마를 만들지 않고 건너뛴다.</li>
+ *     <li>스키마 노드 수, 클래스 수: 분석이 끝난 트리를 너비 우선으로 훑으며 센다. 얕은 노드부터 예산을 쓰므로
+ *         루트 가까운 구조는 남고 깊은 쪽이 접힌다. 입력 트리는 바꾸지 않고 바뀐 경로만 새로 만든다.</li>
+ * </ul>
+ * 접은 내역은 {@link #collapses()}로 돌려준다. 같은 경로에서 같은 이유로 여러 번 접혔으면 하나로 합치고 횟수만 센다.
+ */
+public final class ResourceGovernor {
+
+    /** 보고할 접힘 내역의 최대 개수. 나머지는 개수만 센다. */
+    static final int MAX_REPORTED = 100;
+
+    /** 하위 트리를 접은 이유 */
+    public enum Reason {
+        KEYS("객체 키 수"),
+        UNION_VARIANTS("유니온 변형 수"),
+        DEPTH("중첩 깊이"),
+        SCHEMA_NODES("스키마 노드 수"),
+        CLASSES("클래스 수");
+
+        private final String label;
+
+        Reason(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    /**
+     * 접힌 하위 트리 하나
+     */
+    public static final class Collapse {
+        private final String path;
+        private final Reason reason;
+        private final int limit;
+        private final SchemaOpaque.Shape shape;
+        private int observed;
+        private int occurrences = 1;
+
+        Collapse(String path, Reason reason, int observed, int limit, SchemaOpaque.Shape shape) {
+            this.path = path;
+            this.reason = reason;
+            this.observed = observed;
+            this.limit = limit;
+            this.shape = shape;
+        }
+
+        /** JSON 경로. 예: {@code $.items[].attributes} */
+        public String path() {
+            return path;
+        }
+
+        public Reason reason() {
+            return reason;
+        }
+
+        /** 관찰한 값 중 가장 큰 값 (키 수, 변형 수, 깊이). 노드/클래스 수는 한도와 같다. */
+        public int observed() {
+            return observed;
+        }
+
+        public int limit() {
+            return limit;
+        }
+
+        /** 대신 쓴 타입 */
+        public SchemaOpaque.Shape shape() {
+            return shape;
+        }
+
+        /** 같은 경로에서 같은 이유로 접힌 횟수 (배열 원소마다 한 번씩 센다) */
+        public int occurrences() {
+            return occurrences;
+        }
+
+        /**
+         * 사용자에게 보여줄 경고 한 줄.
+         * 예: {@code [WARN] $.attributes: 객체 키 수(600000)가 한도(1000)를 넘어 Map<String, Object>로 대체했습니다.}
+         */
+        public String message() {
+            String type = (shape == SchemaOpaque.Shape.MAP) ? "Map<String, Object>" : "Object";
+            String amount = (reason == Reason.SCHEMA_NODES || reason == Reason.CLASSES)
+                    ? reason.label() + "가 한도(" + limit + ")에 도달해"
+                    : reason.label() + "(" + observed + ")가 한도(" + limit + ")를 넘어";
+            String times = (occurrences > 1) ? " (" + occurrences + "회)" : "";
+            return "[WARN] " + path + ": " + amount + " " + type + "로 대체했습니다." + times;
+        }
+
+        @Override
+        public String toString() {
+            return message();
+        }
+    }
+
+    private final ResourceLimits limits;
+    private final boolean tracking;
+    private final ArrayDeque<String> path;
+    private final Map<String, Collapse> collapses = new LinkedHashMap<>();
+    private int suppressed;
+    private int depth;
+    private long analyzedNodes;
+
+    public ResourceGovernor(ResourceLimits limits) {
+        this.limits = Objects.requireNonNull(limits, "limits must not be null");
+        // 한도가 없으면 접을 일이 없으므로 경로도 기록하지 않는다. (분석 경로의 비용을 늘리지 않도록)
+        this.tracking = !limits.isUnlimited();
+        this.path = tracking ? new ArrayDeque<>() : null;
+    }
+
+    public ResourceLimits limits() {
+        return limits;
+    }
+
+    /**
+     * 지금까지 분석하며 만든 스키마 노드 수. 배열 원소마다 만든 뒤 병합해 버린 노드도 포함하므로,
+     * 최종 트리 크기가 아니라 분석에 든 일의 양이다.
+     */
+    public long analyzedNodes() {
+        return analyzedNodes;
+    }
+
+    /**
+     * 접은 하위 트리 목록. (보고 한도 {@value #MAX_REPORTED}개를 넘은 내역은 {@link #suppressedCollapses()}로만 센다)
+     */
+    public List<Collapse> collapses() {
+        return Collections.unmodifiableList(new ArrayList<>(collapses.values()));
+    }
+
+    /** 보고 한도를 넘어 목록에서 빠진 접힘 수 */
+    public int suppressedCollapses() {
+        return suppressed;
+    }
+
+    /** 하나라도 접었으면 true */
+    public boolean degraded() {
+        return !collapses.isEmpty();
+    }
+
+    /**
+     * 사용자에게 보여줄 경고 줄들. 접은 내역이 없으면 빈 목록이다.
+     */
+    public List<String> warnings() {
+        List<String> lines = new ArrayList<>(collapses.size() + 1);
+        for (Collapse collapse : collapses.values()) {
+            lines.add(collapse.message());
+        }
+        if (suppressed > 0) {
+            lines.add("[WARN] 그 밖에 " + suppressed + "건의 하위 트리가 한도를 넘어 접혔습니다.");
+        }
+        return lines;
+    }
+
+    // ==========================
+    // 분석 중 검사 (JsonAnalyzer에서 호출)
+    // ==========================
+
+    void countNode() {
+        analyzedNodes++;
+    }
+
+    /** 객체/배열 한 단계를 더 들어가면 깊이 한도를 넘는지 */
+    boolean tooDeep() {
+        return depth >= limits.maxDepth();
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    void descend() {
+        depth++;
+    }
+
+    void ascend() {
+        depth--;
+    }
+
+    void enterKey(String key) {
+        if (tracking) {
+            path.addLast(key);
+        }
+    }
+
+    void exitKey() {
+        if (tracking) {
+            path.removeLast();
+        }
+    }
+
+    /**
+     * 현재 경로의 하위 트리를 접었다고 기록하고 대신 쓸 노드를 돌려준다.
+     */
+    SchemaOpaque collapse(Reason reason, int observed, int limit, SchemaOpaque replacement) {
+        record(currentPath(), reason, observed, limit, replacement.shape());
+        return replacement;
+    }
+
+    private String currentPath() {
+        if (path == null || path.isEmpty()) {
+            return "$";
+        }
+        StringBuilder sb = new StringBuilder("$");
+        for (String segment : path) {
+            if (!segment.equals("[]")) {
+                sb.append('.');
+            }
+            sb.append(segment);
+        }
+        return sb.toString();
+    }
+
+    private void record(String at, Reason reason, int observed, int limit, SchemaOpaque.Shape shape) {
+        String key = at + '\u0000' + reason;
+        Collapse existing = collapses.get(key);
+        if (existing != null) {
+            existing.occurrences++;
+            existing.observed = Math.max(existing.observed, observed);
+            return;
+        }
+        if (collapses.size() >= MAX_REPORTED) {
+            suppressed++;
+            return;
+        }
+        collapses.put(key, new Collapse(at, reason, observed, limit, shape));
+    }
+
+    // ==========================
+    // 분석 후 예산 적용
+    // ==========================
+
+    /**
+     * 스키마 노드 수와 클래스 수 예산을 적용한다. 두 한도가 모두 없거나 예산 안이면 입력을 그대로 돌려준다.
+     * <p>
+     * 너비 우선으로 노드를 세다가 예산을 넘는 노드를 만나면 그 하위 트리를 접는다.
+     * 클래스는 {@link ModelGraph}가 객체 노드마다 하나씩 만드므로 객체 노드 수로 센다.
+     */
+    SchemaNode applyBudgets(SchemaNode root) {
+        if (root == null
+                || (limits.maxSchemaNodes() == ResourceLimits.UNLIMITED && limits.maxClasses() == ResourceLimits.UNLIMITED)) {
+            return root;
+        }
+
+        Map<SchemaNode, SchemaOpaque> replacements = new IdentityHashMap<>();
+        ArrayDeque<SchemaNode> nodes = new ArrayDeque<>();
+        ArrayDeque<String> paths = new ArrayDeque<>();
+        nodes.add(root);
+        paths.add("$");
+        int nodeCount = 0;
+        int classCount = 0;
+
+        while (!nodes.isEmpty()) {
+            SchemaNode node = nodes.poll();
+            String at = paths.poll();
+
+            if (nodeCount >= limits.maxSchemaNodes()) {
+                SchemaOpaque replacement = SchemaOpaque.of(node);
+                replacements.put(node, replacement);
+                record(at, Reason.SCHEMA_NODES, nodeCount, limits.maxSchemaNodes(), replacement.shape());
+                continue;
+            }
+            if (node instanceof SchemaObject && classCount >= limits.maxClasses()) {
+                replacements.put(node, SchemaOpaque.map());
+                record(at, Reason.CLASSES, classCount, limits.maxClasses(), SchemaOpaque.Shape.MAP);
+                continue;
+            }
+
+            nodeCount++;
+            if (node instanceof SchemaObject obj) {
+                classCount++;
+                for (Map.Entry<String, SchemaObject.FieldInfo> e : obj.fields().entrySet()) {
+                    if (e.getValue().schema() != null) {
+                        nodes.add(e.getValue().schema());
+                        paths.add(at + "." + e.getKey());
+                    }
+                }
+            } else if (node instanceof SchemaArray arr) {
+                for (SchemaNode element : arr.elementTypes()) {
+                    nodes.add(element);
+                    paths.add(at + "[]");
+                }
+            } else if (node instanceof SchemaUnion union) {
+                for (SchemaNode variant : union.variants()) {
+                    nodes.add(variant);
+                    paths.add(at);
+                }
+            }
+        }
+
+        return replacements.isEmpty() ? root : rebuild(root, replacements);
+    }
+
+    /**
+     * 접을 노드를 대체 노드로 바꾼 트리를 만든다. 바뀐 노드가 없는 하위 트리는 그대로 공유한다.
+     */
+    private static SchemaNode rebuild(SchemaNode node, Map<SchemaNode, SchemaOpaque> replacements) {
+        SchemaOpaque replacement = replacements.get(node);
+        if (replacement != null) {
+            return replacement;
+        }
+
+        if (node instanceof SchemaObject obj) {
+            SchemaObject copy = null;
+            for (Map.Entry<String, SchemaObject.FieldInfo> e : obj.fields().entrySet()) {
+                SchemaObject.FieldInfo info = e.getValue();
+                SchemaNode child = (info.schema() == null) ? null : rebuild(info.schema(), replacements);
+                if (child != info.schema() && copy == null) {
+                    copy = copyFieldsBefore(obj, e.getKey());
+                }
+                if (copy != null) {
+                    copy.fields().put(e.getKey(), new SchemaObject.FieldInfo(
+                            child, info.presentCount(), info.totalSamples(), info.positionSum()));
+                }
+            }
+            return (copy != null) ? copy : obj;
+        }
+
+        if (node instanceof SchemaArray arr) {
+            boolean changed = false;
+            List<SchemaNode> elements = new ArrayList<>(arr.elementTypes().size());
+            for (SchemaNode element : arr.elementTypes()) {
+                SchemaNode rebuilt = rebuild(element, replacements);
+                changed |= rebuilt != element;
+                elements.add(rebuilt);
+            }
+            if (!changed) {
+                return arr;
+            }
+            SchemaArray copy = new SchemaArray();
+            copy.setEmpty(arr.isEmpty());
+            copy.elementTypes().addAll(elements);
+            return copy;
+        }
+
+        if (node instanceof SchemaUnion union) {
+            boolean changed = false;
+            List<SchemaNode> variants = new ArrayList<>(union.variants().size());
+            for (SchemaNode variant : union.variants()) {
+                SchemaNode rebuilt = rebuild(variant, replacements);
+                changed |= rebuilt != variant;
+                variants.add(rebuilt);
+            }
+            if (!changed) {
+                return union;
+            }
+            SchemaUnion copy = new SchemaUnion();
+            for (SchemaNode variant : variants) {
+                copy.addVariant(variant);
+            }
+            return copy;
+        }
+
+        return node;
+    }
+
+    private static SchemaObject copyFieldsBefore(SchemaObject obj, String stopKey) {
+        SchemaObject copy = new SchemaObject();
+        for (Map.Entry<String, SchemaObject.FieldInfo> e : obj.fields().entrySet()) {
+            if (e.getKey().equals(stopKey)) {
+                break;
+            }
+            SchemaObject.FieldInfo info = e.getValue();
+            copy.fields().put(e.getKey(), new SchemaObject.FieldInfo(
+                    info.schema(), info.presentCount(), info.totalSamples(), info.positionSum()));
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.json;
+
+/**
+ * 스키마 분석이 감당할 입력 크기의 한도. ({@link ResourceGovernor} 참고)
+ * <p>
+ * 불변 객체이며, 값을 바꿀 때는 {@code withXxx} 메서드로 복사본을 만든다. 기본값은 모든 한도가 없는 상태다.
+ * 한도를 넘은 하위 트리는 오류 대신 {@link SchemaOpaque}로 접혀 {@code Map<String, Object>} 또는 {@code Object}가 된다.
+ * <pre>
+ * ResourceLimits limits = ResourceLimits.unlimited().withMaxKeysPerObject(1_000).withMaxClasses(500);
+ * </pre>
+ */
+public final class ResourceLimits {
+
+    /** 한도 없음 */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final ResourceLimits UNLIMITED_LIMITS =
+            new ResourceLimits(UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED, UNLIMITED);
+
+    private final int maxKeysPerObject;
+    private final int maxUnionVariants;
+    private final int maxDepth;
+    private final int maxSchemaNodes;
+    private final int maxClasses;
+
+    private ResourceLimits(int maxKeysPerObject, int maxUnionVariants, int maxDepth, int maxSchemaNodes, int maxClasses) {
+        checkPositive("maxKeysPerObject", maxKeysPerObject);
+        checkPositive("maxUnionVariants", maxUnionVariants);
+        checkPositive("maxDepth", maxDepth);
+        checkPositive("maxSchemaNodes", maxSchemaNodes);
+        checkPositive("maxClasses", maxClasses);
+        this.maxKeysPerObject = maxKeysPerObject;
+        this.maxUnionVariants = maxUnionVariants;
+        this.maxDepth = maxDepth;
+        this.maxSchemaNodes = maxSchemaNodes;
+        this.maxClasses = maxClasses;
+    }
+
+    private static void checkPositive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + "는 1 이상이어야 합니다: " + value);
+        }
+    }
+
+    /**
+     * 모든 한도가 없는 상태. (분석 결과가 한도를 두기 전과 같다)
+     */
+    public static ResourceLimits unlimited() {
+        return UNLIMITED_LIMITS;
+    }
+
+    /** 객체 하나의 서로 다른 키 수. 넘으면 그 객체를 {@code Map<String, Object>}로 접는다. */
+    public int maxKeysPerObject() {
+        return maxKeysPerObject;
+    }
+
+    /** 유니온 하나의 변형 수. 넘으면 그 값을 {@code Object}로 접는다. */
+    public int maxUnionVariants() {
+        return maxUnionVariants;
+    }
+
+    /** 객체/배열 중첩 깊이 (루트가 1). 더 깊은 객체는 {@code Map<String, Object>}, 배열은 {@code Object}로 접는다. */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /** 스키마 트리 전체의 노드 수. 넘으면 얕은 노드부터 남기고 나머지 하위 트리를 접는다. */
+    public int maxSchemaNodes() {
+        return maxSchemaNodes;
+    }
+
+    /** 생성할 클래스 수 (루트 포함). 넘으면 얕은 객체부터 클래스로 남기고 나머지는 {@code Map<String, Object>}로 접는다. */
+    public int maxClasses() {
+        return maxClasses;
+    }
+
+    /** 한도가 하나도 없으면 true */
+    public boolean isUnlimited() {
+        return maxKeysPerObject == UNLIMITED && maxUnionVariants == UNLIMITED && maxDepth == UNLIMITED
+                && maxSchemaNodes == UNLIMITED && maxClasses == UNLIMITED;
+    }
+
+    public ResourceLimits withMaxKeysPerObject(int maxKeysPerObject) {
+        return new ResourceLimits(maxKeysPerObject, maxUnionVariants, maxDepth, maxSchemaNodes, maxClasses);
+    }
+
+    public ResourceLimits withMaxUnionVariants(int maxUnionVariants) {
+        return new ResourceLimits(maxKeysPerObject, maxUnionVariants, maxDepth, maxSchemaNodes, maxClasses);
+    }
+
+    public ResourceLimits withMaxDepth(int maxDepth) {
+        return new ResourceLimits(maxKeysPerObject, maxUnionVariants, maxDepth, maxSchemaNodes, maxClasses);
+    }
+
+    public ResourceLimits withMaxSchemaNodes(int maxSchemaNodes) {
+        return new ResourceLimits(maxKeysPerObject, maxUnionVariants, maxDepth, maxSchemaNodes, maxClasses);
+    }
+
+    public ResourceLimits withMaxClasses(int maxClasses) {
+        return new ResourceLimits(maxKeysPerObject, maxUnionVariants, maxDepth, maxSchemaNodes, maxClasses);
+    }
+
+    @Override
+    public String toString() {
+        return "ResourceLimits{maxKeysPerObject=" + maxKeysPerObject + ", maxUnionVariants=" + maxUnionVariants
+                + ", maxDepth=" + maxDepth + ", maxSchemaNodes=" + maxSchemaNodes + ", maxClasses=" + maxClasses + '}';
+    }
+}
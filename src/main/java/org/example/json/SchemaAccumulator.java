@@ -0,0 +1,189 @@
+package org.example.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.exception.UserException;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 운영 트래픽의 JSON 응답을 계속 받아 스키마를 누적하는 동시성 누적기.
+ * <p>
+ * 여러 요청 스레드가 동시에 {@link #observe(byte[])}를 호출하는 상황을 전제로 한다.
+ * <ul>
+ *     <li>샤드: 스키마를 여러 샤드에 나눠 누적한다. 스레드는 처음 호출할 때 샤드 하나를 배정받아 계속 그 샤드에만 쓰므로,
+ *         샤드 수가 스레드 수 이상이면 쓰기끼리 경합하지 않는다.</li>
+ *     <li>샘플링: {@code sampleRate} 비율의 요청만 분석한다. 건너뛴 요청은 파싱도 하지 않는다.</li>
+ *     <li>스냅샷: {@link #snapshot(String, String)}은 각 샤드의 현재 스키마를 잠금 없이 읽어 병합한다.
+ *         {@link JsonAnalyzer#merge(SchemaNode, SchemaNode)}는 입력 트리를 바꾸지 않고 새 트리를 만들므로,
+ *         샤드는 병합 결과로 루트 참조만 교체하고 읽는 쪽은 항상 완성된 트리를 본다.</li>
+ *     <li>메모리: 배열 원소와 유니온 변형은 같은 모양끼리 병합되고, 객체 필드 수는 {@code maxFieldsPerObject}로 제한되므로
+ *         관찰 횟수와 관계없이 스키마 크기가 일정 수준을 넘지 않는다.</li>
+ * </ul>
+ * 각 필드의 등장 횟수(present/total)는 샤드 스키마의 {@link SchemaObject.FieldInfo}에,
+ * 누적기 전체의 요청 수는 {@link LongAdder} 카운터에 기록된다.
+ */
+public final class SchemaAccumulator {
+
+    /** 기본 객체당 최대 필드 수 */
+    public static final int DEFAULT_MAX_FIELDS_PER_OBJECT = 512;
+
+    private final double sampleRate;
+    private final JsonAnalyzer analyzer;
+    private final Shard[] shards;
+    private final AtomicInteger nextShard = new AtomicInteger();
+    private final ThreadLocal<Shard> threadShard;
+
+    private final LongAdder observed = new LongAdder();
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 모든 요청을 분석하고, 샤드 수는 사용 가능한 프로세서 수에 맞춘다.
+     */
+    public SchemaAccumulator() {
+        this(1.0, DEFAULT_MAX_FIELDS_PER_OBJECT, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param sampleRate         분석할 요청 비율 (0 초과 1 이하)
+     * @param maxFieldsPerObject 객체 하나에 기록할 최대 필드 수
+     * @param shardCount         샤드 수 (동시에 관찰하는 스레드 수 정도가 적당하다)
+     */
+    public SchemaAccumulator(double sampleRate, int maxFieldsPerObject, int shardCount) {
+        if (!(sampleRate > 0.0 && sampleRate <= 1.0)) {
+            throw new IllegalArgumentException("sampleRate는 0 초과 1 이하여야 합니다: " + sampleRate);
+        }
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount는 1 이상이어야 합니다: " + shardCount);
+        }
+        this.sampleRate = sampleRate;
+        this.analyzer = new JsonAnalyzer(maxFieldsPerObject);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        this.threadShard = ThreadLocal.withInitial(
+                () -> shards[Math.floorMod(nextShard.getAndIncrement(), shards.length)]);
+    }
+
+    /**
+     * UTF-8 JSON 응답 하나를 관찰한다. 유효한 JSON이 아니면 기록하지 않고 거부 횟수만 센다.
+     *
+     * @return 샘플로 뽑혀 스키마에 반영되었으면 true
+     */
+    public boolean observe(byte[] json) {
+        observed.increment();
+        if (!shouldSample()) {
+            return false;
+        }
+        JsonNode root;
+        try {
+            root = JsonValidator.assertValidAndParse(json, "observed payload");
+        } catch (UserException e) {
+            rejected.increment();
+            return false;
+        }
+        record(root);
+        return true;
+    }
+
+    /**
+     * 이미 파싱된 JSON 응답 하나를 관찰한다.
+     *
+     * @return 샘플로 뽑혀 스키마에 반영되었으면 true
+     */
+    public boolean observe(JsonNode json) {
+        observed.increment();
+        if (!shouldSample()) {
+            return false;
+        }
+        record(json);
+        return true;
+    }
+
+    private boolean shouldSample() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private void record(JsonNode root) {
+        // 분석은 잠금 밖에서, 병합과 루트 교체만 샤드 잠금 안에서 한다.
+        SchemaNode sample = analyzer.analyze(root);
+        Shard shard = threadShard.get();
+        synchronized (shard) {
+            SchemaNode current = shard.schema;
+            shard.schema = (current == null) ? sample : analyzer.merge(current, sample);
+        }
+        sampled.increment();
+    }
+
+    /**
+     * 지금까지 누적한 모든 샤드의 스키마를 병합한다. 관찰된 샘플이 없으면 null
+     */
+    public SchemaNode snapshotSchema() {
+        SchemaNode merged = null;
+        for (Shard shard : shards) {
+            SchemaNode schema = shard.schema;
+            if (schema != null) {
+                merged = (merged == null) ? schema : analyzer.merge(merged, schema);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 누적한 스키마로 DTO 클래스 구조를 만든다.
+     *
+     * @throws IllegalStateException 아직 샘플이 없는 경우
+     * @throws UserException         관찰된 루트가 JSON 객체가 아닌 경우
+     */
+    public ModelGraph snapshot(String packageName, String rootClass) {
+        SchemaNode schema = snapshotSchema();
+        if (schema == null) {
+            throw new IllegalStateException("아직 누적된 샘플이 없습니다.");
+        }
+        if (!(schema instanceof SchemaObject)) {
+            throw new UserException("[ERROR] JSON 루트는 객체(Object)여야 합니다: " + rootClass);
+        }
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, rootClass);
+        return ModelGraph.from(schema, typeMap, packageName, rootClass);
+    }
+
+    /** observe 호출 수 */
+    public long observedCount() {
+        return observed.sum();
+    }
+
+    /** 스키마에 반영된 샘플 수 */
+    public long sampledCount() {
+        return sampled.sum();
+    }
+
+    /** 샘플로 뽑혔지만 유효한 JSON이 아니어서 버린 수 */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 누적한 스키마와 카운터를 모두 비운다.
+     */
+    public void reset() {
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.schema = null;
+            }
+        }
+        observed.reset();
+        sampled.reset();
+        rejected.reset();
+    }
+
+    /**
+     * 샤드 하나. 쓰기는 샤드 잠금 안에서 루트 참조를 교체하고, 읽기는 volatile 참조를 그대로 읽는다.
+     */
+    private static final class Shard {
+        private volatile SchemaNode schema;
+    }
+}
@@ -6,7 +6,7 @@ package org.example.json;
  */
 public abstract class SchemaNode {
 
-    public enum Kind { OBJECT, ARRAY, PRIMITIVE, UNION }
+    public enum Kind { OBJECT, ARRAY, PRIMITIVE, UNION, OPAQUE }
 
     private final Kind kind;
 
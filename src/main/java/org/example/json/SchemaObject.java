@@ -6,25 +6,43 @@ import java.util.Map;
 public final class SchemaObject extends SchemaNode {
     public static final class FieldInfo {
         private SchemaNode schema;
-        private int presentCount;
-        private int totalSamples;
+        // 입력이 크거나 --watch로 오래 누적되면 2^31을 넘을 수 있으므로 long으로 센다.
+        private long presentCount;
+        private long totalSamples;
+        // 관찰된 객체 안에서 이 키가 등장한 위치(0부터)의 합. 평균 위치 = positionSum / presentCount
+        private long positionSum;
+
+        public FieldInfo(SchemaNode schema, long presentCount, long totalSamples) {
+            this(schema, presentCount, totalSamples, 0L);
+        }
 
-        public FieldInfo(SchemaNode schema, int presentCount, int totalSamples) {
+        public FieldInfo(SchemaNode schema, long presentCount, long totalSamples, long positionSum) {
             this.schema = schema;
             this.presentCount = presentCount;
             this.totalSamples = totalSamples;
+            this.positionSum = positionSum;
         }
 
         public SchemaNode schema() { return schema; }
         public void setSchema(SchemaNode schema) { this.schema = schema; }
-        public int presentCount() { return presentCount; }
-        public int totalSamples() { return totalSamples; }
+        public long presentCount() { return presentCount; }
+        public long totalSamples() { return totalSamples; }
         public boolean optional() { return presentCount < totalSamples; }
+        public long positionSum() { return positionSum; }
+
+        /** 관찰된 평균 키 위치. 한 번도 관찰되지 않았으면 0 */
+        public double meanPosition() {
+            return (presentCount == 0) ? 0.0 : (double) positionSum / presentCount;
+        }
 
         public static FieldInfo presentOnce(SchemaNode schema) {
             return new FieldInfo(schema, 1, 1);
         }
 
+        public static FieldInfo presentOnce(SchemaNode schema, int position) {
+            return new FieldInfo(schema, 1, 1, position);
+        }
+
         public void observePresent() {
             this.presentCount += 1;
             this.totalSamples += 1;
@@ -0,0 +1,42 @@
+package org.example.json;
+
+/**
+ * 구조를 추적하지 않기로 한 값. {@link ResourceLimits}의 한도를 넘어 접힌 하위 트리를 대신한다.
+ * 객체였던 값은 {@code Map<String, Object>}, 그 밖의 값은 {@code Object}로 추론된다.
+ */
+public final class SchemaOpaque extends SchemaNode {
+
+    public enum Shape {
+        /** 키-값 객체였던 값 → {@code Map<String, Object>} */
+        MAP,
+        /** 배열, 유니온 등 그 밖의 값 → {@code Object} */
+        ANY
+    }
+
+    private static final SchemaOpaque MAP_INSTANCE = new SchemaOpaque(Shape.MAP);
+    private static final SchemaOpaque ANY_INSTANCE = new SchemaOpaque(Shape.ANY);
+
+    private final Shape shape;
+
+    private SchemaOpaque(Shape shape) {
+        super(Kind.OPAQUE);
+        this.shape = shape;
+    }
+
+    public static SchemaOpaque map() {
+        return MAP_INSTANCE;
+    }
+
+    public static SchemaOpaque any() {
+        return ANY_INSTANCE;
+    }
+
+    /** 스키마 노드가 객체였으면 {@link #map()}, 아니면 {@link #any()} */
+    public static SchemaOpaque of(SchemaNode collapsed) {
+        return (collapsed instanceof SchemaObject || collapsed == MAP_INSTANCE) ? MAP_INSTANCE : ANY_INSTANCE;
+    }
+
+    public Shape shape() {
+        return shape;
+    }
+}
@@ -7,14 +7,44 @@ public final class SchemaPrimitive extends SchemaNode {
 
     public enum PKind { STRING, NUMBER, BOOLEAN, NULL }
 
+    /**
+     * 관찰된 숫자 값을 손실 없이 담을 수 있는 가장 좁은 범위.
+     * 선언 순서가 넓어지는 순서이며, 병합할 때는 더 넓은 쪽을 택한다.
+     */
+    public enum NumberWidth {
+        /** 모두 int 범위의 정수 */
+        INT,
+        /** 모두 long 범위의 정수 */
+        LONG,
+        /** 실수가 섞였거나 long 범위를 벗어난 정수 */
+        DOUBLE;
+
+        public NumberWidth widen(NumberWidth other) {
+            return (other.ordinal() > ordinal()) ? other : this;
+        }
+    }
+
     private final PKind pkind;
+    private final NumberWidth numberWidth;
 
     public SchemaPrimitive(PKind pkind) {
+        this(pkind, NumberWidth.DOUBLE);
+    }
+
+    public SchemaPrimitive(PKind pkind, NumberWidth numberWidth) {
         super(Kind.PRIMITIVE);
         this.pkind = pkind;
+        this.numberWidth = (numberWidth != null) ? numberWidth : NumberWidth.DOUBLE;
     }
 
     public PKind pkind() {
         return pkind;
     }
+
+    /**
+     * 숫자 값의 범위. {@link PKind#NUMBER}일 때만 의미가 있으며, 범위를 모르면 {@link NumberWidth#DOUBLE}이다.
+     */
+    public NumberWidth numberWidth() {
+        return numberWidth;
+    }
 }
@@ -13,8 +13,16 @@ public class TypeInferencer {
     // 의존성: 이름 변환 전략
     private final NameConverter nameConverter;
 
+    // 옵션: null 없는 숫자/불리언 배열을 List<Double> 대신 double[] 같은 원시 배열로 추론할지 여부
+    private final boolean primitiveArrays;
+
     public TypeInferencer(NameConverter nameConverter) {
+        this(nameConverter, false);
+    }
+
+    public TypeInferencer(NameConverter nameConverter, boolean primitiveArrays) {
         this.nameConverter = (nameConverter != null) ? nameConverter : new DefaultNameConverter();
+        this.primitiveArrays = primitiveArrays;
     }
 
     public TypeInferencer() {
@@ -74,6 +82,15 @@ public class TypeInferencer {
         if (node instanceof SchemaArray) {
             SchemaArray arrayNode = (SchemaArray) node;
 
+            // 0) 옵션이 켜져 있고 원소가 모두 null 없는 숫자(또는 불리언)인 경우 → int[]/long[]/double[]/boolean[]
+            if (primitiveArrays) {
+                TypeRef arrayType = inferPrimitiveArray(arrayNode, acc);
+                if (arrayType != null) {
+                    acc.put(node, arrayType);
+                    return arrayType;
+                }
+            }
+
             TypeRef elementType;
 
             // 1) 빈 배열만 관찰된 경우 → 원소 타입을 추론할 수 없으므로 Object
@@ -150,6 +167,14 @@ public class TypeInferencer {
             acc.put(node, merged);
             return merged;
         }
+        if (node instanceof SchemaOpaque) {
+            // 한도를 넘어 접힌 값: 객체였으면 Map<String, Object>, 아니면 Object
+            TypeRef t = (((SchemaOpaque) node).shape() == SchemaOpaque.Shape.MAP)
+                    ? new TypeRef("Map<String, Object>", Set.of("java.util.Map"), false, false)
+                    : new TypeRef("Object", Set.of(), false, false);
+            acc.put(node, t);
+            return t;
+        }
 
 
         TypeRef t = new TypeRef("Object", Set.of(), false, false);
@@ -180,6 +205,41 @@ public class TypeInferencer {
         }
     }
 
+    /**
+     * 원소 스키마가 모두 같은 종류의 숫자 또는 불리언이면 원시 배열 타입을 반환하고, 아니면 null.
+     * null 원소가 하나라도 관찰되면 Union이 되므로 여기서 걸러진다.
+     * 숫자는 관찰된 값의 범위에 따라 int[] → long[] → double[] 순으로 넓어진다.
+     */
+    private TypeRef inferPrimitiveArray(SchemaArray arrayNode, Map<SchemaNode, TypeRef> acc) {
+        SchemaPrimitive.PKind kind = null;
+        SchemaPrimitive.NumberWidth width = SchemaPrimitive.NumberWidth.INT;
+        for (SchemaNode element : arrayNode.elementTypes()) {
+            if (!(element instanceof SchemaPrimitive)) return null;
+            SchemaPrimitive primitive = (SchemaPrimitive) element;
+            if (kind != null && kind != primitive.pkind()) return null;
+            kind = primitive.pkind();
+            width = width.widen(primitive.numberWidth());
+        }
+
+        String javaType;
+        if (kind == SchemaPrimitive.PKind.BOOLEAN) {
+            javaType = "boolean[]";
+        } else if (kind == SchemaPrimitive.PKind.NUMBER) {
+            javaType = switch (width) {
+                case INT -> "int[]";
+                case LONG -> "long[]";
+                case DOUBLE -> "double[]";
+            };
+        } else {
+            return null;
+        }
+
+        for (SchemaNode element : arrayNode.elementTypes()) {
+            acc.put(element, inferPrimitive((SchemaPrimitive) element));
+        }
+        return new TypeRef(javaType, Set.of(), false, false);
+    }
+
     /** Union 병합 규칙: 동일/숫자/리스트/문자열 혼합을 우선 처리, 불가하면 Object */
     private TypeRef mergeUnion(List<TypeRef> refs) {
         boolean allSame = refs.stream().map(TypeRef::getJavaType).distinct().count() == 1;
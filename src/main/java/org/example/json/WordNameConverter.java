@@ -0,0 +1,201 @@
+package org.example.json;
+
+import javax.lang.model.SourceVersion;
+import java.util.Objects;
+
+/**
+ * 정규식 없이 키를 한 번만 훑어 PascalCase/camelCase 이름을 만드는 변환기.
+ * <p>
+ * ASCII 영문자와 숫자만 이름에 남기고, 나머지 문자는 버린다. 어떤 문자에서 단어를 끊을지,
+ * 약어를 어떻게 다룰지, 자바 예약어를 피할지는 옵션으로 고른다. 불변이며 스레드 안전하다.
+ * <pre>
+ * NameConverter converter = WordNameConverter.defaults().withAcronyms(true).withReservedWordEscaping(true);
+ * converter.toCamelCase("URLValue"); // "urlValue"
+ * converter.toCamelCase("class");    // "class_"
+ * </pre>
+ * 기본값({@link #defaults()})은 {@link DefaultNameConverter}와 결과가 같다.
+ */
+public final class WordNameConverter implements NameConverter {
+
+    /**
+     * 단어를 끊는 문자
+     */
+    public enum Delimiters {
+        /** 영문자/숫자가 아닌 모든 문자 (예: "user-name id" → UserNameId) */
+        NON_ALPHANUMERIC,
+        /** 밑줄만. 다른 기호는 단어를 끊지 않고 버린다. (예: "e-mail_address" → EmailAddress) */
+        SNAKE,
+        /** 하이픈만. 다른 기호는 단어를 끊지 않고 버린다. (예: "x_request-id" → XrequestId) */
+        KEBAB
+    }
+
+    private static final WordNameConverter DEFAULTS = new WordNameConverter(Delimiters.NON_ALPHANUMERIC, false, false);
+
+    private final Delimiters delimiters;
+    private final boolean acronyms;
+    private final boolean reservedWordEscaping;
+
+    private WordNameConverter(Delimiters delimiters, boolean acronyms, boolean reservedWordEscaping) {
+        this.delimiters = Objects.requireNonNull(delimiters, "delimiters must not be null");
+        this.acronyms = acronyms;
+        this.reservedWordEscaping = reservedWordEscaping;
+    }
+
+    /**
+     * 영문자/숫자가 아닌 모든 문자에서 단어를 끊고, 약어와 예약어는 따로 다루지 않는다.
+     */
+    public static WordNameConverter defaults() {
+        return DEFAULTS;
+    }
+
+    public Delimiters delimiters() {
+        return delimiters;
+    }
+
+    /**
+     * true면 camelCase에서 첫 단어 앞의 대문자 약어를 통째로 소문자로 바꾼다.
+     * (예: "URLValue" → urlValue, "ID" → id. 끄면 각각 uRLValue, iD)
+     */
+    public boolean acronyms() {
+        return acronyms;
+    }
+
+    /**
+     * true면 자바 예약어/리터럴과 겹치는 이름 뒤에 밑줄을 붙이고({@code class → class_}),
+     * 숫자로 시작하는 이름 앞에 밑줄을 붙인다({@code 3d → _3d}).
+     */
+    public boolean reservedWordEscaping() {
+        return reservedWordEscaping;
+    }
+
+    public WordNameConverter withDelimiters(Delimiters delimiters) {
+        return new WordNameConverter(delimiters, acronyms, reservedWordEscaping);
+    }
+
+    public WordNameConverter withAcronyms(boolean acronyms) {
+        return new WordNameConverter(delimiters, acronyms, reservedWordEscaping);
+    }
+
+    public WordNameConverter withReservedWordEscaping(boolean reservedWordEscaping) {
+        return new WordNameConverter(delimiters, acronyms, reservedWordEscaping);
+    }
+
+    @Override
+    public String toPascalCase(String s) {
+        return convert(s, true);
+    }
+
+    @Override
+    public String toCamelCase(String s) {
+        return convert(s, false);
+    }
+
+    private String convert(String s, boolean pascal) {
+        if (s == null || s.isEmpty()) return s;
+
+        // 이미 영문자/숫자로만 된 키는 첫 글자만 맞으면 그대로 돌려준다. (camelCase 키의 필드 이름 등)
+        if (isAlphanumeric(s) && !(acronyms && !pascal && s.length() > 1 && isUpper(s.charAt(1)))) {
+            char first = s.charAt(0);
+            char wanted = pascal ? toUpper(first) : toLower(first);
+            String name = (first == wanted) ? s : wanted + s.substring(1);
+            return escape(name);
+        }
+
+        int length = s.length();
+        char[] out = new char[length];
+        int size = 0;
+        int firstWordEnd = -1;
+        boolean wordStart = true;
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (isAlphanumeric(c)) {
+                out[size++] = wordStart ? toUpper(c) : c;
+                wordStart = false;
+            } else if (breaksWord(c) && !wordStart) {
+                wordStart = true;
+                if (firstWordEnd < 0) {
+                    firstWordEnd = size;
+                }
+            }
+        }
+        if (size == 0) return "";
+        if (!pascal) {
+            lowerLeadingWord(out, (firstWordEnd < 0) ? size : firstWordEnd);
+        }
+        return escape(new String(out, 0, size));
+    }
+
+    /**
+     * camelCase의 첫 단어 앞부분을 소문자로 바꾼다. 약어 옵션이 꺼져 있으면 첫 글자만 바꾼다.
+     */
+    private void lowerLeadingWord(char[] out, int wordEnd) {
+        out[0] = toLower(out[0]);
+        if (!acronyms) {
+            return;
+        }
+        int upper = 1;
+        while (upper < wordEnd && isUpper(out[upper])) {
+            upper++;
+        }
+        // "URLValue"처럼 대문자 뒤에 소문자가 오면 마지막 대문자는 다음 단어의 첫 글자다.
+        int end = (upper < wordEnd && isLower(out[upper]) && upper > 1) ? upper - 1 : upper;
+        for (int i = 1; i < end; i++) {
+            out[i] = toLower(out[i]);
+        }
+    }
+
+    private String escape(String name) {
+        if (!reservedWordEscaping || name.isEmpty()) {
+            return name;
+        }
+        if (isDigit(name.charAt(0))) {
+            return "_" + name;
+        }
+        return SourceVersion.isKeyword(name) ? name + "_" : name;
+    }
+
+    private boolean breaksWord(char c) {
+        return switch (delimiters) {
+            case NON_ALPHANUMERIC -> true;
+            case SNAKE -> c == '_';
+            case KEBAB -> c == '-';
+        };
+    }
+
+    private static boolean isAlphanumeric(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAlphanumeric(s.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isAlphanumeric(char c) {
+        return isUpper(c) || isLower(c) || isDigit(c);
+    }
+
+    private static boolean isUpper(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isLower(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static char toUpper(char c) {
+        return isLower(c) ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    private static char toLower(char c) {
+        return isUpper(c) ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    @Override
+    public String toString() {
+        return "WordNameConverter{delimiters=" + delimiters + ", acronyms=" + acronyms
+                + ", reservedWordEscaping=" + reservedWordEscaping + '}';
+    }
+}
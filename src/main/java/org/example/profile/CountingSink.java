@@ -0,0 +1,99 @@
+package org.example.profile;
+
+import org.example.generator.SourceSink;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 다른 {@link SourceSink}를 감싸 연 Writer 수(클래스 수), 기록한 UTF-8 바이트 수,
+ * 실제 출력 대상 호출에 쓴 시간을 {@link PipelineProfiler.Span}에 더한다.
+ * <p>
+ * 생성과 기록이 한 Writer 안에서 섞여 일어나므로, 출력 대상으로 넘어간 호출의 시간만 따로 잰다.
+ * 호출마다 시각을 재므로 span이 켜져 있을 때만 사용한다.
+ */
+final class CountingSink implements SourceSink {
+
+    private final SourceSink delegate;
+    private final PipelineProfiler.Span span;
+
+    CountingSink(SourceSink delegate, PipelineProfiler.Span span) {
+        this.delegate = delegate;
+        this.span = span;
+    }
+
+    @Override
+    public Writer open(String className) throws IOException {
+        long start = System.nanoTime();
+        Writer writer = delegate.open(className);
+        span.addOutput(0, System.nanoTime() - start);
+        span.addClass();
+        return new CountingWriter(writer, span);
+    }
+
+    private static final class CountingWriter extends Writer {
+        private final Writer delegate;
+        private final PipelineProfiler.Span span;
+
+        private CountingWriter(Writer delegate, PipelineProfiler.Span span) {
+            this.delegate = delegate;
+            this.span = span;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            long start = System.nanoTime();
+            delegate.write(c);
+            span.addOutput(utf8Length((char) c), System.nanoTime() - start);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            delegate.write(cbuf, off, len);
+            long bytes = 0;
+            for (int i = off; i < off + len; i++) {
+                bytes += utf8Length(cbuf[i]);
+            }
+            span.addOutput(bytes, System.nanoTime() - start);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            delegate.write(str, off, len);
+            long bytes = 0;
+            for (int i = off; i < off + len; i++) {
+                bytes += utf8Length(str.charAt(i));
+            }
+            span.addOutput(bytes, System.nanoTime() - start);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            long start = System.nanoTime();
+            delegate.flush();
+            span.addOutput(0, System.nanoTime() - start);
+        }
+
+        @Override
+        public void close() throws IOException {
+            long start = System.nanoTime();
+            delegate.close();
+            span.addOutput(0, System.nanoTime() - start);
+        }
+
+        /**
+         * 문자 하나의 UTF-8 바이트 수. 서로게이트 쌍은 두 문자를 합쳐 4바이트가 되도록 각각 2로 센다.
+         */
+        private static int utf8Length(char c) {
+            if (c < 0x80) {
+                return 1;
+            }
+            if (c < 0x800 || Character.isSurrogate(c)) {
+                return 2;
+            }
+            return 3;
+        }
+    }
+}
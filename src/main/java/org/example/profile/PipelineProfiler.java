@@ -0,0 +1,326 @@
+package org.example.profile;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import org.example.exception.InternalException;
+import org.example.exception.UserException;
+import org.example.generator.SourceSink;
+import org.example.json.SchemaArray;
+import org.example.json.SchemaNode;
+import org.example.json.SchemaObject;
+import org.example.json.SchemaUnion;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 생성 파이프라인의 단계별 {@link PipelineStageEvent}를 내보내고, {@code --profile}이면 JFR 기록과 시간 요약을 만든다.
+ *
+ * <p>두 가지 모드가 있다.
+ * <ul>
+ *     <li>{@link #PipelineProfiler()}: 이벤트만 내보낸다. 외부에서 시작한 Recording이 없으면
+ *         이벤트 생성과 시각 기록 외에는 아무 일도 하지 않는다.</li>
+ *     <li>{@link #recording(Path)}: 이 객체가 Recording을 직접 시작하고, {@link #close()}할 때 .jfr 파일로 기록한다.
+ *         단계별 소요 시간도 모아 {@link #summary()}로 보여 준다.</li>
+ * </ul>
+ * 노드 수처럼 계산 비용이 있는 값은 {@link Span#isEnabled()}가 true일 때만 채우면 된다.
+ */
+public final class PipelineProfiler implements AutoCloseable {
+
+    /**
+     * 파이프라인 단계
+     */
+    public enum Stage {
+        /** 입력 JSON 읽기 및 파싱 (JsonValidator) */
+        PARSE("parse"),
+        /** 스키마 트리 생성 (JsonAnalyzer) */
+        ANALYZE("analyze"),
+        /** 타입 추론 (TypeInferencer) */
+        INFER("infer"),
+        /** 클래스 그래프 구성 (ModelGraph.from) */
+        MODEL("model"),
+        /** 소스 생성 (ClassGenerator). 스트리밍 출력이면 기록 시간도 포함한다. */
+        GENERATE("generate"),
+        /** 메모리 컴파일 (--out-format jar) */
+        COMPILE("compile"),
+        /** 출력 기록 (FileWriter/ArchiveWriter) */
+        WRITE("write"),
+        /** JMH 벤치마크 소스 생성 (--jmh-out) */
+        BENCHMARK("benchmark");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    private final Recording recording;
+    private final Path recordingFile;
+    private final List<Timing> timings = Collections.synchronizedList(new ArrayList<>());
+    private boolean closed;
+
+    /**
+     * 이벤트만 내보내는 프로파일러. Recording을 시작하지 않으며 요약도 모으지 않는다.
+     */
+    public PipelineProfiler() {
+        this(null, null);
+    }
+
+    private PipelineProfiler(Recording recording, Path recordingFile) {
+        this.recording = recording;
+        this.recordingFile = recordingFile;
+    }
+
+    /**
+     * JFR Recording을 시작한다. 파이프라인 이벤트는 임계값 없이 모두 기록하고,
+     * 나머지 JDK 이벤트는 JDK의 "profile" 설정(CPU 샘플링, GC, 할당 등)을 따른다.
+     *
+     * @param jfrFile {@link #close()} 시 기록할 .jfr 파일
+     * @throws UserException 이 JVM에서 JFR을 쓸 수 없는 경우
+     */
+    public static PipelineProfiler recording(Path jfrFile) {
+        if (!FlightRecorder.isAvailable()) {
+            throw new UserException("[ERROR] 이 JVM에서는 JDK Flight Recorder를 사용할 수 없어 --profile을 지원하지 않습니다.");
+        }
+        Recording recording;
+        try {
+            recording = new Recording(Configuration.getConfiguration("profile"));
+        } catch (IOException | ParseException e) {
+            throw new InternalException("JFR 설정(profile)을 읽는 중 내부 오류가 발생했습니다.", e);
+        }
+        recording.setName("json-to-dto");
+        recording.enable(PipelineStageEvent.class).withThreshold(Duration.ZERO);
+        try {
+            recording.setDestination(jfrFile);
+        } catch (IOException e) {
+            recording.close();
+            throw new UserException("[ERROR] --profile 파일을 쓸 수 없습니다: " + jfrFile, e);
+        }
+        recording.start();
+        return new PipelineProfiler(recording, jfrFile);
+    }
+
+    /**
+     * 이 프로파일러가 Recording을 직접 관리하며 시간 요약을 모으는지 여부
+     */
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * .jfr 파일 경로. {@link #recording(Path)}로 만들지 않았으면 null
+     */
+    public Path recordingFile() {
+        return recordingFile;
+    }
+
+    /**
+     * 단계 하나를 시작한다. 단계가 끝나면 {@link Span#end()}를 호출한다.
+     */
+    public Span begin(Stage stage) {
+        return new Span(this, stage);
+    }
+
+    /**
+     * span이 켜져 있으면 sink를 감싸 기록한 바이트 수, 클래스 수, 기록에 쓴 시간을 span에 더한다.
+     * 꺼져 있으면 sink를 그대로 돌려준다.
+     */
+    public SourceSink instrument(SourceSink sink, Span span) {
+        return span.isEnabled() ? new CountingSink(sink, span) : sink;
+    }
+
+    /**
+     * 지금까지 끝난 단계의 시간 요약. Recording 모드가 아니면 빈 문자열
+     */
+    public String summary() {
+        if (!isRecording()) {
+            return "";
+        }
+        List<Timing> snapshot;
+        synchronized (timings) {
+            snapshot = new ArrayList<>(timings);
+        }
+        long total = 0;
+        for (Timing timing : snapshot) {
+            total += timing.nanos;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "[PROFILE] %-10s %10s %7s  %s%n", "stage", "ms", "share", "detail"));
+        for (Timing timing : snapshot) {
+            sb.append(String.format(Locale.ROOT, "[PROFILE] %-10s %10.3f %6.1f%%  %s%n",
+                    timing.stage.label(), timing.nanos / 1_000_000.0,
+                    total == 0 ? 0.0 : timing.nanos * 100.0 / total, timing.detail()));
+        }
+        sb.append(String.format(Locale.ROOT, "[PROFILE] %-10s %10.3f%n", "total", total / 1_000_000.0));
+        sb.append("[PROFILE] JFR 기록: ").append(recordingFile);
+        return sb.toString();
+    }
+
+    /**
+     * Recording을 멈추고 .jfr 파일로 기록한다. 이벤트만 내보내는 모드거나 이미 닫았으면 아무 일도 하지 않는다.
+     */
+    @Override
+    public synchronized void close() {
+        if (recording == null || closed) {
+            return;
+        }
+        closed = true;
+        try {
+            recording.stop();
+        } finally {
+            recording.close();
+        }
+    }
+
+    /**
+     * 스키마 트리의 노드 수. 같은 노드를 여러 곳에서 참조해도 한 번만 센다.
+     */
+    public static long countSchemaNodes(SchemaNode root) {
+        if (root == null) {
+            return 0;
+        }
+        Set<SchemaNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<SchemaNode> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            SchemaNode node = stack.pop();
+            if (!visited.add(node)) {
+                continue;
+            }
+            if (node instanceof SchemaObject obj) {
+                for (SchemaObject.FieldInfo info : obj.fields().values()) {
+                    if (info.schema() != null) {
+                        stack.push(info.schema());
+                    }
+                }
+            } else if (node instanceof SchemaArray arr) {
+                arr.elementTypes().forEach(stack::push);
+            } else if (node instanceof SchemaUnion union) {
+                union.variants().forEach(stack::push);
+            }
+        }
+        return visited.size();
+    }
+
+    /**
+     * 진행 중인 단계 하나. 한 스레드에서 시작하고 끝내야 한다.
+     */
+    public static final class Span {
+        private final PipelineProfiler profiler;
+        private final Stage stage;
+        private final PipelineStageEvent event = new PipelineStageEvent();
+        private final long startNanos;
+        private final boolean enabled;
+
+        private long nodes;
+        private long bytesIn;
+        private long bytesOut;
+        private int classes;
+        private long writeNanos;
+
+        private Span(PipelineProfiler profiler, Stage stage) {
+            this.profiler = profiler;
+            this.stage = stage;
+            this.enabled = profiler.isRecording() || event.isEnabled();
+            event.begin();
+            this.startNanos = enabled ? System.nanoTime() : 0L;
+        }
+
+        /**
+         * 이 단계의 값이 어딘가에 기록되는지 여부. false면 계산 비용이 드는 값은 채우지 않아도 된다.
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public Span nodes(long nodes) {
+            this.nodes = nodes;
+            return this;
+        }
+
+        public Span bytesIn(long bytesIn) {
+            this.bytesIn = bytesIn;
+            return this;
+        }
+
+        public Span bytesOut(long bytesOut) {
+            this.bytesOut = bytesOut;
+            return this;
+        }
+
+        public Span classes(int classes) {
+            this.classes = classes;
+            return this;
+        }
+
+        void addOutput(long bytes, long nanos) {
+            this.bytesOut += bytes;
+            this.writeNanos += nanos;
+        }
+
+        void addClass() {
+            this.classes++;
+        }
+
+        /**
+         * 단계를 끝내고 이벤트를 커밋한다.
+         */
+        public void end() {
+            event.end();
+            if (event.shouldCommit()) {
+                event.stage = stage.label();
+                event.nodes = nodes;
+                event.bytesIn = bytesIn;
+                event.bytesOut = bytesOut;
+                event.classes = classes;
+                event.writeNanos = writeNanos;
+                event.commit();
+            }
+            if (profiler.isRecording()) {
+                profiler.timings.add(new Timing(stage, System.nanoTime() - startNanos,
+                        nodes, bytesIn, bytesOut, classes, writeNanos));
+            }
+        }
+    }
+
+    private record Timing(Stage stage, long nanos, long nodes, long bytesIn, long bytesOut, int classes,
+                          long writeNanos) {
+
+        String detail() {
+            StringBuilder sb = new StringBuilder();
+            if (nodes > 0) {
+                sb.append("nodes=").append(nodes).append(' ');
+            }
+            if (bytesIn > 0) {
+                sb.append("in=").append(bytesIn).append("B ");
+            }
+            if (bytesOut > 0) {
+                sb.append("out=").append(bytesOut).append("B ");
+            }
+            if (classes > 0) {
+                sb.append("classes=").append(classes).append(' ');
+            }
+            if (writeNanos > 0) {
+                sb.append(String.format(Locale.ROOT, "write=%.3fms ", writeNanos / 1_000_000.0));
+            }
+            return sb.toString().trim();
+        }
+    }
+}
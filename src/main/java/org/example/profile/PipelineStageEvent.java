@@ -0,0 +1,52 @@
+package org.example.profile;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 생성 파이프라인 단계 하나(파싱, 분석, 타입 추론 등)의 JDK Flight Recorder 이벤트.
+ * <p>
+ * 이벤트의 시작/종료 시각이 단계의 소요 시간이 된다.
+ * 기록 중인 Recording이 없으면 {@link #shouldCommit()}가 false가 되어 커밋 비용이 들지 않는다.
+ * {@code --profile} 없이도 {@code -XX:StartFlightRecording}으로 JVM을 띄우면 같은 이벤트가 기록된다.
+ */
+@Name(PipelineStageEvent.NAME)
+@Label("Pipeline Stage")
+@Category({"json-to-dto", "Pipeline"})
+@Description("JSON → DTO 생성 파이프라인의 단계 하나")
+@StackTrace(false)
+public final class PipelineStageEvent extends Event {
+
+    /** 이벤트 타입 이름 */
+    public static final String NAME = "org.example.PipelineStage";
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Nodes")
+    @Description("단계에서 처리한 스키마 노드/타입 수")
+    public long nodes;
+
+    @Label("Bytes In")
+    @DataAmount
+    public long bytesIn;
+
+    @Label("Bytes Out")
+    @DataAmount
+    public long bytesOut;
+
+    @Label("Classes")
+    @Description("단계에서 만든 클래스 수")
+    public int classes;
+
+    @Label("Write Time")
+    @Description("단계 시간 중 출력 대상(파일/아카이브)에 기록하는 데 쓴 시간")
+    @Timespan
+    public long writeNanos;
+}
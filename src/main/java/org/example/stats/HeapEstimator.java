@@ -0,0 +1,253 @@
+package org.example.stats;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaArray;
+import org.example.json.SchemaNode;
+import org.example.json.SchemaObject;
+import org.example.json.SchemaOpaque;
+import org.example.json.SchemaUnion;
+import org.example.json.TypeInferencer;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 파이프라인 단계별 중간 구조가 힙에서 차지하는 크기를 어림한다.
+ * <p>
+ * 실제로 힙을 측정하지 않고 객체 개수와 모양으로 계산하는 추정치다.
+ * 기준은 64비트 HotSpot + compressed oops (객체 헤더 12바이트, 참조 4바이트, 8바이트 정렬)이며,
+ * 여러 곳에서 참조하는 문자열도 참조마다 따로 세므로 실제보다 조금 크게 나오는 편이다.
+ * 절대값보다 같은 코퍼스의 크기 변화를 비교하는 용도로 쓴다.
+ */
+final class HeapEstimator {
+
+    private static final int HEADER = 12;
+    private static final int REF = 4;
+    private static final int ARRAY_HEADER = 16;
+
+    /** LinkedHashMap 객체 자체 (HashMap + head, tail, accessOrder) */
+    private static final int LINKED_HASH_MAP = 56;
+    /** LinkedHashMap.Entry (hash, key, value, next, before, after) */
+    private static final int LINKED_ENTRY = 40;
+    /** HashSet 객체 자체 (map 참조) */
+    private static final int HASH_SET = 16;
+    /** ArrayList 객체 자체 (size, elementData, modCount) */
+    private static final int ARRAY_LIST = 24;
+    /** Collections.unmodifiableXxx 래퍼 */
+    private static final int UNMODIFIABLE_WRAPPER = 24;
+    /** IdentityHashMap 객체 자체 */
+    private static final int IDENTITY_HASH_MAP = 40;
+
+    private HeapEstimator() {
+    }
+
+    // ==========================
+    // 단계별 추정
+    // ==========================
+
+    /**
+     * Jackson JsonNode 트리 (parse 단계의 결과)
+     */
+    static long jsonTree(JsonNode root) {
+        long bytes = 0;
+        Deque<JsonNode> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            JsonNode node = stack.pop();
+            switch (node.getNodeType()) {
+                case OBJECT -> {
+                    // _nodeFactory, _children
+                    bytes += align(HEADER + 2 * REF) + linkedHashMap(node.size());
+                    Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        bytes += string(field.getKey());
+                        stack.push(field.getValue());
+                    }
+                }
+                case ARRAY -> {
+                    bytes += align(HEADER + 2 * REF) + arrayList(node.size());
+                    node.forEach(stack::push);
+                }
+                case STRING -> bytes += align(HEADER + REF) + string(node.textValue());
+                case NUMBER -> bytes += numberNode(node);
+                case BINARY, POJO -> bytes += align(HEADER + REF);
+                // BooleanNode, NullNode, MissingNode는 싱글턴이라 세지 않는다.
+                default -> {
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 스키마 트리 (analyze 단계의 결과)
+     */
+    static long schema(SchemaNode root) {
+        long bytes = 0;
+        Set<SchemaNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<SchemaNode> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            SchemaNode node = stack.pop();
+            if (!visited.add(node)) {
+                continue;
+            }
+            if (node instanceof SchemaObject obj) {
+                // kind, fields
+                bytes += align(HEADER + 2 * REF) + linkedHashMap(obj.fields().size());
+                for (Map.Entry<String, SchemaObject.FieldInfo> field : obj.fields().entrySet()) {
+                    // FieldInfo: schema, presentCount, totalSamples, positionSum
+                    bytes += string(field.getKey()) + align(HEADER + REF + 8 + 8 + 8);
+                    if (field.getValue().schema() != null) {
+                        stack.push(field.getValue().schema());
+                    }
+                }
+            } else if (node instanceof SchemaArray arr) {
+                // kind, elementTypes, empty
+                bytes += align(HEADER + 2 * REF + 1) + linkedHashSet(arr.elementTypes().size());
+                arr.elementTypes().forEach(stack::push);
+            } else if (node instanceof SchemaUnion union) {
+                bytes += align(HEADER + 2 * REF) + linkedHashSet(union.variants().size());
+                union.variants().forEach(stack::push);
+            } else if (node instanceof SchemaOpaque) {
+                // SchemaOpaque는 모양별 싱글턴이라 세지 않는다.
+            } else {
+                // SchemaPrimitive: kind, pkind, numberWidth
+                bytes += align(HEADER + 3 * REF);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 스키마 노드 → TypeRef 맵 (infer 단계의 결과). 같은 TypeRef 인스턴스는 한 번만 센다.
+     */
+    static long typeMap(Map<SchemaNode, TypeInferencer.TypeRef> typeMap) {
+        long bytes = identityHashMap(typeMap.size());
+        Set<TypeInferencer.TypeRef> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TypeInferencer.TypeRef ref : typeMap.values()) {
+            if (ref == null || !seen.add(ref)) {
+                continue;
+            }
+            // javaType, requiredImports, isObject, isList
+            bytes += align(HEADER + 2 * REF + 2) + string(ref.getJavaType())
+                    + linkedHashSet(ref.getRequiredImports().size());
+        }
+        return bytes;
+    }
+
+    /**
+     * ModelGraph (model 단계의 결과). 클래스/필드와 그래프 생성 시 계산해 두는 인접 리스트·정렬 캐시를 포함한다.
+     */
+    static long modelGraph(ModelGraph graph) {
+        int classCount = graph.size();
+        // rootClass, classesByQualifiedName, classes, indexByClass, outgoing, incoming, components, topo, levels
+        long bytes = align(HEADER + 9 * REF);
+        bytes += UNMODIFIABLE_WRAPPER + linkedHashMap(classCount);
+        bytes += array(classCount);                        // classes (List.copyOf)
+        bytes += identityHashMap(classCount);              // indexByClass
+        bytes += 3 * (ARRAY_LIST + array(classCount));     // components, topologicalOrder, dependencyLevels
+
+        for (ModelGraph.ModelClass modelClass : graph.getDeclaredClasses()) {
+            // packageName, simpleName, root, fields, observedFieldOrder
+            bytes += align(HEADER + 4 * REF + 1);
+            bytes += string(modelClass.getQualifiedName());   // classesByQualifiedName 키
+            bytes += string(modelClass.getSimpleName());
+            int fieldCount = modelClass.getFields().size();
+            bytes += 2 * (UNMODIFIABLE_WRAPPER + arrayList(fieldCount));
+
+            // outgoing/incoming 인접 배열 (int[])
+            bytes += intArray(graph.getDependencies(modelClass).size());
+            bytes += intArray(graph.getDependents(modelClass).size());
+
+            for (ModelGraph.Field field : modelClass.getFields()) {
+                // jsonName, fieldName, typeName, nullable, requiredImports
+                bytes += align(HEADER + 4 * REF + 1);
+                bytes += string(field.getJsonName()) + string(field.getFieldName()) + string(field.getTypeName());
+                bytes += UNMODIFIABLE_WRAPPER + linkedHashSet(field.getRequiredImports().size());
+            }
+        }
+        bytes += 2 * array(classCount); // outgoing/incoming 바깥 배열
+        return bytes;
+    }
+
+    // ==========================
+    // 기본 구성 요소
+    // ==========================
+
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /** 참조 배열 */
+    static long array(int length) {
+        return align(ARRAY_HEADER + (long) REF * length);
+    }
+
+    static long intArray(int length) {
+        return align(ARRAY_HEADER + 4L * length);
+    }
+
+    /** String 객체 + 내부 byte[] (Latin-1이면 문자당 1바이트, 아니면 2바이트) */
+    static long string(String s) {
+        if (s == null) {
+            return 0;
+        }
+        boolean latin1 = true;
+        for (int i = 0; i < s.length() && latin1; i++) {
+            latin1 = s.charAt(i) < 0x100;
+        }
+        long valueBytes = latin1 ? s.length() : 2L * s.length();
+        return align(HEADER + REF + 4 + 2) + align(ARRAY_HEADER + valueBytes);
+    }
+
+    static long linkedHashMap(int size) {
+        return LINKED_HASH_MAP + hashTable(size) + (long) LINKED_ENTRY * size;
+    }
+
+    static long linkedHashSet(int size) {
+        return HASH_SET + linkedHashMap(size);
+    }
+
+    static long arrayList(int size) {
+        return ARRAY_LIST + (size == 0 ? 0 : array(size));
+    }
+
+    /** HashMap 버킷 배열. 기본 적재율 0.75, 처음 put할 때 할당된다. */
+    private static long hashTable(int size) {
+        if (size == 0) {
+            return 0;
+        }
+        int capacity = 16;
+        while (capacity * 3L / 4 < size) {
+            capacity <<= 1;
+        }
+        return array(capacity);
+    }
+
+    /** IdentityHashMap은 키와 값을 한 배열에 번갈아 두며, 용량은 예상 크기의 1.5배 이상인 2의 거듭제곱이다. */
+    private static long identityHashMap(int size) {
+        int capacity = 32;
+        while (capacity < size * 3L / 2) {
+            capacity <<= 1;
+        }
+        return IDENTITY_HASH_MAP + array(2 * capacity);
+    }
+
+    private static long numberNode(JsonNode node) {
+        return switch (node.numberType()) {
+            case INT -> align(HEADER + 4);
+            case LONG, DOUBLE -> align(HEADER + 8);
+            case FLOAT -> align(HEADER + 4);
+            // BigInteger/BigDecimal: 노드 + 값 객체 + 내부 int[]
+            case BIG_INTEGER, BIG_DECIMAL -> align(HEADER + REF) + 40 + intArray(2);
+        };
+    }
+}
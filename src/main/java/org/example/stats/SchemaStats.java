@@ -0,0 +1,270 @@
+package org.example.stats;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.example.exception.InternalException;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaArray;
+import org.example.json.SchemaNode;
+import org.example.json.SchemaObject;
+import org.example.json.SchemaOpaque;
+import org.example.json.SchemaUnion;
+import org.example.json.TypeInferencer;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 한 번의 생성 실행에서 만들어진 중간 구조의 크기 지표. ({@code --stats})
+ *
+ * <p>담는 값:
+ * <ul>
+ *     <li>스키마: 노드 종류별 개수, 최대 깊이(객체/배열 중첩 단계), 최대 너비(객체 하나의 필드 수), 유니온 변형 수</li>
+ *     <li>타입 추론: TypeRef 항목 수</li>
+ *     <li>클래스 그래프: ModelClass 수와 전체 필드 수</li>
+ *     <li>단계별 예상 힙 점유량 ({@link HeapEstimator} 기준의 추정치)</li>
+ * </ul>
+ * {@link #toJson()}은 CI에서 이전 실행과 비교할 수 있도록 키 순서가 고정된 JSON을 만든다.
+ */
+public final class SchemaStats {
+
+    /** JSON 보고서 형식 버전. 키를 바꾸거나 지울 때 올린다. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final long inputBytes;
+
+    private int objectNodes;
+    private int arrayNodes;
+    private int unionNodes;
+    private int primitiveNodes;
+    private int opaqueNodes;
+    private int maxDepth;
+    private int maxWidth;
+    private int maxUnionFanOut;
+    private long unionVariants;
+
+    private final int typeRefs;
+    private final int modelClasses;
+    private final long totalFields;
+
+    private final long jsonTreeBytes;
+    private final long schemaBytes;
+    private final long typeMapBytes;
+    private final long modelGraphBytes;
+
+    private SchemaStats(long inputBytes,
+                        JsonNode json,
+                        SchemaNode schema,
+                        Map<SchemaNode, TypeInferencer.TypeRef> typeMap,
+                        ModelGraph graph) {
+        this.inputBytes = inputBytes;
+        walkSchema(schema);
+
+        this.typeRefs = typeMap.size();
+        this.modelClasses = graph.size();
+        long fields = 0;
+        for (ModelGraph.ModelClass modelClass : graph.getDeclaredClasses()) {
+            fields += modelClass.getFields().size();
+        }
+        this.totalFields = fields;
+
+        this.jsonTreeBytes = HeapEstimator.jsonTree(json);
+        this.schemaBytes = HeapEstimator.schema(schema);
+        this.typeMapBytes = HeapEstimator.typeMap(typeMap);
+        this.modelGraphBytes = HeapEstimator.modelGraph(graph);
+    }
+
+    /**
+     * 파이프라인 각 단계의 결과로 지표를 계산한다.
+     *
+     * @param inputBytes 입력 JSON 파일 크기
+     * @param json       파싱된 입력 (parse 단계)
+     * @param schema     스키마 트리 (analyze 단계)
+     * @param typeMap    타입 추론 결과 (infer 단계)
+     * @param graph      클래스 그래프 (model 단계)
+     */
+    public static SchemaStats collect(long inputBytes,
+                                      JsonNode json,
+                                      SchemaNode schema,
+                                      Map<SchemaNode, TypeInferencer.TypeRef> typeMap,
+                                      ModelGraph graph) {
+        Objects.requireNonNull(json, "json must not be null");
+        Objects.requireNonNull(schema, "schema must not be null");
+        Objects.requireNonNull(typeMap, "typeMap must not be null");
+        Objects.requireNonNull(graph, "graph must not be null");
+        return new SchemaStats(inputBytes, json, schema, typeMap, graph);
+    }
+
+    /**
+     * 스키마 트리를 한 번 훑어 노드 수와 깊이/너비/유니온 지표를 센다.
+     * 유니온은 값 하나의 여러 모양일 뿐이므로 깊이를 늘리지 않는다.
+     */
+    private void walkSchema(SchemaNode root) {
+        Set<SchemaNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<SchemaNode> nodes = new ArrayDeque<>();
+        Deque<Integer> depths = new ArrayDeque<>();
+        nodes.push(root);
+        depths.push(0);
+        while (!nodes.isEmpty()) {
+            SchemaNode node = nodes.pop();
+            int depth = depths.pop();
+            if (!visited.add(node)) {
+                continue;
+            }
+            if (node instanceof SchemaObject obj) {
+                objectNodes++;
+                maxDepth = Math.max(maxDepth, depth + 1);
+                maxWidth = Math.max(maxWidth, obj.fields().size());
+                for (SchemaObject.FieldInfo info : obj.fields().values()) {
+                    if (info.schema() != null) {
+                        nodes.push(info.schema());
+                        depths.push(depth + 1);
+                    }
+                }
+            } else if (node instanceof SchemaArray arr) {
+                arrayNodes++;
+                maxDepth = Math.max(maxDepth, depth + 1);
+                for (SchemaNode element : arr.elementTypes()) {
+                    nodes.push(element);
+                    depths.push(depth + 1);
+                }
+            } else if (node instanceof SchemaUnion union) {
+                unionNodes++;
+                maxUnionFanOut = Math.max(maxUnionFanOut, union.variants().size());
+                unionVariants += union.variants().size();
+                for (SchemaNode variant : union.variants()) {
+                    nodes.push(variant);
+                    depths.push(depth);
+                }
+            } else if (node instanceof SchemaOpaque) {
+                // 한도를 넘어 접힌 하위 트리. 구조를 모르므로 깊이/너비에 더하지 않는다.
+                opaqueNodes++;
+            } else {
+                primitiveNodes++;
+            }
+        }
+    }
+
+    public long inputBytes() {
+        return inputBytes;
+    }
+
+    public int objectNodes() {
+        return objectNodes;
+    }
+
+    public int arrayNodes() {
+        return arrayNodes;
+    }
+
+    public int unionNodes() {
+        return unionNodes;
+    }
+
+    public int primitiveNodes() {
+        return primitiveNodes;
+    }
+
+    /** 리소스 한도를 넘어 {@code Map<String, Object>}/{@code Object}로 접힌 노드 수 */
+    public int opaqueNodes() {
+        return opaqueNodes;
+    }
+
+    /** 전체 스키마 노드 수 */
+    public int schemaNodes() {
+        return objectNodes + arrayNodes + unionNodes + primitiveNodes + opaqueNodes;
+    }
+
+    /** 객체/배열 중첩의 최대 단계 (루트 객체가 1) */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /** 객체 하나가 가진 필드 수의 최댓값 */
+    public int maxWidth() {
+        return maxWidth;
+    }
+
+    /** 유니온 하나가 가진 변형 수의 최댓값 */
+    public int maxUnionFanOut() {
+        return maxUnionFanOut;
+    }
+
+    /** 모든 유니온의 변형 수 합 */
+    public long unionVariants() {
+        return unionVariants;
+    }
+
+    public int typeRefs() {
+        return typeRefs;
+    }
+
+    public int modelClasses() {
+        return modelClasses;
+    }
+
+    public long totalFields() {
+        return totalFields;
+    }
+
+    /** parse/analyze/infer/model 단계 결과의 예상 힙 점유량 합 (바이트) */
+    public long estimatedRetainedBytes() {
+        return jsonTreeBytes + schemaBytes + typeMapBytes + modelGraphBytes;
+    }
+
+    /**
+     * 보고서 JSON 트리. 단계 이름은 {@code --profile}의 단계 이름과 같다.
+     */
+    public ObjectNode toJson() {
+        ObjectNode root = MAPPER.createObjectNode();
+        root.put("formatVersion", FORMAT_VERSION);
+        root.put("inputBytes", inputBytes);
+
+        ObjectNode schema = root.putObject("schema");
+        schema.put("nodes", schemaNodes());
+        schema.put("objects", objectNodes);
+        schema.put("arrays", arrayNodes);
+        schema.put("unions", unionNodes);
+        schema.put("primitives", primitiveNodes);
+        schema.put("opaques", opaqueNodes);
+        schema.put("maxDepth", maxDepth);
+        schema.put("maxWidth", maxWidth);
+        schema.put("maxUnionFanOut", maxUnionFanOut);
+        schema.put("unionVariants", unionVariants);
+
+        root.putObject("types").put("typeRefs", typeRefs);
+
+        ObjectNode model = root.putObject("model");
+        model.put("classes", modelClasses);
+        model.put("fields", totalFields);
+
+        ObjectNode heap = root.putObject("estimatedRetainedBytes");
+        heap.put("parse", jsonTreeBytes);
+        heap.put("analyze", schemaBytes);
+        heap.put("infer", typeMapBytes);
+        heap.put("model", modelGraphBytes);
+        heap.put("total", estimatedRetainedBytes());
+        return root;
+    }
+
+    /**
+     * 들여쓰기한 보고서 JSON 문자열
+     */
+    public String toJsonString() {
+        try {
+            return MAPPER.writeValueAsString(toJson());
+        } catch (IOException e) {
+            throw new InternalException("통계 보고서를 JSON으로 만드는 중 내부 오류가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.watch;
+
+import org.example.exception.InternalException;
+import org.example.exception.UserException;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 파일들의 변경을 {@link WatchService}로 기다린다.
+ *
+ * <p>WatchService는 파일이 아니라 디렉터리를 감시하므로, 입력 파일이 있는 디렉터리를 등록하고
+ * 이벤트 중 입력 파일에 해당하는 것만 고른다. 에디터는 저장 한 번에 이벤트를 여러 개 내므로
+ * (임시 파일 기록 후 이름 바꾸기, 내용 기록과 속성 변경 등) 마지막 이벤트 뒤 {@code debounce} 동안
+ * 조용해질 때까지 모아서 한 번에 돌려준다.
+ * <p>
+ * Linux(inotify)와 Windows는 변경 즉시 이벤트가 오지만, macOS의 JDK 구현은 디렉터리를 주기적으로 훑으므로
+ * 변경 감지까지 몇 초가 걸릴 수 있다.
+ */
+public final class InputWatcher implements AutoCloseable {
+
+    /** 기본 대기 시간. 저장 한 번의 이벤트 묶음은 보통 수 ms 안에 끝난다. */
+    public static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(50);
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Set<Path> files = new LinkedHashSet<>();
+    private final long debounceMillis;
+
+    public InputWatcher(Collection<Path> inputs) {
+        this(inputs, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * @param inputs   감시할 입력 파일들
+     * @param debounce 마지막 이벤트 뒤 이만큼 조용하면 변경 묶음을 돌려준다
+     */
+    public InputWatcher(Collection<Path> inputs, Duration debounce) {
+        if (debounce.isNegative()) {
+            throw new IllegalArgumentException("debounce는 0 이상이어야 합니다: " + debounce);
+        }
+        this.debounceMillis = debounce.toMillis();
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new InternalException("파일 변경 감시를 시작할 수 없습니다.", e);
+        }
+        Map<Path, WatchKey> registered = new HashMap<>();
+        try {
+            for (Path input : inputs) {
+                Path file = input.toAbsolutePath().normalize();
+                files.add(file);
+                Path directory = file.getParent();
+                if (!Files.isDirectory(directory)) {
+                    throw new UserException("[ERROR] 감시할 입력 파일의 디렉터리가 존재하지 않습니다: " + directory);
+                }
+                if (!registered.containsKey(directory)) {
+                    WatchKey key = directory.register(watchService,
+                            StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                    registered.put(directory, key);
+                    directories.put(key, directory);
+                }
+            }
+        } catch (UserException e) {
+            close();
+            throw e;
+        } catch (IOException e) {
+            close();
+            throw new InternalException("입력 디렉터리를 감시 대상으로 등록할 수 없습니다.", e);
+        }
+    }
+
+    /** 감시 중인 입력 파일 (절대 경로) */
+    public Set<Path> files() {
+        return Set.copyOf(files);
+    }
+
+    /**
+     * 입력 파일이 하나라도 바뀔 때까지 기다린 뒤, debounce 동안 이어진 변경까지 모아 돌려준다.
+     *
+     * @return 바뀐 입력 파일 (절대 경로, 비어 있지 않다)
+     */
+    public Set<Path> awaitChanges() throws InterruptedException {
+        Set<Path> changed = new LinkedHashSet<>();
+        while (changed.isEmpty()) {
+            collect(watchService.take(), changed);
+        }
+        WatchKey key;
+        while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+            collect(key, changed);
+        }
+        return changed;
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // 이벤트를 잃어버렸으면 이 디렉터리의 입력이 모두 바뀌었다고 본다.
+                for (Path file : files) {
+                    if (file.getParent().equals(directory)) {
+                        changed.add(file);
+                    }
+                }
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (files.contains(file)) {
+                changed.add(file);
+            }
+        }
+        key.reset();
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            throw new InternalException("파일 변경 감시를 종료하는 중 오류가 발생했습니다.", e);
+        }
+    }
+}
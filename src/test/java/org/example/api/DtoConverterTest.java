@@ -0,0 +1,141 @@
+package org.example.api;
+
+import org.example.compiler.InMemoryCompiler;
+import org.example.exception.UserException;
+import org.example.generator.GenerationOptions;
+import org.example.json.ResourceLimits;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DtoConverterTest {
+    private static final String SAMPLE_JSON = "{"
+            + "\"location\": { \"name\": \"Seoul\", \"localtime_epoch\": 1700000000 },"
+            + "\"hours\": [ { \"time\": \"00:00\", \"temp_c\": 1.5 }, { \"time\": \"01:00\", \"will_it_rain\": false } ]"
+            + "}";
+
+    private final DtoConverter converter = new DtoConverter(GenerationOptions.defaults().withJsonReaders(true), false);
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 바이트_스트림_파일_입력은_같은_결과를_만든다() throws Exception {
+        Path file = Files.createTempFile("sample-json-", ".json");
+        Files.write(file, bytes(SAMPLE_JSON));
+
+        DtoConverter.Result fromBytes = converter.convert(bytes(SAMPLE_JSON), "com.example.dto", "Weather");
+        DtoConverter.Result fromStream = converter.convert(
+                new ByteArrayInputStream(bytes(SAMPLE_JSON)), "com.example.dto", "Weather");
+        DtoConverter.Result fromPath = converter.convert(file, "com.example.dto", "Weather");
+
+        assertThat(fromBytes.modelGraph().getRootClass().getQualifiedName()).isEqualTo("com.example.dto.Weather");
+        assertThat(fromBytes.sources()).containsKeys("Weather", "WeatherLocation", "WeatherHoursItem", "JsonReadSupport");
+        assertThat(fromStream.sources()).isEqualTo(fromBytes.sources());
+        assertThat(fromPath.sources()).isEqualTo(fromBytes.sources());
+    }
+
+    @Test
+    void 잘못된_입력은_종료하지_않고_예외로_알린다() {
+        assertThatThrownBy(() -> converter.convert(bytes("{\"a\": "), "com.example.dto", "Weather"))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("유효한 JSON이 아닙니다");
+        assertThatThrownBy(() -> converter.convert(bytes("[1, 2]"), "com.example.dto", "Weather"))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("JSON 루트는 객체(Object)여야 합니다");
+        assertThatThrownBy(() -> converter.convert(bytes(SAMPLE_JSON), "com.example.dto", "class"))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("루트 클래스 이름이 유효한 자바 클래스명이 아닙니다");
+        assertThatThrownBy(() -> converter.convert(bytes(SAMPLE_JSON), "com..dto", "Weather"))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("패키지 이름이 유효하지 않습니다");
+    }
+
+    @Test
+    void 이름_변환_결과는_호출_사이에_같은_인스턴스로_공유된다() {
+        DtoConverter.Result first = converter.convert(bytes(SAMPLE_JSON), "com.example.dto", "Weather");
+        DtoConverter.Result second = converter.convert(bytes(SAMPLE_JSON), "com.example.other", "Weather");
+
+        String firstName = first.modelGraph().getRootClass().getFields().get(0).getFieldName();
+        String secondName = second.modelGraph().getRootClass().getFields().get(0).getFieldName();
+
+        assertThat(secondName).isSameAs(firstName);
+    }
+
+    @Test
+    void 여러_스레드가_하나의_인스턴스를_동시에_써도_단일_스레드와_같은_결과를_만든다() throws Exception {
+        List<String> inputs = new ArrayList<>();
+        List<Map<String, String>> expected = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            String json = "{\"id\": " + i + ", \"item_" + i + "\": { \"value_" + (i % 4) + "\": " + i + ".5 },"
+                    + "\"tags\": [ \"a\", \"b\" ], \"flag_" + (i % 3) + "\": true }";
+            inputs.add(json);
+            expected.add(new DtoConverter(converter.options(), false)
+                    .convert(bytes(json), "com.example.dto" + i, "Root" + i).sources());
+        }
+
+        int threads = 8;
+        int iterations = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int mismatches = 0;
+                    for (int n = 0; n < iterations; n++) {
+                        int i = (offset + n) % inputs.size();
+                        Map<String, String> sources = converter
+                                .convert(bytes(inputs.get(i)), "com.example.dto" + i, "Root" + i).sources();
+                        if (!sources.equals(expected.get(i))) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            start.countDown();
+
+            int mismatches = 0;
+            for (Future<Integer> future : futures) {
+                mismatches += future.get(60, TimeUnit.SECONDS);
+            }
+            assertThat(mismatches).isEqualTo(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 한도를_넘은_하위_트리는_Map으로_접고_컴파일되는_소스를_만든다() throws Exception {
+        DtoConverter limited = new DtoConverter(GenerationOptions.defaults().withJsonReaders(true), false,
+                ResourceLimits.unlimited().withMaxKeysPerObject(3));
+        String json = "{\"id\": 1, \"labels\": {\"a\": 1, \"b\": 2, \"c\": 3, \"d\": 4}}";
+
+        DtoConverter.Result result = limited.convert(bytes(json), "com.example.dto", "Tagged");
+
+        assertThat(result.sources().get("Tagged")).contains("Map<String, Object> labels").contains("import java.util.Map;");
+        assertThat(result.warnings()).containsExactly(
+                "[WARN] $.labels: 객체 키 수(4)가 한도(3)를 넘어 Map<String, Object>로 대체했습니다.");
+        try (InMemoryCompiler compiler = new InMemoryCompiler()) {
+            assertThat(compiler.compile(result.sources()).classNames()).contains("com.example.dto.Tagged");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.batch;
+
+import org.example.cli.ParsedArguments;
+import org.example.exception.InternalException;
+import org.example.exception.UserException;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchRunnerTest {
+
+    private static List<ParsedArguments> jobs(int count) {
+        List<ParsedArguments> jobs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // 입력 파일이 없으면 예상 사용량은 BASE_BYTES만 잡힌다.
+            jobs.add(new ParsedArguments("missing-" + i + ".json", "Root" + i, "com.example", "out", false));
+        }
+        return jobs;
+    }
+
+    /** 실행 중인 작업 수의 최댓값을 기록하는 작업 */
+    private static final class ConcurrencyProbe implements BatchRunner.Task {
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+
+        @Override
+        public int run(ParsedArguments job, PrintStream log) {
+            int now = running.incrementAndGet();
+            maxRunning.accumulateAndGet(now, Math::max);
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+            return 1;
+        }
+    }
+
+    @Test
+    void 병렬도보다_많은_작업을_동시에_실행하지_않는다() {
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+
+        BatchReport report = new BatchRunner(2, Long.MAX_VALUE).run(jobs(6), probe, result -> { });
+
+        assertThat(report.succeeded()).isEqualTo(6);
+        assertThat(report.exitCode()).isZero();
+        assertThat(probe.maxRunning.get()).isBetween(1, 2);
+        assertThat(report.results()).extracting(JobResult::index).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void 메모리_예산에_두_작업이_들어가지_않으면_하나씩_실행한다() {
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+        long budget = BatchRunner.BASE_BYTES + BatchRunner.BASE_BYTES / 2;
+
+        BatchReport report = new BatchRunner(4, budget).run(jobs(4), probe, result -> { });
+
+        assertThat(report.succeeded()).isEqualTo(4);
+        assertThat(probe.maxRunning.get()).isEqualTo(1);
+        for (JobResult result : report.results()) {
+            assertThat(result.reservedBytes()).isEqualTo(BatchRunner.BASE_BYTES);
+        }
+    }
+
+    @Test
+    void 예산보다_큰_작업도_혼자서는_실행된다() {
+        ConcurrencyProbe probe = new ConcurrencyProbe();
+
+        BatchReport report = new BatchRunner(2, 1024).run(jobs(3), probe, result -> { });
+
+        assertThat(report.succeeded()).isEqualTo(3);
+        assertThat(probe.maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 실패한_작업은_종료_코드를_남기고_나머지_작업은_계속_실행한다() {
+        ConcurrentLinkedQueue<Integer> completed = new ConcurrentLinkedQueue<>();
+        BatchRunner.Task task = (job, log) -> {
+            switch (job.getRootClass()) {
+                case "Root1" -> throw new UserException("[ERROR] 잘못된 입력");
+                case "Root2" -> throw new InternalException("디스크 오류");
+                default -> {
+                    log.println("[INFO] 진행 중");
+                    log.println("[WARN] $.items: 접었습니다.");
+                    return 3;
+                }
+            }
+        };
+
+        BatchReport report = new BatchRunner(2, Long.MAX_VALUE).run(jobs(4), task,
+                result -> completed.add(result.index()));
+
+        assertThat(completed).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(report.succeeded()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(2);
+        assertThat(report.exitCode()).isEqualTo(2);
+
+        JobResult ok = report.results().get(0);
+        assertThat(ok.written()).isEqualTo(3);
+        assertThat(ok.message()).isNull();
+        assertThat(ok.warnings()).containsExactly("[WARN] $.items: 접었습니다.");
+
+        assertThat(report.results().get(1).exitCode()).isEqualTo(1);
+        assertThat(report.results().get(1).message()).isEqualTo("[ERROR] 잘못된 입력");
+        assertThat(report.results().get(2).exitCode()).isEqualTo(2);
+        assertThat(report.results().get(2).message()).contains("디스크 오류");
+
+        assertThat(report.summary())
+                .contains("성공 2, 실패 2")
+                .contains("FAIL")
+                .contains("[ERROR] 잘못된 입력");
+    }
+
+    @Test
+    void 스택이나_힙이_부족한_작업도_그_작업만_실패로_기록한다() {
+        BatchRunner.Task task = (job, log) -> switch (job.getRootClass()) {
+            case "Root0" -> throw new StackOverflowError();
+            case "Root1" -> throw new OutOfMemoryError("Java heap space");
+            default -> 1;
+        };
+
+        BatchReport report = new BatchRunner(2, Long.MAX_VALUE).run(jobs(3), task, result -> { });
+
+        assertThat(report.succeeded()).isEqualTo(1);
+        assertThat(report.exitCode()).isEqualTo(2);
+        assertThat(report.results().get(0).message()).contains("--max-depth");
+        assertThat(report.results().get(1).message()).contains("Java heap space");
+        assertThat(report.results().get(2).written()).isEqualTo(1);
+    }
+}
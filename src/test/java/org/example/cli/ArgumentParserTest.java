@@ -1,12 +1,14 @@
 package org.example.cli;
 
 import org.example.exception.UserException;
+import org.example.json.ResourceLimits;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -179,4 +181,329 @@ class ArgumentParserTest {
                 .isInstanceOf(UserException.class)
                 .hasMessageContaining("옵션과 값은 쌍으로 입력해야 합니다");
     }
+
+    @Test
+    void json_reader_옵션을_생성_옵션으로_전달한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--json-reader", "true"
+        };
+
+        ParsedArguments parsed = new ArgumentParser().parse(args);
+
+        assertThat(parsed.getGenerationOptions().jsonReaders()).isTrue();
+    }
+
+    @Test
+    void primitive_arrays_옵션을_생성_옵션으로_전달한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--primitive-arrays", "true"
+        };
+
+        ParsedArguments parsed = new ArgumentParser().parse(args);
+
+        assertThat(parsed.getGenerationOptions().primitiveArrays()).isTrue();
+    }
+
+    @Test
+    void layout_옵션이_standard_compact가_아니면_예외가_발생한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--layout", "packed"
+        };
+
+        ArgumentParser parser = new ArgumentParser();
+
+        assertThatThrownBy(() -> parser.parse(args))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--layout 옵션은 standard 또는 compact만 허용됩니다");
+    }
+
+    @Test
+    void dto_style_record는_compact_배치와_함께_쓰면_예외가_발생한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--layout", "compact",
+                "--dto-style", "record"
+        };
+
+        assertThatThrownBy(() -> new ArgumentParser().parse(args))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--layout compact와 함께 사용할 수 없습니다");
+    }
+
+    @Test
+    void jmh_out_경로가_파일이면_예외가_발생한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--jmh-out", tempJson.toString()
+        };
+
+        assertThatThrownBy(() -> new ArgumentParser().parse(args))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--jmh-out 경로가 디렉터리가 아닙니다");
+    }
+
+    @Test
+    void out_format_옵션을_파싱한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--out-format", "srcjar"
+        };
+
+        ParsedArguments parsed = new ArgumentParser().parse(args);
+
+        assertThat(parsed.getOutFormat()).isEqualTo(ParsedArguments.OutFormat.SRCJAR);
+    }
+
+    @Test
+    void out_format_옵션이_dir_srcjar_jar가_아니면_예외가_발생한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--out-format", "zip"
+        };
+
+        assertThatThrownBy(() -> new ArgumentParser().parse(args))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--out-format 옵션은 dir, srcjar, jar 중 하나만 허용됩니다");
+    }
+
+    @Test
+    void profile_옵션을_파싱한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+        Path jfr = Files.createTempDirectory("profile-").resolve("run.jfr");
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--profile", jfr.toString()
+        };
+
+        ParsedArguments parsed = new ArgumentParser().parse(args);
+
+        assertThat(parsed.getProfilePath()).isEqualTo(jfr.toString());
+    }
+
+    @Test
+    void profile_경로가_디렉터리면_예외가_발생한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+        Path dir = Files.createTempDirectory("profile-");
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--profile", dir.toString()
+        };
+
+        assertThatThrownBy(() -> new ArgumentParser().parse(args))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--profile 경로가 파일이 아니라 디렉터리입니다");
+    }
+
+    @Test
+    void stats_옵션을_파싱한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+        Path report = Files.createTempDirectory("stats-").resolve("stats.json");
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--stats", report.toString()
+        };
+
+        ParsedArguments parsed = new ArgumentParser().parse(args);
+
+        assertThat(parsed.getStatsPath()).isEqualTo(report.toString());
+    }
+
+    @Test
+    void max_옵션을_분석_한도로_파싱한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--max-keys", "1000",
+                "--max-depth", "12",
+                "--max-classes", "200"
+        };
+
+        ParsedArguments parsed = new ArgumentParser().parse(args);
+
+        assertThat(parsed.getResourceLimits().maxKeysPerObject()).isEqualTo(1000);
+        assertThat(parsed.getResourceLimits().maxDepth()).isEqualTo(12);
+        assertThat(parsed.getResourceLimits().maxClasses()).isEqualTo(200);
+        assertThat(parsed.getResourceLimits().maxUnionVariants()).isEqualTo(ResourceLimits.UNLIMITED);
+    }
+
+    @Test
+    void max_옵션이_양의_정수가_아니면_예외가_발생한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+
+        String[] args = {
+                "--input", tempJson.toString(),
+                "--root-class", "WeatherApiResponse",
+                "--package", "com.org.example.entity",
+                "--out", "build/generated",
+                "--max-schema-nodes", "0"
+        };
+
+        assertThatThrownBy(() -> new ArgumentParser().parse(args))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--max-schema-nodes 옵션은 1 이상의 정수만 허용됩니다");
+    }
+
+    @Test
+    void manifest의_작업마다_공통_옵션을_붙여_파싱한다() throws Exception {
+        Path dir = Files.createTempDirectory("manifest-");
+        Files.writeString(dir.resolve("a.json"), "{\"name\":\"Alice\"}", StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve("b.json"), "{\"id\":1}", StandardCharsets.UTF_8);
+        Path manifest = dir.resolve("jobs.json");
+        Files.writeString(manifest, "{\"jobs\":["
+                + "{\"input\":\"a.json\",\"rootClass\":\"User\",\"package\":\"com.a\",\"out\":\"out/a\"},"
+                + "{\"input\":\"b.json\",\"rootClass\":\"Order\",\"package\":\"com.b\",\"out\":\"out/b\","
+                + "\"innerClasses\":true}]}", StandardCharsets.UTF_8);
+
+        String[] args = {
+                "--manifest", manifest.toString(),
+                "--parallelism", "3",
+                "--out-format", "srcjar",
+                "--max-keys", "10"
+        };
+        assertThat(ArgumentParser.isBatch(args)).isTrue();
+
+        BatchArguments batch = new ArgumentParser().parseBatch(args);
+
+        assertThat(batch.getParallelism()).isEqualTo(3);
+        assertThat(batch.getJobs()).hasSize(2);
+        ParsedArguments second = batch.getJobs().get(1);
+        // 상대 경로는 매니페스트 디렉터리 기준
+        assertThat(second.getInputPath()).isEqualTo(dir.resolve("b.json").toString());
+        assertThat(second.getOutDir()).isEqualTo(dir.resolve("out/b").toString());
+        assertThat(second.getRootClass()).isEqualTo("Order");
+        assertThat(second.isInnerClasses()).isTrue();
+        assertThat(second.getOutFormat()).isEqualTo(ParsedArguments.OutFormat.SRCJAR);
+        assertThat(second.getResourceLimits().maxKeysPerObject()).isEqualTo(10);
+        assertThat(batch.getJobs().get(0).isInnerClasses()).isFalse();
+    }
+
+    @Test
+    void manifest_작업이_잘못되면_작업_번호와_함께_예외가_발생한다() throws Exception {
+        Path dir = Files.createTempDirectory("manifest-");
+        Path manifest = dir.resolve("jobs.json");
+        Files.writeString(manifest, "[{\"input\":\"a.json\",\"rootClass\":\"User\",\"package\":\"com.a\",\"out\":\"out\"},"
+                + "{\"input\":\"b.json\",\"rootClass\":\"class\",\"package\":\"com.b\",\"out\":\"out\"}]",
+                StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> new ArgumentParser().parseBatch(new String[]{"--manifest", manifest.toString()}))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--manifest jobs[1]: --root-class 값이 유효한 자바 클래스명이 아닙니다");
+        assertThatThrownBy(() -> new ArgumentParser().parseBatch(
+                new String[]{"--manifest", manifest.toString(), "--package", "com.x"}))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--package 옵션은 --manifest와 함께 사용할 수 없습니다");
+    }
+
+    @Test
+    void dir_형식의_작업이_같은_out을_쓰면_package가_달라도_예외가_발생한다() throws Exception {
+        Path dir = Files.createTempDirectory("manifest-");
+        Path manifest = dir.resolve("jobs.json");
+        Files.writeString(manifest, "[{\"input\":\"a.json\",\"rootClass\":\"User\",\"package\":\"com.a\",\"out\":\"out\"},"
+                + "{\"input\":\"b.json\",\"rootClass\":\"Order\",\"package\":\"com.b\",\"out\":\"./out\"}]",
+                StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> new ArgumentParser().parseBatch(new String[]{"--manifest", manifest.toString()}))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--manifest jobs[1]: jobs[0]와 출력 위치가 겹칩니다. out을 다르게 지정해 주세요.");
+
+        // srcjar는 rootClass 이름의 아카이브 하나만 쓰므로 같은 out을 나눠 쓸 수 있다.
+        BatchArguments batch = new ArgumentParser().parseBatch(
+                new String[]{"--manifest", manifest.toString(), "--out-format", "srcjar"});
+        assertThat(batch.getJobs()).hasSize(2);
+    }
+
+    @Test
+    void watch는_dir_형식에서만_사용할_수_있다() throws Exception {
+        Path tempJson = createTempJsonFile();
+        Path outDir = Files.createTempDirectory("out-");
+
+        ParsedArguments parsed = new ArgumentParser().parse(new String[]{
+                "--input", tempJson.toString(), "--root-class", "User", "--package", "com.example",
+                "--out", outDir.toString(), "--watch", "true"
+        });
+        assertThat(parsed.isWatch()).isTrue();
+
+        assertThatThrownBy(() -> new ArgumentParser().parse(new String[]{
+                "--input", tempJson.toString(), "--root-class", "User", "--package", "com.example",
+                "--out", outDir.toString(), "--watch", "true", "--out-format", "jar"
+        }))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--watch 옵션은 --out-format dir에서만 사용할 수 있습니다");
+    }
+
+    @Test
+    void 단일_실행의_parallelism은_클래스_생성_스레드_수로_파싱한다() throws Exception {
+        Path tempJson = createTempJsonFile();
+        Path outDir = Files.createTempDirectory("out-");
+        String[] base = {
+                "--input", tempJson.toString(), "--root-class", "User", "--package", "com.example",
+                "--out", outDir.toString()
+        };
+
+        assertThat(new ArgumentParser().parse(base).getParallelism()).isEqualTo(1);
+
+        String[] parallel = Arrays.copyOf(base, base.length + 2);
+        parallel[base.length] = "--parallelism";
+        parallel[base.length + 1] = "4";
+        assertThat(new ArgumentParser().parse(parallel).getParallelism()).isEqualTo(4);
+
+        parallel[base.length + 1] = "0";
+        assertThatThrownBy(() -> new ArgumentParser().parse(parallel))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--parallelism 옵션은 1 이상의 정수만 허용됩니다");
+    }
 }
@@ -0,0 +1,90 @@
+package org.example.compiler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.exception.InternalException;
+import org.example.generator.ClassGenerator;
+import org.example.generator.GenerationOptions;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryCompilerTest {
+    private static final String SAMPLE_JSON = "{"
+            + "\"location\": { \"name\": \"Seoul\" },"
+            + "\"temp_c\": 21.3"
+            + "}";
+
+    private final InMemoryCompiler compiler = new InMemoryCompiler();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @AfterEach
+    void tearDown() {
+        compiler.close();
+    }
+
+    private Map<String, String> generate(String json) throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(mapper.readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Weather");
+        ModelGraph graph = ModelGraph.from(schema, typeMap, "com.example.dto", "Weather");
+        ClassGenerator generator = new ClassGenerator(
+                GenerationOptions.defaults().withDtoStyle(GenerationOptions.DtoStyle.RECORD));
+        return generator.generateAllFromModelGraph(graph, false);
+    }
+
+    @Test
+    void 생성된_소스를_메모리에서_컴파일하고_바로_바인딩한다() throws Exception {
+        CompiledClasses compiled = compiler.compile(generate(SAMPLE_JSON));
+
+        Class<?> weatherClass = compiled.load("com.example.dto.Weather");
+        Object weather = mapper.readValue(SAMPLE_JSON, weatherClass);
+
+        assertThat(compiled.classNames()).contains("com.example.dto.Weather", "com.example.dto.WeatherLocation");
+        assertThat(weatherClass.getClassLoader()).isSameAs(compiled.classLoader());
+        assertThat(weatherClass.getMethod("tempC").invoke(weather)).isEqualTo(21.3);
+    }
+
+    @Test
+    void 같은_소스_묶음은_순서와_관계없이_캐시된_결과를_돌려준다() throws Exception {
+        Map<String, String> sources = generate(SAMPLE_JSON);
+        Map<String, String> reversed = new LinkedHashMap<>();
+        sources.keySet().stream().sorted((a, b) -> b.compareTo(a)).forEach(name -> reversed.put(name, sources.get(name)));
+
+        CompiledClasses first = compiler.compile(sources);
+        CompiledClasses second = compiler.compile(reversed);
+
+        assertThat(second).isSameAs(first);
+        assertThat(compiler.cachedResults()).isEqualTo(1);
+    }
+
+    @Test
+    void 구조가_다르면_같은_이름의_클래스도_서로_다른_로더에_격리된다() throws Exception {
+        CompiledClasses first = compiler.compile(generate(SAMPLE_JSON));
+        CompiledClasses second = compiler.compile(generate("{\"temp_c\": 21.3, \"humidity\": 63}"));
+
+        Class<?> firstClass = first.load("com.example.dto.Weather");
+        Class<?> secondClass = second.load("com.example.dto.Weather");
+
+        assertThat(first.sourceHash()).isNotEqualTo(second.sourceHash());
+        assertThat(secondClass).isNotSameAs(firstClass);
+        assertThat(secondClass.getMethod("humidity")).isNotNull();
+        assertThat(second.classNames()).doesNotContain("com.example.dto.WeatherLocation");
+    }
+
+    @Test
+    void 컴파일_오류는_파일_이름과_줄_번호를_담은_내부_예외로_알린다() {
+        Map<String, String> sources = Map.of("Broken", "package com.example.dto;\n\npublic class Broken {\n    int x = ;\n}\n");
+
+        assertThatThrownBy(() -> compiler.compile(sources))
+                .isInstanceOf(InternalException.class)
+                .hasMessageContaining("Broken.java:4");
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.corpus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.example.stats.SchemaStats;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorpusGeneratorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static SchemaStats stats(CorpusSpec spec) throws Exception {
+        String json = new CorpusGenerator(spec).json();
+        JsonNode root = MAPPER.readTree(json);
+        SchemaNode schema = new JsonAnalyzer().analyze(root);
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Root");
+        ModelGraph graph = ModelGraph.from(schema, typeMap, "com.example.dto", "Root");
+        return SchemaStats.collect(json.length(), root, schema, typeMap, graph);
+    }
+
+    @Test
+    void 같은_시드면_같은_코퍼스를_만든다() {
+        CorpusSpec spec = CorpusSpec.defaults().withRecords(50).withOptionalRate(0.3).withUnionRate(0.2)
+                .withStringFormats(EnumSet.allOf(CorpusSpec.StringFormat.class));
+
+        String first = new CorpusGenerator(spec).json();
+
+        assertThat(new CorpusGenerator(spec).json()).isEqualTo(first);
+        assertThat(new CorpusGenerator(spec.withSeed(7L)).json()).isNotEqualTo(first);
+    }
+
+    @Test
+    void NDJSON은_레코드마다_한_줄이고_JSON_문서의_items와_같다() throws Exception {
+        CorpusSpec spec = CorpusSpec.defaults().withRecords(20).withUnionRate(0.1);
+        CorpusGenerator generator = new CorpusGenerator(spec);
+        StringWriter ndjson = new StringWriter();
+
+        generator.writeNdjson(ndjson);
+
+        JsonNode document = MAPPER.readTree(generator.json());
+        String[] lines = ndjson.toString().split("\n");
+        assertThat(document.get("count").asInt()).isEqualTo(20);
+        assertThat(lines).hasSize(20);
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(MAPPER.readTree(lines[i])).isEqualTo(document.get("items").get(i));
+        }
+    }
+
+    @Test
+    void 디렉터리에_레코드마다_파일_하나를_만든다() throws Exception {
+        Path dir = Files.createTempDirectory("corpus-").resolve("records");
+
+        List<Path> files = new CorpusGenerator(CorpusSpec.defaults().withRecords(5)).writeDirectory(dir);
+
+        assertThat(files).hasSize(5);
+        assertThat(files.get(0).getFileName().toString()).isEqualTo("record-00000.json");
+        for (Path file : files) {
+            assertThat(MAPPER.readTree(file.toFile()).get("id").isInt()).isTrue();
+        }
+    }
+
+    @Test
+    void 깊이와_너비가_스키마_크기에_그대로_드러난다() throws Exception {
+        SchemaStats stats = stats(CorpusSpec.defaults().withRecords(30).withDepth(4).withWidth(12));
+
+        // 문서 루트 + 깊이마다 객체 하나
+        assertThat(stats.modelClasses()).isEqualTo(5);
+        assertThat(stats.maxWidth()).isEqualTo(12);
+        assertThat(stats.unionNodes()).isZero();
+    }
+
+    @Test
+    void 타입_변화_비율을_주면_유니온이_생긴다() throws Exception {
+        SchemaStats stats = stats(CorpusSpec.defaults().withRecords(200).withUnionRate(0.2));
+
+        assertThat(stats.unionNodes()).isPositive();
+    }
+
+    @Test
+    void 키_종류_수만큼_attributes_객체가_넓어진다() throws Exception {
+        SchemaStats stats = stats(CorpusSpec.defaults().withRecords(200).withDepth(1).withKeyCardinality(40));
+
+        // 문서 루트 + 레코드 + attributes
+        assertThat(stats.modelClasses()).isEqualTo(3);
+        assertThat(stats.maxWidth()).isEqualTo(40);
+    }
+}
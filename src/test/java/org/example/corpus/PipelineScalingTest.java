@@ -0,0 +1,105 @@
+package org.example.corpus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.generator.ClassGenerator;
+import org.example.generator.GenerationOptions;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 입력을 두 배씩 키우며 전체 파이프라인(파싱 → 분석 → 타입 추론 → 그래프 → 생성)을 돌려,
+ * 시간과 할당량이 대략 선형으로 늘어나는지 확인한다. 실수로 들어간 제곱 시간 경로를 잡기 위한 테스트다.
+ *
+ * <p>할당량은 스레드 할당 카운터로 재므로 거의 흔들리지 않아 항상 검사한다.
+ * (크기가 8배일 때 선형이면 8배 이하, 제곱 경로가 섞이면 그보다 훨씬 크다)
+ * 시간 배수는 부하가 걸린 CI 호스트에서 크게 흔들리므로 {@code -Dscaling.timing=true}
+ * ({@code ./gradlew test -PscalingTiming=true})일 때만 검사한다. 이때는 여러 번 잰 최솟값을 쓴다.
+ */
+class PipelineScalingTest {
+
+    private static final int RUNS = 3;
+    private static final boolean CHECK_TIME = Boolean.getBoolean("scaling.timing");
+    /** 크기 8배에서 허용하는 최대 증가 배수. 선형(8배)의 2배 */
+    private static final double MAX_GROWTH_AT_8X = 16.0;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private record Cost(long nanos, long allocatedBytes) {
+    }
+
+    private static Cost measure(String json) throws Exception {
+        runPipeline(json); // 워밍업
+        long best = Long.MAX_VALUE;
+        long allocated = 0;
+        for (int i = 0; i < RUNS; i++) {
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            runPipeline(json);
+            best = Math.min(best, System.nanoTime() - start);
+            allocated = allocatedBytes() - allocatedBefore;
+        }
+        return new Cost(best, allocated);
+    }
+
+    private static void runPipeline(String json) throws Exception {
+        JsonNode root = MAPPER.readTree(json);
+        SchemaNode schema = new JsonAnalyzer().analyze(root);
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Root");
+        ModelGraph graph = ModelGraph.from(schema, typeMap, "com.example.dto", "Root");
+        new ClassGenerator(GenerationOptions.defaults())
+                .generateAllFromModelGraph(graph, false, className -> Writer.nullWriter());
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getCurrentThreadAllocatedBytes();
+    }
+
+    private static void assertRoughlyLinear(Cost small, Cost large) {
+        assertThat((double) large.allocatedBytes() / small.allocatedBytes()).isLessThan(MAX_GROWTH_AT_8X);
+        if (CHECK_TIME) {
+            assertThat((double) large.nanos() / small.nanos()).isLessThan(MAX_GROWTH_AT_8X);
+        }
+    }
+
+    @Test
+    void 레코드_수가_8배가_되어도_비용은_대략_선형으로_늘어난다() throws Exception {
+        CorpusSpec spec = CorpusSpec.defaults().withDepth(3).withWidth(8).withOptionalRate(0.2).withUnionRate(0.05);
+
+        Cost small = measure(new CorpusGenerator(spec.withRecords(500)).json());
+        Cost large = measure(new CorpusGenerator(spec.withRecords(4000)).json());
+
+        assertRoughlyLinear(small, large);
+    }
+
+    @Test
+    void 객체_너비가_8배가_되어도_비용은_대략_선형으로_늘어난다() throws Exception {
+        // 선택 필드가 많으면 병합할 때마다 한쪽에만 있는 필드가 생긴다. (필드마다 전체를 다시 훑으면 제곱 시간)
+        CorpusSpec spec = CorpusSpec.defaults().withRecords(40).withDepth(1).withOptionalRate(0.5);
+
+        Cost small = measure(new CorpusGenerator(spec.withWidth(250)).json());
+        Cost large = measure(new CorpusGenerator(spec.withWidth(2000)).json());
+
+        assertRoughlyLinear(small, large);
+    }
+
+    @Test
+    void 키_종류가_8배가_되어도_비용은_대략_선형으로_늘어난다() throws Exception {
+        CorpusSpec spec = CorpusSpec.defaults().withRecords(2000).withDepth(2);
+
+        Cost small = measure(new CorpusGenerator(spec.withKeyCardinality(64)).json());
+        Cost large = measure(new CorpusGenerator(spec.withKeyCardinality(512)).json());
+
+        assertRoughlyLinear(small, large);
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.compiler.InMemoryCompiler;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchiveWriterTest {
+    private static final String SAMPLE_JSON = "{"
+            + "\"location\": { \"name\": \"Seoul\" },"
+            + "\"temp_c\": 21.3"
+            + "}";
+
+    private final ClassGenerator generator = new ClassGenerator(GenerationOptions.defaults());
+
+    private ModelGraph buildGraph() throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(SAMPLE_JSON));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Weather");
+        return ModelGraph.from(schema, typeMap, "com.example.dto", "Weather");
+    }
+
+    private static List<String> entryNames(Path archive) throws Exception {
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            List<String> names = new ArrayList<>();
+            zip.stream().map(ZipEntry::getName).forEach(names::add);
+            return names;
+        }
+    }
+
+    @Test
+    void 소스를_패키지_디렉터리_구조의_엔트리로_스트리밍_기록한다() throws Exception {
+        ModelGraph graph = buildGraph();
+        Path archive = Files.createTempFile("weather-", ".srcjar");
+
+        int written;
+        try (ArchiveWriter writer = ArchiveWriter.sources(archive)) {
+            written = generator.generateAllFromModelGraph(graph, false, writer.sinkFor("com.example.dto"));
+        }
+
+        assertThat(written).isEqualTo(2);
+        assertThat(entryNames(archive)).containsExactly(
+                "com/", "com/example/", "com/example/dto/",
+                "com/example/dto/WeatherLocation.java", "com/example/dto/Weather.java");
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            String source = new String(zip.getInputStream(zip.getEntry("com/example/dto/Weather.java")).readAllBytes(),
+                    StandardCharsets.UTF_8);
+            assertThat(source).isEqualTo(generator.generateAllFromModelGraph(graph, false).get("Weather"));
+        }
+    }
+
+    @Test
+    void 같은_입력이면_같은_바이트의_아카이브를_만든다() throws Exception {
+        ModelGraph graph = buildGraph();
+        Path first = Files.createTempFile("weather-", ".srcjar");
+        Path second = Files.createTempFile("weather-", ".srcjar");
+
+        try (ArchiveWriter writer = ArchiveWriter.sources(first)) {
+            generator.generateAllFromModelGraph(graph, false, writer.sinkFor("com.example.dto"));
+        }
+        try (ArchiveWriter writer = ArchiveWriter.sources(second)) {
+            generator.generateAllFromModelGraph(graph, false, writer.sinkFor("com.example.dto"));
+        }
+
+        assertThat(Files.readAllBytes(second)).isEqualTo(Files.readAllBytes(first));
+    }
+
+    @Test
+    void 컴파일된_클래스를_manifest와_함께_jar로_기록한다() throws Exception {
+        Map<String, String> sources = generator.generateAllFromModelGraph(buildGraph(), true);
+        Path archive = Files.createTempFile("weather-", ".jar");
+
+        int written;
+        try (InMemoryCompiler compiler = new InMemoryCompiler();
+             ArchiveWriter writer = ArchiveWriter.classes(archive)) {
+            written = writer.writeClasses(compiler.compile(sources));
+        }
+
+        assertThat(written).isEqualTo(2);
+        assertThat(entryNames(archive)).containsExactly(
+                "META-INF/", "META-INF/MANIFEST.MF", "com/", "com/example/", "com/example/dto/",
+                "com/example/dto/Weather.class", "com/example/dto/Weather$WeatherLocation.class");
+    }
+}
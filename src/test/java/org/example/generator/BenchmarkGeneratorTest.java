@@ -0,0 +1,78 @@
+package org.example.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BenchmarkGeneratorTest {
+    private static final String SAMPLE_JSON = "{"
+            + "\"location\": { \"name\": \"Seoul\", \"localtime_epoch\": 1700000000 },"
+            + "\"temp_c\": 21.3"
+            + "}";
+
+    private ModelGraph buildGraph(String json) throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Weather");
+        return ModelGraph.from(schema, typeMap, "com.example.dto", "Weather");
+    }
+
+    @Test
+    void 루트_클래스와_같은_패키지에_databind_tree_map_벤치마크를_생성한다() throws Exception {
+        ModelGraph graph = buildGraph(SAMPLE_JSON);
+
+        String source = new BenchmarkGenerator(GenerationOptions.defaults()).generate(graph, SAMPLE_JSON);
+
+        assertThat(BenchmarkGenerator.className(graph)).isEqualTo("WeatherBenchmark");
+        assertThat(source).startsWith("package com.example.dto;\n");
+        assertThat(source).contains("public class WeatherBenchmark {");
+        assertThat(source).contains("public Weather readDatabind() throws IOException {");
+        assertThat(source).contains("public JsonNode readTree() throws IOException {");
+        assertThat(source).contains("public Map<String, Object> readMap() throws IOException {");
+        assertThat(source).contains("public byte[] writeDatabind() throws IOException {");
+        assertThat(source).doesNotContain("readGenerated").doesNotContain("writeGenerated");
+    }
+
+    @Test
+    void fields_스타일은_필드_접근과_JSON_키_이름_규칙을_설정한다() throws Exception {
+        String source = new BenchmarkGenerator(GenerationOptions.defaults()).generate(buildGraph(SAMPLE_JSON), SAMPLE_JSON);
+
+        assertThat(source).contains(".setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)");
+        assertThat(source).contains(".setPropertyNamingStrategy(new JsonNames())");
+        assertThat(source).contains("Map.entry(\"WeatherLocation.localtimeEpoch\", \"localtime_epoch\")");
+        assertThat(source).contains("Map.entry(\"Weather.tempC\", \"temp_c\")");
+        assertThat(source).doesNotContain("\"WeatherLocation.name\"");
+    }
+
+    @Test
+    void record_스타일은_기본_ObjectMapper를_쓰고_생성된_reader와_writer도_측정한다() throws Exception {
+        GenerationOptions options = GenerationOptions.defaults()
+                .withDtoStyle(GenerationOptions.DtoStyle.RECORD)
+                .withJsonReaders(true)
+                .withJsonWriters(true);
+
+        String source = new BenchmarkGenerator(options).generate(buildGraph(SAMPLE_JSON), SAMPLE_JSON);
+
+        assertThat(source).contains("        mapper = new ObjectMapper();\n");
+        assertThat(source).doesNotContain("JsonNames").doesNotContain("PropertyAccessor");
+        assertThat(source).contains("return Weather.readJson(parser);");
+        assertThat(source).contains("dto.writeJson(generator);");
+    }
+
+    @Test
+    void 긴_fixture는_여러_문자열_상수로_나눠_담는다() throws Exception {
+        String json = "{\"note\": \"" + "a".repeat(BenchmarkGenerator.FIXTURE_CHUNK_CHARS * 2) + "\"}";
+
+        String source = new BenchmarkGenerator(GenerationOptions.defaults()).generate(buildGraph(json), json);
+
+        long chunks = source.lines().filter(line -> line.startsWith("            \"")).count();
+        assertThat(chunks).isEqualTo(3L);
+        assertThat(source).contains("String.join(\"\", FIXTURE)");
+    }
+}
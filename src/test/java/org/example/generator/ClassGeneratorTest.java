@@ -0,0 +1,109 @@
+package org.example.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.exception.UserException;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassGeneratorTest {
+    private static final String SAMPLE_JSON = "{"
+            + "\"location\": { \"name\": \"Seoul\", \"lat\": 37.5 },"
+            + "\"current\": { \"temp_c\": 21.3, \"condition\": { \"text\": \"Sunny\" } },"
+            + "\"tags\": [\"a\", \"b\"]"
+            + "}";
+
+    private final ClassGenerator generator = new ClassGenerator();
+
+    private ModelGraph buildGraph(String json) throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Weather");
+        return ModelGraph.from(schema, typeMap, "com.example.dto", "Weather");
+    }
+
+    private Map<String, String> generateStreaming(ModelGraph graph, boolean innerClasses) {
+        Map<String, StringWriter> writers = new LinkedHashMap<>();
+        int written = generator.generateAllFromModelGraph(graph, innerClasses, className -> {
+            StringWriter writer = new StringWriter();
+            writers.put(className, writer);
+            return writer;
+        });
+
+        Map<String, String> sources = new LinkedHashMap<>();
+        writers.forEach((name, writer) -> sources.put(name, writer.toString()));
+        assertThat(written).isEqualTo(sources.size());
+        return sources;
+    }
+
+    @Test
+    void 스트리밍_생성_결과는_Map_생성_결과와_같다() throws Exception {
+        ModelGraph graph = buildGraph(SAMPLE_JSON);
+
+        Map<String, String> expected = generator.generateAllFromModelGraph(graph, false);
+        Map<String, String> actual = generateStreaming(graph, false);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.keySet()).containsExactlyElementsOf(expected.keySet());
+    }
+
+    @Test
+    void 파일을_쓸_수_없으면_파일_경로를_알려_준다() throws Exception {
+        Path missing = Files.createTempDirectory("out-").resolve("missing");
+        SourceSink sink = new FileWriter().sinkFor(missing);
+
+        assertThatThrownBy(() -> generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false, sink))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining(missing.resolve("WeatherLocation.java").toString());
+    }
+
+    @Test
+    void 이너_클래스_모드의_스트리밍_결과도_Map_생성_결과와_같다() throws Exception {
+        ModelGraph graph = buildGraph(SAMPLE_JSON);
+
+        Map<String, String> expected = generator.generateAllFromModelGraph(graph, true);
+        Map<String, String> actual = generateStreaming(graph, true);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual).hasSize(1);
+    }
+
+    @Test
+    void 이너_클래스의_필드는_한_단계_더_들여쓴다() throws Exception {
+        ModelGraph graph = buildGraph(SAMPLE_JSON);
+
+        String source = generator.generateAllFromModelGraph(graph, true).get("Weather");
+
+        assertThat(source).contains("    public static class WeatherLocation {\n\n        private String name;\n");
+        assertThat(source).contains("    private List<String> tags;\n");
+        assertThat(source).startsWith("package com.example.dto;\n\nimport java.util.List;\n");
+    }
+
+    @Test
+    void 병렬_생성_결과는_순차_생성과_순서와_내용이_같다() throws Exception {
+        ModelGraph graph = buildGraph(SAMPLE_JSON);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Map<String, String> expected = generator.generateAllFromModelGraph(graph, false);
+            Map<String, String> actual = generator.generateAllFromModelGraphInParallel(graph, false, executor);
+
+            assertThat(actual).isEqualTo(expected);
+            assertThat(actual.keySet()).containsExactlyElementsOf(expected.keySet());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.example.generator;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.StringWriter;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CodeFormatterTest {
@@ -35,4 +37,28 @@ class CodeFormatterTest {
         // 중간의 연속된 빈 줄은 하나로 줄이고, 마지막에도 빈 줄 1개 존재
         assertThat(result).isEqualTo("class A {\n\n    int x;\n}\n\n");
     }
+
+    @Test
+    void 공백만_있는_줄은_빈_줄로_취급한다() {
+        String src = "a\n  \t \n\t\nb";
+        String result = formatter.format(src);
+
+        assertThat(result).isEqualTo("a\n\nb\n");
+    }
+
+    @Test
+    void Writer로_나누어_기록해도_format과_같은_결과를_낸다() throws Exception {
+        String src = "class A {  \r\n\r\n\r\n    int x;\t\r    int y;\r\n}";
+        StringWriter out = new StringWriter();
+
+        // CRLF가 write 호출 경계에 걸치도록 한 글자씩 기록한다.
+        try (FormattingWriter writer = formatter.formatting(out)) {
+            for (int i = 0; i < src.length(); i++) {
+                writer.write(src.charAt(i));
+            }
+        }
+
+        assertThat(out.toString()).isEqualTo(formatter.format(src));
+        assertThat(out.toString()).isEqualTo("class A {\n\n    int x;\n    int y;\n}\n");
+    }
 }
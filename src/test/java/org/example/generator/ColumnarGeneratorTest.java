@@ -0,0 +1,89 @@
+package org.example.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.compiler.CompiledClasses;
+import org.example.compiler.InMemoryCompiler;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarGeneratorTest {
+    private static final String SAMPLE_JSON = "{"
+            + "\"location\": { \"name\": \"Seoul\" },"
+            + "\"hours\": [ { \"time\": \"00:00\", \"temp\": 1.5, \"rain\": true }, { \"time\": \"01:00\", \"temp\": 2.5 } ]"
+            + "}";
+
+    private final ClassGenerator generator = new ClassGenerator(GenerationOptions.defaults().withColumnar(true));
+
+    private ModelGraph buildGraph(String json) throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Weather");
+        return ModelGraph.from(schema, typeMap, "com.example.dto", "Weather");
+    }
+
+    @Test
+    void 리스트_원소_클래스에만_열_컨테이너를_생성하고_reader도_함께_생성한다() throws Exception {
+        Map<String, String> sources = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false);
+
+        assertThat(sources).containsKey("WeatherHoursItemColumns");
+        assertThat(sources).doesNotContainKey("WeatherLocationColumns");
+        assertThat(sources).doesNotContainKey("WeatherColumns");
+        assertThat(sources.get("WeatherHoursItem")).contains("public static WeatherHoursItem readJson(JsonParser parser)");
+    }
+
+    @Test
+    void 숫자는_원시_배열에_불리언과_존재_여부는_비트_집합에_저장한다() throws Exception {
+        String source = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("WeatherHoursItemColumns");
+
+        assertThat(source).contains("private double[] temp = new double[0];");
+        assertThat(source).contains("private long[] rain = new long[0];");
+        assertThat(source).contains("private long[] rain$present = new long[0];");
+        assertThat(source).contains("case \"temp\" -> temp[$row] = JsonReadSupport.readDoubleValue($parser);");
+        assertThat(source).contains("case \"time\" -> time[$row] = share(JsonReadSupport.readString($parser));");
+        assertThat(source).contains("rain$present[$row >>> 6] |= 1L << $row;");
+        assertThat(source).contains("public double[] tempColumn() {");
+    }
+
+    @Test
+    void 커서는_compact_배치와_같은_접근자_규칙을_따른다() throws Exception {
+        String source = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("WeatherHoursItemColumns");
+
+        assertThat(source).contains("public final class Cursor {");
+        assertThat(source).contains("        public double getTemp() {\n            return temp[$row];\n        }");
+        assertThat(source).contains("        public boolean hasRain() {");
+        assertThat(source).contains("return hasRain() ? (rain[$row >>> 6] & (1L << $row)) != 0 : null;");
+    }
+
+    @Test
+    void Object_필드의_커서_접근자는_캐스트하지_않는다() throws Exception {
+        String json = "{\"rows\": [ { \"value\": 1, \"tags\": [\"a\"] }, { \"value\": \"x\", \"tags\": [] } ]}";
+        String source = generator.generateAllFromModelGraph(buildGraph(json), false).get("WeatherRowsItemColumns");
+
+        assertThat(source).contains("        public Object getValue() {\n            return value[$row];\n        }");
+        assertThat(source).contains("return (List<String>) tags[$row];");
+    }
+
+    @Test
+    void 원소_키가_컨테이너의_내부_이름과_같아도_컴파일된다() throws Exception {
+        String json = "{\"users\": [ { \"id\": 1, \"name\": \"kim\", \"size\": 3, \"capacity\": 2.5,"
+                + " \"strings\": \"a\", \"row\": 1, \"parser\": \"p\", \"field\": true, \"token\": \"t\","
+                + " \"words\": 2, \"rank\": 1, \"rank_present\": false },"
+                + " { \"id\": 2, \"name\": \"lee\" } ]}";
+        Map<String, String> sources = generator.generateAllFromModelGraph(buildGraph(json), false);
+
+        try (InMemoryCompiler compiler = new InMemoryCompiler()) {
+            CompiledClasses compiled = compiler.compile(sources);
+
+            assertThat(compiled.classNames()).contains("com.example.dto.WeatherUsersItemColumns");
+        }
+        assertThat(sources.get("WeatherUsersItemColumns"))
+                .contains("case \"name\" -> name[$row] = share(JsonReadSupport.readString($parser));")
+                .contains("return hasRow() ? row[$row] : null;");
+    }
+}
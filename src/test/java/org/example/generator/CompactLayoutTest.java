@@ -0,0 +1,81 @@
+package org.example.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactLayoutTest {
+    // temp, ok는 항상 있고, rain/humidity는 한 샘플에서 누락된다.
+    private static final String SAMPLE_JSON = "{ \"hours\": ["
+            + "{ \"time\": \"00:00\", \"temp\": 1.5, \"ok\": true, \"rain\": false, \"humidity\": 3 },"
+            + "{ \"time\": \"01:00\", \"temp\": 2.5, \"ok\": false }"
+            + "] }";
+
+    private final ClassGenerator generator = new ClassGenerator(
+            GenerationOptions.defaults().withLayout(GenerationOptions.Layout.COMPACT));
+
+    private ModelGraph buildGraph(String json) throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Weather");
+        return ModelGraph.from(schema, typeMap, "com.example.dto", "Weather");
+    }
+
+    private String generateHour() throws Exception {
+        return generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("WeatherHoursItem");
+    }
+
+    @Test
+    void 숫자는_원시_타입으로_불리언은_비트로_묶어_선언한다() throws Exception {
+        String source = generateHour();
+
+        assertThat(source).contains("    private String time;\n");
+        assertThat(source).contains("    private double temp;\n");
+        assertThat(source).contains("    private double humidity;\n");
+        assertThat(source).contains("    private long presenceBits0;\n");
+        assertThat(source).contains("    private long booleanBits0;\n");
+        assertThat(source).doesNotContain("private Boolean");
+        assertThat(source).doesNotContain("private Double");
+    }
+
+    @Test
+    void 항상_관찰된_필드는_원시_접근자를_생성한다() throws Exception {
+        String source = generateHour();
+
+        assertThat(source).contains("    public double getTemp() {\n        return temp;\n    }\n");
+        assertThat(source).contains("    public boolean getOk() {\n        return (booleanBits0 & (1L << 0)) != 0;\n    }\n");
+        assertThat(source).doesNotContain("hasTemp()");
+    }
+
+    @Test
+    void 선택_필드는_존재_비트로_null_의미를_유지한다() throws Exception {
+        String source = generateHour();
+
+        assertThat(source).contains("    public boolean hasRain() {\n        return (presenceBits0 & (1L << 0)) != 0;\n    }\n");
+        assertThat(source).contains("    public Boolean getRain() {\n"
+                + "        return hasRain() ? (booleanBits0 & (1L << 1)) != 0 : null;\n    }\n");
+        assertThat(source).contains("    public Double getHumidity() {\n        return hasHumidity() ? humidity : null;\n    }\n");
+        assertThat(source).contains("            presenceBits0 &= ~(1L << 1);\n");
+    }
+
+    @Test
+    void 스트리밍_코덱은_접근자를_통해_값을_읽고_쓴다() throws Exception {
+        ClassGenerator codec = new ClassGenerator(GenerationOptions.defaults()
+                .withLayout(GenerationOptions.Layout.COMPACT)
+                .withJsonReaders(true)
+                .withJsonWriters(true));
+
+        String source = codec.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("WeatherHoursItem");
+
+        assertThat(source).contains("result.setTemp(JsonReadSupport.readDoubleValue(parser));");
+        assertThat(source).contains("result.setRain(JsonReadSupport.readBoolean(parser));");
+        assertThat(source).contains("        generator.writeNumber(getTemp());\n");
+        assertThat(source).contains("        if (hasHumidity()) {\n");
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImmutableStyleTest {
+    private static final String SAMPLE_JSON = "{"
+            + "\"location\": { \"name\": \"Seoul\", \"temp_c\": 21.5 },"
+            + "\"tags\": [\"a\"]"
+            + "}";
+
+    private ModelGraph buildGraph(String json) throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Weather");
+        return ModelGraph.from(schema, typeMap, "com.example.dto", "Weather");
+    }
+
+    private Map<String, String> generate(GenerationOptions.DtoStyle style, boolean innerClasses) throws Exception {
+        ClassGenerator generator = new ClassGenerator(GenerationOptions.defaults().withDtoStyle(style));
+        return generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), innerClasses);
+    }
+
+    @Test
+    void record_스타일은_JsonProperty_컴포넌트를_가진_레코드를_생성한다() throws Exception {
+        String source = generate(GenerationOptions.DtoStyle.RECORD, false).get("WeatherLocation");
+
+        assertThat(source).contains("import com.fasterxml.jackson.annotation.JsonProperty;\n");
+        assertThat(source).contains("public record WeatherLocation(\n"
+                + "        @JsonProperty(\"name\") String name,\n"
+                + "        @JsonProperty(\"temp_c\") Double tempC\n"
+                + ") {");
+        assertThat(source).doesNotContain("private String name;");
+    }
+
+    @Test
+    void constructor_스타일은_final_필드와_JsonCreator_생성자와_getter를_생성한다() throws Exception {
+        String source = generate(GenerationOptions.DtoStyle.CONSTRUCTOR, false).get("WeatherLocation");
+
+        assertThat(source).contains("public final class WeatherLocation {");
+        assertThat(source).contains("    @JsonProperty(\"temp_c\")\n    private final Double tempC;");
+        assertThat(source).contains("    @JsonCreator\n"
+                + "    public WeatherLocation(@JsonProperty(\"name\") String name,\n"
+                + "                           @JsonProperty(\"temp_c\") Double tempC) {\n"
+                + "        this.name = name;\n"
+                + "        this.tempC = tempC;\n"
+                + "    }");
+        assertThat(source).contains("    public Double getTempC() {\n        return tempC;\n    }");
+    }
+
+    @Test
+    void 이너_클래스_모드에서는_중첩_레코드로_생성된다() throws Exception {
+        Map<String, String> sources = generate(GenerationOptions.DtoStyle.RECORD, true);
+
+        assertThat(sources).hasSize(1);
+        assertThat(sources.get("Weather"))
+                .contains("public record Weather(\n")
+                .contains("    public record WeatherLocation(\n"
+                        + "            @JsonProperty(\"name\") String name,\n"
+                        + "            @JsonProperty(\"temp_c\") Double tempC\n"
+                        + "    ) {");
+    }
+
+    @Test
+    void 불변_DTO의_reader는_값을_모아_생성자를_한_번_호출한다() throws Exception {
+        ClassGenerator generator = new ClassGenerator(GenerationOptions.defaults()
+                .withJsonReaders(true)
+                .withDtoStyle(GenerationOptions.DtoStyle.RECORD));
+
+        String source = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("WeatherLocation");
+
+        assertThat(source).contains("        String f0 = null;\n        Double f1 = null;\n");
+        assertThat(source).contains("case \"temp_c\" -> f1 = JsonReadSupport.readDouble(parser);");
+        assertThat(source).contains("return new WeatherLocation(f0, f1);");
+        assertThat(source).doesNotContain("result");
+    }
+
+    @Test
+    void compact_배치와_함께_쓸_수_없다() {
+        assertThatThrownBy(() -> GenerationOptions.defaults()
+                .withLayout(GenerationOptions.Layout.COMPACT)
+                .withDtoStyle(GenerationOptions.DtoStyle.RECORD))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.generator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.compiler.CompiledClasses;
+import org.example.compiler.InMemoryCompiler;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonCodecGeneratorTest {
+    private static final String SAMPLE_JSON = "{"
+            + "\"location\": { \"lat\": 37.5, \"name\": \"Seoul\" },"
+            + "\"matrix\": [[1, 2]],"
+            + "\"days\": [ { \"temp\": 1.5, \"rain\": true }, { \"temp\": 2.5 } ]"
+            + "}";
+
+    private final ClassGenerator generator = new ClassGenerator(GenerationOptions.defaults().withJsonReaders(true));
+
+    private ModelGraph buildGraph(String json) throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Weather");
+        return ModelGraph.from(schema, typeMap, "com.example.dto", "Weather");
+    }
+
+    @Test
+    void 빠른_경로는_관찰된_키_순서로_이름을_맞춰_본다() throws Exception {
+        String source = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("WeatherLocation");
+
+        assertThat(source).contains("private static final SerializedString JSON_NAME_LAT = new SerializedString(\"lat\");");
+        assertThat(source).contains("public static WeatherLocation readJson(JsonParser parser) throws IOException {");
+        assertThat(source.indexOf("parser.nextFieldName(JSON_NAME_LAT)"))
+                .isLessThan(source.indexOf("parser.nextFieldName(JSON_NAME_NAME)"));
+        assertThat(source).contains("case \"name\" -> result.name = JsonReadSupport.readString(parser);");
+        assertThat(source).contains("default -> parser.skipChildren();");
+        assertThat(source).contains("import com.fasterxml.jackson.core.JsonParser;\n");
+    }
+
+    @Test
+    void 중첩_클래스와_리스트는_생성된_reader로_직접_읽는다() throws Exception {
+        String source = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("Weather");
+
+        assertThat(source).contains("result.location = WeatherLocation.readJson(parser);");
+        assertThat(source).contains("result.days = JsonReadSupport.readList(parser, WeatherDaysItem::readJson);");
+        assertThat(source).contains(
+                "JsonReadSupport.readList(parser, p1 -> JsonReadSupport.readList(p1, JsonReadSupport::readDouble));");
+    }
+
+    @Test
+    void 지원_클래스는_모드에_따라_별도_파일_또는_이너_클래스로_생성된다() throws Exception {
+        ModelGraph graph = buildGraph(SAMPLE_JSON);
+
+        Map<String, String> flat = generator.generateAllFromModelGraph(graph, false);
+        Map<String, String> inner = generator.generateAllFromModelGraph(graph, true);
+
+        assertThat(flat).containsKey("JsonReadSupport");
+        assertThat(flat.get("JsonReadSupport")).contains("public class JsonReadSupport {");
+        assertThat(inner).hasSize(1);
+        assertThat(inner.get("Weather")).contains("    public static class JsonReadSupport {");
+        assertThat(inner.get("Weather")).contains("        public static WeatherLocation readJson(JsonParser parser)");
+    }
+
+    @Test
+    void 옵션을_끄면_필드만_생성한다() throws Exception {
+        ModelGraph graph = buildGraph(SAMPLE_JSON);
+
+        Map<String, String> sources = new ClassGenerator(GenerationOptions.defaults())
+                .generateAllFromModelGraph(graph, false);
+
+        assertThat(sources).isEqualTo(new ClassGenerator().generateAllFromModelGraph(graph, false));
+        assertThat(sources).doesNotContainKey("JsonReadSupport");
+    }
+
+    @Test
+    void writer는_미리_인코딩된_키_이름을_쓰고_nullable_필드는_null이면_생략한다() throws Exception {
+        ClassGenerator codec = new ClassGenerator(
+                GenerationOptions.defaults().withJsonReaders(true).withJsonWriters(true));
+
+        String item = codec.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("WeatherDaysItem");
+
+        assertThat(item).contains("    public void writeJson(JsonGenerator generator) throws IOException {");
+        assertThat(item).contains("        generator.writeFieldName(JSON_NAME_TEMP);\n"
+                + "        JsonWriteSupport.writeDouble(generator, this.temp);\n");
+        assertThat(item).contains("        if (this.rain != null) {\n"
+                + "            generator.writeFieldName(JSON_NAME_RAIN);\n"
+                + "            JsonWriteSupport.writeBoolean(generator, this.rain);\n"
+                + "        }\n");
+        // reader와 writer가 같은 상수를 공유한다.
+        assertThat(item.indexOf("JSON_NAME_TEMP = new SerializedString"))
+                .isEqualTo(item.lastIndexOf("JSON_NAME_TEMP = new SerializedString"));
+    }
+
+    @Test
+    void writer만_생성하면_중첩_클래스와_리스트를_생성된_writer로_기록한다() throws Exception {
+        ClassGenerator codec = new ClassGenerator(GenerationOptions.defaults().withJsonWriters(true));
+
+        Map<String, String> sources = codec.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false);
+        String root = sources.get("Weather");
+
+        assertThat(root).contains("WeatherLocation.writeJson(generator, this.location);");
+        assertThat(root).contains("JsonWriteSupport.writeList(generator, this.days, WeatherDaysItem::writeJson);");
+        assertThat(root).contains("JsonWriteSupport.writeList(generator, this.matrix, "
+                + "(g1, v1) -> JsonWriteSupport.writeList(g1, v1, JsonWriteSupport::writeDouble));");
+        assertThat(root).doesNotContain("readJson");
+        assertThat(sources).containsKey("JsonWriteSupport");
+        assertThat(sources).doesNotContainKey("JsonReadSupport");
+    }
+
+    @Test
+    void writer_파라미터와_같은_이름의_필드도_컴파일되고_기록된다() throws Exception {
+        String json = "{\"title\":\"feed\",\"generator\":\"Hugo\",\"value\":\"v\"}";
+        ClassGenerator codec = new ClassGenerator(
+                GenerationOptions.defaults().withJsonReaders(true).withJsonWriters(true));
+        Map<String, String> sources = codec.generateAllFromModelGraph(buildGraph(json), false);
+
+        JsonFactory factory = new JsonFactory();
+        try (InMemoryCompiler compiler = new InMemoryCompiler()) {
+            CompiledClasses compiled = compiler.compile(sources);
+            Class<?> weatherClass = compiled.load("com.example.dto.Weather");
+            Object weather;
+            try (JsonParser parser = factory.createParser(json)) {
+                weather = weatherClass.getMethod("readJson", JsonParser.class).invoke(null, parser);
+            }
+
+            StringWriter out = new StringWriter();
+            try (JsonGenerator generator = factory.createGenerator(out)) {
+                weatherClass.getMethod("writeJson", JsonGenerator.class).invoke(weather, generator);
+            }
+            assertThat(out.toString()).isEqualTo(json);
+        }
+    }
+
+    @Test
+    void 원시_배열_필드는_박싱_없이_읽고_쓴다() throws Exception {
+        String json = "{ \"samples\": [1.5, 2], \"counts\": [1, 2], \"matrix\": [[1, 2]] }";
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer(null, true).inferTypes(schema, "Series");
+        ModelGraph graph = ModelGraph.from(schema, typeMap, "com.example.dto", "Series");
+        ClassGenerator codec = new ClassGenerator(GenerationOptions.defaults().withJsonReaders(true).withJsonWriters(true));
+
+        Map<String, String> sources = codec.generateAllFromModelGraph(graph, false);
+        String root = sources.get("Series");
+
+        assertThat(root).contains("private double[] samples;");
+        assertThat(root).contains("private List<int[]> matrix;");
+        assertThat(root).contains("case \"counts\" -> result.counts = JsonReadSupport.readIntArray(parser);");
+        assertThat(root).contains("JsonReadSupport.readList(parser, JsonReadSupport::readIntArray)");
+        assertThat(root).contains("JsonWriteSupport.writeDoubleArray(generator, this.samples);");
+        assertThat(sources.get("JsonReadSupport")).contains("public static double[] readDoubleArray(JsonParser parser)");
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.compiler.CompiledClasses;
+import org.example.compiler.InMemoryCompiler;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyDtoGeneratorTest {
+    private static final String SAMPLE_JSON = "{"
+            + "\"location\": { \"name\": \"Seoul\", \"lat\": 37.5 },"
+            + "\"tags\": [\"a\", \"b\"],"
+            + "\"days\": [ { \"temp\": 1.5 } ]"
+            + "}";
+
+    private final ClassGenerator generator = new ClassGenerator(GenerationOptions.defaults().withLazyDtos(true));
+
+    private ModelGraph buildGraph(String json) throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Weather");
+        return ModelGraph.from(schema, typeMap, "com.example.dto", "Weather");
+    }
+
+    @Test
+    void 클래스마다_지연_짝_클래스와_지원_클래스를_한_번씩_생성한다() throws Exception {
+        Map<String, String> sources = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false);
+
+        assertThat(sources.keySet()).containsExactly(
+                "WeatherLocation", "WeatherDaysItem", "Weather",
+                "LazyWeatherLocation", "LazyWeatherDaysItem", "LazyWeather",
+                "JsonReadSupport", "JsonLazySupport"
+        );
+        assertThat(sources.get("Weather")).isEqualTo(new ClassGenerator().generateAllFromModelGraph(
+                buildGraph(SAMPLE_JSON), false).get("Weather"));
+    }
+
+    @Test
+    void 구조_패스는_값의_위치만_기록한다() throws Exception {
+        String source = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("LazyWeatherLocation");
+
+        assertThat(source).contains("private final int[] $offsets = new int[4];");
+        assertThat(source).contains("static LazyWeatherLocation index(JsonParser parser, byte[] source, int base) throws IOException {");
+        assertThat(source).contains("case \"lat\" -> JsonLazySupport.skipValue(parser, base, result.$offsets, 2);");
+        assertThat(source).contains("public static LazyWeatherLocation of(ByteBuffer buffer) {");
+    }
+
+    @Test
+    void getter는_처음_호출될_때_디코딩하고_중첩_클래스는_지연_클래스로_색인한다() throws Exception {
+        String source = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("LazyWeather");
+
+        assertThat(source).contains("public LazyWeatherLocation getLocation() {");
+        assertThat(source).contains(
+                "location = JsonLazySupport.decode($source, $offsets[0], $offsets[1], "
+                        + "parser -> LazyWeatherLocation.index(parser, $source, $offsets[0]));");
+        assertThat(source).contains("public List<LazyWeatherDaysItem> getDays() {");
+        assertThat(source).contains(
+                "parser -> JsonReadSupport.readList(parser, p1 -> LazyWeatherDaysItem.index(p1, $source, $offsets[4])));");
+        assertThat(source).contains("if (($decoded0 & (1L << 1)) == 0) {");
+
+        String location = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), false).get("LazyWeatherLocation");
+        assertThat(location).contains("name = JsonLazySupport.readString($source, $offsets[0], $offsets[1]);");
+    }
+
+    @Test
+    void 키가_내부_필드_이름과_같아도_컴파일되고_값을_읽는다() throws Exception {
+        String json = "{\"source\": \"rss\", \"offsets\": [1, 2], \"decoded0\": true, \"base\": 3}";
+        Map<String, String> sources = generator.generateAllFromModelGraph(buildGraph(json), false);
+
+        try (InMemoryCompiler compiler = new InMemoryCompiler()) {
+            CompiledClasses compiled = compiler.compile(sources);
+            Class<?> lazy = compiled.load("com.example.dto.LazyWeather");
+            Object weather = lazy.getMethod("of", byte[].class)
+                    .invoke(null, (Object) json.getBytes(StandardCharsets.UTF_8));
+
+            assertThat(lazy.getMethod("getSource").invoke(weather)).isEqualTo("rss");
+            assertThat(lazy.getMethod("getDecoded0").invoke(weather)).isEqualTo(true);
+        }
+    }
+
+    @Test
+    void 이너_클래스_모드에서는_루트_클래스_안에_생성된다() throws Exception {
+        Map<String, String> sources = generator.generateAllFromModelGraph(buildGraph(SAMPLE_JSON), true);
+
+        assertThat(sources).hasSize(1);
+        assertThat(sources.get("Weather"))
+                .contains("    public static class LazyWeatherLocation {")
+                .contains("    public static class JsonLazySupport {");
+    }
+}
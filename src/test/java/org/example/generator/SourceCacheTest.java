@@ -0,0 +1,72 @@
+package org.example.generator;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SourceCacheTest {
+
+    private final List<String> opened = new ArrayList<>();
+
+    private final SourceSink target = className -> {
+        opened.add(className);
+        return new StringWriter();
+    };
+
+    private static void emit(SourceSink sink, String className, String source) throws Exception {
+        try (Writer writer = sink.open(className)) {
+            writer.write(source);
+        }
+    }
+
+    @Test
+    void 내용이_바뀐_클래스만_출력_대상에_기록한다() throws Exception {
+        SourceCache cache = new SourceCache();
+
+        SourceSink first = cache.begin(target);
+        emit(first, "Root", "class Root {}");
+        emit(first, "User", "class User {}");
+        assertThat(cache.finish()).isEmpty();
+        assertThat(cache.written()).isEqualTo(2);
+        assertThat(opened).containsExactly("Root", "User");
+
+        opened.clear();
+        SourceSink second = cache.begin(target);
+        emit(second, "Root", "class Root { int id; }");
+        emit(second, "User", "class User {}");
+        cache.finish();
+
+        assertThat(opened).containsExactly("Root");
+        assertThat(cache.written()).isEqualTo(1);
+        assertThat(cache.unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    void 이번에_생성되지_않은_클래스를_삭제_대상으로_돌려준다() throws Exception {
+        SourceCache cache = new SourceCache();
+        SourceSink first = cache.begin(target);
+        emit(first, "Root", "class Root {}");
+        emit(first, "User", "class User {}");
+        cache.finish();
+
+        SourceSink second = cache.begin(target);
+        emit(second, "Root", "class Root {}");
+
+        assertThat(cache.finish()).containsExactly("User");
+        assertThat(cache.removed()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+
+        // 지운 클래스가 다시 생성되면 내용이 같아도 다시 기록한다.
+        opened.clear();
+        SourceSink third = cache.begin(target);
+        emit(third, "Root", "class Root {}");
+        emit(third, "User", "class User {}");
+        cache.finish();
+        assertThat(opened).containsExactly("User");
+    }
+}
@@ -44,4 +44,43 @@ class TemplateTest {
 
         assertThat(result).isEqualTo("Hello, ${name");
     }
+
+    @Test
+    void 같은_이름의_플레이스홀더는_하나의_슬롯을_공유한다() {
+        Template t = new Template("${a}-${b}-${a}");
+
+        assertThat(t.slotCount()).isEqualTo(2);
+        assertThat(t.slotIndex("a")).isEqualTo(0);
+        assertThat(t.slotIndex("b")).isEqualTo(1);
+        assertThat(t.slotIndex("c")).isEqualTo(-1);
+    }
+
+    @Test
+    void 값_배열로_렌더링하면_버퍼_뒤에_이어_붙인다() {
+        Template t = new Template("private ${type} ${name};");
+        CharSequence[] values = new CharSequence[t.slotCount()];
+        StringBuilder out = new StringBuilder("// ");
+
+        values[t.slotIndex("type")] = "String";
+        values[t.slotIndex("name")] = "city";
+        t.renderTo(out, values);
+
+        assertThat(out.toString()).isEqualTo("// private String city;");
+    }
+
+    @Test
+    void 값이_없는_슬롯은_플레이스홀더를_그대로_남긴다() throws Exception {
+        Template t = new Template("${known} ${unknown}");
+        StringBuilder out = new StringBuilder();
+
+        t.renderTo(out, (slot, target) -> {
+            if (slot == t.slotIndex("known")) {
+                target.append("ok");
+                return true;
+            }
+            return false;
+        });
+
+        assertThat(out.toString()).isEqualTo("ok ${unknown}");
+    }
 }
@@ -2,6 +2,10 @@ package org.example.json;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DefaultNameConverterTest {
@@ -34,4 +38,45 @@ class DefaultNameConverterTest {
         assertThat(converter.toCamelCase(null)).isNull();
         assertThat(converter.toCamelCase("")).isEmpty();
     }
+
+    /** 정규식으로 구현했던 이전 변환 결과. 새 구현은 모든 입력에서 이와 같아야 한다. */
+    private static String legacyPascalCase(String s) {
+        if (s == null || s.isEmpty()) return s;
+        String[] parts = s.replaceAll("[^A-Za-z0-9]+", " ").trim().split("\\s+");
+        StringBuilder sb = new StringBuilder();
+        for (String p : parts) {
+            if (p.isEmpty()) continue;
+            sb.append(Character.toUpperCase(p.charAt(0)));
+            if (p.length() > 1) sb.append(p.substring(1));
+        }
+        return sb.toString();
+    }
+
+    private static String legacyCamelCase(String s) {
+        String pascal = legacyPascalCase(s);
+        if (pascal == null || pascal.isEmpty()) return pascal;
+        return Character.toLowerCase(pascal.charAt(0)) + pascal.substring(1);
+    }
+
+    @Test
+    void 정규식_구현과_모든_입력에서_같은_결과를_낸다() {
+        List<String> inputs = new ArrayList<>(List.of(
+                "temp_c", "tempC", "TempC", "URLValue", "__private", "trailing_", "a", "A", "1st_place", "9",
+                "x--y", "  spaced  out ", "ünïcödé_key", "키_이름", "emoji😀key", "tab\tkey", "$ref", "@type", "-", "___"));
+        String alphabet = "abzAZ09_- .$\tü한😀";
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(1, 12);
+            for (int c = 0; c < length; c++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            inputs.add(sb.toString());
+        }
+
+        for (String input : inputs) {
+            assertThat(converter.toPascalCase(input)).as(input).isEqualTo(legacyPascalCase(input));
+            assertThat(converter.toCamelCase(input)).as(input).isEqualTo(legacyCamelCase(input));
+        }
+    }
 }
@@ -85,4 +85,76 @@ class JsonAnalyzerTest {
                         SchemaPrimitive.PKind.STRING
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    void 숫자_원소의_범위는_더_넓은_쪽으로_병합된다() throws Exception {
+        String json = "{ \"ints\": [1, 2], \"longs\": [1, 5000000000], \"doubles\": [1, 2.5] }";
+
+        SchemaObject obj = (SchemaObject) new JsonAnalyzer().analyze(mapper.readTree(json));
+
+        assertThat(singleElement(obj, "ints").numberWidth()).isEqualTo(SchemaPrimitive.NumberWidth.INT);
+        assertThat(singleElement(obj, "longs").numberWidth()).isEqualTo(SchemaPrimitive.NumberWidth.LONG);
+        assertThat(singleElement(obj, "doubles").numberWidth()).isEqualTo(SchemaPrimitive.NumberWidth.DOUBLE);
+    }
+
+    private SchemaPrimitive singleElement(SchemaObject obj, String field) {
+        SchemaArray array = (SchemaArray) obj.fields().get(field).schema();
+        assertThat(array.elementTypes()).hasSize(1);
+        return (SchemaPrimitive) array.elementTypes().iterator().next();
+    }
+
+    @Test
+    void 객체_원소들의_배열_필드는_하나의_원소_스키마로_병합된다() throws Exception {
+        JsonNode node = mapper.readTree("{ \"matrix\": [[1, 2], [3, 4]], \"rows\": [ {\"tags\": [\"a\"]}, {\"tags\": [\"b\"]} ] }");
+
+        SchemaObject root = (SchemaObject) new JsonAnalyzer().analyze(node);
+
+        SchemaArray matrix = (SchemaArray) root.fields().get("matrix").schema();
+        SchemaArray row = (SchemaArray) matrix.elementTypes().iterator().next();
+        assertThat(matrix.elementTypes()).hasSize(1);
+        assertThat(row.elementTypes()).hasSize(1);
+
+        SchemaArray rows = (SchemaArray) root.fields().get("rows").schema();
+        SchemaObject item = (SchemaObject) rows.elementTypes().iterator().next();
+        assertThat(((SchemaArray) item.fields().get("tags").schema()).elementTypes()).hasSize(1);
+    }
+
+    @Test
+    void 유니온은_같은_모양의_변형을_다시_추가하지_않고_병합한다() throws Exception {
+        JsonNode node = mapper.readTree("[1, \"a\", 2.5, \"b\", {\"x\": 1}, {\"y\": true}]");
+
+        SchemaArray array = (SchemaArray) new JsonAnalyzer().analyze(node);
+
+        assertThat(array.elementTypes()).hasSize(3);
+        SchemaObject object = (SchemaObject) array.elementTypes().stream()
+                .filter(SchemaObject.class::isInstance).findFirst().orElseThrow();
+        assertThat(object.fields()).containsKeys("x", "y");
+    }
+
+    @Test
+    void 병합은_입력_트리를_바꾸지_않는다() throws Exception {
+        JsonAnalyzer analyzer = new JsonAnalyzer();
+        SchemaObject left = (SchemaObject) analyzer.analyze(mapper.readTree("{ \"a\": 1, \"b\": [1] }"));
+        SchemaObject right = (SchemaObject) analyzer.analyze(mapper.readTree("{ \"a\": \"x\", \"c\": true }"));
+
+        SchemaObject merged = (SchemaObject) analyzer.merge(left, right);
+
+        assertThat(merged.fields()).containsKeys("a", "b", "c");
+        assertThat(merged.fields().get("a").schema()).isInstanceOf(SchemaUnion.class);
+        assertThat(left.fields().get("a").schema()).isInstanceOf(SchemaPrimitive.class);
+        assertThat(left.fields().get("a").totalSamples()).isEqualTo(1);
+        assertThat(right.fields()).doesNotContainKey("b");
+    }
+
+    @Test
+    void 객체_필드_수는_지정한_한도를_넘지_않는다() throws Exception {
+        JsonAnalyzer analyzer = new JsonAnalyzer(2);
+        SchemaNode first = analyzer.analyze(mapper.readTree("{ \"a\": 1, \"b\": 2, \"c\": 3 }"));
+        SchemaNode second = analyzer.analyze(mapper.readTree("{ \"d\": 1, \"e\": 2 }"));
+
+        SchemaObject merged = (SchemaObject) analyzer.merge(first, second);
+
+        assertThat(((SchemaObject) first).fields()).containsOnlyKeys("a", "b");
+        assertThat(merged.fields()).containsOnlyKeys("a", "b");
+    }
+}
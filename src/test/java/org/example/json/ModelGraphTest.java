@@ -0,0 +1,108 @@
+package org.example.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModelGraphTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private ModelGraph buildGraph(String json, String rootClass) throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(mapper.readTree(json));
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, rootClass);
+        return ModelGraph.from(schema, typeMap, "com.example.dto", rootClass);
+    }
+
+    private ModelGraph.ModelClass find(ModelGraph graph, String simpleName) {
+        return graph.findClass("com.example.dto." + simpleName).orElseThrow();
+    }
+
+    private static ModelGraph.Field field(String name, String type) {
+        return new ModelGraph.Field(name, name, type, false, Set.of());
+    }
+
+    @Test
+    void 필드_타입으로_나가는_엣지와_들어오는_엣지를_구성한다() throws Exception {
+        ModelGraph graph = buildGraph(
+                "{ \"location\": { \"name\": \"Seoul\" }, \"days\": [ { \"temp\": 1.5 } ] }",
+                "Weather"
+        );
+
+        ModelGraph.ModelClass root = graph.getRootClass();
+        ModelGraph.ModelClass location = find(graph, "WeatherLocation");
+        ModelGraph.ModelClass dayItem = find(graph, "WeatherDaysItem");
+
+        assertThat(graph.getDependencies(root)).containsExactly(location, dayItem);
+        assertThat(graph.getDependents(location)).containsExactly(root);
+        assertThat(graph.getDependents(root)).isEmpty();
+    }
+
+    @Test
+    void 위상_정렬은_의존_대상을_먼저_반환한다() throws Exception {
+        ModelGraph graph = buildGraph(
+                "{ \"a\": { \"b\": { \"c\": { \"v\": true } } } }",
+                "Root"
+        );
+
+        List<ModelGraph.ModelClass> order = graph.getTopologicalOrder();
+
+        assertThat(order).hasSize(4);
+        for (ModelGraph.ModelClass modelClass : order) {
+            for (ModelGraph.ModelClass dependency : graph.getDependencies(modelClass)) {
+                assertThat(order.indexOf(dependency)).isLessThan(order.indexOf(modelClass));
+            }
+        }
+        assertThat(graph.getDependencyLevels()).hasSize(4);
+        assertThat(graph.getDependencyLevels().get(3)).containsExactly(graph.getRootClass());
+    }
+
+    @Test
+    void 순환_참조는_하나의_강한_연결_요소로_묶인다() {
+        ModelGraph.ModelClass a = new ModelGraph.ModelClass("p", "A", List.of(field("b", "B")), true);
+        ModelGraph.ModelClass b = new ModelGraph.ModelClass("p", "B", List.of(field("a", "List<A>")), false);
+        ModelGraph.ModelClass c = new ModelGraph.ModelClass("p", "C", List.of(field("a", "A")), false);
+
+        ModelGraph graph = ModelGraph.of(a, List.of(a, b, c));
+
+        assertThat(graph.getStronglyConnectedComponents())
+                .containsExactly(List.of(a, b), List.of(c));
+        assertThat(graph.getDependencyLevels())
+                .containsExactly(List.of(a, b), List.of(c));
+    }
+
+    @Test
+    void 변경된_클래스를_참조하는_클래스만_영향_대상으로_찾는다() throws Exception {
+        ModelGraph graph = buildGraph(
+                "{ \"location\": { \"name\": \"Seoul\" }, \"current\": { \"cond\": { \"text\": \"Sunny\" } } }",
+                "Weather"
+        );
+
+        ModelGraph.ModelClass cond = find(graph, "WeatherCurrentCond");
+        ModelGraph.ModelClass current = find(graph, "WeatherCurrent");
+
+        assertThat(graph.findAffectedClasses(List.of(cond)))
+                .containsExactly(cond, current, graph.getRootClass());
+        assertThat(graph.findAffectedClasses(List.of(find(graph, "WeatherLocation"))))
+                .doesNotContain(current, cond);
+    }
+
+    @Test
+    void 샘플에서_관찰된_키_순서를_필드_순서와_별도로_보관한다() throws Exception {
+        // 선언 순서는 처음 관찰된 순서(a, b, c)지만, 평균 위치는 b(0.33) < a(1.0) < c(1.5) 이다.
+        ModelGraph mixed = buildGraph(
+                "{ \"items\": [ { \"a\": 1, \"b\": 2 }, { \"b\": 2, \"c\": 3, \"a\": 1 }, { \"b\": 2, \"a\": 1, \"c\": 3 } ] }",
+                "Root"
+        );
+        ModelGraph.ModelClass mixedItem = find(mixed, "RootItemsItem");
+
+        assertThat(mixedItem.getFields().stream().map(ModelGraph.Field::getJsonName).toList())
+                .containsExactly("a", "b", "c");
+        assertThat(mixedItem.getObservedFieldOrder().stream().map(ModelGraph.Field::getJsonName).toList())
+                .containsExactly("b", "a", "c");
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.exception.UserException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceGovernorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static SchemaNode analyze(String json, ResourceGovernor governor) throws Exception {
+        return new JsonAnalyzer().analyze(MAPPER.readTree(json), governor);
+    }
+
+    private static SchemaNode field(SchemaNode node, String name) {
+        return ((SchemaObject) node).fields().get(name).schema();
+    }
+
+    private static String keys(int count) {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "" : ",").append("\"k").append(i).append("\":").append(i);
+        }
+        return sb.append('}').toString();
+    }
+
+    @Test
+    void 키가_한도를_넘는_객체는_Map으로_접고_경고를_남긴다() throws Exception {
+        ResourceGovernor governor = new ResourceGovernor(ResourceLimits.unlimited().withMaxKeysPerObject(5));
+
+        SchemaNode schema = analyze("{\"id\":1,\"attrs\":" + keys(10) + "}", governor);
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Root");
+
+        SchemaNode attrs = field(schema, "attrs");
+        assertThat(attrs).isSameAs(SchemaOpaque.map());
+        assertThat(typeMap.get(attrs).getJavaType()).isEqualTo("Map<String, Object>");
+        assertThat(typeMap.get(attrs).getRequiredImports()).containsExactly("java.util.Map");
+        assertThat(governor.warnings()).containsExactly(
+                "[WARN] $.attrs: 객체 키 수(10)가 한도(5)를 넘어 Map<String, Object>로 대체했습니다.");
+    }
+
+    @Test
+    void 루트_객체의_키가_한도를_넘으면_접지_않고_max_keys를_알려_준다() {
+        ResourceGovernor governor = new ResourceGovernor(ResourceLimits.unlimited().withMaxKeysPerObject(5));
+
+        assertThatThrownBy(() -> analyze(keys(10), governor))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--max-keys 한도(5)")
+                .hasMessageContaining("키 수(10)");
+
+        JsonAnalyzer analyzer = new JsonAnalyzer(ResourceLimits.unlimited().withMaxKeysPerObject(5));
+        SchemaNode left = analyzer.analyze(MAPPER.valueToTree(Map.of("a", 1, "b", 2, "c", 3)));
+        SchemaNode right = analyzer.analyze(MAPPER.valueToTree(Map.of("d", 4, "e", 5, "f", 6)));
+        assertThatThrownBy(() -> analyzer.merge(left, right))
+                .isInstanceOf(UserException.class)
+                .hasMessageContaining("--max-keys 한도(5)");
+    }
+
+    @Test
+    void 깊이_한도를_넘는_객체와_배열을_접는다() throws Exception {
+        ResourceGovernor governor = new ResourceGovernor(ResourceLimits.unlimited().withMaxDepth(2));
+
+        SchemaNode schema = analyze("{\"a\":{\"b\":{\"c\":1},\"list\":[1,2]}}", governor);
+
+        SchemaNode a = field(schema, "a");
+        assertThat(a).isInstanceOf(SchemaObject.class);
+        assertThat(field(a, "b")).isSameAs(SchemaOpaque.map());
+        assertThat(field(a, "list")).isSameAs(SchemaOpaque.any());
+        assertThat(governor.collapses()).extracting(ResourceGovernor.Collapse::path)
+                .containsExactly("$.a.b", "$.a.list");
+    }
+
+    @Test
+    void 유니온_변형이_한도를_넘으면_Object로_접는다() throws Exception {
+        ResourceGovernor governor = new ResourceGovernor(ResourceLimits.unlimited().withMaxUnionVariants(2));
+
+        SchemaNode schema = analyze("{\"items\":[{\"v\":1},{\"v\":\"a\"},{\"v\":true}]}", governor);
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Root");
+
+        SchemaArray items = (SchemaArray) field(schema, "items");
+        SchemaNode v = field(items.elementTypes().iterator().next(), "v");
+        assertThat(v).isSameAs(SchemaOpaque.any());
+        assertThat(typeMap.get(v).getJavaType()).isEqualTo("Object");
+        assertThat(governor.collapses()).hasSize(1);
+        assertThat(governor.collapses().get(0).path()).isEqualTo("$.items[].v");
+        assertThat(governor.collapses().get(0).reason()).isEqualTo(ResourceGovernor.Reason.UNION_VARIANTS);
+    }
+
+    @Test
+    void 클래스_수_한도는_얕은_객체부터_남긴다() throws Exception {
+        ResourceGovernor governor = new ResourceGovernor(ResourceLimits.unlimited().withMaxClasses(3));
+
+        SchemaNode schema = analyze("{\"a\":{\"x\":{\"n\":1}},\"b\":{\"y\":{\"n\":2}}}", governor);
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Root");
+        ModelGraph graph = ModelGraph.from(schema, typeMap, "com.example.dto", "Root");
+
+        assertThat(graph.size()).isEqualTo(3);
+        assertThat(field(field(schema, "a"), "x")).isSameAs(SchemaOpaque.map());
+        assertThat(field(field(schema, "b"), "y")).isSameAs(SchemaOpaque.map());
+        assertThat(governor.collapses()).extracting(ResourceGovernor.Collapse::reason)
+                .containsOnly(ResourceGovernor.Reason.CLASSES);
+    }
+
+    @Test
+    void 노드_수_예산을_적용해도_입력_트리는_바꾸지_않는다() throws Exception {
+        JsonAnalyzer analyzer = new JsonAnalyzer();
+        SchemaNode left = analyzer.analyze(MAPPER.readTree("{\"a\":{\"b\":{\"c\":1}}}"));
+        SchemaNode right = analyzer.analyze(MAPPER.readTree("{\"a\":{\"b\":{\"d\":\"x\"}}}"));
+        ResourceGovernor governor = new ResourceGovernor(ResourceLimits.unlimited().withMaxSchemaNodes(2));
+
+        SchemaNode merged = analyzer.merge(left, right, governor);
+
+        // 루트와 a만 남고 a.b는 접힌다.
+        assertThat(field(field(merged, "a"), "b")).isSameAs(SchemaOpaque.map());
+        assertThat(field(field(left, "a"), "b")).isInstanceOf(SchemaObject.class);
+        assertThat(governor.collapses().get(0).path()).isEqualTo("$.a.b");
+    }
+
+    @Test
+    void 배열_원소마다_접히면_경고는_하나로_합쳐_횟수를_센다() throws Exception {
+        ResourceGovernor governor = new ResourceGovernor(ResourceLimits.unlimited().withMaxKeysPerObject(3));
+        String element = "{\"meta\":" + keys(4) + "}";
+
+        analyze("{\"items\":[" + element + "," + element + "," + element + "]}", governor);
+
+        assertThat(governor.warnings()).containsExactly(
+                "[WARN] $.items[].meta: 객체 키 수(4)가 한도(3)를 넘어 Map<String, Object>로 대체했습니다. (3회)");
+    }
+
+    @Test
+    void 한도가_없으면_접지_않는다() throws Exception {
+        ResourceGovernor governor = new ResourceGovernor(ResourceLimits.unlimited());
+
+        SchemaNode schema = analyze("{\"attrs\":" + keys(50) + ",\"v\":[1,\"a\",true,null]}", governor);
+
+        assertThat(field(schema, "attrs")).isInstanceOf(SchemaObject.class);
+        assertThat(governor.degraded()).isFalse();
+        assertThat(governor.analyzedNodes()).isEqualTo(57L);
+    }
+}
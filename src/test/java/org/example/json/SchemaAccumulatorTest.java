@@ -0,0 +1,103 @@
+package org.example.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SchemaAccumulatorTest {
+
+    private static byte[] payload(int i) {
+        String json = "{\"id\": " + i + ", \"hours\": [ {\"temp\": 1.5}, {\"temp\": " + i + "} ]"
+                + (i % 2 == 0 ? ", \"note\": \"even\"" : "") + "}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_관찰한_필드_등장_횟수를_빠짐없이_합산한다() throws Exception {
+        SchemaAccumulator accumulator = new SchemaAccumulator(1.0, 64, 4);
+        int threads = 8;
+        int perThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        accumulator.observe(payload(i));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        SchemaObject root = (SchemaObject) accumulator.snapshotSchema();
+        int total = threads * perThread;
+
+        assertThat(accumulator.sampledCount()).isEqualTo((long) total);
+        assertThat(root.fields().get("id").presentCount()).isEqualTo(total);
+        assertThat(root.fields().get("id").optional()).isFalse();
+        assertThat(root.fields().get("note").presentCount()).isEqualTo(total / 2);
+        assertThat(root.fields().get("note").totalSamples()).isEqualTo(total);
+        assertThat(((SchemaArray) root.fields().get("hours").schema()).elementTypes()).hasSize(1);
+    }
+
+    @Test
+    void 샘플링_비율만큼만_분석하고_요청_수는_모두_센다() {
+        SchemaAccumulator accumulator = new SchemaAccumulator(0.25, 64, 1);
+
+        for (int i = 0; i < 4000; i++) {
+            accumulator.observe(payload(i));
+        }
+
+        assertThat(accumulator.observedCount()).isEqualTo(4000L);
+        assertThat(accumulator.sampledCount()).isBetween(800L, 1200L);
+    }
+
+    @Test
+    void 관찰을_반복해도_키가_값처럼_쓰이는_객체는_필드_한도를_넘지_않는다() {
+        SchemaAccumulator accumulator = new SchemaAccumulator(1.0, 16, 2);
+
+        for (int i = 0; i < 1000; i++) {
+            accumulator.observe(("{\"byUser\": {\"user" + i + "\": " + i + "}}").getBytes(StandardCharsets.UTF_8));
+        }
+
+        SchemaObject root = (SchemaObject) accumulator.snapshotSchema();
+        assertThat(((SchemaObject) root.fields().get("byUser").schema()).fields().size()).isLessThanOrEqualTo(16);
+    }
+
+    @Test
+    void 유효하지_않은_JSON은_거부_횟수만_세고_스냅샷은_클래스_구조로_만든다() {
+        SchemaAccumulator accumulator = new SchemaAccumulator();
+
+        assertThatThrownBy(() -> accumulator.snapshot("com.example.dto", "Weather"))
+                .isInstanceOf(IllegalStateException.class);
+
+        accumulator.observe("{\"id\": ".getBytes(StandardCharsets.UTF_8));
+        accumulator.observe(payload(1));
+        accumulator.observe(payload(2));
+
+        ModelGraph graph = accumulator.snapshot("com.example.dto", "Weather");
+
+        assertThat(accumulator.rejectedCount()).isEqualTo(1L);
+        assertThat(graph.getRootClass().getQualifiedName()).isEqualTo("com.example.dto.Weather");
+        assertThat(graph.findClass("com.example.dto.WeatherHoursItem")).isPresent();
+    }
+}
@@ -73,4 +73,34 @@ class TypeInferencerTest {
         assertThat(ref.getJavaType()).isEqualTo("String");
     }
 
-}
\ No newline at end of file
+    @Test
+    void 원시_배열_옵션을_켜면_숫자_범위에_맞는_원시_배열로_매핑된다() {
+        TypeInferencer primitive = new TypeInferencer(null, true);
+        SchemaArray ints = new SchemaArray();
+        ints.elementTypes().add(new SchemaPrimitive(SchemaPrimitive.PKind.NUMBER, SchemaPrimitive.NumberWidth.INT));
+        SchemaArray mixed = new SchemaArray();
+        mixed.elementTypes().add(new SchemaPrimitive(SchemaPrimitive.PKind.NUMBER, SchemaPrimitive.NumberWidth.LONG));
+        mixed.elementTypes().add(new SchemaPrimitive(SchemaPrimitive.PKind.NUMBER, SchemaPrimitive.NumberWidth.DOUBLE));
+        SchemaArray flags = new SchemaArray();
+        flags.elementTypes().add(new SchemaPrimitive(SchemaPrimitive.PKind.BOOLEAN));
+
+        TypeInferencer.TypeRef intRef = primitive.inferTypes(ints, "Ints").get(ints);
+        assertThat(intRef.getJavaType()).isEqualTo("int[]");
+        assertThat(intRef.isList()).isFalse();
+        assertThat(intRef.getRequiredImports()).isEmpty();
+        assertThat(primitive.inferTypes(mixed, "Mixed").get(mixed).getJavaType()).isEqualTo("double[]");
+        assertThat(primitive.inferTypes(flags, "Flags").get(flags).getJavaType()).isEqualTo("boolean[]");
+    }
+
+    @Test
+    void 원시_배열_옵션을_켜도_null이_섞인_배열은_List로_매핑된다() {
+        SchemaArray array = new SchemaArray();
+        array.elementTypes().add(new SchemaPrimitive(SchemaPrimitive.PKind.NUMBER, SchemaPrimitive.NumberWidth.INT));
+        array.elementTypes().add(new SchemaPrimitive(SchemaPrimitive.PKind.NULL));
+
+        TypeInferencer.TypeRef ref = new TypeInferencer(null, true).inferTypes(array, "Values").get(array);
+
+        assertThat(ref.getJavaType()).isEqualTo("List<Object>");
+        assertThat(ref.isList()).isTrue();
+    }
+}
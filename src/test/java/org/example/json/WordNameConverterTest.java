@@ -0,0 +1,69 @@
+package org.example.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordNameConverterTest {
+
+    @Test
+    void 구분자_전략에_따라_단어를_끊는_문자가_달라진다() {
+        WordNameConverter snake = WordNameConverter.defaults().withDelimiters(WordNameConverter.Delimiters.SNAKE);
+        WordNameConverter kebab = WordNameConverter.defaults().withDelimiters(WordNameConverter.Delimiters.KEBAB);
+
+        assertThat(snake.toPascalCase("e-mail_address")).isEqualTo("EmailAddress");
+        assertThat(kebab.toCamelCase("x_request-id")).isEqualTo("xrequestId");
+        assertThat(WordNameConverter.defaults().toCamelCase("x_request-id")).isEqualTo("xRequestId");
+    }
+
+    @Test
+    void 약어_옵션은_camelCase_첫_단어의_대문자_약어를_소문자로_바꾼다() {
+        WordNameConverter acronyms = WordNameConverter.defaults().withAcronyms(true);
+
+        assertThat(acronyms.toCamelCase("URLValue")).isEqualTo("urlValue");
+        assertThat(acronyms.toCamelCase("ID")).isEqualTo("id");
+        assertThat(acronyms.toCamelCase("HTTP_status")).isEqualTo("httpStatus");
+        assertThat(acronyms.toCamelCase("userID")).isEqualTo("userID");
+        assertThat(acronyms.toPascalCase("URLValue")).isEqualTo("URLValue");
+        assertThat(WordNameConverter.defaults().toCamelCase("URLValue")).isEqualTo("uRLValue");
+    }
+
+    @Test
+    void 예약어_옵션은_자바_예약어와_숫자로_시작하는_이름을_피한다() {
+        WordNameConverter escaping = WordNameConverter.defaults().withReservedWordEscaping(true);
+
+        assertThat(escaping.toCamelCase("class")).isEqualTo("class_");
+        assertThat(escaping.toCamelCase("default")).isEqualTo("default_");
+        assertThat(escaping.toCamelCase("null")).isEqualTo("null_");
+        assertThat(escaping.toCamelCase("3d_model")).isEqualTo("_3dModel");
+        assertThat(escaping.toCamelCase("class_name")).isEqualTo("className");
+        assertThat(WordNameConverter.defaults().toCamelCase("class")).isEqualTo("class");
+    }
+
+    @Test
+    void 캐시는_같은_키를_다시_변환하지_않고_한도를_넘으면_비운다() {
+        int[] calls = {0};
+        NameConverter counting = new NameConverter() {
+            @Override
+            public String toPascalCase(String s) {
+                calls[0]++;
+                return WordNameConverter.defaults().toPascalCase(s);
+            }
+
+            @Override
+            public String toCamelCase(String s) {
+                calls[0]++;
+                return WordNameConverter.defaults().toCamelCase(s);
+            }
+        };
+        CachingNameConverter cache = new CachingNameConverter(counting, 2);
+
+        assertThat(cache.toCamelCase("temp_c")).isEqualTo("tempC");
+        assertThat(cache.toCamelCase("temp_c")).isSameAs(cache.toCamelCase("temp_c"));
+        assertThat(calls[0]).isEqualTo(1);
+
+        cache.toCamelCase("wind_kph");
+        cache.toCamelCase("gust_kph");
+        assertThat(cache.size()).isLessThanOrEqualTo(2);
+    }
+}
@@ -0,0 +1,101 @@
+package org.example.profile;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.generator.SourceSink;
+import org.example.json.JsonAnalyzer;
+import org.example.json.SchemaNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineProfilerTest {
+
+    @Test
+    void recording_모드는_단계별_이벤트를_jfr_파일에_기록한다() throws Exception {
+        Path jfr = Files.createTempDirectory("profile-").resolve("run.jfr");
+
+        try (PipelineProfiler profiler = PipelineProfiler.recording(jfr)) {
+            profiler.begin(PipelineProfiler.Stage.PARSE).bytesIn(120).end();
+            profiler.begin(PipelineProfiler.Stage.ANALYZE).nodes(7).end();
+            profiler.begin(PipelineProfiler.Stage.MODEL).classes(3).end();
+        }
+
+        List<String> stages = new ArrayList<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(jfr)) {
+            if (event.getEventType().getName().equals(PipelineStageEvent.NAME)) {
+                stages.add(event.getString("stage"));
+                if ("analyze".equals(event.getString("stage"))) {
+                    assertThat(event.getLong("nodes")).isEqualTo(7L);
+                }
+                if ("parse".equals(event.getString("stage"))) {
+                    assertThat(event.getLong("bytesIn")).isEqualTo(120L);
+                }
+            }
+        }
+        assertThat(stages).containsExactly("parse", "analyze", "model");
+    }
+
+    @Test
+    void recording_모드의_요약에는_단계별_시간과_jfr_경로가_들어간다() throws Exception {
+        Path jfr = Files.createTempDirectory("profile-").resolve("run.jfr");
+
+        PipelineProfiler profiler = PipelineProfiler.recording(jfr);
+        profiler.begin(PipelineProfiler.Stage.INFER).nodes(5).end();
+        profiler.close();
+        String summary = profiler.summary();
+
+        assertThat(summary).contains("infer", "nodes=5", "total", jfr.toString());
+        assertThat(Files.exists(jfr)).isTrue();
+    }
+
+    @Test
+    void 이벤트만_내보내는_모드는_sink를_감싸지_않고_요약도_없다() {
+        PipelineProfiler profiler = new PipelineProfiler();
+        SourceSink sink = className -> new StringWriter();
+
+        PipelineProfiler.Span span = profiler.begin(PipelineProfiler.Stage.GENERATE);
+
+        assertThat(span.isEnabled()).isFalse();
+        assertThat(profiler.instrument(sink, span)).isSameAs(sink);
+        span.end();
+        assertThat(profiler.summary()).isEmpty();
+    }
+
+    @Test
+    void 감싼_sink는_클래스_수와_UTF8_바이트_수를_센다() throws Exception {
+        Path jfr = Files.createTempDirectory("profile-").resolve("run.jfr");
+        StringWriter target = new StringWriter();
+
+        PipelineProfiler profiler = PipelineProfiler.recording(jfr);
+        try (profiler) {
+            PipelineProfiler.Span span = profiler.begin(PipelineProfiler.Stage.GENERATE);
+            SourceSink sink = profiler.instrument(className -> target, span);
+            try (Writer writer = sink.open("Weather")) {
+                writer.write("class A {} // 날씨");
+            }
+            span.end();
+        }
+
+        assertThat(target.toString()).isEqualTo("class A {} // 날씨");
+        assertThat(profiler.summary()).contains("out=20B", "classes=1");
+    }
+
+    @Test
+    void 스키마_노드_수를_센다() throws Exception {
+        SchemaNode schema = new JsonAnalyzer().analyze(new ObjectMapper().readTree(
+                "{\"a\":1,\"b\":{\"c\":\"x\"},\"d\":[true,false]}"));
+
+        // 루트, a, b, c, d 배열, d 원소
+        assertThat(PipelineProfiler.countSchemaNodes(schema)).isEqualTo(6L);
+        assertThat(PipelineProfiler.countSchemaNodes(null)).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.stats;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.example.json.JsonAnalyzer;
+import org.example.json.ModelGraph;
+import org.example.json.ResourceLimits;
+import org.example.json.SchemaNode;
+import org.example.json.TypeInferencer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaStatsTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static SchemaStats collect(String json) throws Exception {
+        JsonNode root = MAPPER.readTree(json);
+        SchemaNode schema = new JsonAnalyzer().analyze(root);
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Root");
+        ModelGraph graph = ModelGraph.from(schema, typeMap, "com.example.dto", "Root");
+        return SchemaStats.collect(json.length(), root, schema, typeMap, graph);
+    }
+
+    @Test
+    void 스키마_노드_종류별_개수와_깊이_너비를_센다() throws Exception {
+        SchemaStats stats = collect("{\"id\":1,\"name\":\"a\",\"tags\":[\"x\"],"
+                + "\"owner\":{\"address\":{\"city\":\"Seoul\"}}}");
+
+        assertThat(stats.objectNodes()).isEqualTo(3);
+        assertThat(stats.arrayNodes()).isEqualTo(1);
+        assertThat(stats.primitiveNodes()).isEqualTo(4);
+        assertThat(stats.schemaNodes()).isEqualTo(8);
+        // Root → owner → address
+        assertThat(stats.maxDepth()).isEqualTo(3);
+        assertThat(stats.maxWidth()).isEqualTo(4);
+        assertThat(stats.modelClasses()).isEqualTo(3);
+        assertThat(stats.totalFields()).isEqualTo(6L);
+        assertThat(stats.typeRefs()).isEqualTo(8);
+    }
+
+    @Test
+    void 유니온_변형_수를_센다() throws Exception {
+        SchemaStats stats = collect("{\"items\":[{\"v\":1},{\"v\":\"a\"},{\"v\":true}]}");
+
+        assertThat(stats.unionNodes()).isEqualTo(1);
+        assertThat(stats.maxUnionFanOut()).isEqualTo(3);
+        assertThat(stats.unionVariants()).isEqualTo(3L);
+        // 유니온은 깊이를 늘리지 않는다: Root → items 배열 → 원소 객체
+        assertThat(stats.maxDepth()).isEqualTo(3);
+    }
+
+    @Test
+    void 한도로_접힌_하위_트리는_원시값이_아니라_접힌_노드로_센다() throws Exception {
+        String json = "{\"id\":1,\"meta\":{\"a\":1,\"b\":2,\"c\":3}}";
+        JsonNode root = MAPPER.readTree(json);
+        SchemaNode schema = new JsonAnalyzer(ResourceLimits.unlimited().withMaxKeysPerObject(2)).analyze(root);
+        Map<SchemaNode, TypeInferencer.TypeRef> typeMap = new TypeInferencer().inferTypes(schema, "Root");
+        ModelGraph graph = ModelGraph.from(schema, typeMap, "com.example.dto", "Root");
+
+        SchemaStats stats = SchemaStats.collect(json.length(), root, schema, typeMap, graph);
+
+        assertThat(stats.objectNodes()).isEqualTo(1);
+        assertThat(stats.primitiveNodes()).isEqualTo(1);
+        assertThat(stats.opaqueNodes()).isEqualTo(1);
+        assertThat(stats.schemaNodes()).isEqualTo(3);
+        assertThat(stats.maxDepth()).isEqualTo(1);
+    }
+
+    @Test
+    void 보고서_JSON은_고정된_키로_단계별_예상_힙을_담는다() throws Exception {
+        SchemaStats stats = collect("{\"id\":1,\"child\":{\"name\":\"a\"}}");
+
+        ObjectNode json = (ObjectNode) MAPPER.readTree(stats.toJsonString());
+
+        assertThat(json.get("formatVersion").asInt()).isEqualTo(SchemaStats.FORMAT_VERSION);
+        assertThat(json.get("schema").get("objects").asInt()).isEqualTo(2);
+        assertThat(json.get("model").get("classes").asInt()).isEqualTo(2);
+        JsonNode heap = json.get("estimatedRetainedBytes");
+        for (String stage : new String[]{"parse", "analyze", "infer", "model"}) {
+            assertThat(heap.get(stage).asLong()).isGreaterThan(0L);
+        }
+        assertThat(heap.get("total").asLong()).isEqualTo(stats.estimatedRetainedBytes());
+    }
+
+    @Test
+    void 입력이_커지면_예상_힙도_커진다() throws Exception {
+        StringBuilder wide = new StringBuilder("{");
+        for (int i = 0; i < 200; i++) {
+            wide.append(i == 0 ? "" : ",").append("\"field").append(i).append("\":").append(i);
+        }
+        wide.append('}');
+
+        SchemaStats small = collect("{\"field0\":0}");
+        SchemaStats large = collect(wide.toString());
+
+        assertThat(large.maxWidth()).isEqualTo(200);
+        assertThat(large.estimatedRetainedBytes()).isGreaterThan(small.estimatedRetainedBytes() * 50);
+    }
+}
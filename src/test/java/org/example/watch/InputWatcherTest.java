@@ -0,0 +1,42 @@
+package org.example.watch;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InputWatcherTest {
+
+    @Test
+    void 연달아_바뀐_입력을_한_번에_모아_돌려주고_감시하지_않는_파일은_무시한다() throws Exception {
+        Path dir = Files.createTempDirectory("watch-");
+        Path first = Files.writeString(dir.resolve("a.json"), "{}", StandardCharsets.UTF_8);
+        Path second = Files.writeString(dir.resolve("b.json"), "{}", StandardCharsets.UTF_8);
+
+        try (InputWatcher watcher = new InputWatcher(List.of(first, second), Duration.ofMillis(200))) {
+            CompletableFuture<Set<Path>> changes = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return watcher.awaitChanges();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+
+            Files.writeString(dir.resolve("other.json"), "{}", StandardCharsets.UTF_8);
+            Files.writeString(first, "{\"id\":1}", StandardCharsets.UTF_8);
+            Files.writeString(second, "{\"id\":2}", StandardCharsets.UTF_8);
+            Files.writeString(first, "{\"id\":3}", StandardCharsets.UTF_8);
+
+            assertThat(changes.get(10, TimeUnit.SECONDS))
+                    .containsExactlyInAnyOrder(first.toAbsolutePath().normalize(), second.toAbsolutePath().normalize());
+        }
+    }
+}